@@ -0,0 +1,127 @@
+package ca.plugins.toaextended;
+
+import java.awt.Color;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Config reads of one frame of the Warden P3 draw listener, through a counting stand-in for the config proxy
+ * versus through {@link CachedToaExtendedConfig}. The {@code proxyCalls} counter reports proxy invocations per frame;
+ * the cached config is read through plain fields, so it makes no dispatch of its own that the counter could miss.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigSnapshotBenchmark
+{
+
+	private static final int RENDERABLES_PER_FRAME = 200;
+
+	private long proxyInvocations;
+
+	private ToaExtendedConfig proxyConfig;
+	private ToaExtendedConfig cachedConfig;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Counters
+	{
+		public long proxyCalls;
+
+		@Setup(Level.Iteration)
+		public void reset()
+		{
+			proxyCalls = 0;
+		}
+	}
+
+	@Setup
+	public void setUp()
+	{
+		proxyConfig = (ToaExtendedConfig) Proxy.newProxyInstance(
+			ToaExtendedConfig.class.getClassLoader(),
+			new Class<?>[]{ToaExtendedConfig.class},
+			(proxy, method, args) ->
+			{
+				proxyInvocations++;
+				return valueOf(method.getReturnType());
+			});
+
+		cachedConfig = new CachedToaExtendedConfig(proxyConfig);
+		cachedConfig.wardenHideRedLightning();
+	}
+
+	@Benchmark
+	public void proxyConfigFrame(final Counters counters, final Blackhole blackhole)
+	{
+		final long before = proxyInvocations;
+		frame(proxyConfig, blackhole);
+		counters.proxyCalls += proxyInvocations - before;
+	}
+
+	@Benchmark
+	public void cachedConfigFrame(final Counters counters, final Blackhole blackhole)
+	{
+		final long before = proxyInvocations;
+		frame(cachedConfig, blackhole);
+		counters.proxyCalls += proxyInvocations - before;
+	}
+
+	private static void frame(final ToaExtendedConfig config, final Blackhole blackhole)
+	{
+		for (int i = 0; i < RENDERABLES_PER_FRAME; i++)
+		{
+			blackhole.consume(config.wardenHideZebakProjectile());
+			blackhole.consume(config.wardenHideKephriFireballProjectile());
+			blackhole.consume(config.wardenHideEnergySiphonProjectile());
+			blackhole.consume(config.wardenHideEnergySiphonChargeProjectiles());
+			blackhole.consume(config.wardenHideTileDebrisProjectile());
+			blackhole.consume(config.wardenHideBabaFallingBoulders());
+			blackhole.consume(config.wardenHideRedLightning());
+			blackhole.consume(config.wardenHideDeadEnergySiphon());
+		}
+
+		blackhole.consume(config.tileOutlineColor());
+		blackhole.consume(config.tileFillColor());
+		blackhole.consume(config.fontSize());
+		blackhole.consume(config.fontStyle());
+	}
+
+	private static Object valueOf(final Class<?> type)
+	{
+		if (type == boolean.class)
+		{
+			return true;
+		}
+		if (type == int.class)
+		{
+			return 12;
+		}
+		if (type == Color.class)
+		{
+			return Color.RED;
+		}
+		if (type.isEnum())
+		{
+			return type.getEnumConstants()[0];
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,138 @@
+package ca.plugins.toaextended;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link Proxy} stand-ins for RuneLite API interfaces such as {@code Client}, so benchmarks can run headless without a
+ * game client.
+ * <p>
+ * Methods are answered by name from the given map, either with a constant or with an {@link Answer}. Unanswered
+ * default methods run their default implementation, interface return types get a nested stand-in sharing the same
+ * answers, and anything else returns 0, false or null.
+ */
+public final class StandIn implements InvocationHandler
+{
+
+	@FunctionalInterface
+	public interface Answer
+	{
+		Object answer(Object[] args);
+	}
+
+	private final Class<?> type;
+	private final Map<String, ?> answers;
+	private final Map<Class<?>, Object> nested = new HashMap<>();
+
+	private StandIn(final Class<?> type, final Map<String, ?> answers)
+	{
+		this.type = type;
+		this.answers = answers;
+	}
+
+	public static <T> T of(final Class<T> type, final Map<String, ?> answers)
+	{
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new StandIn(type, answers)));
+	}
+
+	public static <T> T of(final Class<T> type, final Object... nameValuePairs)
+	{
+		final Map<String, Object> answers = new HashMap<>();
+
+		for (int i = 0; i < nameValuePairs.length; i += 2)
+		{
+			answers.put((String) nameValuePairs[i], nameValuePairs[i + 1]);
+		}
+
+		return of(type, answers);
+	}
+
+	@Override
+	public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable
+	{
+		if (method.getDeclaringClass() == Object.class)
+		{
+			switch (method.getName())
+			{
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				default:
+					return "StandIn[" + type.getSimpleName() + "]";
+			}
+		}
+
+		final Object value = answers.get(method.getName());
+
+		if (value instanceof Answer)
+		{
+			return ((Answer) value).answer(args);
+		}
+
+		if (value != null)
+		{
+			return value;
+		}
+
+		if (method.isDefault())
+		{
+			final Class<?> declaringClass = method.getDeclaringClass();
+			return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup())
+				.unreflectSpecial(method, declaringClass)
+				.bindTo(proxy)
+				.invokeWithArguments(args == null ? new Object[0] : args);
+		}
+
+		final Class<?> returnType = method.getReturnType();
+
+		if (returnType.isInterface())
+		{
+			return nested.computeIfAbsent(returnType, t -> of(t, answers));
+		}
+
+		return defaultValue(returnType);
+	}
+
+	private static Object defaultValue(final Class<?> type)
+	{
+		if (type == boolean.class)
+		{
+			return false;
+		}
+		if (type == int.class)
+		{
+			return 0;
+		}
+		if (type == long.class)
+		{
+			return 0L;
+		}
+		if (type == double.class)
+		{
+			return 0d;
+		}
+		if (type == float.class)
+		{
+			return 0f;
+		}
+		if (type == short.class)
+		{
+			return (short) 0;
+		}
+		if (type == byte.class)
+		{
+			return (byte) 0;
+		}
+		if (type == char.class)
+		{
+			return (char) 0;
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,296 @@
+package ca.plugins.toaextended.boss;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Prayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * One game tick of prayer tracking under Warden P3 load: the attacks added during the tick, the tick advance and the
+ * peek/iterate work of the prayer overlays for every frame rendered during the tick. {@code legacyQueue} reproduces
+ * the former {@code PriorityQueue<AttackProjectile>}, including its comparator built on every comparison.
+ * <p>
+ * The {@code ordering} and {@code priority} benchmarks isolate the queue ordering and the tick priority map the prayer
+ * widget overlay used to build every frame, against a queue and timeline holding one tick worth of attacks.
+ * <p>
+ * {@code schedule} is the tick of {@code timeline} as the overlays now consume it, through the {@link PrayerSchedule}
+ * rebuilt once per tick.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrayerTimelineBenchmark
+{
+
+	private static final int FRAMES_PER_TICK = 30;
+	private static final int SAMPLES = 4096;
+	private static final Prayer[] PRAYERS = {
+		Prayer.PROTECT_FROM_MAGIC,
+		Prayer.PROTECT_FROM_MISSILES,
+		Prayer.PROTECT_FROM_MELEE
+	};
+
+	/**
+	 * Warden P3 used to add an attack for every Zebak rock on every client cycle, hence the upper value.
+	 */
+	@Param({"4", "32", "128"})
+	public int attacksPerTick;
+
+	private final Prayer[] prayers = new Prayer[SAMPLES];
+	private final int[] ticks = new int[SAMPLES];
+	private final int[] priorities = new int[SAMPLES];
+	private int sample;
+
+	private final Queue<LegacyAttack> legacyQueue = new PriorityQueue<>();
+	private final PrayerTimeline timeline = new PrayerTimeline();
+	private final PrayerTimeline scheduleTimeline = new PrayerTimeline();
+
+	private final Queue<LegacyAttack> filledQueue = new PriorityQueue<>();
+	private final PrayerTimeline filledTimeline = new PrayerTimeline();
+	private final PrayerTimeline orderingTimeline = new PrayerTimeline();
+
+	@Setup
+	public void setUp()
+	{
+		final Random random = new Random(1);
+
+		for (int i = 0; i < SAMPLES; i++)
+		{
+			prayers[i] = PRAYERS[random.nextInt(PRAYERS.length)];
+			ticks[i] = 1 + random.nextInt(8);
+			priorities[i] = random.nextInt(4);
+		}
+
+		for (int i = 0; i < attacksPerTick; i++)
+		{
+			filledQueue.add(new LegacyAttack(prayers[i], ticks[i], priorities[i]));
+			filledTimeline.add(prayers[i], ticks[i], priorities[i]);
+		}
+	}
+
+	@Benchmark
+	public void legacyOrdering(final Blackhole blackhole)
+	{
+		final Queue<LegacyAttack> queue = new PriorityQueue<>();
+
+		for (int i = 0; i < attacksPerTick; i++)
+		{
+			final int s = nextSample();
+			queue.add(new LegacyAttack(prayers[s], ticks[s], priorities[s]));
+		}
+
+		while (!queue.isEmpty())
+		{
+			blackhole.consume(queue.poll());
+		}
+	}
+
+	@Benchmark
+	public void timelineOrdering(final Blackhole blackhole)
+	{
+		for (int i = 0; i < attacksPerTick; i++)
+		{
+			final int s = nextSample();
+			orderingTimeline.add(prayers[s], ticks[s], priorities[s]);
+		}
+
+		while (!orderingTimeline.isEmpty())
+		{
+			blackhole.consume(orderingTimeline.getNextPrayer());
+			orderingTimeline.advance();
+		}
+	}
+
+	@Benchmark
+	public Map<Integer, LegacyAttack> legacyPriorityMap()
+	{
+		return getTickPriorityMap(filledQueue);
+	}
+
+	@Benchmark
+	public void timelinePriorityPrayers(final Blackhole blackhole)
+	{
+		final int maxTicks = filledTimeline.getMaxTicks();
+
+		for (int tick = 0; tick <= maxTicks; tick++)
+		{
+			blackhole.consume(filledTimeline.getPriorityPrayer(tick));
+		}
+	}
+
+	@Benchmark
+	public void legacyQueue(final Blackhole blackhole)
+	{
+		for (int i = 0; i < attacksPerTick; i++)
+		{
+			final int s = nextSample();
+			legacyQueue.add(new LegacyAttack(prayers[s], ticks[s], priorities[s]));
+		}
+
+		for (int frame = 0; frame < FRAMES_PER_TICK; frame++)
+		{
+			final LegacyAttack next = legacyQueue.peek();
+			blackhole.consume(next == null ? null : next.prayer);
+			blackhole.consume(next == null ? -1 : next.ticks);
+
+			final Map<Integer, LegacyAttack> tickPriorityMap = getTickPriorityMap(legacyQueue);
+			for (final LegacyAttack attack : legacyQueue)
+			{
+				blackhole.consume(attack.prayer == tickPriorityMap.get(attack.ticks).prayer);
+			}
+		}
+
+		legacyQueue.forEach(LegacyAttack::decrementTicks);
+		legacyQueue.removeIf(LegacyAttack::isExpired);
+	}
+
+	@Benchmark
+	public void timeline(final Blackhole blackhole)
+	{
+		for (int i = 0; i < attacksPerTick; i++)
+		{
+			final int s = nextSample();
+			timeline.add(prayers[s], ticks[s], priorities[s]);
+		}
+
+		for (int frame = 0; frame < FRAMES_PER_TICK; frame++)
+		{
+			blackhole.consume(timeline.getNextPrayer());
+			blackhole.consume(timeline.getNextTicks());
+
+			final int maxTicks = timeline.getMaxTicks();
+			for (int tick = 0; tick <= maxTicks; tick++)
+			{
+				final Prayer priorityPrayer = timeline.getPriorityPrayer(tick);
+				for (final Prayer prayer : PRAYERS)
+				{
+					if (timeline.contains(tick, prayer))
+					{
+						blackhole.consume(prayer == priorityPrayer);
+					}
+				}
+			}
+		}
+
+		timeline.advance();
+	}
+
+	@Benchmark
+	public void schedule(final Blackhole blackhole)
+	{
+		for (int i = 0; i < attacksPerTick; i++)
+		{
+			final int s = nextSample();
+			scheduleTimeline.add(prayers[s], ticks[s], priorities[s]);
+		}
+
+		for (int frame = 0; frame < FRAMES_PER_TICK; frame++)
+		{
+			final PrayerSchedule schedule = scheduleTimeline.getSchedule();
+			blackhole.consume(schedule.getNextPrayer());
+			blackhole.consume(schedule.getNextTicks());
+
+			for (int box = 0; box < schedule.size(); box++)
+			{
+				blackhole.consume(schedule.getPrayer(box));
+				blackhole.consume(schedule.getTicks(box));
+				blackhole.consume(schedule.isPriority(box));
+			}
+		}
+
+		scheduleTimeline.advance();
+	}
+
+	private int nextSample()
+	{
+		sample = (sample + 1) & (SAMPLES - 1);
+		return sample;
+	}
+
+	private static Map<Integer, LegacyAttack> getTickPriorityMap(final Iterable<LegacyAttack> queue)
+	{
+		final Map<Integer, LegacyAttack> map = new HashMap<>();
+
+		queue.forEach(attack ->
+		{
+			if (!map.containsKey(attack.ticks))
+			{
+				map.put(attack.ticks, attack);
+			}
+
+			if (attack.priority < map.get(attack.ticks).priority)
+			{
+				map.put(attack.ticks, attack);
+			}
+		});
+
+		return map;
+	}
+
+	private static final class LegacyAttack implements Comparable<LegacyAttack>
+	{
+
+		private final Prayer prayer;
+		private final int priority;
+		private int ticks;
+
+		private LegacyAttack(final Prayer prayer, final int ticks, final int priority)
+		{
+			this.prayer = prayer;
+			this.ticks = ticks;
+			this.priority = priority;
+		}
+
+		private int getTicks()
+		{
+			return ticks;
+		}
+
+		private int getPriority()
+		{
+			return priority;
+		}
+
+		private void decrementTicks()
+		{
+			if (ticks > 0)
+			{
+				--ticks;
+			}
+		}
+
+		private boolean isExpired()
+		{
+			return ticks == 0;
+		}
+
+		@Override
+		public int compareTo(final LegacyAttack attack)
+		{
+			return Comparator.comparing(LegacyAttack::getTicks)
+				.thenComparing(LegacyAttack::getPriority)
+				.compare(this, attack);
+		}
+
+	}
+
+}
@@ -0,0 +1,159 @@
+package ca.plugins.toaextended.boss;
+
+import ca.plugins.toaextended.StandIn;
+import ca.plugins.toaextended.util.HazardFootprint;
+import ca.plugins.toaextended.util.TilePolygonCache;
+import java.awt.Polygon;
+import java.awt.Shape;
+import java.awt.geom.Area;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.Perspective;
+import net.runelite.api.Scene;
+import net.runelite.api.coords.LocalPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The tile polygon and {@link Area} construction of the scene overlays for one frame, against a stand-in client with
+ * a fixed camera. {@code radius} 2 is the large Baba shockwave and 3 the Warden P2 lightning square.
+ * <p>
+ * {@code footprint} is a frame where the hazard and camera are unchanged, {@code footprintRebuild} a frame where the
+ * hazard moved by a tile and its outline is traced again.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SceneAreaBenchmark
+{
+
+	private static final int SCENE_SIZE = Constants.SCENE_SIZE;
+	private static final int EXTENDED_SCENE_SIZE = Constants.EXTENDED_SCENE_SIZE;
+
+	@Param({"1", "2", "3"})
+	public int radius;
+
+	private Client client;
+	private LocalPoint center;
+	private HazardFootprint footprint;
+	private HazardFootprint rebuiltFootprint;
+	private int shift;
+
+	@Setup
+	public void setUp()
+	{
+		final Scene scene = StandIn.of(Scene.class,
+			"getTileHeights", new int[Constants.MAX_Z][SCENE_SIZE + 1][SCENE_SIZE + 1],
+			"getTileSettings", new byte[Constants.MAX_Z][SCENE_SIZE][SCENE_SIZE],
+			"getExtendedTileHeights", new int[Constants.MAX_Z][EXTENDED_SCENE_SIZE + 1][EXTENDED_SCENE_SIZE + 1],
+			"getExtendedTileSettings", new byte[Constants.MAX_Z][EXTENDED_SCENE_SIZE][EXTENDED_SCENE_SIZE]);
+
+		center = LocalPoint.fromScene(SCENE_SIZE / 2, SCENE_SIZE / 2);
+
+		client = StandIn.of(Client.class,
+			"getScene", scene,
+			"getPlane", 0,
+			"getSizeX", SCENE_SIZE,
+			"getSizeY", SCENE_SIZE,
+			"getScale", 512,
+			"getViewportWidth", 765,
+			"getViewportHeight", 503,
+			"getCameraX", center.getX(),
+			"getCameraY", center.getY() - 10 * Perspective.LOCAL_TILE_SIZE,
+			"getCameraZ", -1000,
+			"getCameraPitch", 383,
+			"getCameraYaw", 1024);
+
+		final TilePolygonCache tilePolygonCache = new TilePolygonCache(client);
+		footprint = new HazardFootprint(client, tilePolygonCache);
+		rebuiltFootprint = new HazardFootprint(client, tilePolygonCache);
+	}
+
+	@Benchmark
+	public void tilePolygons(final Blackhole blackhole)
+	{
+		for (int dx = -radius; dx <= radius; dx++)
+		{
+			for (int dy = -radius; dy <= radius; dy++)
+			{
+				blackhole.consume(Perspective.getCanvasTilePoly(client, offset(dx, dy)));
+			}
+		}
+	}
+
+	@Benchmark
+	public Area tileArea()
+	{
+		final Area area = new Area();
+
+		for (int dx = -radius; dx <= radius; dx++)
+		{
+			for (int dy = -radius; dy <= radius; dy++)
+			{
+				final Polygon polygon = Perspective.getCanvasTilePoly(client, offset(dx, dy));
+
+				if (polygon != null)
+				{
+					area.add(new Area(polygon));
+				}
+			}
+		}
+
+		return area;
+	}
+
+	@Benchmark
+	public Polygon tileAreaPoly()
+	{
+		return Perspective.getCanvasTileAreaPoly(client, center, radius * 2 + 1);
+	}
+
+	@Benchmark
+	public Shape footprint()
+	{
+		return footprint(footprint, 0);
+	}
+
+	@Benchmark
+	public Shape footprintRebuild()
+	{
+		shift ^= 1;
+		return footprint(rebuiltFootprint, shift);
+	}
+
+	private Shape footprint(final HazardFootprint hazardFootprint, final int shift)
+	{
+		hazardFootprint.clear();
+
+		for (int dx = -radius; dx <= radius; dx++)
+		{
+			for (int dy = -radius; dy <= radius; dy++)
+			{
+				hazardFootprint.add(center, dx + shift, dy);
+			}
+		}
+
+		return hazardFootprint.getShape();
+	}
+
+	private LocalPoint offset(final int dx, final int dy)
+	{
+		return new LocalPoint(center.getX() + dx * Perspective.LOCAL_TILE_SIZE,
+			center.getY() + dy * Perspective.LOCAL_TILE_SIZE);
+	}
+
+}
@@ -0,0 +1,119 @@
+package ca.plugins.toaextended.challenge.scabaras;
+
+import ca.plugins.toaextended.StandIn;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.GroundObject;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+import net.runelite.api.events.ChatMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One solve of the addition and light puzzles against a stand-in scene holding both boards. The light board sits on
+ * the last start tile so its search visits every candidate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScabarasPuzzleBenchmark
+{
+
+	private static final int SCENE_SIZE = 104;
+
+	private static final int ADDITION_START_X = 36;
+	private static final int ADDITION_START_Y = 56;
+	private static final int LIGHT_START_X = 53;
+	private static final int LIGHT_START_Y = 44;
+
+	private static final int GROUND_OBJECT_LIGHT_BACKGROUND = 45344;
+	private static final int GAME_OBJECT_LIGHT_ENABLED = 45384;
+
+	private ScabarasAdditionPuzzle additionPuzzle;
+	private ScabarasLightPuzzle lightPuzzle;
+	private ChatMessage targetNumberMessage;
+
+	@Setup
+	public void setUp()
+	{
+		final Tile[][][] tiles = new Tile[4][SCENE_SIZE][SCENE_SIZE];
+
+		for (final int[] start : new int[][]{{36, 56}, {36, 44}, {53, 56}, {53, 44}})
+		{
+			tiles[0][start[0]][start[1]] = tile(null);
+		}
+
+		final ScabarasAdditionPuzzle.AdditionTile[] additionTiles = ScabarasAdditionPuzzle.AdditionTile.values();
+		for (int i = 0; i < 25; i++)
+		{
+			final ScabarasAdditionPuzzle.AdditionTile additionTile = additionTiles[i % additionTiles.length];
+			// every third tile is already flipped
+			final GameObject gameObject = i % 3 == 0 ? gameObject(additionTile.getGameObjectId()) : null;
+			tiles[0][ADDITION_START_X + i % 5][ADDITION_START_Y - i / 5] = tile(
+				i == 0 ? groundObject(ScabarasAdditionPuzzle.AdditionTile.FOOT.getGroundObjectId()) : null,
+				gameObject);
+		}
+
+		for (int i = 0; i < 9; i++)
+		{
+			final GameObject gameObject = i % 2 == 0 ? gameObject(GAME_OBJECT_LIGHT_ENABLED) : null;
+			tiles[0][LIGHT_START_X + (i % 3) * 2][LIGHT_START_Y - (i / 3) * 2] = tile(
+				i == 0 ? groundObject(GROUND_OBJECT_LIGHT_BACKGROUND) : null,
+				gameObject);
+		}
+
+		final Scene scene = StandIn.of(Scene.class, "getTiles", tiles);
+		final Client client = StandIn.of(Client.class, "getScene", scene, "getPlane", 0);
+
+		additionPuzzle = new ScabarasAdditionPuzzle(client);
+		lightPuzzle = new ScabarasLightPuzzle(client);
+
+		targetNumberMessage = new ChatMessage();
+		targetNumberMessage.setMessage("The number 33 has been hastily chipped into the stone.");
+	}
+
+	@Benchmark
+	public Object additionPuzzle()
+	{
+		additionPuzzle.onChatMessage(targetNumberMessage);
+		return additionPuzzle.getFlips();
+	}
+
+	@Benchmark
+	public Object lightPuzzle()
+	{
+		lightPuzzle.startUp();
+		return lightPuzzle.getFlips();
+	}
+
+	private static Tile tile(final GroundObject groundObject, final GameObject... gameObjects)
+	{
+		return StandIn.of(Tile.class,
+			"getGroundObject", groundObject,
+			"getGameObjects", gameObjects);
+	}
+
+	private static GroundObject groundObject(final int id)
+	{
+		return StandIn.of(GroundObject.class, "getId", id);
+	}
+
+	private static GameObject gameObject(final int id)
+	{
+		return StandIn.of(GameObject.class, "getId", id);
+	}
+
+}
@@ -0,0 +1,460 @@
+package ca.plugins.toaextended.replay;
+
+import ca.plugins.toaextended.StandIn;
+import ca.plugins.toaextended.ToaExtendedConfig;
+import ca.plugins.toaextended.module.ComponentEventRouter;
+import ca.plugins.toaextended.module.ComponentManager;
+import ca.plugins.toaextended.module.ToaExtendedModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.GraphicsObject;
+import net.runelite.api.NPC;
+import net.runelite.api.NPCComposition;
+import net.runelite.api.Player;
+import net.runelite.api.Projectile;
+import net.runelite.api.Tile;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.GraphicsObjectCreated;
+import net.runelite.api.events.NpcChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.ProjectileMoved;
+import net.runelite.api.events.ScriptPostFired;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.callback.Hooks;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.game.SpriteManager;
+import net.runelite.client.game.npcoverlay.NpcOverlayService;
+import net.runelite.client.ui.overlay.OverlayManager;
+import net.runelite.client.ui.overlay.outline.ModelOutlineRenderer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Replays a {@link RaidEventLog} through {@link ComponentManager} and every bound component against a stand-in
+ * {@link Client}, as fast as the handlers allow, then prints the latency and allocation of every component handler.
+ * <p>
+ * The config keeps its defaults, so the components that are enabled by default are the ones being measured.
+ */
+public class RaidReplay
+{
+
+	private static final long TICK_NANOS = 600_000_000L;
+	private static final GameTick GAME_TICK = new GameTick();
+
+	private final EventBus eventBus = new EventBus();
+	private final HandlerProfiler profiler = new HandlerProfiler();
+
+	private final Map<Integer, Integer> varbits = new HashMap<>();
+	private final Map<Integer, ReplayActor> npcsByHandle = new HashMap<>();
+	private final List<NPC> npcs = new ArrayList<>();
+	private final Map<Integer, Projectile> projectiles = new HashMap<>();
+	private final Map<Integer, ReplayGraphicsObject> graphicsObjects = new HashMap<>();
+
+	private final ReplayActor localPlayer = new ReplayActor();
+	private final Player player;
+	private final Client client;
+
+	private int gameCycle;
+	private int tickCount;
+	private int plane;
+	private int worldX;
+	private int worldY;
+
+	private long records;
+
+	public static void main(final String[] args) throws IOException
+	{
+		if (args.length != 1)
+		{
+			System.err.println("Usage: RaidReplay <raid" + RaidEventLog.FILE_EXTENSION + ">");
+			System.exit(1);
+		}
+
+		new RaidReplay().replay(new File(args[0]));
+	}
+
+	private RaidReplay()
+	{
+		final Tile[][][] tiles = new Tile[4][104][104];
+
+		localPlayer.name = "Player";
+		player = StandIn.of(Player.class, actorAnswers(localPlayer));
+		client = StandIn.of(Client.class,
+			"getGameCycle", (StandIn.Answer) a -> gameCycle,
+			"getTickCount", (StandIn.Answer) a -> tickCount,
+			"getVarbitValue", (StandIn.Answer) a -> varbits.getOrDefault((Integer) a[0], 0),
+			"getPlane", (StandIn.Answer) a -> plane,
+			"getBaseX", (StandIn.Answer) a -> worldX - (localPlayer.x >> 7),
+			"getBaseY", (StandIn.Answer) a -> worldY - (localPlayer.y >> 7),
+			"getLocalPlayer", (StandIn.Answer) a -> player,
+			"getPlayers", Collections.singletonList(player),
+			"getNpcs", npcs,
+			"getGameState", GameState.LOGGED_IN,
+			"isClientThread", true,
+			"getTiles", tiles,
+			"getItemContainer", (StandIn.Answer) a -> null);
+	}
+
+	private void replay(final File file) throws IOException
+	{
+		final ConfigManager configManager = mock(ConfigManager.class);
+		when(configManager.getConfig(ToaExtendedConfig.class))
+			.thenReturn(StandIn.of(ToaExtendedConfig.class, Collections.emptyMap()));
+
+		final Injector injector = Guice.createInjector(new ToaExtendedModule(), binder ->
+		{
+			binder.bind(Client.class).toInstance(client);
+			binder.bind(EventBus.class).toInstance(eventBus);
+			binder.bind(ConfigManager.class).toInstance(configManager);
+			binder.bind(Hooks.class).toInstance(mock(Hooks.class));
+			binder.bind(OverlayManager.class).toInstance(mock(OverlayManager.class));
+			binder.bind(ModelOutlineRenderer.class).toInstance(mock(ModelOutlineRenderer.class));
+			binder.bind(NpcOverlayService.class).toInstance(mock(NpcOverlayService.class));
+			binder.bind(SpriteManager.class).toInstance(mock(SpriteManager.class));
+		});
+
+		final ComponentManager componentManager = injector.getInstance(ComponentManager.class);
+		injector.getInstance(ComponentEventRouter.class).setDispatchObserver(profiler);
+		componentManager.onPluginStart();
+
+		final long start = System.nanoTime();
+
+		try (RaidEventLog.Reader reader = new RaidEventLog.Reader(file))
+		{
+			for (int type = reader.nextType(); type >= 0; type = reader.nextType())
+			{
+				records++;
+				replay(type, reader);
+			}
+		}
+
+		final long elapsed = System.nanoTime() - start;
+		componentManager.onPluginStop();
+
+		System.out.printf("%s: %d records, %d ticks replayed in %.1f ms (%.0fx real time)%n%n", file.getName(),
+			records, tickCount, elapsed / 1e6, tickCount * (double) TICK_NANOS / Math.max(elapsed, 1));
+		profiler.report();
+	}
+
+	private void replay(final int type, final RaidEventLog.Reader reader) throws IOException
+	{
+		switch (type)
+		{
+			case RaidEventLog.TICK:
+			{
+				gameCycle = reader.readInt();
+				localPlayer.x = reader.readInt();
+				localPlayer.y = reader.readInt();
+				plane = reader.readInt();
+				worldX = reader.readInt();
+				worldY = reader.readInt();
+				tickCount++;
+
+				projectiles.values().removeIf(p -> p.getRemainingCycles() <= 0);
+				graphicsObjects.values().removeIf(g -> g.finished);
+				eventBus.post(GAME_TICK);
+				break;
+			}
+			case RaidEventLog.CYCLE:
+				gameCycle = reader.readInt();
+				break;
+			case RaidEventLog.VARBIT:
+			{
+				final int varbitId = reader.readInt();
+				final int value = reader.readInt();
+				varbits.put(varbitId, value);
+
+				final VarbitChanged event = new VarbitChanged();
+				event.setVarbitId(varbitId);
+				event.setValue(value);
+				eventBus.post(event);
+				break;
+			}
+			case RaidEventLog.NPC_SPAWNED:
+			{
+				final ReplayActor actor = new ReplayActor();
+				final int handle = reader.readInt();
+				actor.id = reader.readInt();
+				actor.index = reader.readInt();
+				actor.x = reader.readInt();
+				actor.y = reader.readInt();
+				actor.name = reader.readString();
+				actor.npc = StandIn.of(NPC.class, actorAnswers(actor));
+
+				npcsByHandle.put(handle, actor);
+				npcs.add(actor.npc);
+				eventBus.post(new NpcSpawned(actor.npc));
+				break;
+			}
+			case RaidEventLog.NPC_DESPAWNED:
+			{
+				final ReplayActor actor = npcsByHandle.remove(reader.readInt());
+
+				if (actor != null)
+				{
+					npcs.remove(actor.npc);
+					eventBus.post(new NpcDespawned(actor.npc));
+				}
+				break;
+			}
+			case RaidEventLog.NPC_CHANGED:
+			{
+				final ReplayActor actor = npcsByHandle.get(reader.readInt());
+				final int id = reader.readInt();
+				final String name = reader.readString();
+
+				if (actor != null)
+				{
+					final NPCComposition old = StandIn.of(NPCComposition.class, "getId", actor.id, "getName", actor.name);
+					actor.id = id;
+					actor.name = name;
+					eventBus.post(new NpcChanged(actor.npc, old));
+				}
+				break;
+			}
+			case RaidEventLog.NPC_MOVED:
+			{
+				final ReplayActor actor = npcsByHandle.get(reader.readInt());
+				final int x = reader.readInt();
+				final int y = reader.readInt();
+
+				if (actor != null)
+				{
+					actor.x = x;
+					actor.y = y;
+				}
+				break;
+			}
+			case RaidEventLog.ANIMATION_CHANGED:
+			{
+				final int handle = reader.readInt();
+				final int animation = reader.readInt();
+				final ReplayActor actor = handle == 0 ? localPlayer : npcsByHandle.get(handle);
+
+				if (actor != null)
+				{
+					actor.animation = animation;
+
+					final AnimationChanged event = new AnimationChanged();
+					event.setActor(handle == 0 ? player : actor.npc);
+					eventBus.post(event);
+				}
+				break;
+			}
+			case RaidEventLog.PROJECTILE_SPAWNED:
+			{
+				final int handle = reader.readInt();
+				final int id = reader.readInt();
+				final int startCycle = reader.readInt();
+				final int endCycle = reader.readInt();
+				final int targetX = reader.readInt();
+				final int targetY = reader.readInt();
+				final boolean targetsPlayer = reader.readBoolean();
+
+				final Projectile projectile = StandIn.of(Projectile.class,
+					"getId", id,
+					"getStartCycle", startCycle,
+					"getEndCycle", endCycle,
+					"getRemainingCycles", (StandIn.Answer) a -> endCycle - gameCycle,
+					"getTarget", targetX < 0 ? (StandIn.Answer) a -> null : new LocalPoint(targetX, targetY),
+					"getInteracting", (StandIn.Answer) a -> targetsPlayer ? player : null);
+
+				projectiles.put(handle, projectile);
+				postProjectileMoved(projectile);
+				break;
+			}
+			case RaidEventLog.PROJECTILE_MOVED:
+			{
+				final Projectile projectile = projectiles.get(reader.readInt());
+
+				if (projectile != null)
+				{
+					postProjectileMoved(projectile);
+				}
+				break;
+			}
+			case RaidEventLog.GRAPHICS_OBJECT_CREATED:
+			{
+				final ReplayGraphicsObject graphicsObject = new ReplayGraphicsObject();
+				final int handle = reader.readInt();
+				final int id = reader.readInt();
+				final LocalPoint location = new LocalPoint(reader.readInt(), reader.readInt());
+				final int startCycle = reader.readInt();
+
+				graphicsObject.graphicsObject = StandIn.of(GraphicsObject.class,
+					"getId", id,
+					"getLocation", location,
+					"getStartCycle", startCycle,
+					"finished", (StandIn.Answer) a -> graphicsObject.finished);
+
+				graphicsObjects.put(handle, graphicsObject);
+				eventBus.post(new GraphicsObjectCreated(graphicsObject.graphicsObject));
+				break;
+			}
+			case RaidEventLog.GRAPHICS_OBJECT_FINISHED:
+			{
+				final ReplayGraphicsObject graphicsObject = graphicsObjects.get(reader.readInt());
+
+				if (graphicsObject != null)
+				{
+					graphicsObject.finished = true;
+				}
+				break;
+			}
+			case RaidEventLog.CHAT_MESSAGE:
+			{
+				final ChatMessage event = new ChatMessage();
+				event.setType(ChatMessageType.values()[reader.readInt()]);
+				event.setName(reader.readString());
+				event.setMessage(reader.readString());
+				eventBus.post(event);
+				break;
+			}
+			case RaidEventLog.SCRIPT_POST_FIRED:
+				eventBus.post(new ScriptPostFired(reader.readInt()));
+				break;
+			default:
+				throw new IOException("Unknown record type " + type + " after " + records + " records");
+		}
+	}
+
+	private void postProjectileMoved(final Projectile projectile)
+	{
+		final ProjectileMoved event = new ProjectileMoved();
+		event.setProjectile(projectile);
+		event.setPosition(projectile.getTarget());
+		eventBus.post(event);
+	}
+
+	private Map<String, Object> actorAnswers(final ReplayActor actor)
+	{
+		final Map<String, Object> answers = new HashMap<>();
+		final StandIn.Answer worldLocation = a -> new WorldPoint(
+			worldX - (localPlayer.x >> 7) + (actor.x >> 7), worldY - (localPlayer.y >> 7) + (actor.y >> 7), plane);
+
+		answers.put("getId", (StandIn.Answer) a -> actor.id);
+		answers.put("getName", (StandIn.Answer) a -> actor.name);
+		answers.put("getIndex", (StandIn.Answer) a -> actor.index);
+		answers.put("getAnimation", (StandIn.Answer) a -> actor.animation);
+		answers.put("getLocalLocation", (StandIn.Answer) a -> new LocalPoint(actor.x, actor.y));
+		answers.put("getWorldLocation", worldLocation);
+		answers.put("getWorldArea", (StandIn.Answer) a -> new WorldArea((WorldPoint) worldLocation.answer(a), 1, 1));
+		answers.put("getSize", 1);
+		return answers;
+	}
+
+	private static final class ReplayActor
+	{
+
+		private NPC npc;
+		private int id;
+		private int index;
+		private String name;
+		private int x;
+		private int y;
+		private int animation = -1;
+
+	}
+
+	private static final class ReplayGraphicsObject
+	{
+
+		private GraphicsObject graphicsObject;
+		private boolean finished;
+
+	}
+
+	/**
+	 * Times every handler invocation and counts the bytes it allocated, per component and event class. Handlers may
+	 * post events of their own, so the measurements are kept on a stack and nested handlers are included in the
+	 * handler that posted them.
+	 */
+	private static final class HandlerProfiler implements ComponentEventRouter.DispatchObserver
+	{
+
+		private final com.sun.management.ThreadMXBean threads =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		private final long threadId = Thread.currentThread().getId();
+
+		private final Map<Class<?>, Map<Class<?>, HandlerStats>> stats = new HashMap<>();
+		private final long[] startNanos = new long[32];
+		private final long[] startBytes = new long[32];
+		private int depth;
+
+		@Override
+		public void beforeHandler(final Object component, final Object event)
+		{
+			startBytes[depth] = threads.getThreadAllocatedBytes(threadId);
+			startNanos[depth++] = System.nanoTime();
+		}
+
+		@Override
+		public void afterHandler(final Object component, final Object event)
+		{
+			final long nanos = System.nanoTime() - startNanos[--depth];
+			final long bytes = threads.getThreadAllocatedBytes(threadId) - startBytes[depth];
+
+			stats.computeIfAbsent(component.getClass(), c -> new HashMap<>())
+				.computeIfAbsent(event.getClass(), e -> new HandlerStats())
+				.add(nanos, bytes);
+		}
+
+		private void report()
+		{
+			final List<Map.Entry<String, HandlerStats>> rows = new ArrayList<>();
+
+			stats.forEach((component, byEvent) -> byEvent.forEach((event, handlerStats) ->
+				rows.add(Map.entry(component.getSimpleName() + "#" + event.getSimpleName(), handlerStats))));
+			rows.sort((a, b) -> Long.compare(b.getValue().nanos, a.getValue().nanos));
+
+			System.out.printf("%-64s %10s %12s %10s %10s %12s %10s%n",
+				"handler", "calls", "total ms", "mean us", "max us", "alloc KB", "B/call");
+
+			for (final Map.Entry<String, HandlerStats> row : rows)
+			{
+				final HandlerStats s = row.getValue();
+				System.out.printf("%-64s %10d %12.2f %10.2f %10.2f %12.1f %10d%n",
+					row.getKey(), s.calls, s.nanos / 1e6, s.nanos / 1e3 / s.calls, s.maxNanos / 1e3,
+					s.bytes / 1024d, s.bytes / s.calls);
+			}
+		}
+
+	}
+
+	private static final class HandlerStats
+	{
+
+		private long calls;
+		private long nanos;
+		private long maxNanos;
+		private long bytes;
+
+		private void add(final long nanos, final long bytes)
+		{
+			calls++;
+			this.nanos += nanos;
+			this.maxNanos = Math.max(maxNanos, nanos);
+			this.bytes += bytes;
+		}
+
+	}
+
+}
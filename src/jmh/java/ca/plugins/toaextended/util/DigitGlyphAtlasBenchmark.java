@@ -0,0 +1,87 @@
+package ca.plugins.toaextended.util;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One shadowed tick counter drawn into an antialiased image, the former {@code ToaUtils.renderTextLocation} with a new
+ * font and two strings per call versus the {@link DigitGlyphAtlas} blits.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DigitGlyphAtlasBenchmark
+{
+
+	private static final String[] COUNTERS = {"1", "2", "3", "4", "5", "6", "7", "8", "12", "37", "100", "250"};
+
+	private final DigitGlyphAtlas atlas = new DigitGlyphAtlas();
+
+	private BufferedImage image;
+	private Graphics2D graphics2D;
+	private int sample;
+
+	@Setup
+	public void setUp()
+	{
+		image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB);
+		graphics2D = image.createGraphics();
+		graphics2D.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		graphics2D.dispose();
+	}
+
+	@Benchmark
+	public BufferedImage drawString()
+	{
+		final String text = nextCounter();
+		final Color originalColor = graphics2D.getColor();
+		final Font originalFont = graphics2D.getFont();
+
+		graphics2D.setFont(new Font("Arial", Font.BOLD, 12));
+		graphics2D.setColor(Color.BLACK);
+		graphics2D.drawString(text, 51, 51);
+		graphics2D.setColor(Color.WHITE);
+		graphics2D.drawString(text, 50, 50);
+
+		graphics2D.setFont(originalFont);
+		graphics2D.setColor(originalColor);
+		return image;
+	}
+
+	@Benchmark
+	public BufferedImage atlas()
+	{
+		atlas.drawString(graphics2D, nextCounter(), 50, 50, Color.WHITE, 12, Font.BOLD, true);
+		return image;
+	}
+
+	private String nextCounter()
+	{
+		sample = (sample + 1) % COUNTERS.length;
+		return COUNTERS[sample];
+	}
+
+}
@@ -0,0 +1,91 @@
+package ca.plugins.toaextended.util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Polygon;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One frame of hazard tiles in three tick colors drawn into an image, one {@link ToaUtils#drawOutlineAndFill} per
+ * tile versus through a {@link HazardRenderBatch}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HazardRenderBatchBenchmark
+{
+
+	private static final Color[] COLORS = {Color.RED, Color.ORANGE, Color.YELLOW};
+
+	@Param({"16", "64", "256"})
+	public int tiles;
+
+	private final HazardRenderBatch batch = new HazardRenderBatch();
+
+	private BufferedImage image;
+	private Graphics2D graphics2D;
+	private Polygon[] polygons;
+
+	@Setup
+	public void setUp()
+	{
+		image = new BufferedImage(765, 503, BufferedImage.TYPE_INT_ARGB);
+		graphics2D = image.createGraphics();
+		polygons = new Polygon[tiles];
+
+		for (int i = 0; i < tiles; i++)
+		{
+			final int x = 40 + (i % 16) * 40;
+			final int y = 40 + (i / 16) * 24;
+			polygons[i] = new Polygon(new int[]{x, x + 36, x + 40, x + 4}, new int[]{y, y, y + 20, y + 20}, 4);
+		}
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		graphics2D.dispose();
+	}
+
+	@Benchmark
+	public BufferedImage drawOutlineAndFill()
+	{
+		for (int i = 0; i < tiles; i++)
+		{
+			final Color color = COLORS[i % COLORS.length];
+			ToaUtils.drawOutlineAndFill(graphics2D, color,
+				new Color(color.getRed(), color.getGreen(), color.getBlue(), 20), 1, polygons[i]);
+		}
+
+		return image;
+	}
+
+	@Benchmark
+	public BufferedImage batch()
+	{
+		for (int i = 0; i < tiles; i++)
+		{
+			batch.add(COLORS[i % COLORS.length], 20, 1, polygons[i]);
+		}
+
+		batch.flush(graphics2D);
+		return image;
+	}
+
+}
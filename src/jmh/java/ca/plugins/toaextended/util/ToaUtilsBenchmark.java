@@ -0,0 +1,78 @@
+package ca.plugins.toaextended.util;
+
+import java.awt.Color;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The small conversions called from tick handlers and recolouring: {@link ToaUtils#colorToRs2hsb(Color)},
+ * {@link ToaUtils#cyclesToTicks(int)} and {@link RaidRoom#fromRegionId(int)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToaUtilsBenchmark
+{
+
+	private static final int SAMPLES = 1024;
+
+	private final Color[] colors = new Color[SAMPLES];
+	private final int[] cycles = new int[SAMPLES];
+	private final int[] regionIds = new int[SAMPLES];
+	private int sample;
+
+	@Setup
+	public void setUp()
+	{
+		final Random random = new Random(1);
+		final RaidRoom[] rooms = RaidRoom.values();
+
+		for (int i = 0; i < SAMPLES; i++)
+		{
+			colors[i] = new Color(random.nextInt(0x1000000));
+			cycles[i] = random.nextInt(300);
+			// half of the lookups miss, as they do outside of the raid
+			regionIds[i] = random.nextBoolean() ?
+				rooms[random.nextInt(rooms.length)].getRegionId() :
+				12000 + random.nextInt(4000);
+		}
+	}
+
+	@Benchmark
+	public int colorToRs2hsb()
+	{
+		return ToaUtils.colorToRs2hsb(colors[nextSample()]);
+	}
+
+	@Benchmark
+	public int cyclesToTicks()
+	{
+		return ToaUtils.cyclesToTicks(cycles[nextSample()]);
+	}
+
+	@Benchmark
+	public RaidRoom raidRoomFromRegionId()
+	{
+		return RaidRoom.fromRegionId(regionIds[nextSample()]);
+	}
+
+	private int nextSample()
+	{
+		sample = (sample + 1) & (SAMPLES - 1);
+		return sample;
+	}
+
+}
@@ -0,0 +1,831 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended;
+
+import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import java.awt.Color;
+import java.lang.reflect.Method;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.client.config.ConfigItem;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+
+/**
+ * {@link ToaExtendedConfig} served from an immutable {@link ToaExtendedConfigSnapshot}, so that render and event
+ * hot paths read plain fields instead of going through the config proxy.
+ * <p>
+ * The snapshot is dropped when the group changes and rebuilt by the next read, which also coalesces bursts of
+ * changes into a single rebuild. Every config item must be overridden here, which is verified on construction.
+ */
+@Singleton
+public class CachedToaExtendedConfig implements ToaExtendedConfig, PluginLifecycleComponent
+{
+
+	private final ToaExtendedConfig config;
+
+	private volatile ToaExtendedConfigSnapshot snapshot;
+
+	@Inject
+	CachedToaExtendedConfig(final ConfigManager configManager)
+	{
+		this(configManager.getConfig(ToaExtendedConfig.class));
+	}
+
+	public CachedToaExtendedConfig(final ToaExtendedConfig config)
+	{
+		this.config = config;
+
+		for (final Method method : ToaExtendedConfig.class.getMethods())
+		{
+			if (method.isAnnotationPresent(ConfigItem.class) && method.isDefault())
+			{
+				try
+				{
+					if (CachedToaExtendedConfig.class.getMethod(method.getName()).getDeclaringClass() != CachedToaExtendedConfig.class)
+					{
+						throw new IllegalStateException("Config item not cached: " + method.getName());
+					}
+				}
+				catch (final NoSuchMethodException exception)
+				{
+					throw new IllegalStateException(exception);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void startUp()
+	{
+		invalidate();
+	}
+
+	@Override
+	public void shutDown()
+	{
+		invalidate();
+	}
+
+	@Subscribe(priority = 10)
+	public void onConfigChanged(final ConfigChanged event)
+	{
+		if (CONFIG_GROUP.equals(event.getGroup()))
+		{
+			invalidate();
+		}
+	}
+
+	private ToaExtendedConfigSnapshot snapshot()
+	{
+		final ToaExtendedConfigSnapshot current = snapshot;
+		return current != null ? current : rebuild();
+	}
+
+	private synchronized ToaExtendedConfigSnapshot rebuild()
+	{
+		if (snapshot == null)
+		{
+			snapshot = new ToaExtendedConfigSnapshot(config);
+		}
+
+		return snapshot;
+	}
+
+	private synchronized void invalidate()
+	{
+		snapshot = null;
+	}
+
+	@Override
+	public boolean zebakPrayerIndicator()
+	{
+		return snapshot().zebakPrayerIndicator;
+	}
+
+	@Override
+	public boolean zebakHealthCounter()
+	{
+		return snapshot().zebakHealthCounter;
+	}
+
+	@Override
+	public Tile zebakBloodCloudTile()
+	{
+		return snapshot().zebakBloodCloudTile;
+	}
+
+	@Override
+	public Tile zebakWaveTile()
+	{
+		return snapshot().zebakWaveTile;
+	}
+
+	@Override
+	public boolean zebakProjectileTiles()
+	{
+		return snapshot().zebakProjectileTiles;
+	}
+
+	@Override
+	public boolean zebakBloodMagicOutline()
+	{
+		return snapshot().zebakBloodMagicOutline;
+	}
+
+	@Override
+	public boolean zebakJugOutline()
+	{
+		return snapshot().zebakJugOutline;
+	}
+
+	@Override
+	public boolean zebakBoulderOutline()
+	{
+		return snapshot().zebakBoulderOutline;
+	}
+
+	@Override
+	public boolean zebakHideWaves()
+	{
+		return snapshot().zebakHideWaves;
+	}
+
+	@Override
+	public AttackCounter kephriAttackCounter()
+	{
+		return snapshot().kephriAttackCounter;
+	}
+
+	@Override
+	public FireballRadius kephriFireballTiles()
+	{
+		return snapshot().kephriFireballTiles;
+	}
+
+	@Override
+	public boolean kephriEggTiles()
+	{
+		return snapshot().kephriEggTiles;
+	}
+
+	@Override
+	public boolean kephriDungOutline()
+	{
+		return snapshot().kephriDungOutline;
+	}
+
+	@Override
+	public boolean kephriOverlordOutline()
+	{
+		return snapshot().kephriOverlordOutline;
+	}
+
+	@Override
+	public boolean kephriScarabSwarmOutline()
+	{
+		return snapshot().kephriScarabSwarmOutline;
+	}
+
+	@Override
+	public boolean kephriHideFireballProjectile()
+	{
+		return snapshot().kephriHideFireballProjectile;
+	}
+
+	@Override
+	public boolean kephriHideBomberScarabProjectile()
+	{
+		return snapshot().kephriHideBomberScarabProjectile;
+	}
+
+	@Override
+	public boolean kephriHideUnattackableScarabSwarm()
+	{
+		return snapshot().kephriHideUnattackableScarabSwarm;
+	}
+
+	@Override
+	public boolean kephriHideAgileScarabNpc()
+	{
+		return snapshot().kephriHideAgileScarabNpc;
+	}
+
+	@Override
+	public boolean kephriHideAgileScarabProjectile()
+	{
+		return snapshot().kephriHideAgileScarabProjectile;
+	}
+
+	@Override
+	public boolean babaHealthCounter()
+	{
+		return snapshot().babaHealthCounter;
+	}
+
+	@Override
+	public Tile babaTile()
+	{
+		return snapshot().babaTile;
+	}
+
+	@Override
+	public boolean babaShockwaveTiles()
+	{
+		return snapshot().babaShockwaveTiles;
+	}
+
+	@Override
+	public boolean babaNonWeakenedRollingBoulderTiles()
+	{
+		return snapshot().babaNonWeakenedRollingBoulderTiles;
+	}
+
+	@Override
+	public boolean babaFallingBoulderTiles()
+	{
+		return snapshot().babaFallingBoulderTiles;
+	}
+
+	@Override
+	public boolean babaSarcophagusTiles()
+	{
+		return snapshot().babaSarcophagusTiles;
+	}
+
+	@Override
+	public boolean babaRubbleTiles()
+	{
+		return snapshot().babaRubbleTiles;
+	}
+
+	@Override
+	public boolean babaBananaPeelTiles()
+	{
+		return snapshot().babaBananaPeelTiles;
+	}
+
+	@Override
+	public boolean babaSpecialAttackOutline()
+	{
+		return snapshot().babaSpecialAttackOutline;
+	}
+
+	@Override
+	public boolean babaBaboonOutline()
+	{
+		return snapshot().babaBaboonOutline;
+	}
+
+	@Override
+	public boolean babaHideNonWeakenedRollingBoulders()
+	{
+		return snapshot().babaHideNonWeakenedRollingBoulders;
+	}
+
+	@Override
+	public boolean babaHideRollingBoulderProjectiles()
+	{
+		return snapshot().babaHideRollingBoulderProjectiles;
+	}
+
+	@Override
+	public boolean babaHideFallingBoulders()
+	{
+		return snapshot().babaHideFallingBoulders;
+	}
+
+	@Override
+	public boolean babaHideBaboonProjectiles()
+	{
+		return snapshot().babaHideBaboonProjectiles;
+	}
+
+	@Override
+	public boolean akkhaPrayerIndicator()
+	{
+		return snapshot().akkhaPrayerIndicator;
+	}
+
+	@Override
+	public boolean akkhaHealthCounter()
+	{
+		return snapshot().akkhaHealthCounter;
+	}
+
+	@Override
+	public Tile akkhaTile()
+	{
+		return snapshot().akkhaTile;
+	}
+
+	@Override
+	public boolean akkhaSpecialAttackOutline()
+	{
+		return snapshot().akkhaSpecialAttackOutline;
+	}
+
+	@Override
+	public boolean akkhaAttackTickCounter()
+	{
+		return snapshot().akkhaAttackTickCounter;
+	}
+
+	@Override
+	public boolean akkhaMemoryBlastTracker()
+	{
+		return snapshot().akkhaMemoryBlastTracker;
+	}
+
+	@Override
+	public boolean akkhaUnstableOrbRadius()
+	{
+		return snapshot().akkhaUnstableOrbRadius;
+	}
+
+	@Override
+	public int akkhaRadiusDistance()
+	{
+		return snapshot().akkhaRadiusDistance;
+	}
+
+	@Override
+	public Tile akkhaUnstableOrbTiles()
+	{
+		return snapshot().akkhaUnstableOrbTiles;
+	}
+
+	@Override
+	public boolean akkhaHideUnstableOrbs()
+	{
+		return snapshot().akkhaHideUnstableOrbs;
+	}
+
+	@Override
+	public boolean wardenP2PrayerIndicator()
+	{
+		return snapshot().wardenP2PrayerIndicator;
+	}
+
+	@Override
+	public boolean wardenP2HealthCounter()
+	{
+		return snapshot().wardenP2HealthCounter;
+	}
+
+	@Override
+	public boolean wardenCoreTickTimer()
+	{
+		return snapshot().wardenCoreTickTimer;
+	}
+
+	@Override
+	public boolean wardenTile()
+	{
+		return snapshot().wardenTile;
+	}
+
+	@Override
+	public boolean wardenCoreTile()
+	{
+		return snapshot().wardenCoreTile;
+	}
+
+	@Override
+	public boolean wardenBlackSkullProjectileTile()
+	{
+		return snapshot().wardenBlackSkullProjectileTile;
+	}
+
+	@Override
+	public boolean wardenLightningProjectileTile()
+	{
+		return snapshot().wardenLightningProjectileTile;
+	}
+
+	@Override
+	public boolean wardenHideLightningTiles()
+	{
+		return snapshot().wardenHideLightningTiles;
+	}
+
+	@Override
+	public boolean wardenHideLightningProjectiles()
+	{
+		return snapshot().wardenHideLightningProjectiles;
+	}
+
+	@Override
+	public boolean wardenP3PrayerIndicator()
+	{
+		return snapshot().wardenP3PrayerIndicator;
+	}
+
+	@Override
+	public boolean wardenP3HealthCounter()
+	{
+		return snapshot().wardenP3HealthCounter;
+	}
+
+	@Override
+	public boolean wardenSlamIndicator()
+	{
+		return snapshot().wardenSlamIndicator;
+	}
+
+	@Override
+	public boolean wardenEnergySiphonTickTimer()
+	{
+		return snapshot().wardenEnergySiphonTickTimer;
+	}
+
+	@Override
+	public boolean wardenEnergySiphonProjectileTile()
+	{
+		return snapshot().wardenEnergySiphonProjectileTile;
+	}
+
+	@Override
+	public boolean wardenBabaFallingBoulderTile()
+	{
+		return snapshot().wardenBabaFallingBoulderTile;
+	}
+
+	@Override
+	public FireballRadius wardenKephriFireballTile()
+	{
+		return snapshot().wardenKephriFireballTile;
+	}
+
+	@Override
+	public boolean wardenRedLightningTiles()
+	{
+		return snapshot().wardenRedLightningTiles;
+	}
+
+	@Override
+	public boolean wardenHideTileDebrisProjectile()
+	{
+		return snapshot().wardenHideTileDebrisProjectile;
+	}
+
+	@Override
+	public boolean wardenHideEnergySiphonProjectile()
+	{
+		return snapshot().wardenHideEnergySiphonProjectile;
+	}
+
+	@Override
+	public boolean wardenHideEnergySiphonChargeProjectiles()
+	{
+		return snapshot().wardenHideEnergySiphonChargeProjectiles;
+	}
+
+	@Override
+	public boolean wardenHideDeadEnergySiphon()
+	{
+		return snapshot().wardenHideDeadEnergySiphon;
+	}
+
+	@Override
+	public boolean wardenHideBabaFallingBoulders()
+	{
+		return snapshot().wardenHideBabaFallingBoulders;
+	}
+
+	@Override
+	public boolean wardenHideKephriFireballProjectile()
+	{
+		return snapshot().wardenHideKephriFireballProjectile;
+	}
+
+	@Override
+	public boolean wardenHideZebakProjectile()
+	{
+		return snapshot().wardenHideZebakProjectile;
+	}
+
+	@Override
+	public boolean wardenHideRedLightning()
+	{
+		return snapshot().wardenHideRedLightning;
+	}
+
+	@Override
+	public boolean scabarasAdditionPuzzle()
+	{
+		return snapshot().scabarasAdditionPuzzle;
+	}
+
+	@Override
+	public boolean scabarasLightPuzzle()
+	{
+		return snapshot().scabarasLightPuzzle;
+	}
+
+	@Override
+	public boolean scabarasSequencePuzzle()
+	{
+		return snapshot().scabarasSequencePuzzle;
+	}
+
+	@Override
+	public boolean scabarasObeliskPuzzle()
+	{
+		return snapshot().scabarasObeliskPuzzle;
+	}
+
+	@Override
+	public boolean scabarasObeliskFallingRocksHighlight()
+	{
+		return snapshot().scabarasObeliskFallingRocksHighlight;
+	}
+
+	@Override
+	public boolean scabarasMatchingPuzzle()
+	{
+		return snapshot().scabarasMatchingPuzzle;
+	}
+
+	@Override
+	public boolean scabarasHighlightEntrance()
+	{
+		return snapshot().scabarasHighlightEntrance;
+	}
+
+	@Override
+	public boolean apmekenBaboonOutline()
+	{
+		return snapshot().apmekenBaboonOutline;
+	}
+
+	@Override
+	public boolean apmekenVolatileBaboonTiles()
+	{
+		return snapshot().apmekenVolatileBaboonTiles;
+	}
+
+	@Override
+	public boolean apmekenRoofVentOutline()
+	{
+		return snapshot().apmekenRoofVentOutline;
+	}
+
+	@Override
+	public boolean apmekenRepairMenuEntry()
+	{
+		return snapshot().apmekenRepairMenuEntry;
+	}
+
+	@Override
+	public boolean hetDepositPickaxe()
+	{
+		return snapshot().hetDepositPickaxe;
+	}
+
+	@Override
+	public boolean hetCasterStatueBeamTimer()
+	{
+		return snapshot().hetCasterStatueBeamTimer;
+	}
+
+	@Override
+	public boolean hetMirrorOutline()
+	{
+		return snapshot().hetMirrorOutline;
+	}
+
+	@Override
+	public boolean hetOrbOfDarknessTiles()
+	{
+		return snapshot().hetOrbOfDarknessTiles;
+	}
+
+	@Override
+	public boolean hetHideOrbsOfDarkness()
+	{
+		return snapshot().hetHideOrbsOfDarkness;
+	}
+
+	@Override
+	public PrayerMode prayerMode()
+	{
+		return snapshot().prayerMode;
+	}
+
+	@Override
+	public boolean prayerDescendingBoxes()
+	{
+		return snapshot().prayerDescendingBoxes;
+	}
+
+	@Override
+	public boolean prayerNonPriorityBoxes()
+	{
+		return snapshot().prayerNonPriorityBoxes;
+	}
+
+	@Override
+	public Color prayerBoxColor()
+	{
+		return snapshot().prayerBoxColor;
+	}
+
+	@Override
+	public Color prayerBoxWarnColor()
+	{
+		return snapshot().prayerBoxWarnColor;
+	}
+
+	@Override
+	public boolean sarcophagusRecolorWhite()
+	{
+		return snapshot().sarcophagusRecolorWhite;
+	}
+
+	@Override
+	public Color sarcophagusWhiteRecolor()
+	{
+		return snapshot().sarcophagusWhiteRecolor;
+	}
+
+	@Override
+	public boolean sarcophagusRecolorMyPurple()
+	{
+		return snapshot().sarcophagusRecolorMyPurple;
+	}
+
+	@Override
+	public Color sarcophagusMyPurpleRecolor()
+	{
+		return snapshot().sarcophagusMyPurpleRecolor;
+	}
+
+	@Override
+	public boolean sarcophagusRecolorOtherPurple()
+	{
+		return snapshot().sarcophagusRecolorOtherPurple;
+	}
+
+	@Override
+	public Color sarcophagusOtherPurpleRecolor()
+	{
+		return snapshot().sarcophagusOtherPurpleRecolor;
+	}
+
+	@Override
+	public boolean sarcophagusRecolorLoot()
+	{
+		return snapshot().sarcophagusRecolorLoot;
+	}
+
+	@Override
+	public Color sarcophagusLightbearerColor()
+	{
+		return snapshot().sarcophagusLightbearerColor;
+	}
+
+	@Override
+	public Color sarcophagusElidinisWardColor()
+	{
+		return snapshot().sarcophagusElidinisWardColor;
+	}
+
+	@Override
+	public Color sarcophagusOsmumtensFangColor()
+	{
+		return snapshot().sarcophagusOsmumtensFangColor;
+	}
+
+	@Override
+	public Color sarcophagusMasoriMaskColor()
+	{
+		return snapshot().sarcophagusMasoriMaskColor;
+	}
+
+	@Override
+	public Color sarcophagusMasoriChapsColor()
+	{
+		return snapshot().sarcophagusMasoriChapsColor;
+	}
+
+	@Override
+	public Color sarcophagusMasoriBodyColor()
+	{
+		return snapshot().sarcophagusMasoriBodyColor;
+	}
+
+	@Override
+	public Color sarcophagusTumekensShadowColor()
+	{
+		return snapshot().sarcophagusTumekensShadowColor;
+	}
+
+	@Override
+	public boolean sarcophagusHideLoot()
+	{
+		return snapshot().sarcophagusHideLoot;
+	}
+
+	@Override
+	public boolean hideFadeTransition()
+	{
+		return snapshot().hideFadeTransition;
+	}
+
+	@Override
+	public boolean hideHPOrbs()
+	{
+		return snapshot().hideHPOrbs;
+	}
+
+	@Override
+	public QuickProceed quickProceedSwaps()
+	{
+		return snapshot().quickProceedSwaps;
+	}
+
+	@Override
+	public FontStyle fontStyle()
+	{
+		return snapshot().fontStyle;
+	}
+
+	@Override
+	public int fontSize()
+	{
+		return snapshot().fontSize;
+	}
+
+	@Override
+	public Color dangerOutlineColor()
+	{
+		return snapshot().dangerOutlineColor;
+	}
+
+	@Override
+	public Color dangerFillColor()
+	{
+		return snapshot().dangerFillColor;
+	}
+
+	@Override
+	public Color tileOutlineColor()
+	{
+		return snapshot().tileOutlineColor;
+	}
+
+	@Override
+	public Color tileFillColor()
+	{
+		return snapshot().tileFillColor;
+	}
+
+	@Override
+	public boolean recordRaidEvents()
+	{
+		return snapshot().recordRaidEvents;
+	}
+
+	@Override
+	public int overlayFrameBudget()
+	{
+		return snapshot().overlayFrameBudget;
+	}
+
+	@Override
+	public int outlineDetailThreshold()
+	{
+		return snapshot().outlineDetailThreshold;
+	}
+
+}
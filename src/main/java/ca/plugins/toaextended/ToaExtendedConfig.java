@@ -1588,6 +1588,45 @@ public interface ToaExtendedConfig extends Config
 		return new Color(0, 0, 0, 10);
 	}
 
+	@ConfigItem(
+		name = "Record Raid Events",
+		description = "Record the game events of each raid to .runelite/toa-extended/recordings for offline replay.",
+		position = 9,
+		keyName = "recordRaidEvents",
+		section = SECTION_MISC
+	)
+	default boolean recordRaidEvents()
+	{
+		return false;
+	}
+
+	@ConfigItem(
+		name = "Overlay Frame Budget",
+		description = "When the overlays take longer than this per frame, skip outlines, then tile fills, then update counters once per tick." +
+			"<br>Prayer overlays are never reduced. 0 to disable.",
+		position = 10,
+		keyName = "overlayFrameBudget",
+		section = SECTION_MISC
+	)
+	@Units(Units.MILLISECONDS)
+	default int overlayFrameBudget()
+	{
+		return 0;
+	}
+
+	@ConfigItem(
+		name = "Outline Detail Threshold",
+		description = "Outline convex hulls instead of models once an overlay outlines more entities than this," +
+			"<br>or its model outlines take over 2 ms per frame. 0 to always outline models.",
+		position = 11,
+		keyName = "outlineDetailThreshold",
+		section = SECTION_MISC
+	)
+	default int outlineDetailThreshold()
+	{
+		return 0;
+	}
+
 	// Enums
 
 	@AllArgsConstructor
@@ -0,0 +1,286 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended;
+
+import ca.plugins.toaextended.ToaExtendedConfig.AttackCounter;
+import ca.plugins.toaextended.ToaExtendedConfig.FireballRadius;
+import ca.plugins.toaextended.ToaExtendedConfig.FontStyle;
+import ca.plugins.toaextended.ToaExtendedConfig.PrayerMode;
+import ca.plugins.toaextended.ToaExtendedConfig.QuickProceed;
+import ca.plugins.toaextended.ToaExtendedConfig.Tile;
+import java.awt.Color;
+
+/**
+ * Immutable copy of every {@link ToaExtendedConfig} item, read once from the config proxy.
+ */
+final class ToaExtendedConfigSnapshot
+{
+
+	final boolean zebakPrayerIndicator;
+	final boolean zebakHealthCounter;
+	final Tile zebakBloodCloudTile;
+	final Tile zebakWaveTile;
+	final boolean zebakProjectileTiles;
+	final boolean zebakBloodMagicOutline;
+	final boolean zebakJugOutline;
+	final boolean zebakBoulderOutline;
+	final boolean zebakHideWaves;
+	final AttackCounter kephriAttackCounter;
+	final FireballRadius kephriFireballTiles;
+	final boolean kephriEggTiles;
+	final boolean kephriDungOutline;
+	final boolean kephriOverlordOutline;
+	final boolean kephriScarabSwarmOutline;
+	final boolean kephriHideFireballProjectile;
+	final boolean kephriHideBomberScarabProjectile;
+	final boolean kephriHideUnattackableScarabSwarm;
+	final boolean kephriHideAgileScarabNpc;
+	final boolean kephriHideAgileScarabProjectile;
+	final boolean babaHealthCounter;
+	final Tile babaTile;
+	final boolean babaShockwaveTiles;
+	final boolean babaNonWeakenedRollingBoulderTiles;
+	final boolean babaFallingBoulderTiles;
+	final boolean babaSarcophagusTiles;
+	final boolean babaRubbleTiles;
+	final boolean babaBananaPeelTiles;
+	final boolean babaSpecialAttackOutline;
+	final boolean babaBaboonOutline;
+	final boolean babaHideNonWeakenedRollingBoulders;
+	final boolean babaHideRollingBoulderProjectiles;
+	final boolean babaHideFallingBoulders;
+	final boolean babaHideBaboonProjectiles;
+	final boolean akkhaPrayerIndicator;
+	final boolean akkhaHealthCounter;
+	final Tile akkhaTile;
+	final boolean akkhaSpecialAttackOutline;
+	final boolean akkhaAttackTickCounter;
+	final boolean akkhaMemoryBlastTracker;
+	final boolean akkhaUnstableOrbRadius;
+	final int akkhaRadiusDistance;
+	final Tile akkhaUnstableOrbTiles;
+	final boolean akkhaHideUnstableOrbs;
+	final boolean wardenP2PrayerIndicator;
+	final boolean wardenP2HealthCounter;
+	final boolean wardenCoreTickTimer;
+	final boolean wardenTile;
+	final boolean wardenCoreTile;
+	final boolean wardenBlackSkullProjectileTile;
+	final boolean wardenLightningProjectileTile;
+	final boolean wardenHideLightningTiles;
+	final boolean wardenHideLightningProjectiles;
+	final boolean wardenP3PrayerIndicator;
+	final boolean wardenP3HealthCounter;
+	final boolean wardenSlamIndicator;
+	final boolean wardenEnergySiphonTickTimer;
+	final boolean wardenEnergySiphonProjectileTile;
+	final boolean wardenBabaFallingBoulderTile;
+	final FireballRadius wardenKephriFireballTile;
+	final boolean wardenRedLightningTiles;
+	final boolean wardenHideTileDebrisProjectile;
+	final boolean wardenHideEnergySiphonProjectile;
+	final boolean wardenHideEnergySiphonChargeProjectiles;
+	final boolean wardenHideDeadEnergySiphon;
+	final boolean wardenHideBabaFallingBoulders;
+	final boolean wardenHideKephriFireballProjectile;
+	final boolean wardenHideZebakProjectile;
+	final boolean wardenHideRedLightning;
+	final boolean scabarasAdditionPuzzle;
+	final boolean scabarasLightPuzzle;
+	final boolean scabarasSequencePuzzle;
+	final boolean scabarasObeliskPuzzle;
+	final boolean scabarasObeliskFallingRocksHighlight;
+	final boolean scabarasMatchingPuzzle;
+	final boolean scabarasHighlightEntrance;
+	final boolean apmekenBaboonOutline;
+	final boolean apmekenVolatileBaboonTiles;
+	final boolean apmekenRoofVentOutline;
+	final boolean apmekenRepairMenuEntry;
+	final boolean hetDepositPickaxe;
+	final boolean hetCasterStatueBeamTimer;
+	final boolean hetMirrorOutline;
+	final boolean hetOrbOfDarknessTiles;
+	final boolean hetHideOrbsOfDarkness;
+	final PrayerMode prayerMode;
+	final boolean prayerDescendingBoxes;
+	final boolean prayerNonPriorityBoxes;
+	final Color prayerBoxColor;
+	final Color prayerBoxWarnColor;
+	final boolean sarcophagusRecolorWhite;
+	final Color sarcophagusWhiteRecolor;
+	final boolean sarcophagusRecolorMyPurple;
+	final Color sarcophagusMyPurpleRecolor;
+	final boolean sarcophagusRecolorOtherPurple;
+	final Color sarcophagusOtherPurpleRecolor;
+	final boolean sarcophagusRecolorLoot;
+	final Color sarcophagusLightbearerColor;
+	final Color sarcophagusElidinisWardColor;
+	final Color sarcophagusOsmumtensFangColor;
+	final Color sarcophagusMasoriMaskColor;
+	final Color sarcophagusMasoriChapsColor;
+	final Color sarcophagusMasoriBodyColor;
+	final Color sarcophagusTumekensShadowColor;
+	final boolean sarcophagusHideLoot;
+	final boolean hideFadeTransition;
+	final boolean hideHPOrbs;
+	final QuickProceed quickProceedSwaps;
+	final FontStyle fontStyle;
+	final int fontSize;
+	final Color dangerOutlineColor;
+	final Color dangerFillColor;
+	final Color tileOutlineColor;
+	final Color tileFillColor;
+	final boolean recordRaidEvents;
+	final int overlayFrameBudget;
+	final int outlineDetailThreshold;
+
+	ToaExtendedConfigSnapshot(final ToaExtendedConfig config)
+	{
+		zebakPrayerIndicator = config.zebakPrayerIndicator();
+		zebakHealthCounter = config.zebakHealthCounter();
+		zebakBloodCloudTile = config.zebakBloodCloudTile();
+		zebakWaveTile = config.zebakWaveTile();
+		zebakProjectileTiles = config.zebakProjectileTiles();
+		zebakBloodMagicOutline = config.zebakBloodMagicOutline();
+		zebakJugOutline = config.zebakJugOutline();
+		zebakBoulderOutline = config.zebakBoulderOutline();
+		zebakHideWaves = config.zebakHideWaves();
+		kephriAttackCounter = config.kephriAttackCounter();
+		kephriFireballTiles = config.kephriFireballTiles();
+		kephriEggTiles = config.kephriEggTiles();
+		kephriDungOutline = config.kephriDungOutline();
+		kephriOverlordOutline = config.kephriOverlordOutline();
+		kephriScarabSwarmOutline = config.kephriScarabSwarmOutline();
+		kephriHideFireballProjectile = config.kephriHideFireballProjectile();
+		kephriHideBomberScarabProjectile = config.kephriHideBomberScarabProjectile();
+		kephriHideUnattackableScarabSwarm = config.kephriHideUnattackableScarabSwarm();
+		kephriHideAgileScarabNpc = config.kephriHideAgileScarabNpc();
+		kephriHideAgileScarabProjectile = config.kephriHideAgileScarabProjectile();
+		babaHealthCounter = config.babaHealthCounter();
+		babaTile = config.babaTile();
+		babaShockwaveTiles = config.babaShockwaveTiles();
+		babaNonWeakenedRollingBoulderTiles = config.babaNonWeakenedRollingBoulderTiles();
+		babaFallingBoulderTiles = config.babaFallingBoulderTiles();
+		babaSarcophagusTiles = config.babaSarcophagusTiles();
+		babaRubbleTiles = config.babaRubbleTiles();
+		babaBananaPeelTiles = config.babaBananaPeelTiles();
+		babaSpecialAttackOutline = config.babaSpecialAttackOutline();
+		babaBaboonOutline = config.babaBaboonOutline();
+		babaHideNonWeakenedRollingBoulders = config.babaHideNonWeakenedRollingBoulders();
+		babaHideRollingBoulderProjectiles = config.babaHideRollingBoulderProjectiles();
+		babaHideFallingBoulders = config.babaHideFallingBoulders();
+		babaHideBaboonProjectiles = config.babaHideBaboonProjectiles();
+		akkhaPrayerIndicator = config.akkhaPrayerIndicator();
+		akkhaHealthCounter = config.akkhaHealthCounter();
+		akkhaTile = config.akkhaTile();
+		akkhaSpecialAttackOutline = config.akkhaSpecialAttackOutline();
+		akkhaAttackTickCounter = config.akkhaAttackTickCounter();
+		akkhaMemoryBlastTracker = config.akkhaMemoryBlastTracker();
+		akkhaUnstableOrbRadius = config.akkhaUnstableOrbRadius();
+		akkhaRadiusDistance = config.akkhaRadiusDistance();
+		akkhaUnstableOrbTiles = config.akkhaUnstableOrbTiles();
+		akkhaHideUnstableOrbs = config.akkhaHideUnstableOrbs();
+		wardenP2PrayerIndicator = config.wardenP2PrayerIndicator();
+		wardenP2HealthCounter = config.wardenP2HealthCounter();
+		wardenCoreTickTimer = config.wardenCoreTickTimer();
+		wardenTile = config.wardenTile();
+		wardenCoreTile = config.wardenCoreTile();
+		wardenBlackSkullProjectileTile = config.wardenBlackSkullProjectileTile();
+		wardenLightningProjectileTile = config.wardenLightningProjectileTile();
+		wardenHideLightningTiles = config.wardenHideLightningTiles();
+		wardenHideLightningProjectiles = config.wardenHideLightningProjectiles();
+		wardenP3PrayerIndicator = config.wardenP3PrayerIndicator();
+		wardenP3HealthCounter = config.wardenP3HealthCounter();
+		wardenSlamIndicator = config.wardenSlamIndicator();
+		wardenEnergySiphonTickTimer = config.wardenEnergySiphonTickTimer();
+		wardenEnergySiphonProjectileTile = config.wardenEnergySiphonProjectileTile();
+		wardenBabaFallingBoulderTile = config.wardenBabaFallingBoulderTile();
+		wardenKephriFireballTile = config.wardenKephriFireballTile();
+		wardenRedLightningTiles = config.wardenRedLightningTiles();
+		wardenHideTileDebrisProjectile = config.wardenHideTileDebrisProjectile();
+		wardenHideEnergySiphonProjectile = config.wardenHideEnergySiphonProjectile();
+		wardenHideEnergySiphonChargeProjectiles = config.wardenHideEnergySiphonChargeProjectiles();
+		wardenHideDeadEnergySiphon = config.wardenHideDeadEnergySiphon();
+		wardenHideBabaFallingBoulders = config.wardenHideBabaFallingBoulders();
+		wardenHideKephriFireballProjectile = config.wardenHideKephriFireballProjectile();
+		wardenHideZebakProjectile = config.wardenHideZebakProjectile();
+		wardenHideRedLightning = config.wardenHideRedLightning();
+		scabarasAdditionPuzzle = config.scabarasAdditionPuzzle();
+		scabarasLightPuzzle = config.scabarasLightPuzzle();
+		scabarasSequencePuzzle = config.scabarasSequencePuzzle();
+		scabarasObeliskPuzzle = config.scabarasObeliskPuzzle();
+		scabarasObeliskFallingRocksHighlight = config.scabarasObeliskFallingRocksHighlight();
+		scabarasMatchingPuzzle = config.scabarasMatchingPuzzle();
+		scabarasHighlightEntrance = config.scabarasHighlightEntrance();
+		apmekenBaboonOutline = config.apmekenBaboonOutline();
+		apmekenVolatileBaboonTiles = config.apmekenVolatileBaboonTiles();
+		apmekenRoofVentOutline = config.apmekenRoofVentOutline();
+		apmekenRepairMenuEntry = config.apmekenRepairMenuEntry();
+		hetDepositPickaxe = config.hetDepositPickaxe();
+		hetCasterStatueBeamTimer = config.hetCasterStatueBeamTimer();
+		hetMirrorOutline = config.hetMirrorOutline();
+		hetOrbOfDarknessTiles = config.hetOrbOfDarknessTiles();
+		hetHideOrbsOfDarkness = config.hetHideOrbsOfDarkness();
+		prayerMode = config.prayerMode();
+		prayerDescendingBoxes = config.prayerDescendingBoxes();
+		prayerNonPriorityBoxes = config.prayerNonPriorityBoxes();
+		prayerBoxColor = config.prayerBoxColor();
+		prayerBoxWarnColor = config.prayerBoxWarnColor();
+		sarcophagusRecolorWhite = config.sarcophagusRecolorWhite();
+		sarcophagusWhiteRecolor = config.sarcophagusWhiteRecolor();
+		sarcophagusRecolorMyPurple = config.sarcophagusRecolorMyPurple();
+		sarcophagusMyPurpleRecolor = config.sarcophagusMyPurpleRecolor();
+		sarcophagusRecolorOtherPurple = config.sarcophagusRecolorOtherPurple();
+		sarcophagusOtherPurpleRecolor = config.sarcophagusOtherPurpleRecolor();
+		sarcophagusRecolorLoot = config.sarcophagusRecolorLoot();
+		sarcophagusLightbearerColor = config.sarcophagusLightbearerColor();
+		sarcophagusElidinisWardColor = config.sarcophagusElidinisWardColor();
+		sarcophagusOsmumtensFangColor = config.sarcophagusOsmumtensFangColor();
+		sarcophagusMasoriMaskColor = config.sarcophagusMasoriMaskColor();
+		sarcophagusMasoriChapsColor = config.sarcophagusMasoriChapsColor();
+		sarcophagusMasoriBodyColor = config.sarcophagusMasoriBodyColor();
+		sarcophagusTumekensShadowColor = config.sarcophagusTumekensShadowColor();
+		sarcophagusHideLoot = config.sarcophagusHideLoot();
+		hideFadeTransition = config.hideFadeTransition();
+		hideHPOrbs = config.hideHPOrbs();
+		quickProceedSwaps = config.quickProceedSwaps();
+		fontStyle = config.fontStyle();
+		fontSize = config.fontSize();
+		dangerOutlineColor = config.dangerOutlineColor();
+		dangerFillColor = config.dangerFillColor();
+		tileOutlineColor = config.tileOutlineColor();
+		tileFillColor = config.tileFillColor();
+		recordRaidEvents = config.recordRaidEvents();
+		overlayFrameBudget = config.overlayFrameBudget();
+		outlineDetailThreshold = config.outlineDetailThreshold();
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.boss;
+
+import javax.annotation.Nullable;
+import net.runelite.api.Prayer;
+
+/**
+ * A {@link PrayerTimeline} laid out for the prayer overlays: the next attack, and one box per prayer and tick until
+ * impact, ordered by tick, with the winning prayer of each tick flagged. The timeline rebuilds it only after attacks
+ * are added or a tick passes, so frames just read the arrays.
+ */
+public final class PrayerSchedule
+{
+
+	private final int[] boxTicks = new int[PrayerTimeline.CAPACITY * PrayerTimeline.PRAYERS.length];
+	private final Prayer[] boxPrayers = new Prayer[boxTicks.length];
+	private final boolean[] boxPriorities = new boolean[boxTicks.length];
+
+	private int size;
+	private int nextTicks = -1;
+	private Prayer nextPrayer;
+
+	/**
+	 * @return the number of boxes
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	public int getTicks(final int box)
+	{
+		return boxTicks[box];
+	}
+
+	public Prayer getPrayer(final int box)
+	{
+		return boxPrayers[box];
+	}
+
+	/**
+	 * @return whether the box holds the prayer against the highest priority attack of its tick
+	 */
+	public boolean isPriority(final int box)
+	{
+		return boxPriorities[box];
+	}
+
+	/**
+	 * @return ticks until the next attack lands, or -1 if there is none
+	 */
+	public int getNextTicks()
+	{
+		return nextTicks;
+	}
+
+	/**
+	 * @return the prayer against the next attack to land, or null if there is none
+	 */
+	@Nullable
+	public Prayer getNextPrayer()
+	{
+		return nextPrayer;
+	}
+
+	void rebuild(final PrayerTimeline timeline)
+	{
+		size = 0;
+		nextTicks = -1;
+		nextPrayer = null;
+
+		final int maxTicks = timeline.getMaxTicks();
+
+		for (int ticks = 0; ticks <= maxTicks; ticks++)
+		{
+			final Prayer priorityPrayer = timeline.getPriorityPrayer(ticks);
+
+			if (priorityPrayer == null)
+			{
+				continue;
+			}
+
+			if (nextPrayer == null)
+			{
+				nextTicks = ticks;
+				nextPrayer = priorityPrayer;
+			}
+
+			for (final Prayer prayer : PrayerTimeline.PRAYERS)
+			{
+				if (timeline.contains(ticks, prayer))
+				{
+					boxTicks[size] = ticks;
+					boxPrayers[size] = prayer;
+					boxPriorities[size] = prayer == priorityPrayer;
+					size++;
+				}
+			}
+		}
+	}
+
+}
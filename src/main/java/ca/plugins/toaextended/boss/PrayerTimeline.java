@@ -0,0 +1,227 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.boss;
+
+import javax.annotation.Nullable;
+import net.runelite.api.Prayer;
+
+/**
+ * Incoming attacks by prayer, bucketed by ticks until impact in a ring buffer.
+ * <p>
+ * Advancing a tick moves the head of the ring and clears the expired bucket, so the per tick cost does not depend on
+ * the number of attacks. Each bucket keeps the prayer of its highest priority (lowest value) attack, ties going to the
+ * earliest added, which is what the prayer overlays show for that tick.
+ * <p>
+ * Overlays read the timeline through {@link #getSchedule()}, which is only rebuilt after it changed.
+ */
+public final class PrayerTimeline
+{
+
+	static final int CAPACITY = 64;
+	private static final int MASK = CAPACITY - 1;
+
+	static final Prayer[] PRAYERS = {
+		Prayer.PROTECT_FROM_MAGIC,
+		Prayer.PROTECT_FROM_MISSILES,
+		Prayer.PROTECT_FROM_MELEE
+	};
+
+	private final int[] counts = new int[CAPACITY * PRAYERS.length];
+	private final int[] sizes = new int[CAPACITY];
+	private final int[] priorityPrayers = new int[CAPACITY];
+	private final int[] priorities = new int[CAPACITY];
+
+	private final PrayerSchedule schedule = new PrayerSchedule();
+
+	private int head;
+	private int size;
+	private boolean scheduleDirty;
+
+	public void add(final Prayer prayer, final int ticks)
+	{
+		add(prayer, ticks, 0);
+	}
+
+	/**
+	 * @param ticks    ticks until impact, clamped to the capacity of the timeline
+	 * @param priority lower values take precedence over other attacks landing on the same tick
+	 */
+	public void add(final Prayer prayer, final int ticks, final int priority)
+	{
+		final int prayerIndex = indexOf(prayer);
+		final int slot = (head + Math.max(0, Math.min(ticks, MASK))) & MASK;
+
+		if (sizes[slot] == 0 || priority < priorities[slot])
+		{
+			priorityPrayers[slot] = prayerIndex;
+			priorities[slot] = priority;
+		}
+
+		++counts[slot * PRAYERS.length + prayerIndex];
+		++sizes[slot];
+		++size;
+		scheduleDirty = true;
+	}
+
+	/**
+	 * Moves the timeline one tick forward, dropping attacks that landed.
+	 */
+	public void advance()
+	{
+		if (size == 0)
+		{
+			return;
+		}
+
+		clear(head);
+		head = (head + 1) & MASK;
+		clear(head);
+		scheduleDirty = true;
+	}
+
+	public void clear()
+	{
+		for (int slot = 0; slot < CAPACITY; slot++)
+		{
+			clear(slot);
+		}
+		head = 0;
+		scheduleDirty = true;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	public PrayerSchedule getSchedule()
+	{
+		if (scheduleDirty)
+		{
+			schedule.rebuild(this);
+			scheduleDirty = false;
+		}
+
+		return schedule;
+	}
+
+	/**
+	 * @return ticks until the next attack lands, or -1 if there is none
+	 */
+	public int getNextTicks()
+	{
+		return getSchedule().getNextTicks();
+	}
+
+	/**
+	 * @return the prayer against the next attack to land, or null if there is none
+	 */
+	@Nullable
+	public Prayer getNextPrayer()
+	{
+		return getSchedule().getNextPrayer();
+	}
+
+	/**
+	 * @return the largest ticks until impact of any attack, or -1 if there is none
+	 */
+	public int getMaxTicks()
+	{
+		if (size == 0)
+		{
+			return -1;
+		}
+
+		for (int ticks = MASK; ticks >= 0; ticks--)
+		{
+			if (sizes[(head + ticks) & MASK] != 0)
+			{
+				return ticks;
+			}
+		}
+
+		return -1;
+	}
+
+	public boolean contains(final int ticks, final Prayer prayer)
+	{
+		if (ticks < 0 || ticks > MASK)
+		{
+			return false;
+		}
+
+		return counts[((head + ticks) & MASK) * PRAYERS.length + indexOf(prayer)] != 0;
+	}
+
+	@Nullable
+	public Prayer getPriorityPrayer(final int ticks)
+	{
+		if (ticks < 0 || ticks > MASK)
+		{
+			return null;
+		}
+
+		final int slot = (head + ticks) & MASK;
+		return sizes[slot] == 0 ? null : PRAYERS[priorityPrayers[slot]];
+	}
+
+	private void clear(final int slot)
+	{
+		if (sizes[slot] == 0)
+		{
+			return;
+		}
+
+		size -= sizes[slot];
+		sizes[slot] = 0;
+
+		for (int i = 0; i < PRAYERS.length; i++)
+		{
+			counts[slot * PRAYERS.length + i] = 0;
+		}
+	}
+
+	private static int indexOf(final Prayer prayer)
+	{
+		switch (prayer)
+		{
+			case PROTECT_FROM_MAGIC:
+				return 0;
+			case PROTECT_FROM_MISSILES:
+				return 1;
+			case PROTECT_FROM_MELEE:
+				return 2;
+			default:
+				throw new IllegalArgumentException("Unsupported prayer: " + prayer);
+		}
+	}
+
+}
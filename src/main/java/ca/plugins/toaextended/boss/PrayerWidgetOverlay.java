@@ -32,21 +32,23 @@ package ca.plugins.toaextended.boss;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.ToaExtendedConfig.PrayerMode;
+import ca.plugins.toaextended.util.TickClock;
 import ca.plugins.toaextended.util.ToaUtils;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Queue;
+import java.util.Arrays;
 import javax.annotation.Nullable;
 import net.runelite.api.Client;
 import net.runelite.api.Point;
 import net.runelite.api.Prayer;
 import net.runelite.api.VarClientInt;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.WidgetLoaded;
 import net.runelite.api.widgets.Widget;
+import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -59,6 +61,12 @@ public abstract class PrayerWidgetOverlay extends Overlay
 	private static final Dimension DIMENSION = new Dimension(10, 5);
 	private static final int TICK_PIXEL_SIZE = 60;
 
+	private static final Prayer[] PRAYERS = {
+		Prayer.PROTECT_FROM_MAGIC,
+		Prayer.PROTECT_FROM_MISSILES,
+		Prayer.PROTECT_FROM_MELEE
+	};
+
 	private static final int PRAYER_TAB_ID = 5;
 	private static final int WIDGET_ID_PRAYER_GROUP = 541;
 	private static final int WIDGET_ID_PRAYER_PROTECT_MAGIC = 21;
@@ -68,24 +76,32 @@ public abstract class PrayerWidgetOverlay extends Overlay
 	protected final Client client;
 	protected final ToaExtendedConfig config;
 
-	private Queue<AttackProjectile> projectileQueue;
+	private final TickClock tickClock;
+
+	// prayer widgets and their bounds, by PRAYERS index
+	private final Widget[] prayerWidgets = new Widget[PRAYERS.length];
+	private final Rectangle[] prayerBounds = new Rectangle[PRAYERS.length];
+	private final Rectangle box = new Rectangle(DIMENSION);
+
+	private PrayerSchedule schedule;
+	private int canvasWidth;
+	private int canvasHeight;
 
-	protected PrayerWidgetOverlay(final Client client, final ToaExtendedConfig config)
+	protected PrayerWidgetOverlay(final Client client, final ToaExtendedConfig config, final TickClock tickClock)
 	{
 		this.client = client;
 		this.config = config;
+		this.tickClock = tickClock;
 
 		setPriority(OverlayPriority.HIGH);
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_WIDGETS);
 	}
 
-	protected abstract @Nullable Queue<AttackProjectile> getAttackProjectileQueue();
+	protected abstract @Nullable PrayerTimeline getPrayerTimeline();
 
 	protected abstract @Nullable Prayer getNextPrayer();
 
-	protected abstract long getLastTickTime();
-
 	protected abstract boolean isPrayerWidgetEnabled();
 
 	@Override
@@ -96,7 +112,15 @@ public abstract class PrayerWidgetOverlay extends Overlay
 			return null;
 		}
 
-		projectileQueue = getAttackProjectileQueue();
+		final PrayerTimeline prayerTimeline = getPrayerTimeline();
+		schedule = prayerTimeline == null ? null : prayerTimeline.getSchedule();
+
+		if (client.getCanvasWidth() != canvasWidth || client.getCanvasHeight() != canvasHeight)
+		{
+			canvasWidth = client.getCanvasWidth();
+			canvasHeight = client.getCanvasHeight();
+			invalidatePrayerBounds();
+		}
 
 		final PrayerMode prayerMode = config.prayerMode();
 
@@ -122,25 +146,23 @@ public abstract class PrayerWidgetOverlay extends Overlay
 			return;
 		}
 
-		final Widget widget = getPrayerWidget(client, prayer);
+		final Rectangle rectangle = getPrayerBounds(prayer);
 
-		if (widget == null)
+		if (rectangle == null)
 		{
 			return;
 		}
 
-		final Rectangle rectangle = widget.getBounds();
-
 		Color color = getPrayerColor(prayer);
 
 		OverlayUtil.renderPolygon(graphics2D, ToaUtils.rectangleToPolygon(rectangle), color);
 
-		if (projectileQueue == null || projectileQueue.isEmpty())
+		if (schedule == null || schedule.isEmpty())
 		{
 			return;
 		}
 
-		final int ticks = projectileQueue.peek().getTicks();
+		final int ticks = schedule.getNextTicks();
 
 		final String text = String.valueOf(ticks);
 
@@ -155,66 +177,111 @@ public abstract class PrayerWidgetOverlay extends Overlay
 
 	private void renderDescendingBoxes(final Graphics2D graphics2D)
 	{
-		if (projectileQueue == null || projectileQueue.isEmpty())
+		if (schedule == null || schedule.isEmpty())
 		{
 			return;
 		}
 
-		final Map<Integer, AttackProjectile> tickPriorityMap = getTickPriorityMap(projectileQueue);
+		final double tickOffset = tickClock.getPhase() * TICK_PIXEL_SIZE;
 
-		for (final AttackProjectile projectile : projectileQueue)
+		for (int i = 0; i < schedule.size(); i++)
 		{
-			final Widget widget = getPrayerWidget(client, projectile.getPrayer());
+			final boolean priority = schedule.isPriority(i);
 
-			if (widget == null)
+			if (!priority && !config.prayerNonPriorityBoxes())
 			{
 				continue;
 			}
 
-			final int tick = projectile.getTicks();
+			final Rectangle bounds = getPrayerBounds(schedule.getPrayer(i));
 
+			if (bounds == null)
+			{
+				continue;
+			}
+
+			final int tick = schedule.getTicks(i);
 			final Color color = tick == 1 ? config.prayerBoxWarnColor() : config.prayerBoxColor();
 
-			int baseX = (int) widget.getBounds().getX();
-			baseX += widget.getBounds().getWidth() / 2;
+			int baseX = (int) bounds.getX();
+			baseX += bounds.getWidth() / 2;
 			baseX -= DIMENSION.width / 2;
 
-			int baseY = (int) widget.getBounds().getY() - tick * TICK_PIXEL_SIZE - DIMENSION.height;
-			baseY += TICK_PIXEL_SIZE - ((getLastTickTime() + 600 - System.currentTimeMillis()) / 600.0 * TICK_PIXEL_SIZE);
-
-			final Rectangle rectangle = new Rectangle(DIMENSION);
+			int baseY = (int) bounds.getY() - tick * TICK_PIXEL_SIZE - DIMENSION.height;
+			baseY += tickOffset;
 
-			rectangle.translate(baseX, baseY);
+			box.setLocation(baseX, baseY);
 
-			if (projectile.getPrayer().equals(tickPriorityMap.get(projectile.getTicks()).getPrayer()))
+			if (priority)
 			{
-				ToaUtils.renderFilledPolygon(graphics2D, rectangle, color);
+				ToaUtils.renderFilledPolygon(graphics2D, box, color);
 			}
-			else if (config.prayerNonPriorityBoxes())
+			else
 			{
-				ToaUtils.renderOutlinePolygon(graphics2D, rectangle, color);
+				ToaUtils.renderOutlinePolygon(graphics2D, box, color);
 			}
 		}
 	}
 
-	private static Map<Integer, AttackProjectile> getTickPriorityMap(final Iterable<AttackProjectile> queue)
+	@Subscribe
+	public void onWidgetLoaded(final WidgetLoaded event)
 	{
-		final Map<Integer, AttackProjectile> map = new HashMap<>();
+		if (event.getGroupId() == WIDGET_ID_PRAYER_GROUP)
+		{
+			Arrays.fill(prayerWidgets, null);
+			invalidatePrayerBounds();
+		}
+	}
+
+	@Subscribe
+	public void onGameTick(final GameTick event)
+	{
+		// prayer filters can move the widgets without a reload
+		invalidatePrayerBounds();
+	}
 
-		queue.forEach(projectile ->
+	private void invalidatePrayerBounds()
+	{
+		Arrays.fill(prayerBounds, null);
+	}
+
+	@Nullable
+	private Rectangle getPrayerBounds(final Prayer prayer)
+	{
+		final int index = indexOf(prayer);
+
+		if (index < 0)
+		{
+			return null;
+		}
+
+		if (prayerBounds[index] == null)
 		{
-			if (!map.containsKey(projectile.getTicks()))
+			if (prayerWidgets[index] == null)
 			{
-				map.put(projectile.getTicks(), projectile);
+				prayerWidgets[index] = getPrayerWidget(client, prayer);
 			}
 
-			if (projectile.getPriority() < map.get(projectile.getTicks()).getPriority())
+			if (prayerWidgets[index] != null)
 			{
-				map.put(projectile.getTicks(), projectile);
+				prayerBounds[index] = prayerWidgets[index].getBounds();
 			}
-		});
+		}
+
+		return prayerBounds[index];
+	}
+
+	private static int indexOf(final Prayer prayer)
+	{
+		for (int i = 0; i < PRAYERS.length; i++)
+		{
+			if (PRAYERS[i] == prayer)
+			{
+				return i;
+			}
+		}
 
-		return map;
+		return -1;
 	}
 
 	private static Color getPrayerColor(final Prayer prayer)
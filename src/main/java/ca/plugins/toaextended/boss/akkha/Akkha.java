@@ -32,9 +32,10 @@ package ca.plugins.toaextended.boss.akkha;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.BossHealthTracker;
+import ca.plugins.toaextended.util.ChatMessageRouter;
 import ca.plugins.toaextended.util.RaidRoom;
 import ca.plugins.toaextended.util.RaidState;
-import ca.plugins.toaextended.util.ToaUtils;
 import java.awt.Color;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -43,25 +44,17 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import net.runelite.api.Actor;
-import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.NPC;
 import net.runelite.api.NPCComposition;
 import net.runelite.api.NpcID;
 import net.runelite.api.Prayer;
-import net.runelite.api.ScriptID;
-import net.runelite.api.Varbits;
 import net.runelite.api.events.AnimationChanged;
-import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.events.NpcChanged;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
-import net.runelite.api.events.ScriptPostFired;
-import net.runelite.client.callback.ClientThread;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
-import net.runelite.client.util.Text;
 
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = @Inject)
@@ -78,9 +71,9 @@ public class Akkha implements PluginLifecycleComponent
 	private static final String NPC_NAME = "Akkha";
 	private static final String MESSAGE_START = "challenge started: akkha.";
 
-	private final EventBus eventBus;
 	private final Client client;
-	private final ClientThread clientThread;
+	private final BossHealthTracker bossHealthTracker;
+	private final ChatMessageRouter chatMessageRouter;
 
 	@Nullable
 	@Getter(AccessLevel.PACKAGE)
@@ -89,11 +82,6 @@ public class Akkha implements PluginLifecycleComponent
 	@Getter(AccessLevel.PACKAGE)
 	private AttackStyle attackStyle = AttackStyle.MELEE;
 
-	@Nullable
-	private int[] hpBreakpoints;
-	@Getter(AccessLevel.PACKAGE)
-	private int hpUntilNextBreakPoint = -1;
-
 	@Getter(AccessLevel.PACKAGE)
 	private int ticksUntilNextAttack;
 
@@ -106,28 +94,21 @@ public class Akkha implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
-		clientThread.invoke(() ->
-		{
-			for (final NPC npc : client.getNpcs())
-			{
-				onNpcSpawned(new NpcSpawned(npc));
-			}
-		});
+		chatMessageRouter.registerExact(this, MESSAGE_START, match -> attackStyle = AttackStyle.MELEE);
+		bossHealthTracker.register(this, HP_PERCENT_BREAKPOINTS);
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
+		chatMessageRouter.unregister(this);
+		bossHealthTracker.unregister(this);
 		reset();
 	}
 
 	private void reset()
 	{
 		npc = null;
-		hpBreakpoints = null;
-		hpUntilNextBreakPoint = -1;
 		ticksUntilNextAttack = 0;
 		attackStyle = AttackStyle.MELEE;
 	}
@@ -226,55 +207,9 @@ public class Akkha implements PluginLifecycleComponent
 		ticksUntilNextAttack = ATTACK_TICK_COUNT;
 	}
 
-	@Subscribe
-	private void onChatMessage(final ChatMessage event)
+	int getHpUntilNextBreakPoint()
 	{
-		if (event.getType() != ChatMessageType.GAMEMESSAGE)
-		{
-			return;
-		}
-
-		final String message = Text.standardize(event.getMessage());
-
-		if (message.equals(MESSAGE_START))
-		{
-			attackStyle = AttackStyle.MELEE;
-		}
-	}
-
-	@Subscribe
-	private void onScriptPostFired(final ScriptPostFired event)
-	{
-		if (event.getScriptId() != ScriptID.HP_HUD_UPDATE)
-		{
-			return;
-		}
-
-		if (hpBreakpoints == null)
-		{
-			final int maxHp = client.getVarbitValue(Varbits.BOSS_HEALTH_MAXIMUM);
-
-			if (maxHp <= 1)
-			{
-				return;
-			}
-
-			hpBreakpoints = new int[HP_PERCENT_BREAKPOINTS.length];
-
-			for (int i = 0; i < HP_PERCENT_BREAKPOINTS.length; i++)
-			{
-				hpBreakpoints[i] = (int) (HP_PERCENT_BREAKPOINTS[i] * maxHp);
-			}
-		}
-
-		final int currentHp = client.getVarbitValue(Varbits.BOSS_HEALTH_CURRENT);
-
-		if (currentHp <= 0)
-		{
-			return;
-		}
-
-		hpUntilNextBreakPoint = ToaUtils.getHpUntilNextBreakPoint(hpBreakpoints, currentHp);
+		return bossHealthTracker.getHpUntilNextBreakPoint(this);
 	}
 
 	Prayer getPrayer()
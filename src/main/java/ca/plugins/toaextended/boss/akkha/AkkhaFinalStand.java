@@ -32,30 +32,24 @@ package ca.plugins.toaextended.boss.akkha;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.ChatMessageRouter;
+import ca.plugins.toaextended.util.NpcRegistry;
+import ca.plugins.toaextended.util.PublishedList;
 import ca.plugins.toaextended.util.RaidState;
-import java.util.ArrayList;
+import ca.plugins.toaextended.util.RenderableHider;
+import com.google.common.collect.ImmutableSet;
 import java.util.List;
 import java.util.function.Function;
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import lombok.AccessLevel;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import net.runelite.api.Actor;
-import net.runelite.api.ChatMessageType;
 import net.runelite.api.NPC;
 import net.runelite.api.NpcID;
-import net.runelite.api.Renderable;
-import net.runelite.api.events.ChatMessage;
-import net.runelite.api.events.NpcDespawned;
-import net.runelite.api.events.NpcSpawned;
-import net.runelite.client.callback.Hooks;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.npcoverlay.HighlightedNpc;
 import net.runelite.client.game.npcoverlay.NpcOverlayService;
-import net.runelite.client.util.Text;
 
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = @Inject)
@@ -65,17 +59,17 @@ public class AkkhaFinalStand implements PluginLifecycleComponent
 	private static final String MESSAGE_CHALLENGE = "challenge";
 	private static final String MESSAGE_FAILED = "your party failed";
 
-	private final EventBus eventBus;
-	private final Hooks hooks;
+	private final RenderableHider renderableHider;
 	private final ToaExtendedConfig config;
 	private final NpcOverlayService npcOverlayService;
 	private final Akkha akkha;
+	private final ChatMessageRouter chatMessageRouter;
+	private final NpcRegistry npcRegistry;
 
-	private final Hooks.RenderableDrawListener drawListener = this::shouldDraw;
+	private final RenderableHider.HideRules hideRules = this::addHideRules;
 	private final Function<NPC, HighlightedNpc> npcHighlighter = this::npcHighlight;
 
-	@Getter(AccessLevel.PACKAGE)
-	private final List<Actor> unstableOrbs = new ArrayList<>();
+	private final PublishedList<Actor> unstableOrbs = new PublishedList<>();
 
 	@Override
 	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
@@ -86,17 +80,21 @@ public class AkkhaFinalStand implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
+		chatMessageRouter.registerPrefix(this, MESSAGE_CHALLENGE, match -> reset());
+		chatMessageRouter.registerPrefix(this, MESSAGE_FAILED, match -> reset());
 		npcOverlayService.registerHighlighter(npcHighlighter);
-		hooks.registerRenderableDrawListener(drawListener);
+		renderableHider.register(hideRules);
+		npcRegistry.register(this, ImmutableSet.of(NpcID.UNSTABLE_ORB), unstableOrbs::addAndPublish,
+			unstableOrbs::removeAndPublish);
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
+		chatMessageRouter.unregister(this);
 		npcOverlayService.unregisterHighlighter(npcHighlighter);
-		hooks.unregisterRenderableDrawListener(drawListener);
+		renderableHider.unregister(hideRules);
+		npcRegistry.unregister(this);
 		reset();
 	}
 
@@ -105,6 +103,11 @@ public class AkkhaFinalStand implements PluginLifecycleComponent
 		unstableOrbs.clear();
 	}
 
+	List<Actor> getUnstableOrbs()
+	{
+		return unstableOrbs.getPublished();
+	}
+
 	@Subscribe
 	public void onConfigChanged(final ConfigChanged event)
 	{
@@ -122,64 +125,14 @@ public class AkkhaFinalStand implements PluginLifecycleComponent
 		}
 	}
 
-	@Subscribe
-	public void onNpcSpawned(final NpcSpawned event)
-	{
-		final NPC npc = event.getNpc();
-
-		final int id = npc.getId();
-
-		if (id == NpcID.UNSTABLE_ORB)
-		{
-			unstableOrbs.add(npc);
-		}
-	}
-
-	@Subscribe
-	public void onNpcDespawned(final NpcDespawned event)
-	{
-		final NPC npc = event.getNpc();
-
-		final int id = npc.getId();
-
-		if (id == NpcID.UNSTABLE_ORB)
-		{
-			unstableOrbs.remove(npc);
-		}
-	}
-
-	@Subscribe
-	public void onChatMessage(final ChatMessage event)
+	private void addHideRules(final RenderableHider.Builder builder)
 	{
-		if (event.getType() != ChatMessageType.GAMEMESSAGE)
-		{
-			return;
-		}
-
-		final String standardized = Text.standardize(event.getMessage());
-
-		if (standardized.startsWith(MESSAGE_CHALLENGE) || standardized.startsWith(MESSAGE_FAILED))
+		if (config.akkhaHideUnstableOrbs())
 		{
-			reset();
+			builder.npc(NpcID.UNSTABLE_ORB);
 		}
 	}
 
-	private boolean shouldDraw(final Renderable renderable, final boolean drawingUI)
-	{
-		if (renderable instanceof NPC)
-		{
-			final NPC npc = (NPC) renderable;
-			final int id = npc.getId();
-
-			if (id == NpcID.UNSTABLE_ORB)
-			{
-				return !config.akkhaHideUnstableOrbs();
-			}
-		}
-
-		return true;
-	}
-
 	private HighlightedNpc npcHighlight(final NPC npc)
 	{
 		final int id = npc.getId();
@@ -32,6 +32,7 @@ package ca.plugins.toaextended.boss.akkha;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.ChatMessageRouter;
 import ca.plugins.toaextended.util.RaidState;
 import com.google.common.collect.ImmutableSet;
 import java.util.HashMap;
@@ -44,18 +45,14 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import net.runelite.api.Animation;
-import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.DynamicObject;
 import net.runelite.api.GameObject;
 import net.runelite.api.Renderable;
 import net.runelite.api.coords.WorldPoint;
-import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GraphicsObjectCreated;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
-import net.runelite.client.util.Text;
 
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = @Inject)
@@ -74,9 +71,9 @@ public class AkkhaMemoryBlast implements PluginLifecycleComponent
 	private static final String MESSAGE_START = "challenge started: akkha.";
 	private static final String MESSAGE_FAILED = "your party failed";
 
-	private final EventBus eventBus;
 	private final Client client;
 	private final Akkha akkha;
+	private final ChatMessageRouter chatMessageRouter;
 
 	private final Map<Integer, WorldPoint> idToWorldPoint = new HashMap<>();
 	@Getter(AccessLevel.PACKAGE)
@@ -93,13 +90,15 @@ public class AkkhaMemoryBlast implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
+		chatMessageRouter.registerExact(this, MESSAGE_GLOW, match -> reset());
+		chatMessageRouter.registerExact(this, MESSAGE_START, match -> reset());
+		chatMessageRouter.registerSuffix(this, MESSAGE_FAILED, match -> reset());
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
+		chatMessageRouter.unregister(this);
 		reset();
 	}
 
@@ -109,22 +108,6 @@ public class AkkhaMemoryBlast implements PluginLifecycleComponent
 		worldPoints.clear();
 	}
 
-	@Subscribe
-	public void onChatMessage(final ChatMessage event)
-	{
-		if (event.getType() != ChatMessageType.GAMEMESSAGE)
-		{
-			return;
-		}
-
-		final String message = Text.standardize(event.getMessage());
-
-		if (message.equals(MESSAGE_GLOW) || message.equals(MESSAGE_START) || message.endsWith(MESSAGE_FAILED))
-		{
-			reset();
-		}
-	}
-
 	@Subscribe
 	public void onGameObjectSpawned(final GameObjectSpawned event)
 	{
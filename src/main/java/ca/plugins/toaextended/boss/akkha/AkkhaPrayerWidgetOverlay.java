@@ -31,11 +31,11 @@
 package ca.plugins.toaextended.boss.akkha;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
-import ca.plugins.toaextended.boss.AttackProjectile;
+import ca.plugins.toaextended.boss.PrayerTimeline;
 import ca.plugins.toaextended.boss.PrayerWidgetOverlay;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
 import ca.plugins.toaextended.util.RaidState;
-import java.util.Queue;
+import ca.plugins.toaextended.util.TickClock;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -52,15 +52,15 @@ public class AkkhaPrayerWidgetOverlay extends PrayerWidgetOverlay implements Plu
 
 	@Inject
 	public AkkhaPrayerWidgetOverlay(final Client client, final ToaExtendedConfig config,
-									final OverlayManager overlayManager, final Akkha akkha)
+									final OverlayManager overlayManager, final TickClock tickClock, final Akkha akkha)
 	{
-		super(client, config);
+		super(client, config, tickClock);
 		this.overlayManager = overlayManager;
 		this.akkha = akkha;
 	}
 
 	@Override
-	protected @Nullable Queue<AttackProjectile> getAttackProjectileQueue()
+	protected @Nullable PrayerTimeline getPrayerTimeline()
 	{
 		return null;
 	}
@@ -71,12 +71,6 @@ public class AkkhaPrayerWidgetOverlay extends PrayerWidgetOverlay implements Plu
 		return akkha.getPrayer();
 	}
 
-	@Override
-	protected long getLastTickTime()
-	{
-		return 0;
-	}
-
 	@Override
 	protected boolean isPrayerWidgetEnabled()
 	{
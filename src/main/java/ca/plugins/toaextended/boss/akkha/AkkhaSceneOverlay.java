@@ -33,7 +33,10 @@ package ca.plugins.toaextended.boss.akkha;
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.ToaExtendedConfig.Tile;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.HazardRenderBatch;
 import ca.plugins.toaextended.util.RaidState;
+import ca.plugins.toaextended.util.RenderBudgetGovernor;
+import ca.plugins.toaextended.util.TilePolygonCache;
 import ca.plugins.toaextended.util.ToaUtils;
 import java.awt.BasicStroke;
 import java.awt.Color;
@@ -75,6 +78,9 @@ public class AkkhaSceneOverlay extends Overlay implements PluginLifecycleCompone
 	private static final int ANIM_ID_TRAILING_ORBS = 9778;
 
 	private final Client client;
+	private final TilePolygonCache tilePolygonCache;
+	private final HazardRenderBatch hazardBatch = new HazardRenderBatch();
+	private final RenderBudgetGovernor renderBudget;
 	private final ToaExtendedConfig config;
 	private final OverlayManager overlayManager;
 	private final ModelOutlineRenderer modelOutlineRenderer;
@@ -83,11 +89,14 @@ public class AkkhaSceneOverlay extends Overlay implements PluginLifecycleCompone
 	private final AkkhaFinalStand akkhaFinalStand;
 
 	@Inject
-	protected AkkhaSceneOverlay(final Client client, final ToaExtendedConfig config, final OverlayManager overlayManager,
-								final ModelOutlineRenderer modelOutlineRenderer,
+	protected AkkhaSceneOverlay(final Client client, final TilePolygonCache tilePolygonCache,
+								final RenderBudgetGovernor renderBudget, final ToaExtendedConfig config,
+								final OverlayManager overlayManager, final ModelOutlineRenderer modelOutlineRenderer,
 								final Akkha akkha, final AkkhaMemoryBlast akkhaMemoryBlast, final AkkhaFinalStand akkhaFinalStand)
 	{
 		this.client = client;
+		this.tilePolygonCache = tilePolygonCache;
+		this.renderBudget = renderBudget;
 		this.config = config;
 		this.overlayManager = overlayManager;
 		this.modelOutlineRenderer = modelOutlineRenderer;
@@ -121,6 +130,8 @@ public class AkkhaSceneOverlay extends Overlay implements PluginLifecycleCompone
 	@Override
 	public Dimension render(final Graphics2D graphics2D)
 	{
+		final long start = System.nanoTime();
+
 		final NPC npc = akkha.getNpc();
 
 		if (npc != null)
@@ -153,6 +164,10 @@ public class AkkhaSceneOverlay extends Overlay implements PluginLifecycleCompone
 			renderUnstableOrbRadius(graphics2D);
 		}
 
+		hazardBatch.flush(graphics2D, renderBudget.isFillEnabled());
+
+		renderBudget.report(System.nanoTime() - start);
+
 		return null;
 	}
 
@@ -167,7 +182,7 @@ public class AkkhaSceneOverlay extends Overlay implements PluginLifecycleCompone
 
 		final String text = Integer.toString(hp);
 
-		final Point point = actor.getCanvasTextLocation(graphics2D, text, 0);
+		final Point point = renderBudget.getCanvasTextLocation(actor, graphics2D, text, 0);
 
 		if (point == null)
 		{
@@ -210,7 +225,7 @@ public class AkkhaSceneOverlay extends Overlay implements PluginLifecycleCompone
 						localPoint.getX() + Perspective.LOCAL_TILE_SIZE * (size - 1) / 2,
 						localPoint.getY() + Perspective.LOCAL_TILE_SIZE * (size - 1) / 2
 					);
-					polygon = Perspective.getCanvasTileAreaPoly(client, localPoint, size);
+					polygon = tilePolygonCache.getTileAreaPoly(localPoint, size);
 					if (polygon != null)
 					{
 						OverlayUtil.renderPolygon(graphics2D, polygon, color, COLOR_FILL, BORDER_STROKE);
@@ -255,7 +270,7 @@ public class AkkhaSceneOverlay extends Overlay implements PluginLifecycleCompone
 		}
 
 		final String text = Integer.toString(ticks);
-		final Point point = target.getCanvasTextLocation(graphics2D, text, 0);
+		final Point point = renderBudget.getCanvasTextLocation(target, graphics2D, text, 0);
 		final Color color = ticks == 1 ? Color.RED : Color.WHITE;
 		ToaUtils.renderTextLocation(graphics2D, point, text, color, config.fontSize(), config.fontStyle().getFont(),
 			true);
@@ -287,16 +302,14 @@ public class AkkhaSceneOverlay extends Overlay implements PluginLifecycleCompone
 			return;
 		}
 
-		final Polygon polygon = Perspective.getCanvasTilePoly(client, localPoint);
+		final Polygon polygon = tilePolygonCache.getTilePoly(localPoint);
 
 		if (polygon == null)
 		{
 			return;
 		}
 
-		ToaUtils.drawOutlineAndFill(graphics2D, color,
-			new Color(color.getRed(), color.getGreen(), color.getBlue(), 20),
-			1, polygon);
+		hazardBatch.add(color, 20, 1, polygon);
 	}
 
 	private void renderUnstableOrbRadius(final Graphics2D graphics2D)
@@ -317,15 +330,14 @@ public class AkkhaSceneOverlay extends Overlay implements PluginLifecycleCompone
 
 		for (final LocalPoint lp : localPoints)
 		{
-			final Polygon polygon = Perspective.getCanvasTilePoly(client, lp);
+			final Polygon polygon = tilePolygonCache.getTilePoly(lp);
 
 			if (polygon == null)
 			{
 				continue;
 			}
 
-			ToaUtils.drawOutlineAndFill(graphics2D, config.dangerOutlineColor(),
-				config.dangerFillColor(), 1, polygon);
+			hazardBatch.add(config.dangerOutlineColor(), config.dangerFillColor(), 1, polygon);
 		}
 	}
 
@@ -32,15 +32,17 @@ package ca.plugins.toaextended.boss.baba;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.BossHealthTracker;
+import ca.plugins.toaextended.util.NpcRegistry;
+import ca.plugins.toaextended.util.ProjectileTracker;
+import ca.plugins.toaextended.util.PublishedList;
 import ca.plugins.toaextended.util.RaidRoom;
 import ca.plugins.toaextended.util.RaidState;
-import ca.plugins.toaextended.util.ToaUtils;
+import ca.plugins.toaextended.util.RenderableHider;
+import ca.plugins.toaextended.util.TickTimer;
 import com.google.common.collect.ImmutableSet;
 import java.awt.Color;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import javax.annotation.Nullable;
@@ -57,9 +59,6 @@ import net.runelite.api.NPC;
 import net.runelite.api.NpcID;
 import net.runelite.api.ObjectID;
 import net.runelite.api.Projectile;
-import net.runelite.api.Renderable;
-import net.runelite.api.ScriptID;
-import net.runelite.api.Varbits;
 import net.runelite.api.events.ActorDeath;
 import net.runelite.api.events.GameObjectDespawned;
 import net.runelite.api.events.GameObjectSpawned;
@@ -67,11 +66,6 @@ import net.runelite.api.events.GameTick;
 import net.runelite.api.events.GraphicsObjectCreated;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
-import net.runelite.api.events.ProjectileMoved;
-import net.runelite.api.events.ScriptPostFired;
-import net.runelite.client.callback.ClientThread;
-import net.runelite.client.callback.Hooks;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.npcoverlay.HighlightedNpc;
@@ -97,25 +91,22 @@ public class Baba implements PluginLifecycleComponent
 
 	private static final int FALLING_BOULDER_TICK_COUNT = 7;
 
-	private final EventBus eventBus;
 	private final Client client;
-	private final ClientThread clientThread;
-	private final Hooks hooks;
+	private final RenderableHider renderableHider;
+	private final ProjectileTracker projectileTracker;
+	private final BossHealthTracker bossHealthTracker;
+	private final NpcRegistry npcRegistry;
 	private final NpcOverlayService npcOverlayService;
 	private final ToaExtendedConfig config;
 
-	private final Hooks.RenderableDrawListener drawListener = this::shouldDraw;
+	private final RenderableHider.HideRules hideRules = this::addHideRules;
 	private final Function<NPC, HighlightedNpc> npcHighlighter = this::npcHighlight;
 
-	@Getter(AccessLevel.PACKAGE)
-	private final Map<GraphicsObject, Integer> fallingBouldersToTicks = new HashMap<>();
+	private final TickTimer<GraphicsObject> fallingBoulderTimer = new TickTimer<>();
 
-	@Getter(AccessLevel.PACKAGE)
-	private final List<Projectile> sarcophagusProjectiles = new ArrayList<>();
-	@Getter(AccessLevel.PACKAGE)
-	private final List<GameObject> bananaPeelGameObjects = new ArrayList<>();
-	@Getter(AccessLevel.PACKAGE)
-	private final List<NPC> baboonNpcs = new ArrayList<>();
+	private final PublishedList<Projectile> sarcophagusProjectiles = new PublishedList<>();
+	private final PublishedList<GameObject> bananaPeelGameObjects = new PublishedList<>();
+	private final PublishedList<NPC> baboonNpcs = new PublishedList<>();
 
 	@Nullable
 	@Getter(AccessLevel.PACKAGE)
@@ -124,11 +115,6 @@ public class Baba implements PluginLifecycleComponent
 	@Getter(AccessLevel.PACKAGE)
 	private GraphicsObject shockwave;
 
-	@Nullable
-	private int[] hpBreakpoints;
-	@Getter(AccessLevel.PACKAGE)
-	private int hpUntilNextBreakPoint = -1;
-
 	@Override
 	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
 	{
@@ -138,23 +124,21 @@ public class Baba implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
-		hooks.registerRenderableDrawListener(drawListener);
+		bossHealthTracker.register(this, HP_PERCENT_BREAKPOINTS);
+		renderableHider.register(hideRules);
+		projectileTracker.register(this, ImmutableSet.of(PROJECTILE_ID_SARCOPHAGUS_ATTACK),
+			sarcophagusProjectiles::addAndPublish, sarcophagusProjectiles::removeAndPublish);
 		npcOverlayService.registerHighlighter(npcHighlighter);
-		clientThread.invoke(() ->
-		{
-			for (final NPC npc : client.getNpcs())
-			{
-				onNpcSpawned(new NpcSpawned(npc));
-			}
-		});
+		npcRegistry.register(this, ImmutableSet.of(NpcID.BABOON), baboonNpcs::add, baboonNpcs::remove);
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
-		hooks.unregisterRenderableDrawListener(drawListener);
+		bossHealthTracker.unregister(this);
+		npcRegistry.unregister(this);
+		renderableHider.unregister(hideRules);
+		projectileTracker.unregister(this);
 		npcOverlayService.unregisterHighlighter(npcHighlighter);
 		reset();
 	}
@@ -162,14 +146,32 @@ public class Baba implements PluginLifecycleComponent
 	private void reset()
 	{
 		sarcophagusProjectiles.clear();
-		fallingBouldersToTicks.clear();
+		fallingBoulderTimer.clear();
 		bananaPeelGameObjects.clear();
 		baboonNpcs.clear();
 
 		npc = null;
 		shockwave = null;
-		hpUntilNextBreakPoint = -1;
-		hpBreakpoints = null;
+	}
+
+	List<GameObject> getBananaPeelGameObjects()
+	{
+		return bananaPeelGameObjects.getPublished();
+	}
+
+	List<NPC> getBaboonNpcs()
+	{
+		return baboonNpcs.getPublished();
+	}
+
+	List<Projectile> getSarcophagusProjectiles()
+	{
+		return sarcophagusProjectiles.getPublished();
+	}
+
+	TickTimer.Published<GraphicsObject> getFallingBoulderTimer()
+	{
+		return fallingBoulderTimer.getPublished();
 	}
 
 	@Subscribe
@@ -192,21 +194,16 @@ public class Baba implements PluginLifecycleComponent
 	@Subscribe
 	private void onGameTick(final GameTick event)
 	{
-		if (!sarcophagusProjectiles.isEmpty())
-		{
-			sarcophagusProjectiles.removeIf(p -> p.getRemainingCycles() <= 0);
-		}
-
-		if (!fallingBouldersToTicks.isEmpty())
-		{
-			fallingBouldersToTicks.replaceAll((k, v) -> v - 1);
-			fallingBouldersToTicks.values().removeIf(v -> v <= 0);
-		}
+		fallingBoulderTimer.advance();
 
 		if (shockwave != null && shockwave.finished())
 		{
 			shockwave = null;
 		}
+
+		fallingBoulderTimer.publish();
+		bananaPeelGameObjects.publish();
+		baboonNpcs.publish();
 	}
 
 	@Subscribe
@@ -218,26 +215,14 @@ public class Baba implements PluginLifecycleComponent
 		{
 			this.npc = npc;
 		}
-		else if (npc.getId() == NpcID.BABOON)
-		{
-			baboonNpcs.add(npc);
-		}
 	}
 
 	@Subscribe
 	private void onNpcDespawned(final NpcDespawned event)
 	{
-		final NPC npc = event.getNpc();
-
-		final int id = npc.getId();
-
-		if (npc == this.npc)
+		if (event.getNpc() == npc)
 		{
-			this.npc = null;
-		}
-		else if (id == NpcID.BABOON)
-		{
-			baboonNpcs.remove(npc);
+			npc = null;
 		}
 	}
 
@@ -259,19 +244,6 @@ public class Baba implements PluginLifecycleComponent
 		}
 	}
 
-	@Subscribe
-	private void onProjectileMoved(final ProjectileMoved event)
-	{
-		final Projectile projectile = event.getProjectile();
-
-		final int id = projectile.getId();
-
-		if (id == PROJECTILE_ID_SARCOPHAGUS_ATTACK)
-		{
-			sarcophagusProjectiles.add(projectile);
-		}
-	}
-
 	@Subscribe
 	private void onGraphicsObjectCreated(final GraphicsObjectCreated event)
 	{
@@ -281,7 +253,7 @@ public class Baba implements PluginLifecycleComponent
 
 		if (GRAPHICS_OBJECT_IDS_FALLING_BOULDER.contains(id))
 		{
-			fallingBouldersToTicks.put(graphicsObject, FALLING_BOULDER_TICK_COUNT);
+			fallingBoulderTimer.schedule(graphicsObject, FALLING_BOULDER_TICK_COUNT);
 		}
 		else if (id == GRAPHICS_OBJECT_ID_SHOCKWAVE_SMALL || id == GRAPHICS_OBJECT_ID_SHOCKWAVE_LARGE)
 		{
@@ -314,79 +286,32 @@ public class Baba implements PluginLifecycleComponent
 		}
 	}
 
-	@Subscribe
-	private void onScriptPostFired(final ScriptPostFired event)
+	int getHpUntilNextBreakPoint()
 	{
-		if (event.getScriptId() != ScriptID.HP_HUD_UPDATE)
-		{
-			return;
-		}
+		return bossHealthTracker.getHpUntilNextBreakPoint(this);
+	}
 
-		if (hpBreakpoints == null)
+	private void addHideRules(final RenderableHider.Builder builder)
+	{
+		if (config.babaHideNonWeakenedRollingBoulders())
 		{
-			final int maxHp = client.getVarbitValue(Varbits.BOSS_HEALTH_MAXIMUM);
-
-			if (maxHp <= 1)
-			{
-				return;
-			}
-
-			hpBreakpoints = new int[HP_PERCENT_BREAKPOINTS.length];
-
-			for (int i = 0; i < HP_PERCENT_BREAKPOINTS.length; i++)
-			{
-				hpBreakpoints[i] = (int) (HP_PERCENT_BREAKPOINTS[i] * maxHp);
-			}
+			builder.npc(NpcID.BOULDER_11782);
 		}
 
-		final int currentHp = client.getVarbitValue(Varbits.BOSS_HEALTH_CURRENT);
-		if (currentHp <= 0)
+		if (config.babaHideRollingBoulderProjectiles())
 		{
-			return;
+			builder.projectile(PROJECTILE_ID_BOULDER);
 		}
 
-		hpUntilNextBreakPoint = ToaUtils.getHpUntilNextBreakPoint(hpBreakpoints, currentHp);
-	}
-
-	private boolean shouldDraw(final Renderable renderable, final boolean drawingUI)
-	{
-		if (renderable instanceof NPC)
+		if (config.babaHideBaboonProjectiles())
 		{
-			final int id = ((NPC) renderable).getId();
-
-			if (id == NpcID.BOULDER_11782)
-			{
-				return !config.babaHideNonWeakenedRollingBoulders();
-			}
+			builder.projectile(PROJECTILE_ID_BABOON_ATTACK);
 		}
-		else if (renderable instanceof Projectile)
-		{
-			final int id = ((Projectile) renderable).getId();
-
-			if (id == PROJECTILE_ID_BOULDER)
-			{
-				return !config.babaHideRollingBoulderProjectiles();
-			}
 
-			if (id == PROJECTILE_ID_BABOON_ATTACK)
-			{
-				return !config.babaHideBaboonProjectiles();
-			}
-
-		}
-		else if (renderable instanceof GraphicsObject)
+		if (config.babaHideFallingBoulders())
 		{
-			final GraphicsObject graphicsObject = (GraphicsObject) renderable;
-
-			final int id = graphicsObject.getId();
-
-			if (GRAPHICS_OBJECT_IDS_FALLING_BOULDER.contains(id))
-			{
-				return !config.babaHideFallingBoulders();
-			}
+			GRAPHICS_OBJECT_IDS_FALLING_BOULDER.forEach(builder::graphicsObject);
 		}
-
-		return true;
 	}
 
 	private HighlightedNpc npcHighlight(final NPC npc)
@@ -32,26 +32,29 @@ package ca.plugins.toaextended.boss.baba;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.HazardFootprint;
+import ca.plugins.toaextended.util.HazardRenderBatch;
+import ca.plugins.toaextended.util.ModelOutlineLod;
 import ca.plugins.toaextended.util.RaidState;
+import ca.plugins.toaextended.util.RenderBudgetGovernor;
+import ca.plugins.toaextended.util.TickTimer;
+import ca.plugins.toaextended.util.TilePolygonCache;
 import ca.plugins.toaextended.util.ToaUtils;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
-import java.awt.geom.Area;
+import java.awt.Shape;
 import java.util.List;
-import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
 import net.runelite.api.GraphicsObject;
 import net.runelite.api.NPC;
-import net.runelite.api.Perspective;
 import net.runelite.api.Point;
 import net.runelite.api.Projectile;
 import net.runelite.api.coords.LocalPoint;
-import net.runelite.api.coords.WorldArea;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayManager;
@@ -66,18 +69,27 @@ public class BabaSceneOverlay extends Overlay implements PluginLifecycleComponen
 	private static final int ANIMATION_ID_ROCK_THROW = 9744;
 
 	private final Client client;
+	private final TilePolygonCache tilePolygonCache;
+	private final HazardRenderBatch hazardBatch = new HazardRenderBatch();
+	private final RenderBudgetGovernor renderBudget;
+	private final HazardFootprint shockwaveFootprint;
 	private final ToaExtendedConfig config;
 	private final OverlayManager overlayManager;
 	private final ModelOutlineRenderer modelOutlineRenderer;
+	private final ModelOutlineLod outlineLod;
 	private final Baba baba;
 
 	@Inject
-	protected BabaSceneOverlay(final Client client, final ToaExtendedConfig config, final OverlayManager overlayManager, final ModelOutlineRenderer modelOutlineRenderer, final Baba baba)
+	protected BabaSceneOverlay(final Client client, final TilePolygonCache tilePolygonCache, final RenderBudgetGovernor renderBudget, final ToaExtendedConfig config, final OverlayManager overlayManager, final ModelOutlineRenderer modelOutlineRenderer, final Baba baba)
 	{
 		this.client = client;
+		this.tilePolygonCache = tilePolygonCache;
+		this.renderBudget = renderBudget;
+		this.shockwaveFootprint = new HazardFootprint(client, tilePolygonCache);
 		this.config = config;
 		this.overlayManager = overlayManager;
 		this.modelOutlineRenderer = modelOutlineRenderer;
+		this.outlineLod = new ModelOutlineLod(modelOutlineRenderer, config, tilePolygonCache);
 		this.baba = baba;
 
 		setPriority(OverlayPriority.HIGH);
@@ -106,6 +118,8 @@ public class BabaSceneOverlay extends Overlay implements PluginLifecycleComponen
 	@Override
 	public Dimension render(final Graphics2D graphics2D)
 	{
+		final long start = System.nanoTime();
+
 		if (config.babaSpecialAttackOutline())
 		{
 			renderBabaRockThrow(graphics2D);
@@ -136,11 +150,15 @@ public class BabaSceneOverlay extends Overlay implements PluginLifecycleComponen
 			renderBananaPeelTiles(graphics2D);
 		}
 
-		if (config.babaBaboonOutline())
+		if (config.babaBaboonOutline() && renderBudget.isOutlineEnabled())
 		{
-			renderBaboonOutline();
+			renderBaboonOutline(graphics2D);
 		}
 
+		hazardBatch.flush(graphics2D, renderBudget.isFillEnabled());
+
+		renderBudget.report(System.nanoTime() - start);
+
 		return null;
 	}
 
@@ -160,7 +178,7 @@ public class BabaSceneOverlay extends Overlay implements PluginLifecycleComponen
 
 		final String text = Integer.toString(hp);
 
-		final Point point = npc.getCanvasTextLocation(graphics2D, text, 0);
+		final Point point = renderBudget.getCanvasTextLocation(npc, graphics2D, text, 0);
 		if (point == null)
 		{
 			return;
@@ -170,7 +188,7 @@ public class BabaSceneOverlay extends Overlay implements PluginLifecycleComponen
 			config.fontStyle().getFont(), true);
 	}
 
-	private void renderBaboonOutline()
+	private void renderBaboonOutline(final Graphics2D graphics2D)
 	{
 		final List<NPC> baboons = baba.getBaboonNpcs();
 
@@ -179,10 +197,14 @@ public class BabaSceneOverlay extends Overlay implements PluginLifecycleComponen
 			return;
 		}
 
+		outlineLod.begin(baboons.size());
+
 		for (final NPC npc : baboons)
 		{
-			modelOutlineRenderer.drawOutline(npc, 1, Color.GREEN, 0);
+			outlineLod.drawOutline(npc, 1, Color.GREEN, 0);
 		}
+
+		outlineLod.end(graphics2D);
 	}
 
 	private void renderShockwaveTiles(final Graphics2D graphics2D)
@@ -194,113 +216,65 @@ public class BabaSceneOverlay extends Overlay implements PluginLifecycleComponen
 			return;
 		}
 
-		final Area area = new Area();
-
-		final WorldArea worldArea = client.getLocalPlayer().getWorldArea();
-
 		final LocalPoint localPoint = shockwave.getLocation();
 
-		LocalPoint lp;
-
 		final int size = shockwave.getId() == Baba.GRAPHICS_OBJECT_ID_SHOCKWAVE_SMALL ? 1 : 2;
+		final int distance = size == 1 ? 2 : 3;
+
+		shockwaveFootprint.clear();
 
 		for (int dx = -size; dx <= size; dx++)
 		{
 			for (int dy = -size; dy <= size; dy++)
 			{
-				lp = getNewLocalPoint(worldArea, localPoint, dx, dy);
-				final Polygon polygon = Perspective.getCanvasTilePoly(client, lp);
-				if (polygon == null)
-				{
-					continue;
-				}
-				area.add(new Area(polygon));
+				shockwaveFootprint.add(localPoint, dx, dy);
 			}
 		}
 
-		Polygon polygon;
-		final int distance = size == 1 ? 2 : 3;
+		shockwaveFootprint.add(localPoint, distance, 0);
+		shockwaveFootprint.add(localPoint, -distance, 0);
+		shockwaveFootprint.add(localPoint, 0, distance);
+		shockwaveFootprint.add(localPoint, 0, -distance);
 
-		lp = getNewLocalPoint(worldArea, localPoint, distance, 0);
-		polygon = Perspective.getCanvasTilePoly(client, lp);
-		if (polygon != null)
-		{
-			area.add(new Area(polygon));
-		}
+		final Shape shape = shockwaveFootprint.getShape();
 
-		lp = getNewLocalPoint(worldArea, localPoint, -distance, 0);
-		polygon = Perspective.getCanvasTilePoly(client, lp);
-		if (polygon != null)
+		if (shape == null)
 		{
-			area.add(new Area(polygon));
-		}
-
-		lp = getNewLocalPoint(worldArea, localPoint, 0, distance);
-		polygon = Perspective.getCanvasTilePoly(client, lp);
-		if (polygon != null)
-		{
-			area.add(new Area(polygon));
-		}
-
-		lp = getNewLocalPoint(worldArea, localPoint, 0, -distance);
-		polygon = Perspective.getCanvasTilePoly(client, lp);
-		if (polygon != null)
-		{
-			area.add(new Area(polygon));
+			return;
 		}
 
-		ToaUtils.drawOutlineAndFill(graphics2D, config.dangerOutlineColor(), config.dangerFillColor(), 1,
-			area);
-	}
-
-	private LocalPoint getNewLocalPoint(final WorldArea worldArea, final LocalPoint localPoint,
-										final int dx, final int dy)
-	{
-		return new LocalPoint(
-			localPoint.getX() + dx * Perspective.LOCAL_TILE_SIZE + dx * Perspective.LOCAL_TILE_SIZE *
-				(worldArea.getWidth() - 1) / 2,
-			localPoint.getY() + dy * Perspective.LOCAL_TILE_SIZE + dy * Perspective.LOCAL_TILE_SIZE *
-				(worldArea.getHeight() - 1) / 2
-		);
+		hazardBatch.add(config.dangerOutlineColor(), config.dangerFillColor(), 1, shape);
 	}
 
 	private void renderFallingBoulderTiles(final Graphics2D graphics2D)
 	{
-		final Map<GraphicsObject, Integer> fallingBoulders = baba.getFallingBouldersToTicks();
+		final TickTimer.Published<GraphicsObject> fallingBoulders = baba.getFallingBoulderTimer();
 
 		if (fallingBoulders.isEmpty())
 		{
 			return;
 		}
 
-		for (final Map.Entry<GraphicsObject, Integer> entry : fallingBoulders.entrySet())
+		fallingBoulders.forEach((graphicsObject, ticks) ->
 		{
-			final int ticks = entry.getValue();
-
 			final Color color = ticks <= 2 ? Color.RED : ticks == 3 ? Color.ORANGE : Color.YELLOW;
 
-			final LocalPoint localPoint = entry.getKey().getLocation();
+			final LocalPoint localPoint = graphicsObject.getLocation();
 
 			if (localPoint == null)
 			{
-				continue;
+				return;
 			}
 
-			final Polygon polygon = Perspective.getCanvasTilePoly(client, localPoint);
+			final Polygon polygon = tilePolygonCache.getTilePoly(localPoint);
 
 			if (polygon == null)
 			{
-				continue;
+				return;
 			}
 
-			ToaUtils.drawOutlineAndFill(
-				graphics2D,
-				color,
-				new Color(color.getRed(), color.getGreen(), color.getBlue(), 20),
-				1,
-				polygon
-			);
-		}
+			hazardBatch.add(color, 20, 1, polygon);
+		});
 	}
 
 	private void renderSarcophagusTiles(final Graphics2D graphics2D)
@@ -316,15 +290,14 @@ public class BabaSceneOverlay extends Overlay implements PluginLifecycleComponen
 		{
 			final LocalPoint localPoint = projectile.getTarget();
 
-			final Polygon polygon = Perspective.getCanvasTilePoly(client, localPoint);
+			final Polygon polygon = tilePolygonCache.getTilePoly(localPoint);
 
 			if (polygon == null)
 			{
 				continue;
 			}
 
-			ToaUtils.drawOutlineAndFill(graphics2D, config.dangerOutlineColor(), config.dangerFillColor(),
-				1, polygon);
+			hazardBatch.add(config.dangerOutlineColor(), config.dangerFillColor(), 1, polygon);
 		}
 	}
 
@@ -358,8 +331,7 @@ public class BabaSceneOverlay extends Overlay implements PluginLifecycleComponen
 				continue;
 			}
 
-			ToaUtils.drawOutlineAndFill(graphics2D, config.dangerOutlineColor(), config.dangerFillColor(),
-				1, polygon);
+			hazardBatch.add(config.dangerOutlineColor(), config.dangerFillColor(), 1, polygon);
 		}
 	}
 
@@ -33,13 +33,16 @@ package ca.plugins.toaextended.boss.kephri;
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.ToaExtendedConfig.AttackCounter;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.NpcRegistry;
+import ca.plugins.toaextended.util.ProjectileTracker;
+import ca.plugins.toaextended.util.PublishedList;
 import ca.plugins.toaextended.util.RaidRoom;
 import ca.plugins.toaextended.util.RaidState;
+import ca.plugins.toaextended.util.RenderableHider;
+import ca.plugins.toaextended.util.TickTimer;
+import com.google.common.collect.ImmutableSet;
 import java.awt.Color;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Function;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -52,7 +55,6 @@ import net.runelite.api.Client;
 import net.runelite.api.NPC;
 import net.runelite.api.NpcID;
 import net.runelite.api.Projectile;
-import net.runelite.api.Renderable;
 import net.runelite.api.coords.WorldArea;
 import net.runelite.api.events.ActorDeath;
 import net.runelite.api.events.AnimationChanged;
@@ -60,10 +62,6 @@ import net.runelite.api.events.GameTick;
 import net.runelite.api.events.NpcChanged;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
-import net.runelite.api.events.ProjectileMoved;
-import net.runelite.client.callback.ClientThread;
-import net.runelite.client.callback.Hooks;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.game.npcoverlay.HighlightedNpc;
 import net.runelite.client.game.npcoverlay.NpcOverlayService;
@@ -87,22 +85,19 @@ public class Kephri implements PluginLifecycleComponent
 	private static final int ATK_COUNT_MAX = 5;
 	private static final int TICK_COUNT_EGG = 15;
 
-	private final EventBus eventBus;
 	private final Client client;
-	private final ClientThread clientThread;
-	private final Hooks hooks;
+	private final RenderableHider renderableHider;
+	private final ProjectileTracker projectileTracker;
+	private final NpcRegistry npcRegistry;
 	private final NpcOverlayService npcOverlayService;
 	private final ToaExtendedConfig config;
 
-	private final Hooks.RenderableDrawListener drawListener = this::shouldDraw;
+	private final RenderableHider.HideRules hideRules = this::addHideRules;
 	private final Function<NPC, HighlightedNpc> npcHighlighter = this::npcHighlight;
 
-	@Getter(AccessLevel.PACKAGE)
-	private final List<Projectile> fireballProjectiles = new ArrayList<>();
-	@Getter(AccessLevel.PACKAGE)
-	private final Map<NPC, Integer> eggsToTicks = new HashMap<>();
-	@Getter(AccessLevel.PACKAGE)
-	private final List<NPC> scarabSwarmNpcs = new ArrayList<>();
+	private final PublishedList<Projectile> fireballProjectiles = new PublishedList<>();
+	private final TickTimer<NPC> eggTimer = new TickTimer<>();
+	private final PublishedList<NPC> scarabSwarmNpcs = new PublishedList<>();
 
 	@Getter(AccessLevel.PACKAGE)
 	private int atkCount;
@@ -123,17 +118,12 @@ public class Kephri implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
-		hooks.registerRenderableDrawListener(drawListener);
+		renderableHider.register(hideRules);
+		projectileTracker.register(this, ImmutableSet.of(PROJECTILE_ID_FIREBALL, PROJECTILE_ID_BOMBER_SCARAB),
+			fireballProjectiles::addAndPublish, fireballProjectiles::removeAndPublish);
 		npcOverlayService.registerHighlighter(npcHighlighter);
-
-		clientThread.invoke(() ->
-		{
-			for (final NPC npc : client.getNpcs())
-			{
-				onNpcSpawned(new NpcSpawned(npc));
-			}
-		});
+		npcRegistry.register(this, ImmutableSet.of(NpcID.SCARAB_SWARM_11723), scarabSwarmNpcs::add,
+			scarabSwarmNpcs::remove);
 
 		int initAtkCount = ATK_COUNT_INIT;
 
@@ -148,9 +138,10 @@ public class Kephri implements PluginLifecycleComponent
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
-		hooks.unregisterRenderableDrawListener(drawListener);
+		renderableHider.unregister(hideRules);
+		projectileTracker.unregister(this);
 		npcOverlayService.unregisterHighlighter(npcHighlighter);
+		npcRegistry.unregister(this);
 		reset();
 	}
 
@@ -158,7 +149,7 @@ public class Kephri implements PluginLifecycleComponent
 	{
 		npc = null;
 		fireballProjectiles.clear();
-		eggsToTicks.clear();
+		eggTimer.clear();
 		scarabSwarmNpcs.clear();
 		atkCount = 0;
 		prevAtkCount = 0;
@@ -166,38 +157,34 @@ public class Kephri implements PluginLifecycleComponent
 		numOfFours = 0;
 	}
 
+	List<NPC> getScarabSwarmNpcs()
+	{
+		return scarabSwarmNpcs.getPublished();
+	}
+
+	List<Projectile> getFireballProjectiles()
+	{
+		return fireballProjectiles.getPublished();
+	}
+
+	TickTimer.Published<NPC> getEggTimer()
+	{
+		return eggTimer.getPublished();
+	}
+
 	@Subscribe
 	private void onGameTick(final GameTick event)
 	{
-		if (!fireballProjectiles.isEmpty())
-		{
-			fireballProjectiles.removeIf(p -> p.getRemainingCycles() <= 0);
-		}
-
 		if (!scarabSwarmNpcs.isEmpty() && npc != null)
 		{
 			final WorldArea worldArea = npc.getWorldArea();
 			scarabSwarmNpcs.removeIf(s -> worldArea.isInMeleeDistance(s.getWorldLocation()));
 		}
 
-		if (!eggsToTicks.isEmpty())
-		{
-			eggsToTicks.replaceAll((k, v) -> v - 1);
-			eggsToTicks.values().removeIf(v -> v <= 0);
-		}
-	}
-
-	@Subscribe
-	private void onProjectileMoved(final ProjectileMoved event)
-	{
-		final Projectile projectile = event.getProjectile();
-
-		final int id = projectile.getId();
+		eggTimer.advance();
 
-		if (id == PROJECTILE_ID_FIREBALL || id == PROJECTILE_ID_BOMBER_SCARAB)
-		{
-			fireballProjectiles.add(projectile);
-		}
+		eggTimer.publish();
+		scarabSwarmNpcs.publish();
 	}
 
 	@Subscribe
@@ -205,23 +192,13 @@ public class Kephri implements PluginLifecycleComponent
 	{
 		final NPC npc = event.getNpc();
 
-
 		if (NPC_NAME.equals(npc.getName()))
 		{
 			this.npc = npc;
 		}
-		else
+		else if (npc.getId() == NpcID.EGG_11728)
 		{
-			final int id = npc.getId();
-
-			if (id == NpcID.EGG_11728)
-			{
-				eggsToTicks.put(npc, TICK_COUNT_EGG);
-			}
-			else if (id == NpcID.SCARAB_SWARM_11723)
-			{
-				scarabSwarmNpcs.add(npc);
-			}
+			eggTimer.schedule(npc, TICK_COUNT_EGG);
 		}
 	}
 
@@ -238,11 +215,7 @@ public class Kephri implements PluginLifecycleComponent
 		}
 		else if (id == NpcID.EGG_11728)
 		{
-			eggsToTicks.remove(npc);
-		}
-		else if (id == NpcID.SCARAB_SWARM_11723)
-		{
-			scarabSwarmNpcs.remove(npc);
+			eggTimer.cancel(npc);
 		}
 	}
 
@@ -353,58 +326,43 @@ public class Kephri implements PluginLifecycleComponent
 		}
 	}
 
-	private boolean shouldDraw(final Renderable renderable, final boolean drawingUI)
+	private void addHideRules(final RenderableHider.Builder builder)
 	{
-		if (renderable instanceof NPC)
+		if (config.kephriHideUnattackableScarabSwarm())
 		{
-			final NPC npc = (NPC) renderable;
-			final int id = npc.getId();
-
-			if (id == NpcID.SCARAB_SWARM_11723)
-			{
-				if (!config.kephriHideUnattackableScarabSwarm())
-				{
-					return true;
-				}
-				if (npc.getAnimation() == ANIM_ID_SCARAB_SWARM_DEATH)
-				{
-					return false;
-				}
-				if (this.npc == null)
-				{
-					return true;
-				}
-				return !this.npc.getWorldArea().isInMeleeDistance(npc.getWorldLocation());
-			}
+			builder.npc(NpcID.SCARAB_SWARM_11723, this::isUnattackableScarabSwarm);
+		}
 
-			if (id == NpcID.AGILE_SCARAB)
-			{
-				return !config.kephriHideAgileScarabNpc();
-			}
+		if (config.kephriHideAgileScarabNpc())
+		{
+			builder.npc(NpcID.AGILE_SCARAB);
+		}
 
-			return true;
+		if (config.kephriHideFireballProjectile())
+		{
+			builder.projectile(PROJECTILE_ID_FIREBALL)
+				.projectile(PROJECTILE_ID_PRE_FIREBALL);
 		}
-		else if (renderable instanceof Projectile)
+
+		if (config.kephriHideAgileScarabProjectile())
 		{
-			final int id = ((Projectile) renderable).getId();
+			builder.projectile(PROJECTILE_ID_AGILE_SCARAB);
+		}
 
-			if (id == PROJECTILE_ID_FIREBALL || id == PROJECTILE_ID_PRE_FIREBALL)
-			{
-				return !config.kephriHideFireballProjectile();
-			}
-			if (id == PROJECTILE_ID_AGILE_SCARAB)
-			{
-				return !config.kephriHideAgileScarabProjectile();
-			}
-			if (id == PROJECTILE_ID_BOMBER_SCARAB)
-			{
-				return !config.kephriHideBomberScarabProjectile();
-			}
+		if (config.kephriHideBomberScarabProjectile())
+		{
+			builder.projectile(PROJECTILE_ID_BOMBER_SCARAB);
+		}
+	}
 
+	private boolean isUnattackableScarabSwarm(final NPC npc)
+	{
+		if (npc.getAnimation() == ANIM_ID_SCARAB_SWARM_DEATH)
+		{
 			return true;
 		}
 
-		return true;
+		return this.npc != null && this.npc.getWorldArea().isInMeleeDistance(npc.getWorldLocation());
 	}
 
 	private HighlightedNpc npcHighlight(final NPC npc)
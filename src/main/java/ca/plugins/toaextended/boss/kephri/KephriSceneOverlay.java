@@ -35,7 +35,12 @@ import ca.plugins.toaextended.ToaExtendedConfig.AttackCounter;
 import ca.plugins.toaextended.ToaExtendedConfig.FireballRadius;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
 import ca.plugins.toaextended.nexus.PathLevelTracker;
+import ca.plugins.toaextended.util.HazardRenderBatch;
+import ca.plugins.toaextended.util.ModelOutlineLod;
 import ca.plugins.toaextended.util.RaidState;
+import ca.plugins.toaextended.util.RenderBudgetGovernor;
+import ca.plugins.toaextended.util.TickTimer;
+import ca.plugins.toaextended.util.TilePolygonCache;
 import ca.plugins.toaextended.util.ToaUtils;
 import static ca.plugins.toaextended.util.ToaUtils.COLOR_SPEC_ATK;
 import java.awt.Color;
@@ -43,12 +48,10 @@ import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.util.List;
-import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Client;
 import net.runelite.api.NPC;
-import net.runelite.api.Perspective;
 import net.runelite.api.Player;
 import net.runelite.api.Point;
 import net.runelite.api.Projectile;
@@ -66,8 +69,12 @@ public class KephriSceneOverlay extends Overlay implements PluginLifecycleCompon
 	private static final int SPOT_ANIM_ID_DUNG = 2146;
 
 	private final Client client;
+	private final TilePolygonCache tilePolygonCache;
+	private final HazardRenderBatch hazardBatch = new HazardRenderBatch();
+	private final RenderBudgetGovernor renderBudget;
 	private final OverlayManager overlayManager;
 	private final ModelOutlineRenderer modelOutlineRenderer;
+	private final ModelOutlineLod outlineLod;
 	private final ToaExtendedConfig config;
 	private final Kephri kephri;
 	private final PathLevelTracker pathLevelTracker;
@@ -75,11 +82,14 @@ public class KephriSceneOverlay extends Overlay implements PluginLifecycleCompon
 	private int eggRadius;
 
 	@Inject
-	protected KephriSceneOverlay(final Client client, final OverlayManager overlayManager, final ModelOutlineRenderer modelOutlineRenderer, final ToaExtendedConfig config, final Kephri kephri, final PathLevelTracker pathLevelTracker)
+	protected KephriSceneOverlay(final Client client, final TilePolygonCache tilePolygonCache, final RenderBudgetGovernor renderBudget, final OverlayManager overlayManager, final ModelOutlineRenderer modelOutlineRenderer, final ToaExtendedConfig config, final Kephri kephri, final PathLevelTracker pathLevelTracker)
 	{
 		this.client = client;
+		this.tilePolygonCache = tilePolygonCache;
+		this.renderBudget = renderBudget;
 		this.overlayManager = overlayManager;
 		this.modelOutlineRenderer = modelOutlineRenderer;
+		this.outlineLod = new ModelOutlineLod(modelOutlineRenderer, config, tilePolygonCache);
 		this.config = config;
 		this.kephri = kephri;
 		this.pathLevelTracker = pathLevelTracker;
@@ -112,6 +122,8 @@ public class KephriSceneOverlay extends Overlay implements PluginLifecycleCompon
 	@Override
 	public Dimension render(final Graphics2D graphics2D)
 	{
+		final long start = System.nanoTime();
+
 		if (config.kephriDungOutline())
 		{
 			renderDungOutline(graphics2D);
@@ -132,11 +144,15 @@ public class KephriSceneOverlay extends Overlay implements PluginLifecycleCompon
 			renderEggs(graphics2D);
 		}
 
-		if (config.kephriScarabSwarmOutline())
+		if (config.kephriScarabSwarmOutline() && renderBudget.isOutlineEnabled())
 		{
-			renderScarabSwarms();
+			renderScarabSwarms(graphics2D);
 		}
 
+		hazardBatch.flush(graphics2D, renderBudget.isFillEnabled());
+
+		renderBudget.report(System.nanoTime() - start);
+
 		return null;
 	}
 
@@ -165,7 +181,7 @@ public class KephriSceneOverlay extends Overlay implements PluginLifecycleCompon
 			color = Color.RED;
 		}
 
-		final Point point = npc.getCanvasTextLocation(graphics2D, text, 0);
+		final Point point = renderBudget.getCanvasTextLocation(npc, graphics2D, text, 0);
 
 		if (point == null)
 		{
@@ -198,59 +214,45 @@ public class KephriSceneOverlay extends Overlay implements PluginLifecycleCompon
 			final LocalPoint localPoint = fireball.getTarget();
 
 			final Polygon polygon = aerialAssault ?
-				Perspective.getCanvasTileAreaPoly(client, localPoint, 3) :
-				Perspective.getCanvasTilePoly(client, localPoint);
+				tilePolygonCache.getTileAreaPoly(localPoint, 3) :
+				tilePolygonCache.getTilePoly(localPoint);
 
 			if (polygon == null)
 			{
 				continue;
 			}
 
-			ToaUtils.drawOutlineAndFill(
-				graphics2D,
-				color,
-				new Color(color.getRed(), color.getGreen(), color.getBlue(), 20),
-				1,
-				polygon
-			);
+			hazardBatch.add(color, 20, 1, polygon);
 		}
 	}
 
 	private void renderEggs(final Graphics2D graphics2D)
 	{
-		final Map<NPC, Integer> eggs = kephri.getEggsToTicks();
+		final TickTimer.Published<NPC> eggs = kephri.getEggTimer();
 
 		if (eggs.isEmpty())
 		{
 			return;
 		}
 
-		for (final Map.Entry<NPC, Integer> entry : eggs.entrySet())
+		eggs.forEach((npc, ticks) ->
 		{
-			final int ticks = entry.getValue();
-
 			final Color color = ticks <= 2 ? Color.RED : ticks <= 7 ? Color.ORANGE : Color.YELLOW;
 
-			final LocalPoint localPoint = entry.getKey().getLocalLocation();
+			final LocalPoint localPoint = npc.getLocalLocation();
 
-			final Polygon polygon = Perspective.getCanvasTileAreaPoly(client, localPoint, eggRadius);
+			final Polygon polygon = tilePolygonCache.getTileAreaPoly(localPoint, eggRadius);
 
 			if (polygon == null)
 			{
-				continue;
+				return;
 			}
 
-			ToaUtils.drawOutlineAndFill(
-				graphics2D,
-				color,
-				new Color(color.getRed(), color.getGreen(), color.getBlue(), 20),
-				1,
-				polygon
-			);
-		}
+			hazardBatch.add(color, 20, 1, polygon);
+		});
 	}
 
-	private void renderScarabSwarms()
+	private void renderScarabSwarms(final Graphics2D graphics2D)
 	{
 		final List<NPC> scarabSwarms = kephri.getScarabSwarmNpcs();
 
@@ -259,10 +261,14 @@ public class KephriSceneOverlay extends Overlay implements PluginLifecycleCompon
 			return;
 		}
 
+		outlineLod.begin(scarabSwarms.size());
+
 		for (final NPC swarm : scarabSwarms)
 		{
-			modelOutlineRenderer.drawOutline(swarm, 1, Color.WHITE, 0);
+			outlineLod.drawOutline(swarm, 1, Color.WHITE, 0);
 		}
+
+		outlineLod.end(graphics2D);
 	}
 
 	private void renderDungOutline(final Graphics2D graphics2D)
@@ -31,16 +31,18 @@
 package ca.plugins.toaextended.boss.warden.phase2;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
-import ca.plugins.toaextended.boss.AttackProjectile;
+import ca.plugins.toaextended.boss.PrayerTimeline;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.BossHealthTracker;
+import ca.plugins.toaextended.util.ProjectileTracker;
+import ca.plugins.toaextended.util.PublishedList;
 import ca.plugins.toaextended.util.RaidRoom;
 import ca.plugins.toaextended.util.RaidState;
+import ca.plugins.toaextended.util.RenderableHider;
 import ca.plugins.toaextended.util.ToaUtils;
 import com.google.common.collect.ImmutableSet;
 import java.util.AbstractMap;
-import java.util.HashSet;
-import java.util.PriorityQueue;
-import java.util.Queue;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
 import javax.annotation.Nullable;
@@ -51,23 +53,15 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import net.runelite.api.Actor;
 import net.runelite.api.Client;
-import net.runelite.api.GraphicsObject;
 import net.runelite.api.NPC;
 import net.runelite.api.NpcID;
 import net.runelite.api.Prayer;
 import net.runelite.api.Projectile;
-import net.runelite.api.Renderable;
-import net.runelite.api.ScriptID;
-import net.runelite.api.Varbits;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.events.NpcChanged;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
-import net.runelite.api.events.ProjectileMoved;
-import net.runelite.api.events.ScriptPostFired;
-import net.runelite.client.callback.Hooks;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.game.npcoverlay.HighlightedNpc;
 import net.runelite.client.game.npcoverlay.NpcOverlayService;
@@ -95,26 +89,35 @@ public class WardenP2 implements PluginLifecycleComponent
 	private static final int PROJECTILE_ID_BLACK_SKULL = 2210;
 	private static final int PROJECTILE_ID_LIGHTNING = 2225;
 	private static final int PROJECTILE_ID_CORE = 2240;
+	private static final Set<Integer> PROJECTILE_IDS = ImmutableSet.of(
+		PROJECTILE_ID_ARCANE_SCIMITAR,
+		PROJECTILE_ID_WHITE_ARROW,
+		PROJECTILE_ID_BLUE_SPELL,
+		PROJECTILE_ID_RED_SKULL,
+		PROJECTILE_ID_WHITE_SKULL,
+		PROJECTILE_ID_BLACK_SKULL,
+		PROJECTILE_ID_LIGHTNING,
+		PROJECTILE_ID_CORE
+	);
 
 	private static final int WARDEN_SPECIAL_PROJECTILE_TICKS = 5;
 
-	private final EventBus eventBus;
 	private final Client client;
-	private final Hooks hooks;
+	private final RenderableHider renderableHider;
+	private final ProjectileTracker projectileTracker;
+	private final BossHealthTracker bossHealthTracker;
 	private final NpcOverlayService npcOverlayService;
 	private final ToaExtendedConfig config;
 
-	private final Hooks.RenderableDrawListener drawListener = this::shouldDraw;
+	private final RenderableHider.HideRules hideRules = this::addHideRules;
 	private final Function<NPC, HighlightedNpc> npcHighlighter = this::npcHighlight;
 
 	@Getter(AccessLevel.PACKAGE)
-	private final Queue<AttackProjectile> attackProjectiles = new PriorityQueue<>();
+	private final PrayerTimeline prayerTimeline = new PrayerTimeline();
 
-	@Getter(AccessLevel.PACKAGE)
-	private final Set<Projectile> lightningProjectiles = new HashSet<>();
+	private final PublishedList<Projectile> lightningProjectiles = new PublishedList<>();
 
-	@Getter(AccessLevel.PACKAGE)
-	private final Set<Projectile> blackSkullProjectiles = new HashSet<>();
+	private final PublishedList<Projectile> blackSkullProjectiles = new PublishedList<>();
 
 	@Nullable
 	@Getter(AccessLevel.PACKAGE)
@@ -128,13 +131,6 @@ public class WardenP2 implements PluginLifecycleComponent
 	@Getter(AccessLevel.PACKAGE)
 	private NPC npc;
 
-	@Getter(AccessLevel.PACKAGE)
-	private long lastTickTime;
-	private int lastStartCycle;
-
-	@Getter(AccessLevel.PACKAGE)
-	private int hpRemaining;
-
 	@Override
 	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
 	{
@@ -144,23 +140,25 @@ public class WardenP2 implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
 		npcOverlayService.registerHighlighter(npcHighlighter);
-		hooks.registerRenderableDrawListener(drawListener);
+		renderableHider.register(hideRules);
+		projectileTracker.register(this, PROJECTILE_IDS, this::onProjectileSpawned, this::onProjectileLanded);
+		bossHealthTracker.register(this);
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
 		npcOverlayService.unregisterHighlighter(npcHighlighter);
-		hooks.unregisterRenderableDrawListener(drawListener);
+		renderableHider.unregister(hideRules);
+		projectileTracker.unregister(this);
+		bossHealthTracker.unregister(this);
 		reset();
 	}
 
 	private void reset()
 	{
-		attackProjectiles.clear();
+		prayerTimeline.clear();
 		lightningProjectiles.clear();
 		blackSkullProjectiles.clear();
 
@@ -168,37 +166,12 @@ public class WardenP2 implements PluginLifecycleComponent
 
 		coreToTicks = null;
 		npc = null;
-
-		lastTickTime = 0L;
-		lastStartCycle = 0;
-		hpRemaining = 0;
 	}
 
 	@Subscribe
 	private void onGameTick(final GameTick event)
 	{
-		lastTickTime = System.currentTimeMillis();
-
-		if (!attackProjectiles.isEmpty())
-		{
-			attackProjectiles.forEach(AttackProjectile::decrementTicks);
-			attackProjectiles.removeIf(AttackProjectile::isExpired);
-		}
-
-		if (!lightningProjectiles.isEmpty())
-		{
-			lightningProjectiles.removeIf(p -> p.getRemainingCycles() <= 0);
-		}
-
-		if (!blackSkullProjectiles.isEmpty())
-		{
-			blackSkullProjectiles.removeIf(p -> p.getRemainingCycles() <= 0);
-		}
-
-		if (coreProjectile != null && coreProjectile.getRemainingCycles() <= 0)
-		{
-			coreProjectile = null;
-		}
+		prayerTimeline.advance();
 
 		if (coreToTicks != null)
 		{
@@ -206,18 +179,8 @@ public class WardenP2 implements PluginLifecycleComponent
 		}
 	}
 
-	@Subscribe
-	private void onProjectileMoved(final ProjectileMoved event)
+	private void onProjectileSpawned(final Projectile projectile)
 	{
-		final Projectile projectile = event.getProjectile();
-
-		final int remainingCycles = projectile.getRemainingCycles();
-
-		if (remainingCycles <= 0)
-		{
-			return;
-		}
-
 		final Actor actor = projectile.getInteracting();
 
 		if (actor != null && actor != client.getLocalPlayer())
@@ -225,8 +188,6 @@ public class WardenP2 implements PluginLifecycleComponent
 			return;
 		}
 
-		final int startCycle = projectile.getStartCycle();
-
 		final Prayer prayer;
 		final int ticks;
 		final int priority = 0;
@@ -234,55 +195,30 @@ public class WardenP2 implements PluginLifecycleComponent
 		switch (projectile.getId())
 		{
 			case PROJECTILE_ID_WHITE_SKULL:
-				if (startCycle == lastStartCycle)
-				{
-					return;
-				}
-				lastStartCycle = startCycle;
 				ticks = ToaUtils.cyclesToTicks(getProjectileCycles(projectile));
 				prayer = Prayer.PROTECT_FROM_MISSILES;
 				break;
 			case PROJECTILE_ID_RED_SKULL:
-				if (startCycle == lastStartCycle)
-				{
-					return;
-				}
-				lastStartCycle = startCycle;
 				ticks = ToaUtils.cyclesToTicks(getProjectileCycles(projectile));
 				prayer = Prayer.PROTECT_FROM_MAGIC;
 				break;
 			case PROJECTILE_ID_ARCANE_SCIMITAR:
-				if (startCycle == lastStartCycle)
-				{
-					return;
-				}
-				lastStartCycle = startCycle;
 				ticks = WARDEN_SPECIAL_PROJECTILE_TICKS;
 				prayer = Prayer.PROTECT_FROM_MELEE;
 				break;
 			case PROJECTILE_ID_WHITE_ARROW:
-				if (startCycle == lastStartCycle)
-				{
-					return;
-				}
-				lastStartCycle = startCycle;
 				ticks = WARDEN_SPECIAL_PROJECTILE_TICKS;
 				prayer = Prayer.PROTECT_FROM_MISSILES;
 				break;
 			case PROJECTILE_ID_BLUE_SPELL:
-				if (startCycle == lastStartCycle)
-				{
-					return;
-				}
-				lastStartCycle = startCycle;
 				ticks = WARDEN_SPECIAL_PROJECTILE_TICKS;
 				prayer = Prayer.PROTECT_FROM_MAGIC;
 				break;
 			case PROJECTILE_ID_LIGHTNING:
-				lightningProjectiles.add(projectile);
+				lightningProjectiles.addAndPublish(projectile);
 				return;
 			case PROJECTILE_ID_BLACK_SKULL:
-				blackSkullProjectiles.add(projectile);
+				blackSkullProjectiles.addAndPublish(projectile);
 				return;
 			case PROJECTILE_ID_CORE:
 				coreProjectile = projectile;
@@ -291,7 +227,18 @@ public class WardenP2 implements PluginLifecycleComponent
 				return;
 		}
 
-		attackProjectiles.add(new AttackProjectile(prayer, ticks, priority));
+		prayerTimeline.add(prayer, ticks, priority);
+	}
+
+	private void onProjectileLanded(final Projectile projectile)
+	{
+		lightningProjectiles.removeAndPublish(projectile);
+		blackSkullProjectiles.removeAndPublish(projectile);
+
+		if (projectile == coreProjectile)
+		{
+			coreProjectile = null;
+		}
 	}
 
 	@Subscribe
@@ -329,27 +276,19 @@ public class WardenP2 implements PluginLifecycleComponent
 		}
 	}
 
-	@Subscribe
-	private void onScriptPostFired(final ScriptPostFired event)
+	int getHpRemaining()
 	{
-		if (event.getScriptId() != ScriptID.HP_HUD_UPDATE)
-		{
-			return;
-		}
-
-		final int maxHp = client.getVarbitValue(Varbits.BOSS_HEALTH_MAXIMUM);
-		if (maxHp <= 1)
-		{
-			return;
-		}
+		return bossHealthTracker.getHpRemaining();
+	}
 
-		final int currentHp = client.getVarbitValue(Varbits.BOSS_HEALTH_CURRENT);
-		if (currentHp <= 0)
-		{
-			return;
-		}
+	List<Projectile> getLightningProjectiles()
+	{
+		return lightningProjectiles.getPublished();
+	}
 
-		hpRemaining = maxHp - currentHp;
+	List<Projectile> getBlackSkullProjectiles()
+	{
+		return blackSkullProjectiles.getPublished();
 	}
 
 	private HighlightedNpc npcHighlight(final NPC npc)
@@ -383,32 +322,17 @@ public class WardenP2 implements PluginLifecycleComponent
 		return null;
 	}
 
-	private boolean shouldDraw(final Renderable renderable, final boolean drawingUI)
+	private void addHideRules(final RenderableHider.Builder builder)
 	{
-		if (renderable instanceof Projectile)
+		if (config.wardenHideLightningProjectiles())
 		{
-			final Projectile projectile = (Projectile) renderable;
-
-			final int id = projectile.getId();
-
-			if (id == PROJECTILE_ID_LIGHTNING)
-			{
-				return !config.wardenHideLightningProjectiles();
-			}
+			builder.projectile(PROJECTILE_ID_LIGHTNING);
 		}
-		else if (renderable instanceof GraphicsObject)
-		{
-			final GraphicsObject graphicsObject = (GraphicsObject) renderable;
 
-			final int id = graphicsObject.getId();
-
-			if (GRAPHICS_OBJECT_IDS_LIGHTNING_TILE.contains(id))
-			{
-				return !config.wardenHideLightningTiles();
-			}
+		if (config.wardenHideLightningTiles())
+		{
+			GRAPHICS_OBJECT_IDS_LIGHTNING_TILE.forEach(builder::graphicsObject);
 		}
-
-		return true;
 	}
 
 	private int getProjectileCycles(final Projectile projectile)
@@ -31,11 +31,9 @@
 package ca.plugins.toaextended.boss.warden.phase2;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
-import ca.plugins.toaextended.boss.AttackProjectile;
 import ca.plugins.toaextended.boss.PrayerInfoboxOverlay;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
 import ca.plugins.toaextended.util.RaidState;
-import java.util.Queue;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -67,8 +65,7 @@ public class WardenP2PrayerInfoboxOverlay extends PrayerInfoboxOverlay implement
 	@Override
 	protected @Nullable Prayer getNextPrayer()
 	{
-		final Queue<AttackProjectile> queue = wardenP2.getAttackProjectiles();
-		return queue.isEmpty() ? null : queue.peek().getPrayer();
+		return wardenP2.getPrayerTimeline().getNextPrayer();
 	}
 
 	@Override
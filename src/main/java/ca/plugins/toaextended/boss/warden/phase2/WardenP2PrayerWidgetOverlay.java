@@ -31,11 +31,11 @@
 package ca.plugins.toaextended.boss.warden.phase2;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
-import ca.plugins.toaextended.boss.AttackProjectile;
+import ca.plugins.toaextended.boss.PrayerTimeline;
 import ca.plugins.toaextended.boss.PrayerWidgetOverlay;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
 import ca.plugins.toaextended.util.RaidState;
-import java.util.Queue;
+import ca.plugins.toaextended.util.TickClock;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -51,9 +51,9 @@ public class WardenP2PrayerWidgetOverlay extends PrayerWidgetOverlay implements
 	private final WardenP2 wardenP2;
 
 	@Inject
-	public WardenP2PrayerWidgetOverlay(final Client client, final ToaExtendedConfig config, final OverlayManager overlayManager, final WardenP2 wardenP2)
+	public WardenP2PrayerWidgetOverlay(final Client client, final ToaExtendedConfig config, final OverlayManager overlayManager, final TickClock tickClock, final WardenP2 wardenP2)
 	{
-		super(client, config);
+		super(client, config, tickClock);
 		this.overlayManager = overlayManager;
 		this.wardenP2 = wardenP2;
 	}
@@ -77,22 +77,15 @@ public class WardenP2PrayerWidgetOverlay extends PrayerWidgetOverlay implements
 	}
 
 	@Override
-	protected Queue<AttackProjectile> getAttackProjectileQueue()
+	protected PrayerTimeline getPrayerTimeline()
 	{
-		return wardenP2.getAttackProjectiles();
+		return wardenP2.getPrayerTimeline();
 	}
 
 	@Override
 	protected @Nullable Prayer getNextPrayer()
 	{
-		final Queue<AttackProjectile> queue = wardenP2.getAttackProjectiles();
-		return queue.isEmpty() ? null : queue.peek().getPrayer();
-	}
-
-	@Override
-	protected long getLastTickTime()
-	{
-		return wardenP2.getLastTickTime();
+		return wardenP2.getPrayerTimeline().getNextPrayer();
 	}
 
 	@Override
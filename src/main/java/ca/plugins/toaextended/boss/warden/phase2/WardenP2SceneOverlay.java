@@ -33,24 +33,28 @@ package ca.plugins.toaextended.boss.warden.phase2;
 import ca.plugins.toaextended.ToaExtendedConfig;
 import static ca.plugins.toaextended.boss.warden.phase2.WardenP2.ANIMATION_ID_WARDEN_STANDING_UP;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.HazardFootprint;
+import ca.plugins.toaextended.util.HazardRenderBatch;
 import ca.plugins.toaextended.util.RaidState;
+import ca.plugins.toaextended.util.RenderBudgetGovernor;
+import ca.plugins.toaextended.util.TilePolygonCache;
 import ca.plugins.toaextended.util.ToaUtils;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
-import java.awt.geom.Area;
+import java.awt.Shape;
 import java.util.AbstractMap;
-import java.util.Set;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Client;
 import net.runelite.api.NPC;
-import net.runelite.api.Perspective;
 import net.runelite.api.Point;
 import net.runelite.api.Projectile;
 import net.runelite.api.coords.LocalPoint;
-import net.runelite.api.coords.WorldArea;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayManager;
@@ -63,15 +67,22 @@ public class WardenP2SceneOverlay extends Overlay implements PluginLifecycleComp
 {
 
 	private final Client client;
+	private final TilePolygonCache tilePolygonCache;
+	private final HazardRenderBatch hazardBatch = new HazardRenderBatch();
+	private final RenderBudgetGovernor renderBudget;
 	private final ToaExtendedConfig config;
 	private final OverlayManager overlayManager;
 	private final WardenP2 wardenP2;
 
+	private final Map<Projectile, HazardFootprint> lightningFootprints = new IdentityHashMap<>();
+
 	@Inject
-	public WardenP2SceneOverlay(final Client client, final ToaExtendedConfig config, final OverlayManager overlayManager,
-								final WardenP2 wardenP2)
+	public WardenP2SceneOverlay(final Client client, final TilePolygonCache tilePolygonCache, final ToaExtendedConfig config,
+								final RenderBudgetGovernor renderBudget, final OverlayManager overlayManager, final WardenP2 wardenP2)
 	{
 		this.client = client;
+		this.tilePolygonCache = tilePolygonCache;
+		this.renderBudget = renderBudget;
 		this.config = config;
 		this.overlayManager = overlayManager;
 		this.wardenP2 = wardenP2;
@@ -97,11 +108,14 @@ public class WardenP2SceneOverlay extends Overlay implements PluginLifecycleComp
 	public void shutDown()
 	{
 		overlayManager.remove(this);
+		lightningFootprints.clear();
 	}
 
 	@Override
 	public Dimension render(final Graphics2D graphics2D)
 	{
+		final long start = System.nanoTime();
+
 		if (config.wardenP2HealthCounter())
 		{
 			renderHealthCounter(graphics2D);
@@ -127,6 +141,10 @@ public class WardenP2SceneOverlay extends Overlay implements PluginLifecycleComp
 			renderLightningProjectileTiles(graphics2D);
 		}
 
+		hazardBatch.flush(graphics2D, renderBudget.isFillEnabled());
+
+		renderBudget.report(System.nanoTime() - start);
+
 		return null;
 	}
 
@@ -149,7 +167,7 @@ public class WardenP2SceneOverlay extends Overlay implements PluginLifecycleComp
 
 		final String text = Integer.toString(hp);
 
-		final Point point = npc.getCanvasTextLocation(graphics2D, text, 0);
+		final Point point = renderBudget.getCanvasTextLocation(npc, graphics2D, text, 0);
 		if (point == null)
 		{
 			return;
@@ -171,7 +189,7 @@ public class WardenP2SceneOverlay extends Overlay implements PluginLifecycleComp
 		final NPC npc = coreToTicks.getKey();
 		final String text = Integer.toString(coreToTicks.getValue());
 
-		final Point point = npc.getCanvasTextLocation(graphics2D, text, npc.getLogicalHeight() + 40);
+		final Point point = renderBudget.getCanvasTextLocation(npc, graphics2D, text, npc.getLogicalHeight() + 40);
 
 		if (point == null)
 		{
@@ -192,20 +210,19 @@ public class WardenP2SceneOverlay extends Overlay implements PluginLifecycleComp
 
 		final LocalPoint localPoint = projectile.getTarget();
 
-		final Polygon polygon = Perspective.getCanvasTilePoly(client, localPoint);
+		final Polygon polygon = tilePolygonCache.getTilePoly(localPoint);
 
 		if (polygon == null)
 		{
 			return;
 		}
 
-		ToaUtils.drawOutlineAndFill(graphics2D, Color.MAGENTA, new Color(255, 0, 255, 10),
-			1, polygon);
+		hazardBatch.add(Color.MAGENTA, 10, 1, polygon);
 	}
 
 	private void renderBlackSkullProjectileTile(final Graphics2D graphics2D)
 	{
-		final Set<Projectile> projectiles = wardenP2.getBlackSkullProjectiles();
+		final List<Projectile> projectiles = wardenP2.getBlackSkullProjectiles();
 
 		if (projectiles.isEmpty())
 		{
@@ -216,39 +233,39 @@ public class WardenP2SceneOverlay extends Overlay implements PluginLifecycleComp
 		{
 			final LocalPoint localPoint = projectile.getTarget();
 
-			final Polygon polygon = Perspective.getCanvasTilePoly(client, localPoint);
+			final Polygon polygon = tilePolygonCache.getTilePoly(localPoint);
 
 			if (polygon == null)
 			{
 				return;
 			}
 
-			ToaUtils.drawOutlineAndFill(graphics2D, config.dangerOutlineColor(), config.dangerFillColor(),
-				1, polygon);
+			hazardBatch.add(config.dangerOutlineColor(), config.dangerFillColor(), 1, polygon);
 		}
 	}
 
 	private void renderLightningProjectileTiles(final Graphics2D graphics2D)
 	{
-		final Set<Projectile> lightningProjectiles = wardenP2.getLightningProjectiles();
+		final List<Projectile> lightningProjectiles = wardenP2.getLightningProjectiles();
+
+		lightningFootprints.keySet().retainAll(lightningProjectiles);
 
 		if (lightningProjectiles.isEmpty())
 		{
 			return;
 		}
 
-		final Area area = new Area();
-		final WorldArea worldArea = client.getLocalPlayer().getWorldArea();
-
 		final int size = 3;
 
 		for (final Projectile projectile : lightningProjectiles)
 		{
-			area.reset();
-
 			final int ticks = ToaUtils.cyclesToTicks(projectile.getRemainingCycles());
 			final Color color = ticks <= 2 ? Color.RED : ticks == 3 ? Color.ORANGE : Color.YELLOW;
 
+			final HazardFootprint footprint = lightningFootprints.computeIfAbsent(projectile,
+				p -> new HazardFootprint(client, tilePolygonCache));
+			footprint.clear();
+
 			for (int dx = -size; dx <= size; dx++)
 			{
 				for (int dy = -size; dy <= size; dy++)
@@ -262,28 +279,19 @@ public class WardenP2SceneOverlay extends Overlay implements PluginLifecycleComp
 						continue;
 					}
 
-					final LocalPoint lp = getNewLocalPoint(worldArea, projectile.getTarget(), dx, dy);
-					final Polygon polygon = Perspective.getCanvasTilePoly(client, lp);
-					if (polygon == null)
-					{
-						continue;
-					}
-					area.add(new Area(polygon));
+					footprint.add(projectile.getTarget(), dx, dy);
 				}
 			}
 
-			ToaUtils.drawOutlineAndFill(graphics2D, color,
-				new Color(color.getRed(), color.getGreen(), color.getBlue(), 20),
-				1, area);
-		}
-	}
+			final Shape shape = footprint.getShape();
 
-	private LocalPoint getNewLocalPoint(final WorldArea worldArea, final LocalPoint localPoint, final int dx, final int dy)
-	{
-		return new LocalPoint(
-			localPoint.getX() + dx * Perspective.LOCAL_TILE_SIZE + dx * Perspective.LOCAL_TILE_SIZE * (worldArea.getWidth() - 1) / 2,
-			localPoint.getY() + dy * Perspective.LOCAL_TILE_SIZE + dy * Perspective.LOCAL_TILE_SIZE * (worldArea.getHeight() - 1) / 2
-		);
+			if (shape == null)
+			{
+				continue;
+			}
+
+			hazardBatch.add(color, 20, 1, shape);
+		}
 	}
 
 }
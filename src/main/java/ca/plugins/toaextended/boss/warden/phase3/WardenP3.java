@@ -31,20 +31,22 @@
 package ca.plugins.toaextended.boss.warden.phase3;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
-import ca.plugins.toaextended.boss.AttackProjectile;
+import ca.plugins.toaextended.boss.PrayerTimeline;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
 import ca.plugins.toaextended.nexus.PathLevelTracker;
+import ca.plugins.toaextended.util.BossHealthTracker;
+import ca.plugins.toaextended.util.ProjectileTracker;
+import ca.plugins.toaextended.util.PublishedList;
 import ca.plugins.toaextended.util.RaidRoom;
 import ca.plugins.toaextended.util.RaidState;
+import ca.plugins.toaextended.util.RenderableHider;
+import ca.plugins.toaextended.util.TickTimer;
 import ca.plugins.toaextended.util.ToaUtils;
 import com.google.common.collect.ImmutableSet;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.Queue;
 import java.util.Set;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -61,9 +63,6 @@ import net.runelite.api.NullNpcID;
 import net.runelite.api.Point;
 import net.runelite.api.Prayer;
 import net.runelite.api.Projectile;
-import net.runelite.api.Renderable;
-import net.runelite.api.ScriptID;
-import net.runelite.api.Varbits;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.AnimationChanged;
@@ -72,11 +71,6 @@ import net.runelite.api.events.GraphicsObjectCreated;
 import net.runelite.api.events.NpcChanged;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
-import net.runelite.api.events.ProjectileMoved;
-import net.runelite.api.events.ScriptPostFired;
-import net.runelite.client.callback.ClientThread;
-import net.runelite.client.callback.Hooks;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 
 @Singleton
@@ -119,6 +113,14 @@ public class WardenP3 implements PluginLifecycleComponent
 		PROJECTILE_ID_ZEBAK_RANGE_ROCK_ENRAGED,
 		PROJECTILE_ID_ZEBAK_RANGE_ATTACK
 	);
+	private static final Set<Integer> PROJECTILE_IDS_TRACKED = ImmutableSet.of(
+		PROJECTILE_ID_ZEBAK_MAGIC_ROCK,
+		PROJECTILE_ID_ZEBAK_MAGIC_ROCK_ENRAGED,
+		PROJECTILE_ID_ZEBAK_RANGE_ROCK,
+		PROJECTILE_ID_ZEBAK_RANGE_ROCK_ENRAGED,
+		PROJECTILE_ID_ENERGY_SIPHON,
+		PROJECTILE_ID_FIREBALL
+	);
 
 	private static final int ANIMATION_ID_AKKHA_RANGE = 9772;
 	private static final int ANIMATION_ID_AKKHA_MAGIC = 9774;
@@ -128,12 +130,12 @@ public class WardenP3 implements PluginLifecycleComponent
 	private static final int RED_LIGHTNING_TICKS = 4;
 	private static final int ENERGY_SIPHON_BASE_TICKS = 7;
 
-	private final Hooks.RenderableDrawListener drawListener = this::shouldDraw;
+	private final RenderableHider.HideRules hideRules = this::addHideRules;
 
-	private final EventBus eventBus;
 	private final Client client;
-	private final ClientThread clientThread;
-	private final Hooks hooks;
+	private final RenderableHider renderableHider;
+	private final ProjectileTracker projectileTracker;
+	private final BossHealthTracker bossHealthTracker;
 	private final ToaExtendedConfig config;
 	private final PathLevelTracker pathLevelTracker;
 
@@ -152,33 +154,20 @@ public class WardenP3 implements PluginLifecycleComponent
 	private SlamDirection nextSlamDirection = SlamDirection.RIGHT;
 
 	@Getter(AccessLevel.PACKAGE)
-	private final Queue<AttackProjectile> attackProjectiles = new PriorityQueue<>();
-	@Getter(AccessLevel.PACKAGE)
-	private final Map<GraphicsObject, Integer> redLightningToTicks = new HashMap<>();
-	@Getter(AccessLevel.PACKAGE)
-	private final Map<NPC, Integer> energySiphonToTicks = new HashMap<>();
-	@Getter(AccessLevel.PACKAGE)
-	private final Map<GraphicsObject, Integer> fallingBouldersToTicks = new HashMap<>();
-	@Getter(AccessLevel.PACKAGE)
-	private final List<Projectile> energySiphonProjectiles = new ArrayList<>();
-	@Getter(AccessLevel.PACKAGE)
-	private final List<Projectile> fireballProjectiles = new ArrayList<>();
+	private final PrayerTimeline prayerTimeline = new PrayerTimeline();
+	private final TickTimer<GraphicsObject> redLightningTimer = new TickTimer<>();
+	private final TickTimer<NPC> energySiphonTimer = new TickTimer<>(true);
+	private final TickTimer<GraphicsObject> fallingBoulderTimer = new TickTimer<>();
+	private final PublishedList<Projectile> energySiphonProjectiles = new PublishedList<>();
+	private final PublishedList<Projectile> fireballProjectiles = new PublishedList<>();
 
 	@Nullable
 	@Getter(AccessLevel.PACKAGE)
 	private Prayer akkhaPrayer;
 
-	@Nullable
-	private int[] hpBreakpoints;
-	@Getter(AccessLevel.PACKAGE)
-	private int hpUntilNextBreakPoint = -1;
-
 	@Getter(AccessLevel.PACKAGE)
 	private boolean drawSafeTile;
 
-	@Getter(AccessLevel.PACKAGE)
-	private long lastTickTime;
-
 	private int energySiphonSet;
 
 	@Override
@@ -190,22 +179,17 @@ public class WardenP3 implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
-		hooks.registerRenderableDrawListener(drawListener);
-		clientThread.invoke(() ->
-		{
-			for (final NPC npc : client.getNpcs())
-			{
-				onNpcSpawned(new NpcSpawned(npc));
-			}
-		});
+		bossHealthTracker.register(this, HP_PERCENT_BREAKPOINTS);
+		renderableHider.register(hideRules);
+		projectileTracker.register(this, PROJECTILE_IDS_TRACKED, this::onProjectileSpawned, this::onProjectileLanded);
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
-		hooks.unregisterRenderableDrawListener(drawListener);
+		bossHealthTracker.unregister(this);
+		renderableHider.unregister(hideRules);
+		projectileTracker.unregister(this);
 		reset();
 	}
 
@@ -219,108 +203,65 @@ public class WardenP3 implements PluginLifecycleComponent
 
 		nextSlamDirection = SlamDirection.RIGHT;
 
-		attackProjectiles.clear();
-		redLightningToTicks.clear();
-		energySiphonToTicks.clear();
-		fallingBouldersToTicks.clear();
+		prayerTimeline.clear();
+		redLightningTimer.clear();
+		energySiphonTimer.clear();
+		fallingBoulderTimer.clear();
 		energySiphonProjectiles.clear();
 		fireballProjectiles.clear();
 
 		akkhaPrayer = null;
 
-		hpBreakpoints = null;
-		hpUntilNextBreakPoint = -1;
-
 		drawSafeTile = false;
-		lastTickTime = 0L;
 		energySiphonSet = 0;
 	}
 
 	@Subscribe
 	private void onGameTick(final GameTick event)
 	{
-		lastTickTime = System.currentTimeMillis();
-
-		if (!attackProjectiles.isEmpty())
-		{
-			attackProjectiles.forEach(AttackProjectile::decrementTicks);
-			attackProjectiles.removeIf(AttackProjectile::isExpired);
-		}
-
-		if (!fallingBouldersToTicks.isEmpty())
-		{
-			fallingBouldersToTicks.replaceAll((k, v) -> v - 1);
-			fallingBouldersToTicks.values().removeIf(v -> v <= 0);
-		}
-
-		if (!redLightningToTicks.isEmpty())
-		{
-			redLightningToTicks.replaceAll((k, v) -> v - 1);
-			redLightningToTicks.values().removeIf(i -> i <= 0);
-		}
+		prayerTimeline.advance();
 
-		if (!energySiphonToTicks.isEmpty())
-		{
-			energySiphonToTicks.replaceAll((k, v) -> v - 1);
-		}
-
-		if (!energySiphonProjectiles.isEmpty())
-		{
-			energySiphonProjectiles.removeIf(p -> p.getRemainingCycles() <= 0);
-		}
+		fallingBoulderTimer.advance();
+		redLightningTimer.advance();
+		energySiphonTimer.advance();
 
-		if (!fireballProjectiles.isEmpty())
-		{
-			fireballProjectiles.removeIf(p -> p.getRemainingCycles() <= 0);
-		}
+		fallingBoulderTimer.publish();
+		redLightningTimer.publish();
+		energySiphonTimer.publish();
 	}
 
-	@Subscribe
-	private void onScriptPostFired(final ScriptPostFired event)
+	int getHpUntilNextBreakPoint()
 	{
-		if (event.getScriptId() != ScriptID.HP_HUD_UPDATE)
-		{
-			return;
-		}
-
-		if (hpBreakpoints == null)
-		{
-			final int maxHp = client.getVarbitValue(Varbits.BOSS_HEALTH_MAXIMUM);
-
-			if (maxHp <= 1)
-			{
-				return;
-			}
-
-			hpBreakpoints = new int[HP_PERCENT_BREAKPOINTS.length];
-
-			for (int i = 0; i < HP_PERCENT_BREAKPOINTS.length; i++)
-			{
-				hpBreakpoints[i] = (int) (HP_PERCENT_BREAKPOINTS[i] * maxHp);
-			}
-		}
+		return bossHealthTracker.getHpUntilNextBreakPoint(this);
+	}
 
-		final int currentHp = client.getVarbitValue(Varbits.BOSS_HEALTH_CURRENT);
-		if (currentHp <= 0)
-		{
-			return;
-		}
+	TickTimer.Published<GraphicsObject> getRedLightningTimer()
+	{
+		return redLightningTimer.getPublished();
+	}
 
-		hpUntilNextBreakPoint = ToaUtils.getHpUntilNextBreakPoint(hpBreakpoints, currentHp);
+	TickTimer.Published<NPC> getEnergySiphonTimer()
+	{
+		return energySiphonTimer.getPublished();
 	}
 
-	@Subscribe
-	private void onProjectileMoved(final ProjectileMoved event)
+	TickTimer.Published<GraphicsObject> getFallingBoulderTimer()
 	{
-		final Projectile projectile = event.getProjectile();
+		return fallingBoulderTimer.getPublished();
+	}
 
-		final int remainingCycles = projectile.getRemainingCycles();
+	List<Projectile> getEnergySiphonProjectiles()
+	{
+		return energySiphonProjectiles.getPublished();
+	}
 
-		if (remainingCycles <= 0)
-		{
-			return;
-		}
+	List<Projectile> getFireballProjectiles()
+	{
+		return fireballProjectiles.getPublished();
+	}
 
+	private void onProjectileSpawned(final Projectile projectile)
+	{
 		final Prayer prayer;
 		final int ticks;
 		final int priority = 0;
@@ -338,16 +279,22 @@ public class WardenP3 implements PluginLifecycleComponent
 				ticks = ToaUtils.cyclesToTicks(projectile.getRemainingCycles()) + getZebakProjectileTickCount();
 				break;
 			case PROJECTILE_ID_ENERGY_SIPHON:
-				energySiphonProjectiles.add(projectile);
+				energySiphonProjectiles.addAndPublish(projectile);
 				return;
 			case PROJECTILE_ID_FIREBALL:
-				fireballProjectiles.add(projectile);
+				fireballProjectiles.addAndPublish(projectile);
 				return;
 			default:
 				return;
 		}
 
-		attackProjectiles.add(new AttackProjectile(prayer, ticks, priority));
+		prayerTimeline.add(prayer, ticks, priority);
+	}
+
+	private void onProjectileLanded(final Projectile projectile)
+	{
+		energySiphonProjectiles.removeAndPublish(projectile);
+		fireballProjectiles.removeAndPublish(projectile);
 	}
 
 	@Subscribe
@@ -364,7 +311,7 @@ public class WardenP3 implements PluginLifecycleComponent
 		}
 		else if (id == NpcID.ENERGY_SIPHON)
 		{
-			energySiphonToTicks.put(npc, ENERGY_SIPHON_BASE_TICKS + energySiphonSet);
+			energySiphonTimer.schedule(npc, ENERGY_SIPHON_BASE_TICKS + energySiphonSet);
 		}
 	}
 
@@ -379,7 +326,7 @@ public class WardenP3 implements PluginLifecycleComponent
 		}
 		else if (npc.getId() == NullNpcID.NULL_11773)
 		{
-			energySiphonToTicks.remove(npc);
+			energySiphonTimer.cancel(npc);
 		}
 	}
 
@@ -447,11 +394,11 @@ public class WardenP3 implements PluginLifecycleComponent
 
 		if (GRAPHICS_OBJECT_IDS_FALLING_BOULDER.contains(id))
 		{
-			fallingBouldersToTicks.put(graphicsObject, BABA_BOULDER_TICKS);
+			fallingBoulderTimer.schedule(graphicsObject, BABA_BOULDER_TICKS);
 		}
 		else if (id == GRAPHICS_OBJECT_ID_RED_LIGHTNING)
 		{
-			redLightningToTicks.put(graphicsObject, RED_LIGHTNING_TICKS);
+			redLightningTimer.schedule(graphicsObject, RED_LIGHTNING_TICKS);
 		}
 	}
 
@@ -508,67 +455,48 @@ public class WardenP3 implements PluginLifecycleComponent
 		return LocalPoint.fromWorld(client, worldPoint);
 	}
 
-	private boolean shouldDraw(final Renderable renderable, final boolean drawingUI)
+	private void addHideRules(final RenderableHider.Builder builder)
 	{
-		if (renderable instanceof NPC)
+		if (config.wardenHideDeadEnergySiphon())
 		{
-			final NPC npc = (NPC) renderable;
-			final int id = npc.getId();
-
-			if (id == NullNpcID.NULL_11773)
-			{
-				return !config.wardenHideDeadEnergySiphon();
-			}
+			builder.npc(NullNpcID.NULL_11773);
 		}
-		else if (renderable instanceof Projectile)
-		{
-			final Projectile projectile = (Projectile) renderable;
-
-			final int id = projectile.getId();
-
-			if (id == PROJECTILE_ID_ENERGY_SIPHON_CHARGE)
-			{
-				return !config.wardenHideEnergySiphonChargeProjectiles();
-			}
 
-			if (id == PROJECTILE_ID_ENERGY_SIPHON)
-			{
-				return !config.wardenHideEnergySiphonProjectile();
-			}
-
-			if (id == PROJECTILE_ID_TILE_DEBRIS)
-			{
-				return !config.wardenHideTileDebrisProjectile();
-			}
-
-			if (id == PROJECTILE_ID_PRE_FIREBALL || id == PROJECTILE_ID_FIREBALL)
-			{
-				return !config.wardenHideKephriFireballProjectile();
-			}
+		if (config.wardenHideEnergySiphonChargeProjectiles())
+		{
+			builder.projectile(PROJECTILE_ID_ENERGY_SIPHON_CHARGE);
+		}
 
-			if (PROJECTILE_IDS_ZEBAK.contains(id))
-			{
-				return !config.wardenHideZebakProjectile();
-			}
+		if (config.wardenHideEnergySiphonProjectile())
+		{
+			builder.projectile(PROJECTILE_ID_ENERGY_SIPHON);
 		}
-		else if (renderable instanceof GraphicsObject)
+
+		if (config.wardenHideTileDebrisProjectile())
 		{
-			final GraphicsObject graphicsObject = (GraphicsObject) renderable;
+			builder.projectile(PROJECTILE_ID_TILE_DEBRIS);
+		}
 
-			final int id = graphicsObject.getId();
+		if (config.wardenHideKephriFireballProjectile())
+		{
+			builder.projectile(PROJECTILE_ID_PRE_FIREBALL)
+				.projectile(PROJECTILE_ID_FIREBALL);
+		}
 
-			if (GRAPHICS_OBJECT_IDS_FALLING_BOULDER.contains(id))
-			{
-				return !config.wardenHideBabaFallingBoulders();
-			}
+		if (config.wardenHideZebakProjectile())
+		{
+			PROJECTILE_IDS_ZEBAK.forEach(builder::projectile);
+		}
 
-			if (id == GRAPHICS_OBJECT_ID_RED_LIGHTNING)
-			{
-				return !config.wardenHideRedLightning();
-			}
+		if (config.wardenHideBabaFallingBoulders())
+		{
+			GRAPHICS_OBJECT_IDS_FALLING_BOULDER.forEach(builder::graphicsObject);
 		}
 
-		return true;
+		if (config.wardenHideRedLightning())
+		{
+			builder.graphicsObject(GRAPHICS_OBJECT_ID_RED_LIGHTNING);
+		}
 	}
 
 	private static SlamDirection getNextSlamDirection(final SlamDirection slamDirection)
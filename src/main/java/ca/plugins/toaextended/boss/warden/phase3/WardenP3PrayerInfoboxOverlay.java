@@ -31,11 +31,9 @@
 package ca.plugins.toaextended.boss.warden.phase3;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
-import ca.plugins.toaextended.boss.AttackProjectile;
 import ca.plugins.toaextended.boss.PrayerInfoboxOverlay;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
 import ca.plugins.toaextended.util.RaidState;
-import java.util.Queue;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -73,8 +71,7 @@ public class WardenP3PrayerInfoboxOverlay extends PrayerInfoboxOverlay implement
 			return prayer;
 		}
 
-		final Queue<AttackProjectile> queue = wardenP3.getAttackProjectiles();
-		return queue.isEmpty() ? null : queue.peek().getPrayer();
+		return wardenP3.getPrayerTimeline().getNextPrayer();
 	}
 
 	@Override
@@ -31,11 +31,11 @@
 package ca.plugins.toaextended.boss.warden.phase3;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
-import ca.plugins.toaextended.boss.AttackProjectile;
+import ca.plugins.toaextended.boss.PrayerTimeline;
 import ca.plugins.toaextended.boss.PrayerWidgetOverlay;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
 import ca.plugins.toaextended.util.RaidState;
-import java.util.Queue;
+import ca.plugins.toaextended.util.TickClock;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -52,9 +52,9 @@ public class WardenP3PrayerWidgetOverlay extends PrayerWidgetOverlay implements
 
 	@Inject
 	public WardenP3PrayerWidgetOverlay(final Client client, final ToaExtendedConfig config, final OverlayManager overlayManager,
-									   final WardenP3 wardenP3)
+									   final TickClock tickClock, final WardenP3 wardenP3)
 	{
-		super(client, config);
+		super(client, config, tickClock);
 		this.overlayManager = overlayManager;
 		this.wardenP3 = wardenP3;
 	}
@@ -78,9 +78,9 @@ public class WardenP3PrayerWidgetOverlay extends PrayerWidgetOverlay implements
 	}
 
 	@Override
-	protected Queue<AttackProjectile> getAttackProjectileQueue()
+	protected PrayerTimeline getPrayerTimeline()
 	{
-		return wardenP3.getAttackProjectiles();
+		return wardenP3.getPrayerTimeline();
 	}
 
 	@Override
@@ -92,14 +92,7 @@ public class WardenP3PrayerWidgetOverlay extends PrayerWidgetOverlay implements
 			return prayer;
 		}
 
-		final Queue<AttackProjectile> queue = wardenP3.getAttackProjectiles();
-		return queue.isEmpty() ? null : queue.peek().getPrayer();
-	}
-
-	@Override
-	protected long getLastTickTime()
-	{
-		return wardenP3.getLastTickTime();
+		return wardenP3.getPrayerTimeline().getNextPrayer();
 	}
 
 	@Override
@@ -32,21 +32,23 @@ package ca.plugins.toaextended.boss.warden.phase3;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.HazardRenderBatch;
 import ca.plugins.toaextended.util.RaidState;
+import ca.plugins.toaextended.util.RenderBudgetGovernor;
+import ca.plugins.toaextended.util.TickTimer;
+import ca.plugins.toaextended.util.TilePolygonCache;
 import ca.plugins.toaextended.util.ToaUtils;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.util.List;
-import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Client;
 import net.runelite.api.GraphicsObject;
 import net.runelite.api.NPC;
 import net.runelite.api.NpcID;
-import net.runelite.api.Perspective;
 import net.runelite.api.Point;
 import net.runelite.api.Projectile;
 import net.runelite.api.coords.LocalPoint;
@@ -62,15 +64,20 @@ public class WardenP3SceneOverlay extends Overlay implements PluginLifecycleComp
 {
 
 	private final Client client;
+	private final TilePolygonCache tilePolygonCache;
+	private final HazardRenderBatch hazardBatch = new HazardRenderBatch();
+	private final RenderBudgetGovernor renderBudget;
 	private final ToaExtendedConfig config;
 	private final OverlayManager overlayManager;
 	private final WardenP3 wardenP3;
 
 	@Inject
-	public WardenP3SceneOverlay(final Client client, final ToaExtendedConfig config, final OverlayManager overlayManager,
-								final WardenP3 wardenP3)
+	public WardenP3SceneOverlay(final Client client, final TilePolygonCache tilePolygonCache, final ToaExtendedConfig config,
+								final RenderBudgetGovernor renderBudget, final OverlayManager overlayManager, final WardenP3 wardenP3)
 	{
 		this.client = client;
+		this.tilePolygonCache = tilePolygonCache;
+		this.renderBudget = renderBudget;
 		this.config = config;
 		this.overlayManager = overlayManager;
 		this.wardenP3 = wardenP3;
@@ -101,6 +108,8 @@ public class WardenP3SceneOverlay extends Overlay implements PluginLifecycleComp
 	@Override
 	public Dimension render(final Graphics2D graphics2D)
 	{
+		final long start = System.nanoTime();
+
 		if (config.wardenP3HealthCounter())
 		{
 			renderHealthCounter(graphics2D);
@@ -136,6 +145,10 @@ public class WardenP3SceneOverlay extends Overlay implements PluginLifecycleComp
 			renderRedLightningTiles(graphics2D);
 		}
 
+		hazardBatch.flush(graphics2D, renderBudget.isFillEnabled());
+
+		renderBudget.report(System.nanoTime() - start);
+
 		return null;
 	}
 
@@ -156,7 +169,7 @@ public class WardenP3SceneOverlay extends Overlay implements PluginLifecycleComp
 
 		final String text = Integer.toString(hp);
 
-		final Point point = warden.getCanvasTextLocation(graphics2D, text, 0);
+		final Point point = renderBudget.getCanvasTextLocation(warden, graphics2D, text, 0);
 		if (point == null)
 		{
 			return;
@@ -180,53 +193,42 @@ public class WardenP3SceneOverlay extends Overlay implements PluginLifecycleComp
 			return;
 		}
 
-		final Polygon polygon = Perspective.getCanvasTilePoly(client, localPoint);
+		final Polygon polygon = tilePolygonCache.getTilePoly(localPoint);
 		if (polygon == null)
 		{
 			return;
 		}
 
-		ToaUtils.drawOutlineAndFill(graphics2D, Color.GREEN,
-			new Color(0, 255, 0, 20), 1,
-			polygon);
+		hazardBatch.add(Color.GREEN, 20, 1, polygon);
 	}
 
 	private void renderEnergySiphonTickTimer(final Graphics2D graphics2D)
 	{
-		final Map<NPC, Integer> energySiphonToTicks = wardenP3.getEnergySiphonToTicks();
+		final TickTimer.Published<NPC> energySiphonTimer = wardenP3.getEnergySiphonTimer();
 
-		if (energySiphonToTicks.isEmpty())
+		if (energySiphonTimer.isEmpty())
 		{
 			return;
 		}
 
-		for (final Map.Entry<NPC, Integer> entry : energySiphonToTicks.entrySet())
+		energySiphonTimer.forEach((npc, ticks) ->
 		{
-			final int ticks = entry.getValue();
-
-			if (ticks < 0)
-			{
-				continue;
-			}
-
-			final NPC npc = entry.getKey();
-
 			if (npc.getId() != NpcID.ENERGY_SIPHON)
 			{
-				continue;
+				return;
 			}
 
 			final String text = Integer.toString(ticks);
 
-			final Point point = npc.getCanvasTextLocation(graphics2D, text, npc.getLogicalHeight() + 40);
+			final Point point = renderBudget.getCanvasTextLocation(npc, graphics2D, text, npc.getLogicalHeight() + 40);
 
 			if (point == null)
 			{
-				continue;
+				return;
 			}
 
 			OverlayUtil.renderTextLocation(graphics2D, point, text, ticks == 1 ? Color.RED : Color.WHITE);
-		}
+		});
 	}
 
 	private void renderEnergySiphonProjectileTile(final Graphics2D graphics2D)
@@ -240,15 +242,14 @@ public class WardenP3SceneOverlay extends Overlay implements PluginLifecycleComp
 
 		for (final Projectile projectile : energySiphonProjectiles)
 		{
-			final Polygon polygon = Perspective.getCanvasTilePoly(client, projectile.getTarget());
+			final Polygon polygon = tilePolygonCache.getTilePoly(projectile.getTarget());
 
 			if (polygon == null)
 			{
 				continue;
 			}
 
-			ToaUtils.drawOutlineAndFill(graphics2D, Color.MAGENTA, new Color(255, 0, 255, 20),
-				1, polygon);
+			hazardBatch.add(Color.MAGENTA, 20, 1, polygon);
 		}
 	}
 
@@ -269,84 +270,71 @@ public class WardenP3SceneOverlay extends Overlay implements PluginLifecycleComp
 			final LocalPoint localPoint = projectile.getTarget();
 
 			final Polygon polygon = config.wardenKephriFireballTile() == ToaExtendedConfig.FireballRadius.AERIAL ?
-				Perspective.getCanvasTileAreaPoly(client, localPoint, 3) :
-				Perspective.getCanvasTilePoly(client, localPoint);
+				tilePolygonCache.getTileAreaPoly(localPoint, 3) :
+				tilePolygonCache.getTilePoly(localPoint);
 
 			if (polygon == null)
 			{
 				return;
 			}
 
-			ToaUtils.drawOutlineAndFill(graphics2D, color, new Color(color.getRed(), color.getGreen(), color.getBlue(), 20),
-				1, polygon);
+			hazardBatch.add(color, 20, 1, polygon);
 		}
 	}
 
 	private void renderBabaFallingBoulderTile(final Graphics2D graphics2D)
 	{
-		final Map<GraphicsObject, Integer> fallingBoulders = wardenP3.getFallingBouldersToTicks();
+		final TickTimer.Published<GraphicsObject> fallingBoulders = wardenP3.getFallingBoulderTimer();
 
 		if (fallingBoulders.isEmpty())
 		{
 			return;
 		}
 
-		for (final Map.Entry<GraphicsObject, Integer> entry : fallingBoulders.entrySet())
+		fallingBoulders.forEach((graphicsObject, ticks) ->
 		{
-			final int ticks = entry.getValue();
-
 			final Color color = ticks <= 2 ? Color.RED : Color.ORANGE;
 
-			final LocalPoint localPoint = entry.getKey().getLocation();
+			final LocalPoint localPoint = graphicsObject.getLocation();
 
 			if (localPoint == null)
 			{
-				continue;
+				return;
 			}
 
-			final Polygon polygon = Perspective.getCanvasTilePoly(client, localPoint);
+			final Polygon polygon = tilePolygonCache.getTilePoly(localPoint);
 
 			if (polygon == null)
 			{
-				continue;
+				return;
 			}
 
-			ToaUtils.drawOutlineAndFill(
-				graphics2D,
-				color,
-				new Color(color.getRed(), color.getGreen(), color.getBlue(), 20),
-				1,
-				polygon
-			);
-		}
+			hazardBatch.add(color, 20, 1, polygon);
+		});
 	}
 
 	private void renderRedLightningTiles(final Graphics2D graphics2D)
 	{
-		final Map<GraphicsObject, Integer> redLightning = wardenP3.getRedLightningToTicks();
+		final TickTimer.Published<GraphicsObject> redLightning = wardenP3.getRedLightningTimer();
 
 		if (redLightning.isEmpty())
 		{
 			return;
 		}
 
-		for (final Map.Entry<GraphicsObject, Integer> entry : redLightning.entrySet())
+		redLightning.forEach((graphicsObject, ticks) ->
 		{
-			final int ticks = entry.getValue();
-
 			final Color color = ticks <= 1 ? Color.RED : ticks == 2 ? new Color(255, 77, 0) : Color.YELLOW;
 
-			final Polygon polygon = Perspective.getCanvasTilePoly(client, entry.getKey().getLocation());
+			final Polygon polygon = tilePolygonCache.getTilePoly(graphicsObject.getLocation());
 
 			if (polygon == null)
 			{
-				continue;
+				return;
 			}
 
-			ToaUtils.drawOutlineAndFill(graphics2D, color,
-				new Color(color.getRed(), color.getGreen(), color.getBlue(), 20),
-				1, polygon);
-		}
+			hazardBatch.add(color, 20, 1, polygon);
+		});
 	}
 
 }
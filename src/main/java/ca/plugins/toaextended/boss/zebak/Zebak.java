@@ -31,17 +31,20 @@
 package ca.plugins.toaextended.boss.zebak;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
-import ca.plugins.toaextended.boss.AttackProjectile;
+import ca.plugins.toaextended.boss.PrayerTimeline;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
 import ca.plugins.toaextended.nexus.PathLevelTracker;
+import ca.plugins.toaextended.util.BossHealthTracker;
+import ca.plugins.toaextended.util.ProjectileTracker;
+import ca.plugins.toaextended.util.PublishedList;
 import ca.plugins.toaextended.util.RaidRoom;
 import ca.plugins.toaextended.util.RaidState;
+import ca.plugins.toaextended.util.RenderableHider;
 import ca.plugins.toaextended.util.ToaUtils;
+import com.google.common.collect.ImmutableSet;
 import java.awt.Color;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Queue;
+import java.util.Set;
 import java.util.function.Function;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -55,18 +58,10 @@ import net.runelite.api.NPC;
 import net.runelite.api.NpcID;
 import net.runelite.api.Prayer;
 import net.runelite.api.Projectile;
-import net.runelite.api.Renderable;
-import net.runelite.api.ScriptID;
-import net.runelite.api.Varbits;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.events.GraphicsObjectCreated;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
-import net.runelite.api.events.ProjectileMoved;
-import net.runelite.api.events.ScriptPostFired;
-import net.runelite.client.callback.ClientThread;
-import net.runelite.client.callback.Hooks;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.npcoverlay.HighlightedNpc;
@@ -88,41 +83,41 @@ public class Zebak implements PluginLifecycleComponent
 	private static final int PROJECTILE_ID_MAGIC_ROCK_ENRAGED = 2177;
 	private static final int PROJECTILE_ID_RANGE_ROCK = 2178;
 	private static final int PROJECTILE_ID_RANGE_ROCK_ENRAGED = 2179;
+	private static final Set<Integer> PROJECTILE_IDS = ImmutableSet.of(
+		PROJECTILE_ID_VENOM,
+		PROJECTILE_ID_VENOM_SPLASH,
+		PROJECTILE_ID_ROCK,
+		PROJECTILE_ID_JUG,
+		PROJECTILE_ID_MAGIC_ROCK,
+		PROJECTILE_ID_MAGIC_ROCK_ENRAGED,
+		PROJECTILE_ID_RANGE_ROCK,
+		PROJECTILE_ID_RANGE_ROCK_ENRAGED
+	);
 
 	private static final int GRAPHICS_OBJECT_ID_BLOOD_MAGIC = 377;
 	private static final int BLOOD_MAGIC_TICK_COUNT = 4;
 
-	private final EventBus eventBus;
 	private final Client client;
-	private final ClientThread clientThread;
-	private final Hooks hooks;
+	private final RenderableHider renderableHider;
+	private final ProjectileTracker projectileTracker;
+	private final BossHealthTracker bossHealthTracker;
 	private final ToaExtendedConfig config;
 	private final NpcOverlayService npcOverlayService;
 	private final PathLevelTracker pathLevelTracker;
 
-	private final Hooks.RenderableDrawListener drawListener = this::shouldDraw;
+	private final RenderableHider.HideRules hideRules = this::addHideRules;
 	private final Function<NPC, HighlightedNpc> npcHighlighter = this::npcHighlight;
 
 	@Getter(AccessLevel.PACKAGE)
-	private final Queue<AttackProjectile> attackProjectiles = new PriorityQueue<>();
+	private final PrayerTimeline prayerTimeline = new PrayerTimeline();
 
-	@Getter(AccessLevel.PACKAGE)
-	private final List<Projectile> arenaProjectiles = new ArrayList<>();
-	@Getter(AccessLevel.PACKAGE)
-	private final List<GraphicsObject> bloodMagicGfxObjects = new ArrayList<>();
+	private final PublishedList<Projectile> arenaProjectiles = new PublishedList<>();
+	private final PublishedList<GraphicsObject> bloodMagicGfxObjects = new PublishedList<>();
 
 	@Nullable
 	@Getter(AccessLevel.PACKAGE)
 	private NPC npc;
 
-	@Getter(AccessLevel.PACKAGE)
-	private long lastTickTime;
-
-	@Nullable
-	private int[] hpBreakpoints;
-	@Getter(AccessLevel.PACKAGE)
-	private int hpUntilNextBreakPoint = -1;
-
 	@Override
 	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
 	{
@@ -132,37 +127,30 @@ public class Zebak implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
-		hooks.registerRenderableDrawListener(drawListener);
+		bossHealthTracker.register(this, HP_PERCENT_BREAKPOINTS);
+		renderableHider.register(hideRules);
+		projectileTracker.register(this, PROJECTILE_IDS, this::onProjectileSpawned,
+			arenaProjectiles::removeAndPublish);
 		npcOverlayService.registerHighlighter(npcHighlighter);
-		clientThread.invoke(() ->
-		{
-			for (final NPC npc : client.getNpcs())
-			{
-				onNpcSpawned(new NpcSpawned(npc));
-			}
-		});
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
-		hooks.unregisterRenderableDrawListener(drawListener);
+		bossHealthTracker.unregister(this);
+		renderableHider.unregister(hideRules);
+		projectileTracker.unregister(this);
 		npcOverlayService.unregisterHighlighter(npcHighlighter);
 		reset();
 	}
 
 	private void reset()
 	{
-		attackProjectiles.clear();
+		prayerTimeline.clear();
 		arenaProjectiles.clear();
 		bloodMagicGfxObjects.clear();
 
 		npc = null;
-		lastTickTime = 0L;
-		hpBreakpoints = null;
-		hpUntilNextBreakPoint = -1;
 	}
 
 	@Subscribe
@@ -185,22 +173,11 @@ public class Zebak implements PluginLifecycleComponent
 	@Subscribe
 	private void onGameTick(final GameTick event)
 	{
-		lastTickTime = System.currentTimeMillis();
-
-		if (!attackProjectiles.isEmpty())
-		{
-			attackProjectiles.forEach(AttackProjectile::decrementTicks);
-			attackProjectiles.removeIf(AttackProjectile::isExpired);
-		}
+		prayerTimeline.advance();
 
-		if (!bloodMagicGfxObjects.isEmpty())
+		if (!bloodMagicGfxObjects.isEmpty() && bloodMagicGfxObjects.removeIf(GraphicsObject::finished))
 		{
-			bloodMagicGfxObjects.removeIf(GraphicsObject::finished);
-		}
-
-		if (!arenaProjectiles.isEmpty())
-		{
-			arenaProjectiles.removeIf(p -> p.getRemainingCycles() <= 0);
+			bloodMagicGfxObjects.publish();
 		}
 	}
 
@@ -224,33 +201,25 @@ public class Zebak implements PluginLifecycleComponent
 		}
 	}
 
-	@Subscribe
-	private void onProjectileMoved(final ProjectileMoved event)
+	private void onProjectileSpawned(final Projectile projectile)
 	{
-		final Projectile projectile = event.getProjectile();
-
-		if (projectile.getRemainingCycles() <= 0)
-		{
-			return;
-		}
-
 		switch (projectile.getId())
 		{
 			case PROJECTILE_ID_MAGIC_ROCK:
 			case PROJECTILE_ID_MAGIC_ROCK_ENRAGED:
-				attackProjectiles.add(new AttackProjectile(Prayer.PROTECT_FROM_MAGIC,
-					ToaUtils.cyclesToTicks(projectile.getRemainingCycles()) + getProjectileTickCount()));
+				prayerTimeline.add(Prayer.PROTECT_FROM_MAGIC,
+					ToaUtils.cyclesToTicks(projectile.getRemainingCycles()) + getProjectileTickCount());
 				break;
 			case PROJECTILE_ID_RANGE_ROCK:
 			case PROJECTILE_ID_RANGE_ROCK_ENRAGED:
-				attackProjectiles.add(new AttackProjectile(Prayer.PROTECT_FROM_MISSILES,
-					ToaUtils.cyclesToTicks(projectile.getRemainingCycles()) + getProjectileTickCount()));
+				prayerTimeline.add(Prayer.PROTECT_FROM_MISSILES,
+					ToaUtils.cyclesToTicks(projectile.getRemainingCycles()) + getProjectileTickCount());
 				break;
 			case PROJECTILE_ID_JUG:
 			case PROJECTILE_ID_ROCK:
 			case PROJECTILE_ID_VENOM:
 			case PROJECTILE_ID_VENOM_SPLASH:
-				arenaProjectiles.add(projectile);
+				arenaProjectiles.addAndPublish(projectile);
 				break;
 			default:
 				break;
@@ -269,59 +238,33 @@ public class Zebak implements PluginLifecycleComponent
 
 		if (bloodMagicGfxObjects.isEmpty())
 		{
-			attackProjectiles.add(new AttackProjectile(Prayer.PROTECT_FROM_MAGIC, BLOOD_MAGIC_TICK_COUNT, 1));
+			prayerTimeline.add(Prayer.PROTECT_FROM_MAGIC, BLOOD_MAGIC_TICK_COUNT, 1);
 		}
 
-		bloodMagicGfxObjects.add(graphicsObject);
+		bloodMagicGfxObjects.addAndPublish(graphicsObject);
 	}
 
-	@Subscribe
-	private void onScriptPostFired(final ScriptPostFired event)
+	int getHpUntilNextBreakPoint()
 	{
-		if (event.getScriptId() != ScriptID.HP_HUD_UPDATE)
-		{
-			return;
-		}
-
-		if (hpBreakpoints == null)
-		{
-			final int maxHp = client.getVarbitValue(Varbits.BOSS_HEALTH_MAXIMUM);
-
-			if (maxHp <= 1)
-			{
-				return;
-			}
-
-			hpBreakpoints = new int[HP_PERCENT_BREAKPOINTS.length];
-
-			for (int i = 0; i < HP_PERCENT_BREAKPOINTS.length; i++)
-			{
-				hpBreakpoints[i] = (int) (HP_PERCENT_BREAKPOINTS[i] * maxHp);
-			}
-		}
+		return bossHealthTracker.getHpUntilNextBreakPoint(this);
+	}
 
-		final int currentHp = client.getVarbitValue(Varbits.BOSS_HEALTH_CURRENT);
-		if (currentHp <= 0)
-		{
-			return;
-		}
+	List<Projectile> getArenaProjectiles()
+	{
+		return arenaProjectiles.getPublished();
+	}
 
-		hpUntilNextBreakPoint = ToaUtils.getHpUntilNextBreakPoint(hpBreakpoints, currentHp);
+	List<GraphicsObject> getBloodMagicGfxObjects()
+	{
+		return bloodMagicGfxObjects.getPublished();
 	}
 
-	private boolean shouldDraw(final Renderable renderable, final boolean drawingUI)
+	private void addHideRules(final RenderableHider.Builder builder)
 	{
-		if (renderable instanceof NPC)
+		if (config.zebakHideWaves())
 		{
-			final int id = ((NPC) renderable).getId();
-
-			if (id == NpcID.WAVE)
-			{
-				return !config.zebakHideWaves();
-			}
+			builder.npc(NpcID.WAVE);
 		}
-
-		return true;
 	}
 
 	private HighlightedNpc npcHighlight(final NPC npc)
@@ -31,11 +31,9 @@
 package ca.plugins.toaextended.boss.zebak;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
-import ca.plugins.toaextended.boss.AttackProjectile;
 import ca.plugins.toaextended.boss.PrayerInfoboxOverlay;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
 import ca.plugins.toaextended.util.RaidState;
-import java.util.Queue;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Client;
@@ -66,8 +64,7 @@ public class ZebakPrayerInfoboxOverlay extends PrayerInfoboxOverlay implements P
 	@Override
 	protected Prayer getNextPrayer()
 	{
-		final Queue<AttackProjectile> queue = zebak.getAttackProjectiles();
-		return queue.isEmpty() ? null : queue.peek().getPrayer();
+		return zebak.getPrayerTimeline().getNextPrayer();
 	}
 
 	@Override
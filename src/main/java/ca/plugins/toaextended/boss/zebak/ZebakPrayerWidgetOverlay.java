@@ -31,11 +31,11 @@
 package ca.plugins.toaextended.boss.zebak;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
-import ca.plugins.toaextended.boss.AttackProjectile;
+import ca.plugins.toaextended.boss.PrayerTimeline;
 import ca.plugins.toaextended.boss.PrayerWidgetOverlay;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
 import ca.plugins.toaextended.util.RaidState;
-import java.util.Queue;
+import ca.plugins.toaextended.util.TickClock;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -55,9 +55,10 @@ public class ZebakPrayerWidgetOverlay extends PrayerWidgetOverlay implements Plu
 		final Client client,
 		final OverlayManager overlayManager,
 		final ToaExtendedConfig config,
+		final TickClock tickClock,
 		final Zebak zebak)
 	{
-		super(client, config);
+		super(client, config, tickClock);
 		this.overlayManager = overlayManager;
 		this.zebak = zebak;
 	}
@@ -81,22 +82,15 @@ public class ZebakPrayerWidgetOverlay extends PrayerWidgetOverlay implements Plu
 	}
 
 	@Override
-	protected Queue<AttackProjectile> getAttackProjectileQueue()
+	protected PrayerTimeline getPrayerTimeline()
 	{
-		return zebak.getAttackProjectiles();
+		return zebak.getPrayerTimeline();
 	}
 
 	@Override
 	protected @Nullable Prayer getNextPrayer()
 	{
-		final Queue<AttackProjectile> queue = zebak.getAttackProjectiles();
-		return queue.isEmpty() ? null : queue.peek().getPrayer();
-	}
-
-	@Override
-	protected long getLastTickTime()
-	{
-		return zebak.getLastTickTime();
+		return zebak.getPrayerTimeline().getNextPrayer();
 	}
 
 	@Override
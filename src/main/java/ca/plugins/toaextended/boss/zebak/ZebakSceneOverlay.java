@@ -32,7 +32,11 @@ package ca.plugins.toaextended.boss.zebak;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.HazardRenderBatch;
+import ca.plugins.toaextended.util.ModelOutlineLod;
 import ca.plugins.toaextended.util.RaidState;
+import ca.plugins.toaextended.util.RenderBudgetGovernor;
+import ca.plugins.toaextended.util.TilePolygonCache;
 import ca.plugins.toaextended.util.ToaUtils;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -45,7 +49,6 @@ import net.runelite.api.Client;
 import net.runelite.api.GraphicsObject;
 import net.runelite.api.NPC;
 import net.runelite.api.NpcID;
-import net.runelite.api.Perspective;
 import net.runelite.api.Point;
 import net.runelite.api.Projectile;
 import net.runelite.client.ui.overlay.Overlay;
@@ -60,21 +63,27 @@ public class ZebakSceneOverlay extends Overlay implements PluginLifecycleCompone
 {
 
 	private final Client client;
+	private final TilePolygonCache tilePolygonCache;
+	private final HazardRenderBatch hazardBatch = new HazardRenderBatch();
+	private final RenderBudgetGovernor renderBudget;
 	private final ToaExtendedConfig config;
 	private final OverlayManager overlayManager;
-	private final ModelOutlineRenderer modelOutlineRenderer;
+	private final ModelOutlineLod outlineLod;
 	private final Zebak zebak;
 
 	@Inject
 	public ZebakSceneOverlay(
-		final Client client, final ToaExtendedConfig config, final OverlayManager overlayManager,
+		final Client client, final TilePolygonCache tilePolygonCache, final ToaExtendedConfig config,
+		final RenderBudgetGovernor renderBudget, final OverlayManager overlayManager,
 		final ModelOutlineRenderer modelOutlineRenderer,
 		final Zebak zebak)
 	{
 		this.client = client;
+		this.tilePolygonCache = tilePolygonCache;
+		this.renderBudget = renderBudget;
 		this.config = config;
 		this.overlayManager = overlayManager;
-		this.modelOutlineRenderer = modelOutlineRenderer;
+		this.outlineLod = new ModelOutlineLod(modelOutlineRenderer, config, tilePolygonCache);
 		this.zebak = zebak;
 
 		setPriority(OverlayPriority.HIGHEST);
@@ -103,14 +112,16 @@ public class ZebakSceneOverlay extends Overlay implements PluginLifecycleCompone
 	@Override
 	public Dimension render(final Graphics2D graphics2D)
 	{
+		final long start = System.nanoTime();
+
 		if (config.zebakHealthCounter())
 		{
 			renderHealthCounter(graphics2D);
 		}
 
-		if (config.zebakBloodMagicOutline())
+		if (config.zebakBloodMagicOutline() && renderBudget.isOutlineEnabled())
 		{
-			renderBloodMagic();
+			renderBloodMagic(graphics2D);
 		}
 
 		if (config.zebakProjectileTiles())
@@ -118,6 +129,10 @@ public class ZebakSceneOverlay extends Overlay implements PluginLifecycleCompone
 			renderProjectileTiles(graphics2D);
 		}
 
+		hazardBatch.flush(graphics2D, renderBudget.isFillEnabled());
+
+		renderBudget.report(System.nanoTime() - start);
+
 		return null;
 	}
 
@@ -139,7 +154,7 @@ public class ZebakSceneOverlay extends Overlay implements PluginLifecycleCompone
 
 		final String text = Integer.toString(hp);
 
-		final Point point = npc.getCanvasTextLocation(graphics2D, text, 0);
+		final Point point = renderBudget.getCanvasTextLocation(npc, graphics2D, text, 0);
 
 		if (point == null)
 		{
@@ -150,7 +165,7 @@ public class ZebakSceneOverlay extends Overlay implements PluginLifecycleCompone
 			config.fontStyle().getFont(), true);
 	}
 
-	private void renderBloodMagic()
+	private void renderBloodMagic(final Graphics2D graphics2D)
 	{
 		final List<GraphicsObject> bloodMagicGfxObjects = zebak.getBloodMagicGfxObjects();
 
@@ -159,10 +174,14 @@ public class ZebakSceneOverlay extends Overlay implements PluginLifecycleCompone
 			return;
 		}
 
+		outlineLod.begin(bloodMagicGfxObjects.size());
+
 		for (final GraphicsObject bloodMagic : bloodMagicGfxObjects)
 		{
-			modelOutlineRenderer.drawOutline(bloodMagic, 2, config.dangerOutlineColor(), 4);
+			outlineLod.drawOutline(bloodMagic, 2, config.dangerOutlineColor(), 4);
 		}
+
+		outlineLod.end(graphics2D);
 	}
 
 	private void renderProjectileTiles(final Graphics2D graphics2D)
@@ -176,15 +195,14 @@ public class ZebakSceneOverlay extends Overlay implements PluginLifecycleCompone
 
 		for (final Projectile projectile : arenaProjectiles)
 		{
-			final Polygon polygon = Perspective.getCanvasTilePoly(client, projectile.getTarget());
+			final Polygon polygon = tilePolygonCache.getTilePoly(projectile.getTarget());
 
 			if (polygon == null)
 			{
 				continue;
 			}
 
-			ToaUtils.drawOutlineAndFill(graphics2D, config.dangerOutlineColor(), config.dangerFillColor(),
-				1, polygon);
+			hazardBatch.add(config.dangerOutlineColor(), config.dangerFillColor(), 1, polygon);
 		}
 	}
 
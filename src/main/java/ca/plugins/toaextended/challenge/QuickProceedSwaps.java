@@ -33,6 +33,7 @@ package ca.plugins.toaextended.challenge;
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.ToaExtendedConfig.QuickProceed;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.MenuRuleEngine;
 import ca.plugins.toaextended.util.RaidRoom;
 import ca.plugins.toaextended.util.RaidState;
 import ca.plugins.toaextended.util.RaidStateTracker;
@@ -41,12 +42,10 @@ import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.RequiredArgsConstructor;
+import net.runelite.api.MenuAction;
 import net.runelite.api.MenuEntry;
 import net.runelite.api.NpcID;
 import net.runelite.api.ObjectID;
-import net.runelite.api.events.MenuEntryAdded;
-import net.runelite.client.eventbus.EventBus;
-import net.runelite.client.eventbus.Subscribe;
 
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = @Inject)
@@ -75,9 +74,9 @@ public class QuickProceedSwaps implements PluginLifecycleComponent
 		ObjectID.ENTRY_46168 // wardens
 	);
 
-	private final EventBus eventBus;
 	private final ToaExtendedConfig config;
 	private final RaidStateTracker raidStateTracker;
+	private final MenuRuleEngine menuRuleEngine;
 
 	@Override
 	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
@@ -88,50 +87,36 @@ public class QuickProceedSwaps implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
+		menuRuleEngine.deprioritize(this, "Talk-to", NPC_IDS, e -> e.getType() == MenuAction.NPC_FIRST_OPTION);
+		menuRuleEngine.deprioritize(this, "Enter", OBJECT_IDS, QuickProceedSwaps::isFirstObjectOption);
+		menuRuleEngine.deprioritize(this, "Use", OBJECT_IDS, QuickProceedSwaps::isFirstObjectOption);
+		menuRuleEngine.deprioritize(this, "Pass", OBJECT_IDS, this::shouldDeprioritizePass);
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
+		menuRuleEngine.unregister(this);
 	}
 
-	@Subscribe
-	public void onMenuEntryAdded(final MenuEntryAdded event)
+	private boolean shouldDeprioritizePass(final MenuEntry menuEntry)
 	{
-		final MenuEntry menuEntry = event.getMenuEntry();
-
-		if (shouldDeprioritize(menuEntry))
+		if (!isFirstObjectOption(menuEntry))
 		{
-			menuEntry.setDeprioritized(true);
+			return false;
 		}
-	}
 
-	private boolean shouldDeprioritize(final MenuEntry menuEntry)
-	{
-		final String option = menuEntry.getOption();
-
-		switch (menuEntry.getType())
+		if (menuEntry.getIdentifier() == ObjectID.BARRIER_45135 &&
+			raidStateTracker.getCurrentRoom() == RaidRoom.CRONDIS)
 		{
-			case NPC_FIRST_OPTION:
-				return menuEntry.getNpc() != null &&
-					NPC_IDS.contains(menuEntry.getNpc().getId()) && option.equals("Talk-to");
-
-			case GAME_OBJECT_FIRST_OPTION:
-				final int id = menuEntry.getIdentifier();
+			return config.quickProceedSwaps() != QuickProceed.SPEEDRUN;
+		}
 
-				if (id == ObjectID.BARRIER_45135 &&
-					raidStateTracker.getCurrentRoom() == RaidRoom.CRONDIS &&
-					option.equals("Pass"))
-				{
-					return config.quickProceedSwaps() != QuickProceed.SPEEDRUN;
-				}
+		return true;
+	}
 
-				return OBJECT_IDS.contains(id) &&
-					(option.equals("Enter") || option.equals("Use") || option.equals("Pass"));
-			default:
-				return false;
-		}
+	private static boolean isFirstObjectOption(final MenuEntry menuEntry)
+	{
+		return menuEntry.getType() == MenuAction.GAME_OBJECT_FIRST_OPTION;
 	}
 }
@@ -32,37 +32,35 @@ package ca.plugins.toaextended.challenge.apmeken;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.ChatMessageRouter;
+import ca.plugins.toaextended.util.MenuRuleEngine;
+import ca.plugins.toaextended.util.NpcRegistry;
+import ca.plugins.toaextended.util.PublishedList;
 import ca.plugins.toaextended.util.RaidRoom;
 import ca.plugins.toaextended.util.RaidState;
-import java.util.ArrayList;
+import com.google.common.collect.ImmutableSet;
 import java.util.List;
+import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import net.runelite.api.Actor;
-import net.runelite.api.ChatMessageType;
 import net.runelite.api.GameObject;
 import net.runelite.api.GroundObject;
-import net.runelite.api.MenuEntry;
 import net.runelite.api.NPC;
 import net.runelite.api.NpcID;
 import net.runelite.api.NullObjectID;
 import net.runelite.api.ObjectID;
 import net.runelite.api.TileObject;
 import net.runelite.api.events.ActorDeath;
-import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameObjectDespawned;
 import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameTick;
 import net.runelite.api.events.GroundObjectDespawned;
 import net.runelite.api.events.GroundObjectSpawned;
-import net.runelite.api.events.MenuEntryAdded;
-import net.runelite.api.events.NpcDespawned;
-import net.runelite.api.events.NpcSpawned;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
-import net.runelite.client.util.Text;
 
 @Singleton
 @RequiredArgsConstructor(onConstructor_ = @Inject)
@@ -75,21 +73,34 @@ public class Apmeken implements PluginLifecycleComponent
 	private static final String MESSAGE_FIX_FUMES = "you neutralise the fumes coming from the hole.";
 	private static final String MESSAGE_FAIL_ROOF_SUPPORTS = "damaged roof supports cause some debris to fall on you!";
 	private static final String MESSAGE_FAIL_FUMES = "the fumes filling the room suddenly ignite!";
+	private static final String MESSAGE_CHALLENGE_COMPLETE = "challenge complete";
+	private static final String MESSAGE_DIED = "you have died";
+
+	private static final Set<Integer> BABOON_IDS = ImmutableSet.of(
+		NpcID.VOLATILE_BABOON,
+		NpcID.BABOON_BRAWLER,
+		NpcID.BABOON_BRAWLER_11712,
+		NpcID.BABOON_MAGE,
+		NpcID.BABOON_MAGE_11714,
+		NpcID.BABOON_THROWER,
+		NpcID.BABOON_THROWER_11713,
+		NpcID.BABOON_SHAMAN,
+		NpcID.CURSED_BABOON,
+		NpcID.BABOON_THRALL
+	);
 
-	private final EventBus eventBus;
 	private final ToaExtendedConfig config;
+	private final NpcRegistry npcRegistry;
+	private final ChatMessageRouter chatMessageRouter;
+	private final MenuRuleEngine menuRuleEngine;
 
-	@Getter(AccessLevel.PACKAGE)
-	private final List<NPC> volatileBaboons = new ArrayList<>();
+	private final PublishedList<NPC> volatileBaboons = new PublishedList<>();
 
-	@Getter(AccessLevel.PACKAGE)
-	private final List<NPC> baboons = new ArrayList<>();
+	private final PublishedList<NPC> baboons = new PublishedList<>();
 
-	@Getter(AccessLevel.PACKAGE)
-	private final List<TileObject> roofs = new ArrayList<>();
+	private final PublishedList<TileObject> roofs = new PublishedList<>();
 
-	@Getter(AccessLevel.PACKAGE)
-	private final List<TileObject> vents = new ArrayList<>();
+	private final PublishedList<TileObject> vents = new PublishedList<>();
 
 	@Getter(AccessLevel.PACKAGE)
 	private GameObject statue;
@@ -106,13 +117,25 @@ public class Apmeken implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
+		chatMessageRouter.registerPrefix(this, MESSAGE_CHALLENGE_COMPLETE, this::resetSense);
+		chatMessageRouter.registerPrefix(this, MESSAGE_DIED, this::resetSense);
+		chatMessageRouter.registerExact(this, MESSAGE_FIX_ROOF_SUPPORTS, this::resetSense);
+		chatMessageRouter.registerExact(this, MESSAGE_FIX_FUMES, this::resetSense);
+		chatMessageRouter.registerExact(this, MESSAGE_FAIL_ROOF_SUPPORTS, this::resetSense);
+		chatMessageRouter.registerExact(this, MESSAGE_FAIL_FUMES, this::resetSense);
+		chatMessageRouter.registerExact(this, MESSAGE_SENSE_FUMES, match -> sense = ApmekenSense.VENTS);
+		chatMessageRouter.registerExact(this, MESSAGE_SENSE_ROOF_SUPPORTS, match -> sense = ApmekenSense.ROOF);
+		menuRuleEngine.deprioritize(this, "Repair", null,
+			menuEntry -> config.apmekenRepairMenuEntry() && sense != ApmekenSense.ROOF);
+		npcRegistry.register(this, BABOON_IDS, this::addBaboon, this::removeBaboon);
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
+		npcRegistry.unregister(this);
+		chatMessageRouter.unregister(this);
+		menuRuleEngine.unregister(this);
 		reset();
 	}
 
@@ -126,37 +149,33 @@ public class Apmeken implements PluginLifecycleComponent
 		statue = null;
 	}
 
-	@Subscribe
-	public void onNpcSpawned(final NpcSpawned event)
+	List<NPC> getVolatileBaboons()
 	{
-		final NPC npc = event.getNpc();
+		return volatileBaboons.getPublished();
+	}
 
-		final int id = npc.getId();
+	List<NPC> getBaboons()
+	{
+		return baboons.getPublished();
+	}
 
-		switch (id)
-		{
-			case NpcID.VOLATILE_BABOON:
-				volatileBaboons.add(npc);
-			case NpcID.BABOON_BRAWLER:
-			case NpcID.BABOON_BRAWLER_11712:
-			case NpcID.BABOON_MAGE:
-			case NpcID.BABOON_MAGE_11714:
-			case NpcID.BABOON_THROWER:
-			case NpcID.BABOON_THROWER_11713:
-			case NpcID.BABOON_SHAMAN:
-			case NpcID.CURSED_BABOON:
-			case NpcID.BABOON_THRALL:
-				baboons.add(npc);
-				break;
-			default:
-				break;
-		}
+	List<TileObject> getRoofs()
+	{
+		return roofs.getPublished();
+	}
+
+	List<TileObject> getVents()
+	{
+		return vents.getPublished();
 	}
 
 	@Subscribe
-	public void onNpcDespawned(final NpcDespawned event)
+	public void onGameTick(final GameTick event)
 	{
-		removeNpc(event.getNpc());
+		volatileBaboons.publish();
+		baboons.publish();
+		roofs.publish();
+		vents.publish();
 	}
 
 	@Subscribe
@@ -164,12 +183,31 @@ public class Apmeken implements PluginLifecycleComponent
 	{
 		final Actor actor = event.getActor();
 
-		if (!(actor instanceof NPC))
+		if (actor instanceof NPC)
+		{
+			removeBaboon((NPC) actor);
+		}
+	}
+
+	private void addBaboon(final NPC npc)
+	{
+		if (npc.isDead())
 		{
 			return;
 		}
 
-		removeNpc((NPC) actor);
+		if (npc.getId() == NpcID.VOLATILE_BABOON)
+		{
+			volatileBaboons.add(npc);
+		}
+
+		baboons.add(npc);
+	}
+
+	private void removeBaboon(final NPC npc)
+	{
+		volatileBaboons.remove(npc);
+		baboons.remove(npc);
 	}
 
 	@Subscribe
@@ -228,81 +266,9 @@ public class Apmeken implements PluginLifecycleComponent
 		}
 	}
 
-	@Subscribe
-	public void onChatMessage(final ChatMessage event)
+	private void resetSense(final ChatMessageRouter.Match match)
 	{
-		if (event.getType() != ChatMessageType.GAMEMESSAGE)
-		{
-			return;
-		}
-
-		final String message = Text.standardize(event.getMessage());
-
-		if (message.startsWith("challenge complete") || message.startsWith("you have died"))
-		{
-			sense = ApmekenSense.NONE;
-			return;
-		}
-
-		switch (message)
-		{
-			case MESSAGE_FIX_ROOF_SUPPORTS:
-			case MESSAGE_FIX_FUMES:
-			case MESSAGE_FAIL_ROOF_SUPPORTS:
-			case MESSAGE_FAIL_FUMES:
-				sense = ApmekenSense.NONE;
-				break;
-			case MESSAGE_SENSE_FUMES:
-				sense = ApmekenSense.VENTS;
-				break;
-			case MESSAGE_SENSE_ROOF_SUPPORTS:
-				sense = ApmekenSense.ROOF;
-				break;
-			default:
-				break;
-		}
-	}
-
-	@Subscribe
-	public void onMenuEntryAdded(final MenuEntryAdded event)
-	{
-		if (!config.apmekenRepairMenuEntry() || sense == ApmekenSense.ROOF)
-		{
-			return;
-		}
-
-		final MenuEntry menuEntry = event.getMenuEntry();
-
-		if (!menuEntry.getOption().equals("Repair"))
-		{
-			return;
-		}
-
-		menuEntry.setDeprioritized(true);
-	}
-
-	private void removeNpc(final NPC npc)
-	{
-		final int id = npc.getId();
-
-		switch (id)
-		{
-			case NpcID.VOLATILE_BABOON:
-				volatileBaboons.remove(npc);
-			case NpcID.BABOON_BRAWLER:
-			case NpcID.BABOON_BRAWLER_11712:
-			case NpcID.BABOON_MAGE:
-			case NpcID.BABOON_MAGE_11714:
-			case NpcID.BABOON_THROWER:
-			case NpcID.BABOON_THROWER_11713:
-			case NpcID.BABOON_SHAMAN:
-			case NpcID.CURSED_BABOON:
-			case NpcID.BABOON_THRALL:
-				baboons.remove(npc);
-				break;
-			default:
-				break;
-		}
+		sense = ApmekenSense.NONE;
 	}
 
 	enum ApmekenSense
@@ -32,8 +32,11 @@ package ca.plugins.toaextended.challenge.apmeken;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.HazardRenderBatch;
+import ca.plugins.toaextended.util.ModelOutlineLod;
 import ca.plugins.toaextended.util.RaidState;
-import ca.plugins.toaextended.util.ToaUtils;
+import ca.plugins.toaextended.util.RenderBudgetGovernor;
+import ca.plugins.toaextended.util.TilePolygonCache;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
@@ -45,7 +48,6 @@ import net.runelite.api.Client;
 import net.runelite.api.GameObject;
 import net.runelite.api.NPC;
 import net.runelite.api.NpcID;
-import net.runelite.api.Perspective;
 import net.runelite.api.TileObject;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.client.ui.overlay.Overlay;
@@ -62,17 +64,22 @@ public class ApmekenOverlay extends Overlay implements PluginLifecycleComponent
 	private static final int AREA_SIZE_3X3 = 3;
 
 	private final OverlayManager overlayManager;
-	private final ModelOutlineRenderer modelOutlineRenderer;
+	private final ModelOutlineLod outlineLod;
 	private final Client client;
+	private final TilePolygonCache tilePolygonCache;
+	private final HazardRenderBatch hazardBatch = new HazardRenderBatch();
+	private final RenderBudgetGovernor renderBudget;
 	private final ToaExtendedConfig config;
 	private final Apmeken apmeken;
 
 	@Inject
-	public ApmekenOverlay(final OverlayManager overlayManager, final ModelOutlineRenderer modelOutlineRenderer, final Client client, final ToaExtendedConfig config, final Apmeken apmeken)
+	public ApmekenOverlay(final OverlayManager overlayManager, final ModelOutlineRenderer modelOutlineRenderer, final Client client, final TilePolygonCache tilePolygonCache, final RenderBudgetGovernor renderBudget, final ToaExtendedConfig config, final Apmeken apmeken)
 	{
 		this.overlayManager = overlayManager;
-		this.modelOutlineRenderer = modelOutlineRenderer;
+		this.outlineLod = new ModelOutlineLod(modelOutlineRenderer, config, tilePolygonCache);
 		this.client = client;
+		this.tilePolygonCache = tilePolygonCache;
+		this.renderBudget = renderBudget;
 		this.config = config;
 		this.apmeken = apmeken;
 
@@ -101,9 +108,11 @@ public class ApmekenOverlay extends Overlay implements PluginLifecycleComponent
 	@Override
 	public Dimension render(final Graphics2D graphics2D)
 	{
-		if (config.apmekenBaboonOutline())
+		final long start = System.nanoTime();
+
+		if (config.apmekenBaboonOutline() && renderBudget.isOutlineEnabled())
 		{
-			renderBaboonOutline();
+			renderBaboonOutline(graphics2D);
 		}
 
 		if (config.apmekenVolatileBaboonTiles())
@@ -113,13 +122,17 @@ public class ApmekenOverlay extends Overlay implements PluginLifecycleComponent
 
 		if (config.apmekenRoofVentOutline())
 		{
-			renderRoofVentOutline();
+			renderRoofVentOutline(graphics2D);
 		}
 
+		hazardBatch.flush(graphics2D, renderBudget.isFillEnabled());
+
+		renderBudget.report(System.nanoTime() - start);
+
 		return null;
 	}
 
-	private void renderRoofVentOutline()
+	private void renderRoofVentOutline(final Graphics2D graphics2D)
 	{
 		final List<TileObject> tileObjects;
 
@@ -138,23 +151,22 @@ public class ApmekenOverlay extends Overlay implements PluginLifecycleComponent
 
 		final GameObject statue = apmeken.getStatue();
 
-		if (statue != null)
-		{
-			modelOutlineRenderer.drawOutline(statue, 2, Color.MAGENTA, 4);
-		}
+		outlineLod.begin(tileObjects.size() + 1);
 
-		if (tileObjects.isEmpty())
+		if (statue != null)
 		{
-			return;
+			outlineLod.drawOutline(statue, 2, Color.MAGENTA, 4);
 		}
 
 		for (final TileObject tileObject : tileObjects)
 		{
-			modelOutlineRenderer.drawOutline(tileObject, 2, Color.MAGENTA, 4);
+			outlineLod.drawOutline(tileObject, 2, Color.MAGENTA, 4);
 		}
+
+		outlineLod.end(graphics2D);
 	}
 
-	private void renderBaboonOutline()
+	private void renderBaboonOutline(final Graphics2D graphics2D)
 	{
 		final List<NPC> combatBaboons = apmeken.getBaboons();
 
@@ -163,6 +175,8 @@ public class ApmekenOverlay extends Overlay implements PluginLifecycleComponent
 			return;
 		}
 
+		outlineLod.begin(combatBaboons.size());
+
 		for (final NPC npc : combatBaboons)
 		{
 			final Color color;
@@ -193,8 +207,10 @@ public class ApmekenOverlay extends Overlay implements PluginLifecycleComponent
 					continue;
 			}
 
-			modelOutlineRenderer.drawOutline(npc, 1, color, 0);
+			outlineLod.drawOutline(npc, 1, color, 0);
 		}
+
+		outlineLod.end(graphics2D);
 	}
 
 	private void renderVolatileBaboonTiles(final Graphics2D graphics2D)
@@ -217,16 +233,14 @@ public class ApmekenOverlay extends Overlay implements PluginLifecycleComponent
 				continue;
 			}
 
-			final Polygon polygon = Perspective.getCanvasTileAreaPoly(client, localPoint, AREA_SIZE_3X3);
+			final Polygon polygon = tilePolygonCache.getTileAreaPoly(localPoint, AREA_SIZE_3X3);
 
 			if (polygon == null)
 			{
 				continue;
 			}
 
-			ToaUtils.drawOutlineAndFill(graphics2D, color,
-				new Color(color.getRed(), color.getGreen(), color.getBlue(), 20),
-				1, polygon);
+			hazardBatch.add(color, 20, 1, polygon);
 		}
 	}
 
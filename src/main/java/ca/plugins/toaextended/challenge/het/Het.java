@@ -32,10 +32,13 @@ package ca.plugins.toaextended.challenge.het;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.ChatMessageRouter;
+import ca.plugins.toaextended.util.MenuRuleEngine;
+import ca.plugins.toaextended.util.PublishedList;
 import ca.plugins.toaextended.util.RaidRoom;
 import ca.plugins.toaextended.util.RaidState;
+import ca.plugins.toaextended.util.RenderableHider;
 import com.google.common.collect.ImmutableSet;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
@@ -44,10 +47,8 @@ import javax.inject.Singleton;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.GameObject;
-import net.runelite.api.GraphicsObject;
 import net.runelite.api.InventoryID;
 import net.runelite.api.Item;
 import net.runelite.api.ItemContainer;
@@ -56,15 +57,11 @@ import net.runelite.api.MenuEntry;
 import net.runelite.api.NPC;
 import net.runelite.api.NpcID;
 import net.runelite.api.ObjectID;
-import net.runelite.api.Renderable;
-import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameObjectDespawned;
 import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GraphicsObjectCreated;
-import net.runelite.api.events.MenuEntryAdded;
+import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.events.NpcChanged;
-import net.runelite.client.callback.Hooks;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.npcoverlay.HighlightedNpc;
@@ -112,23 +109,25 @@ public class Het implements PluginLifecycleComponent
 	);
 
 	private final Function<NPC, HighlightedNpc> npcHighlighter = this::npcHighlight;
-	private final Hooks.RenderableDrawListener drawListener = this::shouldDraw;
+	private final RenderableHider.HideRules hideRules = this::addHideRules;
 
-	private final EventBus eventBus;
 	private final Client client;
-	private final Hooks hooks;
+	private final RenderableHider renderableHider;
 
 	private final ToaExtendedConfig config;
 
 	private final NpcOverlayService npcOverlayService;
+	private final ChatMessageRouter chatMessageRouter;
+	private final MenuRuleEngine menuRuleEngine;
 
-	@Getter(AccessLevel.PACKAGE)
-	private final List<GameObject> mirrors = new ArrayList<>();
+	private final PublishedList<GameObject> mirrors = new PublishedList<>();
 
 	@Getter(AccessLevel.PACKAGE)
 	private GameObject casterStatue;
 
 	private int nextFireTick = -1;
+	private boolean inventoryHasPickaxe;
+	private boolean equipmentHasPickaxe;
 
 	@Override
 	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
@@ -139,17 +138,23 @@ public class Het implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
+		chatMessageRouter.registerExact(this, CHALLENGE_START_MESSAGE,
+			match -> this.nextFireTick = client.getTickCount() + BEAM_FIRE_RATE_TICKS + 1);
+		chatMessageRouter.registerExact(this, CHALLENGE_COMPLETE_MESSAGE, match -> this.nextFireTick = -1);
+		menuRuleEngine.deprioritize(this, "Take-pickaxe", null, menuEntry -> canDepositPickaxe() && isStatue(menuEntry));
+		// the exit option is matched by substring, so the rule is tested against every option
+		menuRuleEngine.deprioritize(this, null, null, menuEntry -> canDepositPickaxe() && isExitRoom(menuEntry));
 		npcOverlayService.registerHighlighter(npcHighlighter);
-		hooks.registerRenderableDrawListener(drawListener);
+		renderableHider.register(hideRules);
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
+		chatMessageRouter.unregister(this);
+		menuRuleEngine.unregister(this);
 		npcOverlayService.unregisterHighlighter(npcHighlighter);
-		hooks.unregisterRenderableDrawListener(drawListener);
+		renderableHider.unregister(hideRules);
 		reset();
 	}
 
@@ -169,24 +174,6 @@ public class Het implements PluginLifecycleComponent
 		}
 	}
 
-	@Subscribe
-	public void onChatMessage(final ChatMessage event)
-	{
-		if (event.getType() != ChatMessageType.GAMEMESSAGE)
-		{
-			return;
-		}
-
-		if (event.getMessage().equals(CHALLENGE_START_MESSAGE))
-		{
-			this.nextFireTick = client.getTickCount() + BEAM_FIRE_RATE_TICKS + 1;
-		}
-		else if (event.getMessage().equals(CHALLENGE_COMPLETE_MESSAGE))
-		{
-			this.nextFireTick = -1;
-		}
-	}
-
 	@Subscribe
 	public void onGameObjectSpawned(final GameObjectSpawned event)
 	{
@@ -200,7 +187,7 @@ public class Het implements PluginLifecycleComponent
 		}
 		else if (id == ObjectID.MIRROR_45455)
 		{
-			mirrors.add(gameObject);
+			mirrors.addAndPublish(gameObject);
 		}
 	}
 
@@ -217,7 +204,7 @@ public class Het implements PluginLifecycleComponent
 		}
 		else if (id == ObjectID.MIRROR_45455)
 		{
-			mirrors.remove(gameObject);
+			mirrors.removeAndPublish(gameObject);
 		}
 	}
 
@@ -244,32 +231,17 @@ public class Het implements PluginLifecycleComponent
 	}
 
 	@Subscribe
-	public void onMenuEntryAdded(final MenuEntryAdded event)
+	public void onItemContainerChanged(final ItemContainerChanged event)
 	{
-		final ItemContainer inv = client.getItemContainer(InventoryID.INVENTORY);
-		final ItemContainer equip = client.getItemContainer(InventoryID.EQUIPMENT);
+		final int containerId = event.getContainerId();
 
-		if (inv == null || equip == null)
+		if (containerId == InventoryID.INVENTORY.getId())
 		{
-			return;
+			inventoryHasPickaxe = containsAny(event.getItemContainer());
 		}
-
-		final boolean hasPickaxe = containsAny(inv) || containsAny(equip);
-
-		if (!hasPickaxe)
+		else if (containerId == InventoryID.EQUIPMENT.getId())
 		{
-			return;
-		}
-
-		if (config.hetDepositPickaxe())
-		{
-			final boolean statueSwap = isTakePickaxe(event.getMenuEntry());
-			final boolean exitSwap = isExitRoom(event.getMenuEntry());
-
-			if (statueSwap || exitSwap)
-			{
-				event.getMenuEntry().setDeprioritized(true);
-			}
+			equipmentHasPickaxe = containsAny(event.getItemContainer());
 		}
 	}
 
@@ -290,23 +262,13 @@ public class Het implements PluginLifecycleComponent
 		return null;
 	}
 
-	private boolean shouldDraw(final Renderable renderable, final boolean drawingUI)
+	private void addHideRules(final RenderableHider.Builder builder)
 	{
-		if (!config.hetHideOrbsOfDarkness())
-		{
-			return true;
-		}
-
-		if (renderable instanceof NPC)
+		if (config.hetHideOrbsOfDarkness())
 		{
-			return ((NPC) renderable).getId() != NpcID.ORB_OF_DARKNESS;
+			builder.npc(NpcID.ORB_OF_DARKNESS)
+				.graphicsObject(GRAPHICS_OBJECT_ID_ORB_DESPAWN);
 		}
-		else if (renderable instanceof GraphicsObject)
-		{
-			return ((GraphicsObject) renderable).getId() != GRAPHICS_OBJECT_ID_ORB_DESPAWN;
-		}
-
-		return true;
 	}
 
 	private void reset()
@@ -314,6 +276,13 @@ public class Het implements PluginLifecycleComponent
 		casterStatue = null;
 		mirrors.clear();
 		nextFireTick = -1;
+		inventoryHasPickaxe = false;
+		equipmentHasPickaxe = false;
+	}
+
+	List<GameObject> getMirrors()
+	{
+		return mirrors.getPublished();
 	}
 
 	double getProgress()
@@ -321,9 +290,14 @@ public class Het implements PluginLifecycleComponent
 		return (double) (this.nextFireTick - client.getTickCount()) / BEAM_FIRE_RATE_TICKS;
 	}
 
-	private static boolean isTakePickaxe(final MenuEntry menuEntry)
+	private boolean canDepositPickaxe()
+	{
+		return (inventoryHasPickaxe || equipmentHasPickaxe) && config.hetDepositPickaxe();
+	}
+
+	private static boolean isStatue(final MenuEntry menuEntry)
 	{
-		return menuEntry.getOption().equals("Take-pickaxe") && menuEntry.getTarget().contains("Statue");
+		return menuEntry.getTarget().contains("Statue");
 	}
 
 	private static boolean isExitRoom(final MenuEntry menuEntry)
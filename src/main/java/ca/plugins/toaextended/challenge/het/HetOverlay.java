@@ -33,10 +33,10 @@ package ca.plugins.toaextended.challenge.het;
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
 import ca.plugins.toaextended.util.RaidState;
+import ca.plugins.toaextended.util.RenderBudgetGovernor;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
-import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Client;
@@ -56,6 +56,7 @@ public class HetOverlay extends Overlay implements PluginLifecycleComponent
 
 	private final OverlayManager overlayManager;
 	private final Client client;
+	private final RenderBudgetGovernor renderBudget;
 	private final ModelOutlineRenderer modelOutlineRenderer;
 	private final Het het;
 	private final ToaExtendedConfig config;
@@ -63,10 +64,11 @@ public class HetOverlay extends Overlay implements PluginLifecycleComponent
 	@Inject
 	public HetOverlay(final OverlayManager overlayManager, final Client client,
 					  final ModelOutlineRenderer modelOutlineRenderer, final ToaExtendedConfig config,
-					  final Het het)
+					  final RenderBudgetGovernor renderBudget, final Het het)
 	{
 		this.overlayManager = overlayManager;
 		this.client = client;
+		this.renderBudget = renderBudget;
 		this.modelOutlineRenderer = modelOutlineRenderer;
 		this.config = config;
 		this.het = het;
@@ -95,52 +97,61 @@ public class HetOverlay extends Overlay implements PluginLifecycleComponent
 	@Override
 	public Dimension render(final Graphics2D graphics)
 	{
+		final long start = System.nanoTime();
+
 		if (config.hetCasterStatueBeamTimer())
 		{
-			final GameObject casterStatue = het.getCasterStatue();
-
-			if (casterStatue == null)
-			{
-				return null;
-			}
-
-			final Point canvasPoint = Perspective.localToCanvas(client, casterStatue.getLocalLocation(), client.getPlane());
-
-			if (canvasPoint == null)
-			{
-				return null;
-			}
-
-			final double progress = het.getProgress();
-			final Color c = progress == 0 ? Color.green : Color.cyan;
-			if (progress < 0)
-			{
-				return null;
-			}
-
-			final ProgressPieComponent pie = new ProgressPieComponent();
-			pie.setPosition(canvasPoint);
-			pie.setProgress(1 - progress);
-			pie.setBorderColor(c);
-			pie.setFill(c);
-			pie.render(graphics);
+			renderCasterStatueBeamTimer(graphics);
 		}
 
-		if (config.hetMirrorOutline())
+		if (config.hetMirrorOutline() && renderBudget.isOutlineEnabled())
 		{
-			final List<GameObject> mirrors = het.getMirrors();
-
-			if (!mirrors.isEmpty())
-			{
-				for (final GameObject mirror : mirrors)
-				{
-					modelOutlineRenderer.drawOutline(mirror, 1,
-						Color.MAGENTA, 0);
-				}
-			}
+			renderMirrors();
 		}
 
+		renderBudget.report(System.nanoTime() - start);
+
 		return null;
 	}
 
+	private void renderCasterStatueBeamTimer(final Graphics2D graphics)
+	{
+		final GameObject casterStatue = het.getCasterStatue();
+
+		if (casterStatue == null)
+		{
+			return;
+		}
+
+		final Point canvasPoint = Perspective.localToCanvas(client, casterStatue.getLocalLocation(), client.getPlane());
+
+		if (canvasPoint == null)
+		{
+			return;
+		}
+
+		final double progress = het.getProgress();
+		final Color c = progress == 0 ? Color.green : Color.cyan;
+		if (progress < 0)
+		{
+			return;
+		}
+
+		final ProgressPieComponent pie = new ProgressPieComponent();
+		pie.setPosition(canvasPoint);
+		pie.setProgress(1 - progress);
+		pie.setBorderColor(c);
+		pie.setFill(c);
+		pie.render(graphics);
+	}
+
+	private void renderMirrors()
+	{
+		for (final GameObject mirror : het.getMirrors())
+		{
+			modelOutlineRenderer.drawOutline(mirror, 1,
+				Color.MAGENTA, 0);
+		}
+	}
+
 }
@@ -32,6 +32,7 @@ package ca.plugins.toaextended.challenge.scabaras;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.ChatMessageRouter;
 import ca.plugins.toaextended.util.RaidRoom;
 import ca.plugins.toaextended.util.RaidState;
 import com.google.common.collect.ImmutableMap;
@@ -58,13 +59,10 @@ import net.runelite.api.GroundObject;
 import net.runelite.api.Point;
 import net.runelite.api.Tile;
 import net.runelite.api.coords.LocalPoint;
-import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameObjectDespawned;
 import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GameTick;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
-import net.runelite.client.util.Text;
 
 @Slf4j
 @Singleton
@@ -133,10 +131,12 @@ public class ScabarasAdditionPuzzle implements PluginLifecycleComponent
 		.put(45, ImmutableSet.of(0, 1, 2, 3, 4, 5, 10))
 		.build();
 
-	private static final Pattern TARGET_NUMBER_PATTERN = Pattern.compile("The number (\\d+) has been hastily chipped into the stone.");
+	private static final Pattern TARGET_NUMBER_PATTERN = Pattern.compile("the number (\\d+) has been hastily chipped into the stone.");
+	private static final String MESSAGE_FAILED = "your party failed to complete the challenge";
+	private static final String MESSAGE_TARGET_NUMBER = "the number ";
 
-	private final EventBus eventBus;
 	private final Client client;
+	private final ChatMessageRouter chatMessageRouter;
 
 	private boolean solved;
 	private Set<Integer> tileStates;
@@ -154,8 +154,8 @@ public class ScabarasAdditionPuzzle implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
-
+		chatMessageRouter.registerPrefix(this, MESSAGE_FAILED, this::onChallengeFailed);
+		chatMessageRouter.registerPrefix(this, MESSAGE_TARGET_NUMBER, this::onTargetNumber);
 		this.targetNumber = 0;
 		solved = false;
 	}
@@ -163,7 +163,7 @@ public class ScabarasAdditionPuzzle implements PluginLifecycleComponent
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
+		chatMessageRouter.unregister(this);
 	}
 
 	@Subscribe
@@ -201,17 +201,15 @@ public class ScabarasAdditionPuzzle implements PluginLifecycleComponent
 		}
 	}
 
-	@Subscribe
-	public void onChatMessage(final ChatMessage event)
+	private void onChallengeFailed(final ChatMessageRouter.Match match)
 	{
-		if (event.getMessage().startsWith("Your party failed to complete the challenge"))
-		{
-			this.targetNumber = 0;
-			solved = false;
-			return;
-		}
+		this.targetNumber = 0;
+		solved = false;
+	}
 
-		final Matcher matcher = TARGET_NUMBER_PATTERN.matcher(Text.removeTags(event.getMessage()));
+	private void onTargetNumber(final ChatMessageRouter.Match match)
+	{
+		final Matcher matcher = TARGET_NUMBER_PATTERN.matcher(match.getText());
 		if (!matcher.matches())
 		{
 			return;
@@ -54,7 +54,6 @@ import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.events.GameObjectDespawned;
 import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GameTick;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 
 @Slf4j
@@ -84,7 +83,6 @@ public class ScabarasLightPuzzle implements PluginLifecycleComponent
 		0B10101110,
 	};
 
-	private final EventBus eventBus;
 	private final Client client;
 
 	private boolean solved;
@@ -102,7 +100,6 @@ public class ScabarasLightPuzzle implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
 
 		solved = false;
 		solve();
@@ -111,7 +108,6 @@ public class ScabarasLightPuzzle implements PluginLifecycleComponent
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
 	}
 
 	@Subscribe
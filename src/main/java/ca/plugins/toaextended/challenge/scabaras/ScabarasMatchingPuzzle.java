@@ -32,6 +32,7 @@ package ca.plugins.toaextended.challenge.scabaras;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.ChatMessageRouter;
 import ca.plugins.toaextended.util.RaidRoom;
 import ca.plugins.toaextended.util.RaidState;
 import com.google.common.collect.ImmutableMap;
@@ -47,10 +48,8 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import net.runelite.api.GroundObject;
 import net.runelite.api.TileObject;
-import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GroundObjectDespawned;
 import net.runelite.api.events.GroundObjectSpawned;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 
 @Singleton
@@ -58,6 +57,9 @@ import net.runelite.client.eventbus.Subscribe;
 public class ScabarasMatchingPuzzle implements PluginLifecycleComponent
 {
 
+	private static final String MESSAGE_FAILED = "your party failed to complete the challenge";
+	private static final String MESSAGE_COMPLETE = "challenge complete";
+
 	private static final Set<Integer> UP_TILE_IDS = ImmutableSet.of(
 		45365, 45366, 45367, 45368, 45369, 45370, 45371, 45372, 45373
 	);
@@ -78,7 +80,8 @@ public class ScabarasMatchingPuzzle implements PluginLifecycleComponent
 		.put(45373, 45364)
 		.build();
 
-	private final EventBus eventBus;
+
+	private final ChatMessageRouter chatMessageRouter;
 
 	@Getter(AccessLevel.PACKAGE)
 	private final Set<Integer> upTiles = new HashSet<>(5);
@@ -94,13 +97,14 @@ public class ScabarasMatchingPuzzle implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
+		chatMessageRouter.registerPrefix(this, MESSAGE_FAILED, this::onChallengeEnded);
+		chatMessageRouter.registerPrefix(this, MESSAGE_COMPLETE, this::onChallengeEnded);
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
+		chatMessageRouter.unregister(this);
 		upTiles.clear();
 		downTiles.clear();
 	}
@@ -146,16 +150,9 @@ public class ScabarasMatchingPuzzle implements PluginLifecycleComponent
 		}
 	}
 
-	@Subscribe
-	public void onChatMessage(final ChatMessage event)
+	private void onChallengeEnded(final ChatMessageRouter.Match match)
 	{
-		final String message = event.getMessage();
-
-		if (message.startsWith("Your party failed to complete the challenge") ||
-			message.startsWith("Challenge complete"))
-		{
-			upTiles.clear();
-			downTiles.clear();
-		}
+		upTiles.clear();
+		downTiles.clear();
 	}
 }
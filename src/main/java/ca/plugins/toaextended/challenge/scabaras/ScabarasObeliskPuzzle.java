@@ -32,6 +32,8 @@ package ca.plugins.toaextended.challenge.scabaras;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.ChatMessageRouter;
+import ca.plugins.toaextended.util.PublishedList;
 import ca.plugins.toaextended.util.RaidRoom;
 import ca.plugins.toaextended.util.RaidState;
 import java.util.ArrayList;
@@ -47,13 +49,11 @@ import net.runelite.api.GraphicsObject;
 import net.runelite.api.NPC;
 import net.runelite.api.TileObject;
 import net.runelite.api.coords.LocalPoint;
-import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.events.GraphicsObjectCreated;
 import net.runelite.api.events.NpcChanged;
 import net.runelite.api.events.NpcSpawned;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 
 @Slf4j
@@ -66,16 +66,16 @@ public class ScabarasObeliskPuzzle implements PluginLifecycleComponent
 	private static final int OBELISK_ID_ACTIVE = 11699;
 	private static final int GRAPHICS_OBJECT_ID_FALLING_ROCKS = 317;
 	private static final int GAME_OBJECT_ID_ENTRANCE = 45135;
+	private static final String MESSAGE_FAILED = "your party failed to complete the challenge";
 
 	private static final int SCENE_X = 46;
 	private static final int SCENE_Y = 51;
 
-	private final EventBus eventBus;
 	private final ToaExtendedConfig config;
+	private final ChatMessageRouter chatMessageRouter;
 	@Getter(AccessLevel.PACKAGE)
 	private final List<LocalPoint> obeliskOrder = new ArrayList<>(6);
-	@Getter(AccessLevel.PACKAGE)
-	private final List<GraphicsObject> fallingRocks = new ArrayList<>();
+	private final PublishedList<GraphicsObject> fallingRocks = new PublishedList<>();
 	@Getter(AccessLevel.PACKAGE)
 	private int activeObelisks = 0;
 	private GameObject northEntrance;
@@ -93,7 +93,7 @@ public class ScabarasObeliskPuzzle implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
+		chatMessageRouter.registerPrefix(this, MESSAGE_FAILED, this::onChallengeFailed);
 		activeObelisks = 0;
 		obeliskOrder.clear();
 	}
@@ -101,7 +101,12 @@ public class ScabarasObeliskPuzzle implements PluginLifecycleComponent
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
+		chatMessageRouter.unregister(this);
+	}
+
+	List<GraphicsObject> getFallingRocks()
+	{
+		return fallingRocks.getPublished();
 	}
 
 	@Subscribe
@@ -139,22 +144,18 @@ public class ScabarasObeliskPuzzle implements PluginLifecycleComponent
 		}
 	}
 
-	@Subscribe
-	public void onChatMessage(final ChatMessage event)
+	private void onChallengeFailed(final ChatMessageRouter.Match match)
 	{
-		if (event.getMessage().startsWith("Your party failed to complete the challenge"))
-		{
-			activeObelisks = 0;
-			obeliskOrder.clear();
-		}
+		activeObelisks = 0;
+		obeliskOrder.clear();
 	}
 
 	@Subscribe
 	public void onGameTick(final GameTick event)
 	{
-		if (!fallingRocks.isEmpty())
+		if (!fallingRocks.isEmpty() && fallingRocks.removeIf(GraphicsObject::finished))
 		{
-			fallingRocks.removeIf(GraphicsObject::finished);
+			fallingRocks.publish();
 		}
 	}
 
@@ -173,7 +174,7 @@ public class ScabarasObeliskPuzzle implements PluginLifecycleComponent
 			return;
 		}
 
-		fallingRocks.add(graphicsObject);
+		fallingRocks.addAndPublish(graphicsObject);
 	}
 
 	@Subscribe
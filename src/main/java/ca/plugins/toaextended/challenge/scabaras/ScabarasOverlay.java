@@ -32,9 +32,12 @@ package ca.plugins.toaextended.challenge.scabaras;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.HazardRenderBatch;
+import ca.plugins.toaextended.util.ModelOutlineLod;
 import ca.plugins.toaextended.util.RaidRoom;
 import ca.plugins.toaextended.util.RaidState;
-import ca.plugins.toaextended.util.ToaUtils;
+import ca.plugins.toaextended.util.RenderBudgetGovernor;
+import ca.plugins.toaextended.util.TilePolygonCache;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -48,7 +51,6 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Client;
 import net.runelite.api.GraphicsObject;
-import net.runelite.api.Perspective;
 import net.runelite.api.Point;
 import net.runelite.api.TileObject;
 import net.runelite.api.coords.LocalPoint;
@@ -66,10 +68,13 @@ public class ScabarasOverlay extends Overlay implements PluginLifecycleComponent
 	private static final Stroke BASIC_STROKE = new BasicStroke(1);
 	private static final Color TRANSPARENT = new Color(0, 0, 0, 0);
 	private final Client client;
+	private final TilePolygonCache tilePolygonCache;
+	private final HazardRenderBatch hazardBatch = new HazardRenderBatch();
+	private final RenderBudgetGovernor renderBudget;
 	private final ToaExtendedConfig config;
 	private final OverlayManager overlayManager;
 
-	private final ModelOutlineRenderer modelOutlineRenderer;
+	private final ModelOutlineLod outlineLod;
 	private final ScabarasAdditionPuzzle additionPuzzleSolver;
 	private final ScabarasLightPuzzle scabarasLightPuzzle;
 	private final ScabarasMatchingPuzzle scabarasMatchingPuzzle;
@@ -79,6 +84,8 @@ public class ScabarasOverlay extends Overlay implements PluginLifecycleComponent
 	@Inject
 	public ScabarasOverlay(
 		final Client client,
+		final TilePolygonCache tilePolygonCache,
+		final RenderBudgetGovernor renderBudget,
 		final ToaExtendedConfig config,
 		final OverlayManager overlayManager,
 		final ModelOutlineRenderer modelOutlineRenderer,
@@ -90,9 +97,11 @@ public class ScabarasOverlay extends Overlay implements PluginLifecycleComponent
 	)
 	{
 		this.client = client;
+		this.tilePolygonCache = tilePolygonCache;
+		this.renderBudget = renderBudget;
 		this.config = config;
 		this.overlayManager = overlayManager;
-		this.modelOutlineRenderer = modelOutlineRenderer;
+		this.outlineLod = new ModelOutlineLod(modelOutlineRenderer, config, tilePolygonCache);
 		this.additionPuzzleSolver = scabarasAdditionPuzzle;
 		this.scabarasLightPuzzle = scabarasLightPuzzle;
 		this.scabarasMatchingPuzzle = scabarasMatchingPuzzle;
@@ -124,6 +133,8 @@ public class ScabarasOverlay extends Overlay implements PluginLifecycleComponent
 	@Override
 	public Dimension render(final Graphics2D graphics)
 	{
+		final long start = System.nanoTime();
+
 		renderLocalPoints(graphics, additionPuzzleSolver.getFlips());
 		renderLocalPoints(graphics, scabarasLightPuzzle.getFlips());
 
@@ -141,26 +152,32 @@ public class ScabarasOverlay extends Overlay implements PluginLifecycleComponent
 		renderMatchingTiles(graphics);
 
 		renderFallingRocks(graphics, scabarasObeliskPuzzle.getFallingRocks());
-		renderEntranceTile(scabarasObeliskPuzzle.getEntranceTile());
+		renderEntranceTile(graphics, scabarasObeliskPuzzle.getEntranceTile());
+
+		hazardBatch.flush(graphics, renderBudget.isFillEnabled());
+
+		renderBudget.report(System.nanoTime() - start);
 
 		return null;
 	}
 
-	private void renderEntranceTile(final TileObject tileObject)
+	private void renderEntranceTile(final Graphics2D graphics, final TileObject tileObject)
 	{
-		if (tileObject == null || !config.scabarasHighlightEntrance())
+		if (tileObject == null || !config.scabarasHighlightEntrance() || !renderBudget.isOutlineEnabled())
 		{
 			return;
 		}
 
-		modelOutlineRenderer.drawOutline(tileObject, 1, Color.GREEN, 1);
+		outlineLod.begin(1);
+		outlineLod.drawOutline(tileObject, 1, Color.GREEN, 1);
+		outlineLod.end(graphics);
 	}
 
 	private void renderLocalPoints(final Graphics2D graphics, final Iterable<LocalPoint> points)
 	{
 		for (final LocalPoint tile : points)
 		{
-			final Polygon canvasTilePoly = Perspective.getCanvasTilePoly(client, tile);
+			final Polygon canvasTilePoly = tilePolygonCache.getTilePoly(tile);
 			if (canvasTilePoly == null)
 			{
 				continue;
@@ -176,7 +193,7 @@ public class ScabarasOverlay extends Overlay implements PluginLifecycleComponent
 		{
 			final Color c = ix < progress ? Color.gray : ColorUtil.colorLerp(Color.CYAN, Color.BLUE, ix / 5.0);
 
-			final Polygon canvasTilePoly = Perspective.getCanvasTilePoly(client, tile);
+			final Polygon canvasTilePoly = tilePolygonCache.getTilePoly(tile);
 			if (canvasTilePoly == null)
 			{
 				continue;
@@ -231,15 +248,14 @@ public class ScabarasOverlay extends Overlay implements PluginLifecycleComponent
 
 		for (final GraphicsObject rock : fallingRocks)
 		{
-			final Polygon polygon = Perspective.getCanvasTilePoly(client, rock.getLocation());
+			final Polygon polygon = tilePolygonCache.getTilePoly(rock.getLocation());
 
 			if (polygon == null)
 			{
 				continue;
 			}
 
-			ToaUtils.drawOutlineAndFill(graphics2D, config.dangerOutlineColor(), config.dangerFillColor(),
-				1, polygon);
+			hazardBatch.add(config.dangerOutlineColor(), config.dangerFillColor(), 1, polygon);
 		}
 	}
 }
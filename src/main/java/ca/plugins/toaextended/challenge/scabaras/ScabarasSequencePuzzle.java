@@ -32,6 +32,7 @@ package ca.plugins.toaextended.challenge.scabaras;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.ChatMessageRouter;
 import ca.plugins.toaextended.util.RaidRoom;
 import ca.plugins.toaextended.util.RaidState;
 import com.google.common.collect.EvictingQueue;
@@ -45,10 +46,8 @@ import net.runelite.api.Client;
 import net.runelite.api.GameObject;
 import net.runelite.api.Tile;
 import net.runelite.api.coords.LocalPoint;
-import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GraphicsObjectCreated;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 
 @Slf4j
@@ -61,9 +60,10 @@ public class ScabarasSequencePuzzle implements PluginLifecycleComponent
 	private static final int DISPLAY_GAME_OBJECT_ID = 45341;
 	private static final int STEPPED_GAME_OBJECT_ID = 45342;
 	private static final int GRAPHICS_OBJECT_RESET = 302;
+	private static final String MESSAGE_FAILED = "your party failed to complete the challenge";
 
-	private final EventBus eventBus;
 	private final Client client;
+	private final ChatMessageRouter chatMessageRouter;
 
 	@Getter(AccessLevel.PACKAGE)
 	private final EvictingQueue<LocalPoint> points = EvictingQueue.create(5);
@@ -83,13 +83,13 @@ public class ScabarasSequencePuzzle implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
+		chatMessageRouter.registerPrefix(this, MESSAGE_FAILED, match -> reset());
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
+		chatMessageRouter.unregister(this);
 		reset();
 	}
 
@@ -138,15 +138,6 @@ public class ScabarasSequencePuzzle implements PluginLifecycleComponent
 		}
 	}
 
-	@Subscribe
-	public void onChatMessage(final ChatMessage event)
-	{
-		if (event.getMessage().startsWith("Your party failed to complete the challenge"))
-		{
-			reset();
-		}
-	}
-
 	private void reset()
 	{
 		puzzleFinished = false;
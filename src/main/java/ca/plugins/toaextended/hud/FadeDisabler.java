@@ -33,17 +33,20 @@ package ca.plugins.toaextended.hud;
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
 import ca.plugins.toaextended.util.RaidState;
+import ca.plugins.toaextended.util.ScriptDispatcher;
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import net.runelite.api.events.ScriptPreFired;
-import net.runelite.client.eventbus.EventBus;
-import net.runelite.client.eventbus.Subscribe;
+import lombok.RequiredArgsConstructor;
 
 @Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
 public class FadeDisabler implements PluginLifecycleComponent
 {
-	@Inject
-	private EventBus eventBus;
+
+	private static final int SCRIPT_ID_FADE_OVERLAY_LEGACY_UPDATE = 952; // [clientscript,fade_overlay_legacy_update]
+	private static final int SCRIPT_ID_FADE_OVERLAY_UPDATE = 949; // [clientscript,fade_overlay_update]
+
+	private final ScriptDispatcher scriptDispatcher;
 
 	@Override
 	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
@@ -54,27 +57,15 @@ public class FadeDisabler implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
+		scriptDispatcher.registerPreFired(this, SCRIPT_ID_FADE_OVERLAY_LEGACY_UPDATE,
+			event -> event.getScriptEvent().getArguments()[1] = 0);
+		scriptDispatcher.registerPreFired(this, SCRIPT_ID_FADE_OVERLAY_UPDATE,
+			event -> event.getScriptEvent().getArguments()[6] = 0);
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
-	}
-
-	@Subscribe
-	private void onScriptPreFired(final ScriptPreFired event)
-	{
-		final int id = event.getScriptId();
-
-		if (id == 952) // [clientscript,fade_overlay_legacy_update]
-		{
-			event.getScriptEvent().getArguments()[1] = 0;
-		}
-		else if (id == 949) // [clientscript,fade_overlay_update]
-		{
-			event.getScriptEvent().getArguments()[6] = 0;
-		}
+		scriptDispatcher.unregister(this);
 	}
 }
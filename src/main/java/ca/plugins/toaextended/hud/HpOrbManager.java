@@ -33,15 +33,13 @@ package ca.plugins.toaextended.hud;
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
 import ca.plugins.toaextended.util.RaidState;
+import ca.plugins.toaextended.util.ScriptDispatcher;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Client;
-import net.runelite.api.events.ScriptPostFired;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.callback.ClientThread;
-import net.runelite.client.eventbus.EventBus;
-import net.runelite.client.eventbus.Subscribe;
 
 @Singleton
 public class HpOrbManager implements PluginLifecycleComponent
@@ -57,7 +55,7 @@ public class HpOrbManager implements PluginLifecycleComponent
 	private ClientThread clientThread;
 
 	@Inject
-	private EventBus eventBus;
+	private ScriptDispatcher scriptDispatcher;
 
 	@Override
 	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
@@ -68,23 +66,14 @@ public class HpOrbManager implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
+		scriptDispatcher.registerPostFired(this, BUILD_ORBS_WIDGET_SCRIPT_ID, e -> hideOrbs());
 		clientThread.invokeLater(this::hideOrbs);
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
-	}
-
-	@Subscribe
-	public void onScriptPostFired(final ScriptPostFired e)
-	{
-		if (e.getScriptId() == BUILD_ORBS_WIDGET_SCRIPT_ID)
-		{
-			hideOrbs();
-		}
+		scriptDispatcher.unregister(this);
 	}
 
 	private void hideOrbs()
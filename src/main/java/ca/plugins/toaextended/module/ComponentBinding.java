@@ -28,56 +28,39 @@
  * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
-package ca.plugins.toaextended.boss;
+package ca.plugins.toaextended.module;
 
-import java.util.Comparator;
+import com.google.inject.Provider;
+import javax.annotation.Nullable;
 import lombok.Getter;
-import lombok.NonNull;
-import net.runelite.api.Prayer;
+import lombok.RequiredArgsConstructor;
 
-public final class AttackProjectile implements Comparable<AttackProjectile>
+/**
+ * A lifecycle component bound with the {@link RaidScope} it may be enabled in, constructed through its provider the
+ * first time the raid enters that scope.
+ */
+@RequiredArgsConstructor
+public final class ComponentBinding
 {
 
 	@Getter
-	private final Prayer prayer;
-
+	private final Class<? extends PluginLifecycleComponent> type;
 	@Getter
-	private final int priority;
+	private final RaidScope scope;
+	private final Provider<? extends PluginLifecycleComponent> provider;
 
+	@Nullable
 	@Getter
-	private int ticks;
+	private PluginLifecycleComponent instance;
 
-	public AttackProjectile(final Prayer prayer, final int ticks, final int priority)
+	public PluginLifecycleComponent get()
 	{
-		this.prayer = prayer;
-		this.ticks = ticks;
-		this.priority = priority;
-	}
-
-	public AttackProjectile(final Prayer prayer, final int ticks)
-	{
-		this(prayer, ticks, 0);
-	}
-
-	public void decrementTicks()
-	{
-		if (ticks > 0)
+		if (instance == null)
 		{
-			--ticks;
+			instance = provider.get();
 		}
-	}
-
-	public boolean isExpired()
-	{
-		return ticks == 0;
-	}
 
-	@Override
-	public int compareTo(@NonNull final AttackProjectile projectile)
-	{
-		return Comparator.comparing(AttackProjectile::getTicks)
-			.thenComparing(AttackProjectile::getPriority)
-			.compare(this, projectile);
+		return instance;
 	}
 
 }
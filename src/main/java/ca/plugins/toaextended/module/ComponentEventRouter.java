@@ -0,0 +1,374 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.module;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Routes client events to the active {@link PluginLifecycleComponent}s.
+ * <p>
+ * Components declare handlers with {@link Subscribe} as usual, but are never registered on the {@link EventBus}
+ * themselves. Instead, the router owns a single subscriber per event class and priority (a channel) and dispatches
+ * through a table of the handlers of the currently active components. The set of active components is determined by
+ * the current room (and config), so every distinct set gets its table built once and room transitions only swap the
+ * table reference.
+ * <p>
+ * An event is dispatched through the table that was active when its first channel was reached. A table swapped in by a
+ * handler of the event, such as a component starting on a game tick, only applies from the next event on, so that the
+ * started components do not receive the rest of an event they have already been replayed.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+@Slf4j
+public class ComponentEventRouter
+{
+
+	private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final Handler[] NO_HANDLERS = new Handler[0];
+
+	private final EventBus eventBus;
+
+	private final List<Channel> channels = new ArrayList<>();
+	private final Map<Channel, Integer> channelIndices = new HashMap<>();
+	private final Map<Class<?>, List<HandlerMethod>> handlerMethods = new HashMap<>();
+	private final Map<BitSet, Handler[][]> tables = new HashMap<>();
+	private final List<EventBus.Subscriber> subscribers = new ArrayList<>();
+
+	private volatile Handler[][] table = new Handler[0][];
+
+	// the event class of every channel, and the table its current event is dispatched through
+	private int[] channelGroups = new int[0];
+	private int[] firstChannels = new int[0];
+	private Handler[][][] groupTables = new Handler[0][][];
+
+	@Setter
+	@Nullable
+	private volatile DispatchObserver dispatchObserver;
+
+	/**
+	 * Is told about every handler invocation, used to profile the components outside of the client.
+	 */
+	public interface DispatchObserver
+	{
+		void beforeHandler(Object component, Object event);
+
+		void afterHandler(Object component, Object event);
+	}
+
+	public void index(final Class<?> componentClass)
+	{
+		if (handlerMethods.containsKey(componentClass))
+		{
+			return;
+		}
+
+		final List<HandlerMethod> methods = new ArrayList<>();
+
+		for (Class<?> clazz = componentClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass())
+		{
+			for (final Method method : clazz.getDeclaredMethods())
+			{
+				final Subscribe subscribe = method.getAnnotation(Subscribe.class);
+				if (subscribe == null)
+				{
+					continue;
+				}
+
+				if (Modifier.isStatic(method.getModifiers()) ||
+					method.getParameterCount() != 1 ||
+					method.getReturnType() != void.class)
+				{
+					throw new IllegalArgumentException("Invalid event handler " + method);
+				}
+
+				final MethodHandle handle;
+				try
+				{
+					method.setAccessible(true);
+					handle = MethodHandles.lookup().unreflect(method).asType(HANDLER_TYPE);
+				}
+				catch (final IllegalAccessException exception)
+				{
+					throw new IllegalArgumentException("Inaccessible event handler " + method, exception);
+				}
+
+				final Channel channel = new Channel(method.getParameterTypes()[0], subscribe.priority());
+				final int channelIndex = channelIndices.computeIfAbsent(channel, c ->
+				{
+					channels.add(c);
+					return channels.size() - 1;
+				});
+
+				methods.add(new HandlerMethod(channelIndex, method.getParameterTypes()[0], handle));
+			}
+		}
+
+		handlerMethods.put(componentClass, methods);
+	}
+
+	@SuppressWarnings("unchecked")
+	public void register()
+	{
+		table = emptyTable();
+		indexGroups();
+
+		for (int i = 0; i < channels.size(); i++)
+		{
+			final int channelIndex = i;
+			final Channel channel = channels.get(i);
+			subscribers.add(eventBus.register(
+				(Class<Object>) channel.getEventClass(),
+				event -> dispatch(channelIndex, event),
+				channel.getPriority()));
+		}
+	}
+
+	public void unregister()
+	{
+		subscribers.forEach(eventBus::unregister);
+		subscribers.clear();
+		tables.clear();
+		table = emptyTable();
+		Arrays.fill(groupTables, null);
+	}
+
+	/**
+	 * Publishes the dispatch table for the given set of active components.
+	 *
+	 * @param active     indices into {@code components} of the components that should receive events
+	 * @param components all bound components, in dispatch order
+	 */
+	public void activate(final BitSet active, final List<PluginLifecycleComponent> components)
+	{
+		Handler[][] next = tables.get(active);
+
+		if (next == null)
+		{
+			next = buildTable(active, components);
+			tables.put((BitSet) active.clone(), next);
+		}
+
+		table = next;
+	}
+
+	public boolean handles(final PluginLifecycleComponent component, final Class<?> eventClass)
+	{
+		for (final HandlerMethod method : handlerMethods.getOrDefault(component.getClass(), List.of()))
+		{
+			if (method.getEventClass() == eventClass)
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Delivers an event to a single component, bypassing the dispatch table.
+	 */
+	public void dispatchTo(final PluginLifecycleComponent component, final Object event)
+	{
+		for (final HandlerMethod method : handlerMethods.getOrDefault(component.getClass(), List.of()))
+		{
+			if (method.getEventClass() == event.getClass())
+			{
+				invoke(new Handler(component, method.getHandle()), event);
+			}
+		}
+	}
+
+	private void dispatch(final int channelIndex, final Object event)
+	{
+		final int group = channelGroups[channelIndex];
+		Handler[][] current;
+
+		// the event bus calls the channels of an event class in order of priority
+		if (firstChannels[group] == channelIndex)
+		{
+			current = table;
+			groupTables[group] = current;
+		}
+		else
+		{
+			current = groupTables[group];
+
+			if (current == null)
+			{
+				current = table;
+			}
+		}
+
+		if (channelIndex >= current.length)
+		{
+			return;
+		}
+
+		for (final Handler handler : current[channelIndex])
+		{
+			invoke(handler, event);
+		}
+	}
+
+	private void invoke(final Handler handler, final Object event)
+	{
+		final DispatchObserver observer = dispatchObserver;
+
+		if (observer != null)
+		{
+			observer.beforeHandler(handler.getComponent(), event);
+		}
+
+		try
+		{
+			handler.getHandle().invokeExact(handler.getComponent(), event);
+		}
+		catch (final Throwable throwable)
+		{
+			log.warn("Uncaught exception in ToA event handler of [{}]", handler.getComponent().getClass().getName(), throwable);
+		}
+
+		if (observer != null)
+		{
+			observer.afterHandler(handler.getComponent(), event);
+		}
+	}
+
+	private Handler[][] buildTable(final BitSet active, final List<PluginLifecycleComponent> components)
+	{
+		final List<List<Handler>> handlers = new ArrayList<>(channels.size());
+		for (int i = 0; i < channels.size(); i++)
+		{
+			handlers.add(new ArrayList<>());
+		}
+
+		for (int i = active.nextSetBit(0); i >= 0; i = active.nextSetBit(i + 1))
+		{
+			final PluginLifecycleComponent component = components.get(i);
+			for (final HandlerMethod method : handlerMethods.getOrDefault(component.getClass(), List.of()))
+			{
+				handlers.get(method.getChannelIndex()).add(new Handler(component, method.getHandle()));
+			}
+		}
+
+		final Handler[][] built = new Handler[channels.size()][];
+		for (int i = 0; i < built.length; i++)
+		{
+			built[i] = handlers.get(i).isEmpty() ? NO_HANDLERS : handlers.get(i).toArray(NO_HANDLERS);
+		}
+
+		return built;
+	}
+
+	private void indexGroups()
+	{
+		final Map<Class<?>, Integer> groups = new HashMap<>();
+		final List<Integer> first = new ArrayList<>();
+		channelGroups = new int[channels.size()];
+
+		for (int i = 0; i < channels.size(); i++)
+		{
+			final Channel channel = channels.get(i);
+			final Integer group = groups.get(channel.getEventClass());
+
+			if (group == null)
+			{
+				groups.put(channel.getEventClass(), first.size());
+				channelGroups[i] = first.size();
+				first.add(i);
+			}
+			else
+			{
+				channelGroups[i] = group;
+
+				if (channel.getPriority() > channels.get(first.get(group)).getPriority())
+				{
+					first.set(group, i);
+				}
+			}
+		}
+
+		firstChannels = first.stream().mapToInt(Integer::intValue).toArray();
+		groupTables = new Handler[first.size()][][];
+	}
+
+	private Handler[][] emptyTable()
+	{
+		final Handler[][] empty = new Handler[channels.size()][];
+		for (int i = 0; i < empty.length; i++)
+		{
+			empty[i] = NO_HANDLERS;
+		}
+		return empty;
+	}
+
+	@Value
+	private static class Channel
+	{
+		Class<?> eventClass;
+		float priority;
+	}
+
+	@Value
+	private static class HandlerMethod
+	{
+		int channelIndex;
+		Class<?> eventClass;
+		MethodHandle handle;
+	}
+
+	@Value
+	private static class Handler
+	{
+		Object component;
+		MethodHandle handle;
+	}
+
+}
@@ -31,20 +31,43 @@
 package ca.plugins.toaextended.module;
 
 import ca.plugins.toaextended.ToaExtendedConfig;
+import ca.plugins.toaextended.util.NpcRegistry;
 import ca.plugins.toaextended.util.RaidState;
 import ca.plugins.toaextended.util.RaidStateChanged;
 import ca.plugins.toaextended.util.RaidStateTracker;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.DecorativeObject;
+import net.runelite.api.GameObject;
+import net.runelite.api.GameState;
+import net.runelite.api.GroundObject;
+import net.runelite.api.InventoryID;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
+import net.runelite.api.WallObject;
+import net.runelite.api.events.DecorativeObjectSpawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GroundObjectSpawned;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.ItemSpawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.PlayerSpawned;
+import net.runelite.api.events.WallObjectSpawned;
+import net.runelite.client.callback.ClientThread;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
-import net.runelite.client.util.GameEventManager;
 
 @Singleton
 @RequiredArgsConstructor(onConstructor = @__(@Inject))
@@ -53,26 +76,51 @@ public class ComponentManager
 {
 
 	private final EventBus eventBus;
-	private final GameEventManager gameEventManager;
-	private final ToaExtendedConfig config;
+	private final Client client;
+	private final ClientThread clientThread;
 	private final RaidStateTracker raidStateTracker;
-	private final Set<PluginLifecycleComponent> components;
+	private final ComponentEventRouter eventRouter;
+	private final ConfigDependencyIndex configDependencyIndex;
+	private final NpcRegistry npcRegistry;
+	private final Set<ComponentBinding> components;
 
-	private final Map<PluginLifecycleComponent, Boolean> states = new HashMap<>();
+	private final List<ComponentBinding> indexedBindings = new ArrayList<>();
+	private final List<PluginLifecycleComponent> indexedComponents = new ArrayList<>();
+	private final BitSet states = new BitSet();
+	private final Set<String> pendingConfigKeys = new HashSet<>();
+
+	private int npcRegistryIndex;
 
 	public void onPluginStart()
 	{
 		eventBus.register(this);
-		components.forEach(c -> states.put(c, false));
+		indexedBindings.clear();
+		indexedBindings.addAll(components);
+		indexedComponents.clear();
+		for (final ComponentBinding binding : indexedBindings)
+		{
+			indexedComponents.add(binding.getInstance());
+			eventRouter.index(binding.getType());
+		}
+		npcRegistryIndex = indexOf(NpcRegistry.class);
+		eventRouter.register();
+		states.clear();
 		revalidateComponentStates();
 	}
 
 	public void onPluginStop()
 	{
 		eventBus.unregister(this);
-		components.stream()
-			.filter(states::get)
-			.forEach(this::tryShutDown);
+		synchronized (pendingConfigKeys)
+		{
+			pendingConfigKeys.clear();
+		}
+		for (int i = states.nextSetBit(0); i >= 0; i = states.nextSetBit(i + 1))
+		{
+			tryShutDown(i);
+		}
+		eventRouter.unregister();
+		configDependencyIndex.clear();
 	}
 
 	@Subscribe
@@ -83,7 +131,14 @@ public class ComponentManager
 			return;
 		}
 
-		revalidateComponentStates();
+		synchronized (pendingConfigKeys)
+		{
+			if (pendingConfigKeys.isEmpty())
+			{
+				clientThread.invokeLater(this::flushConfigChanges);
+			}
+			pendingConfigKeys.add(event.getKey());
+		}
 	}
 
 	@Subscribe
@@ -92,35 +147,112 @@ public class ComponentManager
 		revalidateComponentStates();
 	}
 
+	private void flushConfigChanges()
+	{
+		final BitSet affected;
+		synchronized (pendingConfigKeys)
+		{
+			affected = configDependencyIndex.getDependents(pendingConfigKeys);
+			pendingConfigKeys.clear();
+		}
+
+		if (!affected.isEmpty())
+		{
+			revalidateComponentStates(affected);
+		}
+	}
+
 	private void revalidateComponentStates()
+	{
+		final BitSet all = new BitSet();
+		all.set(0, indexedBindings.size());
+		revalidateComponentStates(all);
+	}
+
+	private void revalidateComponentStates(final BitSet candidates)
 	{
 		final RaidState raidState = raidStateTracker.getCurrentState();
+		final BitSet started = new BitSet();
+		final long start = System.nanoTime();
 
-		components.forEach(c ->
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1))
 		{
-			final boolean shouldBeEnabled = c.isEnabled(config, raidState);
-			final boolean isEnabled = states.get(c);
+			// components are only constructed once the raid enters their scope
+			final boolean shouldBeEnabled = indexedBindings.get(i).getScope().contains(raidState) &&
+				configDependencyIndex.evaluate(i, getComponent(i), raidState);
+			final boolean isEnabled = states.get(i);
 			if (shouldBeEnabled == isEnabled)
 			{
-				return;
+				continue;
 			}
 
 			if (shouldBeEnabled)
 			{
-				tryStartUp(c);
+				if (tryStartUp(i))
+				{
+					started.set(i);
+				}
 			}
 			else
 			{
-				tryShutDown(c);
+				tryShutDown(i);
 			}
-		});
+		}
+
+		eventRouter.activate(states, indexedComponents);
+
+		if (!started.isEmpty())
+		{
+			if (log.isDebugEnabled())
+			{
+				log.debug("Started {} ToA plugin components in {} us [{}]",
+					started.cardinality(), (System.nanoTime() - start) / 1000, raidState);
+			}
+
+			simulateGameEvents(started);
+		}
 	}
 
-	private void tryStartUp(final PluginLifecycleComponent component)
+	private PluginLifecycleComponent getComponent(final int index)
 	{
-		if (states.get(component))
+		PluginLifecycleComponent component = indexedComponents.get(index);
+
+		if (component == null)
 		{
-			return;
+			final long start = System.nanoTime();
+			component = indexedBindings.get(index).get();
+			indexedComponents.set(index, component);
+
+			if (log.isDebugEnabled())
+			{
+				log.debug("Constructed ToA plugin component [{}] in {} us",
+					component.getClass().getName(), (System.nanoTime() - start) / 1000);
+			}
+		}
+
+		return component;
+	}
+
+	private int indexOf(final Class<? extends PluginLifecycleComponent> type)
+	{
+		for (int i = 0; i < indexedBindings.size(); i++)
+		{
+			if (indexedBindings.get(i).getType() == type)
+			{
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	private boolean tryStartUp(final int index)
+	{
+		final PluginLifecycleComponent component = indexedComponents.get(index);
+
+		if (states.get(index))
+		{
+			return false;
 		}
 
 		if (log.isDebugEnabled())
@@ -131,18 +263,21 @@ public class ComponentManager
 		try
 		{
 			component.startUp();
-			gameEventManager.simulateGameEvents(component);
-			states.put(component, true);
+			states.set(index);
+			return true;
 		}
 		catch (final Exception exception)
 		{
 			log.error("Failed to start ToA plugin component [{}]", component.getClass().getName(), exception);
+			return false;
 		}
 	}
 
-	private void tryShutDown(final PluginLifecycleComponent component)
+	private void tryShutDown(final int index)
 	{
-		if (!states.get(component))
+		final PluginLifecycleComponent component = indexedComponents.get(index);
+
+		if (!states.get(index))
 		{
 			return;
 		}
@@ -162,7 +297,182 @@ public class ComponentManager
 		}
 		finally
 		{
-			states.put(component, false);
+			states.clear(index);
+		}
+	}
+
+	/**
+	 * Replays the spawn events of the current scene to freshly started components only, since components are not
+	 * registered on the event bus and the replay must not reach the already active ones. Components started together,
+	 * such as on entering a room, share a single walk of the scene.
+	 */
+	private void simulateGameEvents(final BitSet started)
+	{
+		if (client.getGameState() != GameState.LOGGED_IN)
+		{
+			return;
+		}
+
+		clientThread.invoke(() ->
+		{
+			final long start = System.nanoTime();
+
+			final List<PluginLifecycleComponent> containerTargets = new ArrayList<>();
+			final List<PluginLifecycleComponent> npcTargets = new ArrayList<>();
+			final List<PluginLifecycleComponent> playerTargets = new ArrayList<>();
+			final List<PluginLifecycleComponent> tileTargets = new ArrayList<>();
+
+			for (int i = started.nextSetBit(0); i >= 0; i = started.nextSetBit(i + 1))
+			{
+				// shut down again before the replay ran
+				if (!states.get(i))
+				{
+					continue;
+				}
+
+				final PluginLifecycleComponent component = indexedComponents.get(i);
+
+				if (eventRouter.handles(component, ItemContainerChanged.class))
+				{
+					containerTargets.add(component);
+				}
+
+				if (eventRouter.handles(component, NpcSpawned.class))
+				{
+					npcTargets.add(component);
+				}
+
+				if (eventRouter.handles(component, PlayerSpawned.class))
+				{
+					playerTargets.add(component);
+				}
+
+				if (eventRouter.handles(component, WallObjectSpawned.class) ||
+					eventRouter.handles(component, DecorativeObjectSpawned.class) ||
+					eventRouter.handles(component, GroundObjectSpawned.class) ||
+					eventRouter.handles(component, GameObjectSpawned.class) ||
+					eventRouter.handles(component, ItemSpawned.class))
+				{
+					tileTargets.add(component);
+				}
+			}
+
+			if (!containerTargets.isEmpty())
+			{
+				for (final InventoryID inventoryID : InventoryID.values())
+				{
+					final ItemContainer itemContainer = client.getItemContainer(inventoryID);
+					if (itemContainer != null)
+					{
+						dispatchTo(containerTargets, new ItemContainerChanged(inventoryID.getId(), itemContainer));
+					}
+				}
+			}
+
+			if (!npcTargets.isEmpty())
+			{
+				// once the registry is up, later components are replayed its index instead of the scene
+				if (npcRegistry.isActive() && !started.get(npcRegistryIndex))
+				{
+					npcRegistry.forEach(npc -> dispatchTo(npcTargets, new NpcSpawned(npc)));
+				}
+				else
+				{
+					for (final NPC npc : client.getNpcs())
+					{
+						dispatchTo(npcTargets, new NpcSpawned(npc));
+					}
+				}
+			}
+
+			if (!playerTargets.isEmpty())
+			{
+				for (final Player player : client.getPlayers())
+				{
+					dispatchTo(playerTargets, new PlayerSpawned(player));
+				}
+			}
+
+			if (!tileTargets.isEmpty())
+			{
+				for (final Tile[][] plane : client.getScene().getTiles())
+				{
+					for (final Tile[] column : plane)
+					{
+						for (final Tile tile : column)
+						{
+							if (tile != null)
+							{
+								simulateTileEvents(tileTargets, tile);
+							}
+						}
+					}
+				}
+			}
+
+			if (log.isDebugEnabled())
+			{
+				log.debug("Replayed the scene to {} ToA plugin components in {} us",
+					started.cardinality(), (System.nanoTime() - start) / 1000);
+			}
+		});
+	}
+
+	private void simulateTileEvents(final List<PluginLifecycleComponent> targets, final Tile tile)
+	{
+		final WallObject wallObject = tile.getWallObject();
+		if (wallObject != null)
+		{
+			final WallObjectSpawned event = new WallObjectSpawned();
+			event.setTile(tile);
+			event.setWallObject(wallObject);
+			dispatchTo(targets, event);
+		}
+
+		final DecorativeObject decorativeObject = tile.getDecorativeObject();
+		if (decorativeObject != null)
+		{
+			final DecorativeObjectSpawned event = new DecorativeObjectSpawned();
+			event.setTile(tile);
+			event.setDecorativeObject(decorativeObject);
+			dispatchTo(targets, event);
+		}
+
+		final GroundObject groundObject = tile.getGroundObject();
+		if (groundObject != null)
+		{
+			final GroundObjectSpawned event = new GroundObjectSpawned();
+			event.setTile(tile);
+			event.setGroundObject(groundObject);
+			dispatchTo(targets, event);
+		}
+
+		for (final GameObject gameObject : tile.getGameObjects())
+		{
+			if (gameObject != null && gameObject.getSceneMinLocation().equals(tile.getSceneLocation()))
+			{
+				final GameObjectSpawned event = new GameObjectSpawned();
+				event.setTile(tile);
+				event.setGameObject(gameObject);
+				dispatchTo(targets, event);
+			}
+		}
+
+		final List<TileItem> groundItems = tile.getGroundItems();
+		if (groundItems != null)
+		{
+			for (final TileItem item : groundItems)
+			{
+				dispatchTo(targets, new ItemSpawned(tile, item));
+			}
+		}
+	}
+
+	private void dispatchTo(final List<PluginLifecycleComponent> targets, final Object event)
+	{
+		for (final PluginLifecycleComponent component : targets)
+		{
+			eventRouter.dispatchTo(component, event);
 		}
 	}
 
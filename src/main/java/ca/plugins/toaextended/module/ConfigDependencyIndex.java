@@ -0,0 +1,156 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.module;
+
+import ca.plugins.toaextended.ToaExtendedConfig;
+import ca.plugins.toaextended.util.RaidState;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.client.config.ConfigItem;
+
+/**
+ * Tracks which config keys each component reads in {@link PluginLifecycleComponent#isEnabled}, by tracing the
+ * calls made on the config while it is evaluated. A config change then only needs to re-evaluate the components
+ * that read the changed key during their last evaluation.
+ */
+@Singleton
+public class ConfigDependencyIndex
+{
+
+	private final ToaExtendedConfig config;
+	private final ToaExtendedConfig tracingConfig;
+	private final Map<Method, String> keyNames = new HashMap<>();
+
+	private final Map<String, BitSet> dependents = new HashMap<>();
+	private final List<Set<String>> reads = new ArrayList<>();
+
+	private Set<String> recording;
+
+	@Inject
+	ConfigDependencyIndex(final ToaExtendedConfig config)
+	{
+		this.config = config;
+
+		for (final Method method : ToaExtendedConfig.class.getMethods())
+		{
+			final ConfigItem configItem = method.getAnnotation(ConfigItem.class);
+			if (configItem != null)
+			{
+				keyNames.put(method, configItem.keyName());
+			}
+		}
+
+		this.tracingConfig = (ToaExtendedConfig) Proxy.newProxyInstance(
+			ToaExtendedConfig.class.getClassLoader(),
+			new Class<?>[]{ToaExtendedConfig.class},
+			(proxy, method, args) ->
+			{
+				final String keyName = keyNames.get(method);
+				if (keyName != null && recording != null)
+				{
+					recording.add(keyName);
+				}
+
+				try
+				{
+					return method.invoke(this.config, args);
+				}
+				catch (final InvocationTargetException exception)
+				{
+					throw exception.getCause();
+				}
+			});
+	}
+
+	public boolean evaluate(final int index, final PluginLifecycleComponent component, final RaidState raidState)
+	{
+		while (reads.size() <= index)
+		{
+			reads.add(new HashSet<>());
+		}
+
+		final Set<String> previous = reads.get(index);
+		for (final String keyName : previous)
+		{
+			dependents.get(keyName).clear(index);
+		}
+		previous.clear();
+
+		recording = previous;
+		try
+		{
+			return component.isEnabled(tracingConfig, raidState);
+		}
+		finally
+		{
+			recording = null;
+
+			for (final String keyName : previous)
+			{
+				dependents.computeIfAbsent(keyName, k -> new BitSet()).set(index);
+			}
+		}
+	}
+
+	public BitSet getDependents(final Collection<String> keyNames)
+	{
+		final BitSet result = new BitSet();
+
+		for (final String keyName : keyNames)
+		{
+			final BitSet bitSet = dependents.get(keyName);
+			if (bitSet != null)
+			{
+				result.or(bitSet);
+			}
+		}
+
+		return result;
+	}
+
+	public void clear()
+	{
+		dependents.clear();
+		reads.clear();
+	}
+
+}
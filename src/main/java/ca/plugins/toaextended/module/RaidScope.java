@@ -0,0 +1,73 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.module;
+
+import ca.plugins.toaextended.util.RaidRoom;
+import ca.plugins.toaextended.util.RaidState;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The raid states a component may be enabled in. A component is only constructed once the raid enters its scope, so
+ * the scope must include every state its {@link PluginLifecycleComponent#isEnabled} can return true for.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RaidScope
+{
+
+	public static final RaidScope ALWAYS = new RaidScope(true, false, false, EnumSet.noneOf(RaidRoom.class));
+	public static final RaidScope LOBBY_OR_RAID = new RaidScope(false, true, true, EnumSet.noneOf(RaidRoom.class));
+	public static final RaidScope RAID = new RaidScope(false, false, true, EnumSet.noneOf(RaidRoom.class));
+
+	private final boolean always;
+	private final boolean lobby;
+	private final boolean raid;
+	private final Set<RaidRoom> rooms;
+
+	public static RaidScope room(final RaidRoom room)
+	{
+		return new RaidScope(false, false, false, EnumSet.of(room));
+	}
+
+	public boolean contains(final RaidState raidState)
+	{
+		if (always || (lobby && raidState.isInLobby()) || (raid && raidState.isInRaid()))
+		{
+			return true;
+		}
+
+		final RaidRoom currentRoom = raidState.getCurrentRoom();
+		return currentRoom != null && rooms.contains(currentRoom);
+	}
+
+}
@@ -30,6 +30,7 @@
  */
 package ca.plugins.toaextended.module;
 
+import ca.plugins.toaextended.CachedToaExtendedConfig;
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.boss.akkha.Akkha;
 import ca.plugins.toaextended.boss.akkha.AkkhaFinalStand;
@@ -68,14 +69,25 @@ import ca.plugins.toaextended.hud.FadeDisabler;
 import ca.plugins.toaextended.hud.HpOrbManager;
 import ca.plugins.toaextended.nexus.PathLevelTracker;
 import ca.plugins.toaextended.pointstracker.PointsTracker;
+import ca.plugins.toaextended.replay.RaidEventRecorder;
 import ca.plugins.toaextended.tomb.SarcophagusRecolorer;
+import ca.plugins.toaextended.util.BossHealthTracker;
+import ca.plugins.toaextended.util.ChatMessageRouter;
+import ca.plugins.toaextended.util.MenuRuleEngine;
+import ca.plugins.toaextended.util.NpcRegistry;
+import ca.plugins.toaextended.util.ProjectileTracker;
+import ca.plugins.toaextended.util.RaidRoom;
 import ca.plugins.toaextended.util.RaidStateTracker;
+import ca.plugins.toaextended.util.RenderBudgetGovernor;
+import ca.plugins.toaextended.util.RenderableHider;
+import ca.plugins.toaextended.util.ScriptDispatcher;
+import ca.plugins.toaextended.util.TickClock;
+import ca.plugins.toaextended.util.TilePolygonCache;
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import com.google.inject.multibindings.Multibinder;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.client.config.ConfigManager;
 
 @Slf4j
 public class ToaExtendedModule extends AbstractModule
@@ -84,66 +96,85 @@ public class ToaExtendedModule extends AbstractModule
 	@Override
 	protected void configure()
 	{
-		final Multibinder<PluginLifecycleComponent> lifecycleComponents =
-			Multibinder.newSetBinder(binder(), PluginLifecycleComponent.class);
-
-		lifecycleComponents.addBinding().to(RaidStateTracker.class);
-		lifecycleComponents.addBinding().to(PathLevelTracker.class);
-
-		lifecycleComponents.addBinding().to(PointsTracker.class);
-
-		lifecycleComponents.addBinding().to(Baba.class);
-		lifecycleComponents.addBinding().to(BabaSceneOverlay.class);
-
-		lifecycleComponents.addBinding().to(Kephri.class);
-		lifecycleComponents.addBinding().to(KephriSceneOverlay.class);
-
-		lifecycleComponents.addBinding().to(Akkha.class);
-		lifecycleComponents.addBinding().to(AkkhaSceneOverlay.class);
-		lifecycleComponents.addBinding().to(AkkhaPrayerWidgetOverlay.class);
-		lifecycleComponents.addBinding().to(AkkhaPrayerInfoboxOverlay.class);
-		lifecycleComponents.addBinding().to(AkkhaMemoryBlast.class);
-		lifecycleComponents.addBinding().to(AkkhaFinalStand.class);
-
-		lifecycleComponents.addBinding().to(Zebak.class);
-		lifecycleComponents.addBinding().to(ZebakSceneOverlay.class);
-		lifecycleComponents.addBinding().to(ZebakPrayerWidgetOverlay.class);
-		lifecycleComponents.addBinding().to(ZebakPrayerInfoboxOverlay.class);
-
-		lifecycleComponents.addBinding().to(WardenP2.class);
-		lifecycleComponents.addBinding().to(WardenP2SceneOverlay.class);
-		lifecycleComponents.addBinding().to(WardenP2PrayerWidgetOverlay.class);
-		lifecycleComponents.addBinding().to(WardenP2PrayerInfoboxOverlay.class);
-
-		lifecycleComponents.addBinding().to(WardenP3.class);
-		lifecycleComponents.addBinding().to(WardenP3SceneOverlay.class);
-		lifecycleComponents.addBinding().to(WardenP3PrayerWidgetOverlay.class);
-		lifecycleComponents.addBinding().to(WardenP3PrayerInfoboxOverlay.class);
-
-		lifecycleComponents.addBinding().to(Apmeken.class);
-		lifecycleComponents.addBinding().to(ApmekenOverlay.class);
-
-		lifecycleComponents.addBinding().to(ScabarasAdditionPuzzle.class);
-		lifecycleComponents.addBinding().to(ScabarasLightPuzzle.class);
-		lifecycleComponents.addBinding().to(ScabarasMatchingPuzzle.class);
-		lifecycleComponents.addBinding().to(ScabarasObeliskPuzzle.class);
-		lifecycleComponents.addBinding().to(ScabarasSequencePuzzle.class);
-		lifecycleComponents.addBinding().to(ScabarasOverlay.class);
-
-		lifecycleComponents.addBinding().to(Het.class);
-		lifecycleComponents.addBinding().to(HetOverlay.class);
-
-		lifecycleComponents.addBinding().to(FadeDisabler.class);
-		lifecycleComponents.addBinding().to(HpOrbManager.class);
-		lifecycleComponents.addBinding().to(QuickProceedSwaps.class);
-		lifecycleComponents.addBinding().to(SarcophagusRecolorer.class);
+		final Multibinder<ComponentBinding> components = Multibinder.newSetBinder(binder(), ComponentBinding.class);
+
+		bindComponent(components, CachedToaExtendedConfig.class, RaidScope.ALWAYS);
+		bindComponent(components, RaidStateTracker.class, RaidScope.ALWAYS);
+		bindComponent(components, TickClock.class, RaidScope.RAID);
+		bindComponent(components, NpcRegistry.class, RaidScope.RAID);
+		bindComponent(components, ScriptDispatcher.class, RaidScope.LOBBY_OR_RAID);
+		bindComponent(components, BossHealthTracker.class, RaidScope.RAID);
+		bindComponent(components, ChatMessageRouter.class, RaidScope.LOBBY_OR_RAID);
+		bindComponent(components, MenuRuleEngine.class, RaidScope.RAID);
+		bindComponent(components, RenderableHider.class, RaidScope.ALWAYS);
+		bindComponent(components, ProjectileTracker.class, RaidScope.RAID);
+		bindComponent(components, TilePolygonCache.class, RaidScope.RAID);
+		bindComponent(components, RenderBudgetGovernor.class, RaidScope.RAID);
+		bindComponent(components, RaidEventRecorder.class, RaidScope.RAID);
+		bindComponent(components, PathLevelTracker.class, RaidScope.room(RaidRoom.NEXUS));
+
+		bindComponent(components, PointsTracker.class, RaidScope.RAID);
+
+		bindComponent(components, Baba.class, RaidScope.room(RaidRoom.BABA));
+		bindComponent(components, BabaSceneOverlay.class, RaidScope.room(RaidRoom.BABA));
+
+		bindComponent(components, Kephri.class, RaidScope.room(RaidRoom.KEPHRI));
+		bindComponent(components, KephriSceneOverlay.class, RaidScope.room(RaidRoom.KEPHRI));
+
+		bindComponent(components, Akkha.class, RaidScope.room(RaidRoom.AKKHA));
+		bindComponent(components, AkkhaSceneOverlay.class, RaidScope.room(RaidRoom.AKKHA));
+		bindComponent(components, AkkhaPrayerWidgetOverlay.class, RaidScope.room(RaidRoom.AKKHA));
+		bindComponent(components, AkkhaPrayerInfoboxOverlay.class, RaidScope.room(RaidRoom.AKKHA));
+		bindComponent(components, AkkhaMemoryBlast.class, RaidScope.room(RaidRoom.AKKHA));
+		bindComponent(components, AkkhaFinalStand.class, RaidScope.room(RaidRoom.AKKHA));
+
+		bindComponent(components, Zebak.class, RaidScope.room(RaidRoom.ZEBAK));
+		bindComponent(components, ZebakSceneOverlay.class, RaidScope.room(RaidRoom.ZEBAK));
+		bindComponent(components, ZebakPrayerWidgetOverlay.class, RaidScope.room(RaidRoom.ZEBAK));
+		bindComponent(components, ZebakPrayerInfoboxOverlay.class, RaidScope.room(RaidRoom.ZEBAK));
+
+		bindComponent(components, WardenP2.class, RaidScope.room(RaidRoom.WARDEN_P2));
+		bindComponent(components, WardenP2SceneOverlay.class, RaidScope.room(RaidRoom.WARDEN_P2));
+		bindComponent(components, WardenP2PrayerWidgetOverlay.class, RaidScope.room(RaidRoom.WARDEN_P2));
+		bindComponent(components, WardenP2PrayerInfoboxOverlay.class, RaidScope.room(RaidRoom.WARDEN_P2));
+
+		bindComponent(components, WardenP3.class, RaidScope.room(RaidRoom.WARDEN_P3));
+		bindComponent(components, WardenP3SceneOverlay.class, RaidScope.room(RaidRoom.WARDEN_P3));
+		bindComponent(components, WardenP3PrayerWidgetOverlay.class, RaidScope.room(RaidRoom.WARDEN_P3));
+		bindComponent(components, WardenP3PrayerInfoboxOverlay.class, RaidScope.room(RaidRoom.WARDEN_P3));
+
+		bindComponent(components, Apmeken.class, RaidScope.room(RaidRoom.APMEKEN));
+		bindComponent(components, ApmekenOverlay.class, RaidScope.room(RaidRoom.APMEKEN));
+
+		bindComponent(components, ScabarasAdditionPuzzle.class, RaidScope.room(RaidRoom.SCABARAS));
+		bindComponent(components, ScabarasLightPuzzle.class, RaidScope.room(RaidRoom.SCABARAS));
+		bindComponent(components, ScabarasMatchingPuzzle.class, RaidScope.room(RaidRoom.SCABARAS));
+		bindComponent(components, ScabarasObeliskPuzzle.class, RaidScope.room(RaidRoom.SCABARAS));
+		bindComponent(components, ScabarasSequencePuzzle.class, RaidScope.room(RaidRoom.SCABARAS));
+		bindComponent(components, ScabarasOverlay.class, RaidScope.room(RaidRoom.SCABARAS));
+
+		bindComponent(components, Het.class, RaidScope.room(RaidRoom.HET));
+		bindComponent(components, HetOverlay.class, RaidScope.room(RaidRoom.HET));
+
+		bindComponent(components, FadeDisabler.class, RaidScope.LOBBY_OR_RAID);
+		bindComponent(components, HpOrbManager.class, RaidScope.RAID);
+		bindComponent(components, QuickProceedSwaps.class, RaidScope.RAID);
+		bindComponent(components, SarcophagusRecolorer.class, RaidScope.room(RaidRoom.TOMB));
+	}
+
+	private <T extends PluginLifecycleComponent> void bindComponent(
+		final Multibinder<ComponentBinding> components,
+		final Class<T> type,
+		final RaidScope scope)
+	{
+		components.addBinding().toInstance(new ComponentBinding(type, scope, getProvider(type)));
 	}
 
 	@Provides
 	@Singleton
-	ToaExtendedConfig provideConfig(final ConfigManager configManager)
+	ToaExtendedConfig provideConfig(final CachedToaExtendedConfig config)
 	{
-		return configManager.getConfig(ToaExtendedConfig.class);
+		return config;
 	}
 
 }
@@ -42,7 +42,6 @@ import net.runelite.api.Client;
 import net.runelite.api.events.WidgetLoaded;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetID;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 
 @Singleton
@@ -55,7 +54,6 @@ public class PathLevelTracker implements PluginLifecycleComponent
 	private static final int CHILD_ID_BABA = 53;
 	private static final int CHILD_ID_ZEBAK = 55;
 
-	private final EventBus eventBus;
 	private final Client client;
 
 	@Getter
@@ -76,13 +74,11 @@ public class PathLevelTracker implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
 	}
 
 	@Subscribe
@@ -33,6 +33,7 @@ package ca.plugins.toaextended.pointstracker;
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.event.Sarcophagus;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.ChatMessageRouter;
 import ca.plugins.toaextended.util.RaidState;
 import ca.plugins.toaextended.util.RaidStateChanged;
 import com.google.common.collect.ImmutableMap;
@@ -53,12 +54,10 @@ import net.runelite.api.NPC;
 import net.runelite.api.NpcID;
 import net.runelite.api.Varbits;
 import net.runelite.api.events.AnimationChanged;
-import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.events.HitsplatApplied;
 import net.runelite.api.events.ItemSpawned;
 import net.runelite.client.config.ConfigManager;
-import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 
 @Singleton
@@ -153,9 +152,9 @@ public class PointsTracker implements PluginLifecycleComponent
 		55 // max hit
 	);
 
-	private final EventBus eventBus;
 	private final Client client;
 	private final ConfigManager configManager;
+	private final ChatMessageRouter chatMessageRouter;
 
 	private final Collection<Integer> seenMvpItems = new HashSet<>(4);
 
@@ -176,13 +175,16 @@ public class PointsTracker implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
+		chatMessageRouter.registerPrefix(this, START_MESSAGE, match -> reset());
+		chatMessageRouter.registerPrefix(this, DEATH_MESSAGE, this::onDeath);
+		chatMessageRouter.registerPrefix(this, ROOM_FAIL_MESSAGE, this::onRoomFailed);
+		chatMessageRouter.registerPrefix(this, ROOM_FINISH_MESSAGE, this::onRoomFinished);
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
+		chatMessageRouter.unregister(this);
 		reset();
 	}
 
@@ -229,36 +231,25 @@ public class PointsTracker implements PluginLifecycleComponent
 		}
 	}
 
-	@Subscribe
-	public void onChatMessage(final ChatMessage e)
+	private void onDeath(final ChatMessageRouter.Match match)
 	{
-		if (e.getType() != ChatMessageType.GAMEMESSAGE)
+		personalTotalPoints -= Math.max(0.2 * personalTotalPoints, 1000);
+		if (personalTotalPoints < 0)
 		{
-			return;
+			personalTotalPoints = 0;
 		}
+	}
 
-		if (e.getMessage().startsWith(START_MESSAGE))
-		{
-			reset();
-		}
-		else if (e.getMessage().startsWith(DEATH_MESSAGE))
-		{
-			personalTotalPoints -= Math.max(0.2 * personalTotalPoints, 1000);
-			if (personalTotalPoints < 0)
-			{
-				personalTotalPoints = 0;
-			}
-		}
-		else if (e.getMessage().startsWith(ROOM_FAIL_MESSAGE))
-		{
-			wardenDowns = 0;
-			personalRoomPoints = 0;
-		}
-		else if (e.getMessage().startsWith(ROOM_FINISH_MESSAGE))
-		{
-			personalTotalPoints = Math.min(MAX_TOTAL_POINTS, personalTotalPoints + personalRoomPoints);
-			personalRoomPoints = 0;
-		}
+	private void onRoomFailed(final ChatMessageRouter.Match match)
+	{
+		wardenDowns = 0;
+		personalRoomPoints = 0;
+	}
+
+	private void onRoomFinished(final ChatMessageRouter.Match match)
+	{
+		personalTotalPoints = Math.min(MAX_TOTAL_POINTS, personalTotalPoints + personalRoomPoints);
+		personalRoomPoints = 0;
 	}
 
 	@Subscribe
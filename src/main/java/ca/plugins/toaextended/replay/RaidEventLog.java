@@ -0,0 +1,239 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Binary format of a recorded raid: a header followed by records of a type byte and variable length ints or strings,
+ * gzipped. Game objects are referred to by handles assigned in order of first appearance, handle 0 being the local
+ * player.
+ */
+public final class RaidEventLog
+{
+
+	public static final String FILE_EXTENSION = ".toalog";
+
+	static final int MAGIC = 0x544F4152;
+	static final int VERSION = 1;
+
+	/**
+	 * cycle, local x, local y, plane, world x, world y of the local player
+	 */
+	public static final int TICK = 1;
+	/**
+	 * cycle
+	 */
+	public static final int CYCLE = 2;
+	/**
+	 * varbit id, value
+	 */
+	public static final int VARBIT = 3;
+	/**
+	 * handle, id, index, local x, local y, name
+	 */
+	public static final int NPC_SPAWNED = 4;
+	/**
+	 * handle
+	 */
+	public static final int NPC_DESPAWNED = 5;
+	/**
+	 * handle, id, name
+	 */
+	public static final int NPC_CHANGED = 6;
+	/**
+	 * handle, local x, local y
+	 */
+	public static final int NPC_MOVED = 7;
+	/**
+	 * handle, animation
+	 */
+	public static final int ANIMATION_CHANGED = 8;
+	/**
+	 * handle, id, start cycle, end cycle, target x, target y, targets the local player
+	 */
+	public static final int PROJECTILE_SPAWNED = 9;
+	/**
+	 * handle
+	 */
+	public static final int PROJECTILE_MOVED = 10;
+	/**
+	 * handle, id, local x, local y, start cycle
+	 */
+	public static final int GRAPHICS_OBJECT_CREATED = 11;
+	/**
+	 * handle
+	 */
+	public static final int GRAPHICS_OBJECT_FINISHED = 12;
+	/**
+	 * type, name, message
+	 */
+	public static final int CHAT_MESSAGE = 13;
+	/**
+	 * script id
+	 */
+	public static final int SCRIPT_POST_FIRED = 14;
+
+	private RaidEventLog()
+	{
+	}
+
+	public static class Writer implements Closeable
+	{
+
+		private final DataOutputStream out;
+
+		public Writer(final File file) throws IOException
+		{
+			out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(file))));
+			out.writeInt(MAGIC);
+			out.writeByte(VERSION);
+		}
+
+		public void write(final int type, final int... values) throws IOException
+		{
+			out.writeByte(type);
+
+			for (final int value : values)
+			{
+				writeInt(value);
+			}
+		}
+
+		public void writeInt(final int value) throws IOException
+		{
+			// zigzag then 7 bits per byte, so small negative values stay short as well
+			int v = (value << 1) ^ (value >> 31);
+
+			while ((v & ~0x7F) != 0)
+			{
+				out.writeByte((v & 0x7F) | 0x80);
+				v >>>= 7;
+			}
+
+			out.writeByte(v);
+		}
+
+		public void writeString(final String value) throws IOException
+		{
+			out.writeUTF(value == null ? "" : value);
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			out.close();
+		}
+
+	}
+
+	public static class Reader implements Closeable
+	{
+
+		private final DataInputStream in;
+
+		public Reader(final File file) throws IOException
+		{
+			in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new FileInputStream(file))));
+
+			if (in.readInt() != MAGIC)
+			{
+				throw new IOException("Not a raid event log: " + file);
+			}
+
+			final int version = in.readUnsignedByte();
+			if (version != VERSION)
+			{
+				throw new IOException("Unsupported raid event log version " + version);
+			}
+		}
+
+		/**
+		 * @return the type of the next record, or -1 at the end of the log
+		 */
+		public int nextType() throws IOException
+		{
+			return in.read();
+		}
+
+		public int readInt() throws IOException
+		{
+			int v = 0;
+
+			for (int shift = 0; ; shift += 7)
+			{
+				final int b = in.read();
+				if (b < 0)
+				{
+					throw new EOFException();
+				}
+
+				v |= (b & 0x7F) << shift;
+
+				if ((b & 0x80) == 0)
+				{
+					break;
+				}
+			}
+
+			return (v >>> 1) ^ -(v & 1);
+		}
+
+		public boolean readBoolean() throws IOException
+		{
+			return readInt() != 0;
+		}
+
+		public String readString() throws IOException
+		{
+			return in.readUTF();
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			in.close();
+		}
+
+	}
+
+}
@@ -0,0 +1,401 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.replay;
+
+import ca.plugins.toaextended.ToaExtendedConfig;
+import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.RaidState;
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Actor;
+import net.runelite.api.Client;
+import net.runelite.api.GraphicsObject;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.Projectile;
+import net.runelite.api.Varbits;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.GraphicsObjectCreated;
+import net.runelite.api.events.NpcChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.ProjectileMoved;
+import net.runelite.api.events.ScriptPostFired;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.RuneLite;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Writes the events the raid components react to into a {@link RaidEventLog}, one file per raid, so that the raid
+ * can be replayed offline.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class RaidEventRecorder implements PluginLifecycleComponent
+{
+
+	private static final File RECORDINGS_DIR = new File(RuneLite.RUNELITE_DIR, "toa-extended/recordings");
+	// varbits that are read but may already be set before the recording starts
+	private static final int[] INITIAL_VARBITS = {
+		Varbits.TOA_RAID_LEVEL,
+		Varbits.BOSS_HEALTH_CURRENT,
+		Varbits.BOSS_HEALTH_MAXIMUM
+	};
+
+	private final Client client;
+
+	private final Map<Object, Integer> handles = new IdentityHashMap<>();
+	private final Map<NPC, LocalPoint> npcLocations = new IdentityHashMap<>();
+	private final Map<GraphicsObject, Integer> graphicsObjects = new IdentityHashMap<>();
+	private final Map<Projectile, Integer> projectiles = new IdentityHashMap<>();
+
+	@Nullable
+	private RaidEventLog.Writer writer;
+	private int nextHandle;
+	private int lastCycle;
+
+	@Override
+	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
+	{
+		return config.recordRaidEvents() && raidState.isInRaid();
+	}
+
+	@Override
+	public void startUp()
+	{
+		final File file = new File(RECORDINGS_DIR,
+			"raid-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + RaidEventLog.FILE_EXTENSION);
+
+		try
+		{
+			if (!RECORDINGS_DIR.isDirectory() && !RECORDINGS_DIR.mkdirs())
+			{
+				throw new IOException("Could not create " + RECORDINGS_DIR);
+			}
+
+			writer = new RaidEventLog.Writer(file);
+			log.debug("Recording raid events to {}", file);
+		}
+		catch (final IOException exception)
+		{
+			log.warn("Failed to start recording raid events", exception);
+		}
+
+		nextHandle = 1;
+		lastCycle = -1;
+
+		for (final int varbitId : INITIAL_VARBITS)
+		{
+			write(RaidEventLog.VARBIT, varbitId, client.getVarbitValue(varbitId));
+		}
+	}
+
+	@Override
+	public void shutDown()
+	{
+		if (writer != null)
+		{
+			try
+			{
+				writer.close();
+			}
+			catch (final IOException exception)
+			{
+				log.warn("Failed to finish recording raid events", exception);
+			}
+		}
+
+		writer = null;
+		handles.clear();
+		npcLocations.clear();
+		graphicsObjects.clear();
+		projectiles.clear();
+	}
+
+	@Subscribe(priority = 10)
+	private void onGameTick(final GameTick event)
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		for (final Map.Entry<NPC, LocalPoint> entry : npcLocations.entrySet())
+		{
+			final LocalPoint location = entry.getKey().getLocalLocation();
+
+			if (location != null && !location.equals(entry.getValue()))
+			{
+				entry.setValue(location);
+				write(RaidEventLog.NPC_MOVED, handle(entry.getKey()), location.getX(), location.getY());
+			}
+		}
+
+		for (final Iterator<GraphicsObject> iterator = graphicsObjects.keySet().iterator(); iterator.hasNext(); )
+		{
+			final GraphicsObject graphicsObject = iterator.next();
+
+			if (graphicsObject.finished())
+			{
+				iterator.remove();
+				write(RaidEventLog.GRAPHICS_OBJECT_FINISHED, release(graphicsObject));
+			}
+		}
+
+		projectiles.keySet().removeIf(p ->
+		{
+			if (p.getRemainingCycles() > 0)
+			{
+				return false;
+			}
+			release(p);
+			return true;
+		});
+
+		final Player player = client.getLocalPlayer();
+		final LocalPoint localPoint = player == null ? null : player.getLocalLocation();
+
+		if (localPoint == null)
+		{
+			return;
+		}
+
+		final WorldPoint worldPoint = WorldPoint.fromLocalInstance(client, localPoint);
+		lastCycle = client.getGameCycle();
+
+		write(RaidEventLog.TICK, lastCycle, localPoint.getX(), localPoint.getY(), worldPoint.getPlane(),
+			worldPoint.getX(), worldPoint.getY());
+	}
+
+	@Subscribe
+	private void onVarbitChanged(final VarbitChanged event)
+	{
+		if (event.getVarbitId() != -1)
+		{
+			write(RaidEventLog.VARBIT, event.getVarbitId(), event.getValue());
+		}
+	}
+
+	@Subscribe
+	private void onNpcSpawned(final NpcSpawned event)
+	{
+		final NPC npc = event.getNpc();
+		final LocalPoint location = npc.getLocalLocation();
+
+		if (writer == null || npcLocations.containsKey(npc) || location == null)
+		{
+			return;
+		}
+
+		npcLocations.put(npc, location);
+		write(RaidEventLog.NPC_SPAWNED, handle(npc), npc.getId(), npc.getIndex(), location.getX(), location.getY());
+		writeString(npc.getName());
+	}
+
+	@Subscribe
+	private void onNpcDespawned(final NpcDespawned event)
+	{
+		final NPC npc = event.getNpc();
+
+		if (npcLocations.remove(npc) != null)
+		{
+			write(RaidEventLog.NPC_DESPAWNED, release(npc));
+		}
+	}
+
+	@Subscribe
+	private void onNpcChanged(final NpcChanged event)
+	{
+		final NPC npc = event.getNpc();
+
+		if (npcLocations.containsKey(npc))
+		{
+			write(RaidEventLog.NPC_CHANGED, handle(npc), npc.getId());
+			writeString(npc.getName());
+		}
+	}
+
+	@Subscribe
+	private void onAnimationChanged(final AnimationChanged event)
+	{
+		final Actor actor = event.getActor();
+
+		if (actor == client.getLocalPlayer() || npcLocations.containsKey(actor))
+		{
+			write(RaidEventLog.ANIMATION_CHANGED, handle(actor), actor.getAnimation());
+		}
+	}
+
+	@Subscribe
+	private void onProjectileMoved(final ProjectileMoved event)
+	{
+		final Projectile projectile = event.getProjectile();
+
+		if (writer == null)
+		{
+			return;
+		}
+
+		if (projectiles.containsKey(projectile))
+		{
+			write(RaidEventLog.PROJECTILE_MOVED, projectiles.get(projectile));
+			return;
+		}
+
+		final int handle = handle(projectile);
+		final LocalPoint target = projectile.getTarget();
+		final Actor interacting = projectile.getInteracting();
+
+		projectiles.put(projectile, handle);
+		write(RaidEventLog.PROJECTILE_SPAWNED, handle, projectile.getId(), projectile.getStartCycle(),
+			projectile.getEndCycle(), target == null ? -1 : target.getX(), target == null ? -1 : target.getY(),
+			interacting != null && interacting == client.getLocalPlayer() ? 1 : 0);
+	}
+
+	@Subscribe
+	private void onGraphicsObjectCreated(final GraphicsObjectCreated event)
+	{
+		final GraphicsObject graphicsObject = event.getGraphicsObject();
+		final LocalPoint location = graphicsObject.getLocation();
+
+		if (writer == null || location == null)
+		{
+			return;
+		}
+
+		final int handle = handle(graphicsObject);
+		graphicsObjects.put(graphicsObject, handle);
+		write(RaidEventLog.GRAPHICS_OBJECT_CREATED, handle, graphicsObject.getId(), location.getX(), location.getY(),
+			graphicsObject.getStartCycle());
+	}
+
+	@Subscribe
+	private void onChatMessage(final ChatMessage event)
+	{
+		write(RaidEventLog.CHAT_MESSAGE, event.getType().ordinal());
+		writeString(event.getName());
+		writeString(event.getMessage());
+	}
+
+	@Subscribe
+	private void onScriptPostFired(final ScriptPostFired event)
+	{
+		write(RaidEventLog.SCRIPT_POST_FIRED, event.getScriptId());
+	}
+
+	private int handle(final Object object)
+	{
+		if (object == client.getLocalPlayer())
+		{
+			return 0;
+		}
+
+		return handles.computeIfAbsent(object, o -> nextHandle++);
+	}
+
+	private int release(final Object object)
+	{
+		final Integer handle = handles.remove(object);
+		return handle == null ? -1 : handle;
+	}
+
+	private void write(final int type, final int... values)
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		try
+		{
+			final int cycle = client.getGameCycle();
+			if (cycle != lastCycle && type != RaidEventLog.TICK)
+			{
+				lastCycle = cycle;
+				writer.write(RaidEventLog.CYCLE, cycle);
+			}
+
+			writer.write(type, values);
+		}
+		catch (final IOException exception)
+		{
+			stop(exception);
+		}
+	}
+
+	private void writeString(final String value)
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		try
+		{
+			writer.writeString(value);
+		}
+		catch (final IOException exception)
+		{
+			stop(exception);
+		}
+	}
+
+	private void stop(final IOException exception)
+	{
+		log.warn("Failed to record raid events, recording stopped", exception);
+
+		try
+		{
+			writer.close();
+		}
+		catch (final IOException ignored)
+		{
+		}
+
+		writer = null;
+	}
+
+}
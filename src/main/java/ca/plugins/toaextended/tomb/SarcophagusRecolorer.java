@@ -33,38 +33,31 @@ package ca.plugins.toaextended.tomb;
 import ca.plugins.toaextended.ToaExtendedConfig;
 import ca.plugins.toaextended.event.Sarcophagus;
 import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import ca.plugins.toaextended.util.ChatMessageRouter;
 import ca.plugins.toaextended.util.RaidRoom;
 import ca.plugins.toaextended.util.RaidState;
+import ca.plugins.toaextended.util.RenderableHider;
 import ca.plugins.toaextended.util.ToaUtils;
 import java.awt.Color;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.api.Animation;
 import net.runelite.api.ChatLineBuffer;
-import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
-import net.runelite.api.DynamicObject;
 import net.runelite.api.MessageNode;
 import net.runelite.api.Model;
-import net.runelite.api.Renderable;
 import net.runelite.api.WallObject;
-import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.WallObjectDespawned;
 import net.runelite.api.events.WallObjectSpawned;
 import net.runelite.client.callback.ClientThread;
-import net.runelite.client.callback.Hooks;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
-import net.runelite.client.util.Text;
 
 @Slf4j
 @Singleton
@@ -72,7 +65,6 @@ import net.runelite.client.util.Text;
 public class SarcophagusRecolorer implements PluginLifecycleComponent
 {
 
-	private static final Pattern LOOT_PATTERN = Pattern.compile("^(?<prefix>.+ found something special: )(?<loot>.+)$");
 
 	private static final int[] VARBIT_MULTILOC_IDS_CHEST = new int[]{
 		14356, 14357, 14358, 14359, 14360, 14370, 14371, 14372
@@ -82,14 +74,16 @@ public class SarcophagusRecolorer implements PluginLifecycleComponent
 	private static final int VARBIT_ID_SARCOPHAGUS = 14373;
 	private static final int WALL_OBJECT_ID_SARCOPHAGUS = 46221;
 	private static final int ANIMATION_ID_BALL_OF_LIGHT = 9523;
+	private static final String MESSAGE_LOOT = " found something special: ";
 
 	private final EventBus eventBus;
 	private final Client client;
 	private final ClientThread clientThread;
-	private final Hooks hooks;
+	private final RenderableHider renderableHider;
 	private final ToaExtendedConfig config;
+	private final ChatMessageRouter chatMessageRouter;
 
-	private final Hooks.RenderableDrawListener drawListener = this::shouldDraw;
+	private final RenderableHider.HideRules hideRules = this::addHideRules;
 	private final Collection<WallObject> wallObjects = new ArrayList<>();
 	@Nullable
 	private int[] defaultFaceColors1;
@@ -105,6 +99,7 @@ public class SarcophagusRecolorer implements PluginLifecycleComponent
 	@Override
 	public void startUp()
 	{
+		chatMessageRouter.registerContains(this, MESSAGE_LOOT, this::onLootMessage);
 		clientThread.invokeLater(() ->
 		{
 			parseVarbits();
@@ -112,15 +107,14 @@ public class SarcophagusRecolorer implements PluginLifecycleComponent
 			eventBus.post(new Sarcophagus(sarcophagusIsPurple && purpleIsMine));
 		});
 
-		eventBus.register(this);
-		hooks.registerRenderableDrawListener(drawListener);
+		renderableHider.register(hideRules);
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
-		hooks.unregisterRenderableDrawListener(drawListener);
+		chatMessageRouter.unregister(this);
+		renderableHider.unregister(hideRules);
 		wallObjects.clear();
 		defaultFaceColors1 = null;
 		sarcophagusIsPurple = false;
@@ -173,31 +167,18 @@ public class SarcophagusRecolorer implements PluginLifecycleComponent
 		}
 	}
 
-	@Subscribe
-	public void onChatMessage(final ChatMessage event)
+	private void onLootMessage(final ChatMessageRouter.Match match)
 	{
-		if (event.getType() != ChatMessageType.GAMEMESSAGE)
-		{
-			return;
-		}
+		final String loot = match.getAfter();
 
-		final Matcher matcher = LOOT_PATTERN.matcher(event.getMessage());
-
-		if (!matcher.matches())
-		{
-			return;
-		}
-
-		final String loot = matcher.group("loot");
-
-		if (loot == null || loot.isEmpty())
+		if (match.getStart() == 0 || loot.isEmpty())
 		{
 			return;
 		}
 
 		if (config.sarcophagusHideLoot() && purpleIsMine)
 		{
-			final MessageNode messageNode = event.getMessageNode();
+			final MessageNode messageNode = match.getEvent().getMessageNode();
 
 			final ChatLineBuffer chatLineBuffer = client.getChatLineMap().get(messageNode.getType().getType());
 
@@ -209,7 +190,7 @@ public class SarcophagusRecolorer implements PluginLifecycleComponent
 
 		if (config.sarcophagusRecolorLoot())
 		{
-			final Color color = getLootColor(Text.standardize(loot));
+			final Color color = getLootColor(loot);
 			clientThread.invokeLater(() -> recolor(wallObjects, color));
 		}
 	}
@@ -227,6 +208,8 @@ public class SarcophagusRecolorer implements PluginLifecycleComponent
 				break;
 			}
 		}
+
+		renderableHider.invalidate();
 	}
 
 	private void initDefaultFaceColors1(final WallObject wallObject)
@@ -330,16 +313,12 @@ public class SarcophagusRecolorer implements PluginLifecycleComponent
 		System.arraycopy(defaultFaceColors1, 0, faceColors1, 0, faceColors1.length);
 	}
 
-	private boolean shouldDraw(final Renderable renderable, final boolean drawingUI)
+	private void addHideRules(final RenderableHider.Builder builder)
 	{
-		if (!purpleIsMine || !config.sarcophagusHideLoot() || !(renderable instanceof DynamicObject))
+		if (purpleIsMine && config.sarcophagusHideLoot())
 		{
-			return true;
+			builder.dynamicObjectAnimation(ANIMATION_ID_BALL_OF_LIGHT);
 		}
-
-		final Animation animation = ((DynamicObject) renderable).getAnimation();
-
-		return animation == null || animation.getId() != ANIMATION_ID_BALL_OF_LIGHT;
 	}
 
 	private Color getLootColor(final String loot)
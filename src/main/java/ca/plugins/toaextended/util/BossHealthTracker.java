@@ -0,0 +1,206 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.util;
+
+import ca.plugins.toaextended.ToaExtendedConfig;
+import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import java.util.ArrayList;
+import java.util.List;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.runelite.api.Client;
+import net.runelite.api.Varbits;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Health of the boss shown in the boss health HUD, maintained from the {@link Varbits#BOSS_HEALTH_CURRENT} and
+ * {@link Varbits#BOSS_HEALTH_MAXIMUM} varbits.
+ * <p>
+ * Bosses register the health percentages their phases change at while active, and the hp left until the next one is
+ * computed once per health change instead of by each boss. The health is forgotten whenever a boss registers or
+ * unregisters, so that a boss only reports its own health once its HUD updates, never the previous boss's.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class BossHealthTracker implements PluginLifecycleComponent
+{
+
+	private final Client client;
+
+	private final List<Registration> registrations = new ArrayList<>();
+
+	private int currentHp;
+	private int maxHp;
+
+	@Getter
+	private int hpRemaining;
+
+	@Override
+	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
+	{
+		return raidState.isInRaid();
+	}
+
+	@Override
+	public void startUp()
+	{
+	}
+
+	@Override
+	public void shutDown()
+	{
+		reset();
+	}
+
+	/**
+	 * Registers a boss that only reads {@link #getHpRemaining()}.
+	 */
+	public void register(final Object owner)
+	{
+		register(owner, new double[0]);
+	}
+
+	public void register(final Object owner, final double[] hpPercentBreakpoints)
+	{
+		registrations.add(new Registration(owner, hpPercentBreakpoints));
+		reset();
+	}
+
+	public void unregister(final Object owner)
+	{
+		if (registrations.removeIf(r -> r.owner == owner))
+		{
+			reset();
+		}
+	}
+
+	/**
+	 * @return the hp left until the next breakpoint registered by the owner, or -1 if the health is not known yet
+	 */
+	public int getHpUntilNextBreakPoint(final Object owner)
+	{
+		for (final Registration registration : registrations)
+		{
+			if (registration.owner == owner)
+			{
+				return registration.hpUntilNextBreakPoint;
+			}
+		}
+
+		return -1;
+	}
+
+	@Subscribe
+	public void onVarbitChanged(final VarbitChanged event)
+	{
+		final int varbitId = event.getVarbitId();
+
+		if (varbitId != Varbits.BOSS_HEALTH_CURRENT && varbitId != Varbits.BOSS_HEALTH_MAXIMUM)
+		{
+			return;
+		}
+
+		// read both, as only the changed one arrives and the other may still be from before the reset
+		currentHp = client.getVarbitValue(Varbits.BOSS_HEALTH_CURRENT);
+		maxHp = client.getVarbitValue(Varbits.BOSS_HEALTH_MAXIMUM);
+		update();
+	}
+
+	private void reset()
+	{
+		currentHp = 0;
+		maxHp = 0;
+		hpRemaining = 0;
+
+		for (final Registration registration : registrations)
+		{
+			registration.reset();
+		}
+	}
+
+	private boolean isValid()
+	{
+		return maxHp > 1 && currentHp > 0;
+	}
+
+	private void update()
+	{
+		// keep the last known values while the HUD is being reset
+		if (!isValid())
+		{
+			return;
+		}
+
+		hpRemaining = maxHp - currentHp;
+
+		for (final Registration registration : registrations)
+		{
+			registration.update(maxHp, currentHp);
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static class Registration
+	{
+		private final Object owner;
+		private final double[] hpPercentBreakpoints;
+
+		private int[] hpBreakpoints;
+		private int hpBreakpointsMaxHp;
+		private int hpUntilNextBreakPoint = -1;
+
+		private void reset()
+		{
+			hpBreakpoints = null;
+			hpUntilNextBreakPoint = -1;
+		}
+
+		private void update(final int maxHp, final int currentHp)
+		{
+			if (hpBreakpoints == null || hpBreakpointsMaxHp != maxHp)
+			{
+				hpBreakpoints = new int[hpPercentBreakpoints.length];
+				hpBreakpointsMaxHp = maxHp;
+
+				for (int i = 0; i < hpPercentBreakpoints.length; i++)
+				{
+					hpBreakpoints[i] = (int) (hpPercentBreakpoints[i] * maxHp);
+				}
+			}
+
+			hpUntilNextBreakPoint = ToaUtils.getHpUntilNextBreakPoint(hpBreakpoints, currentHp);
+		}
+	}
+
+}
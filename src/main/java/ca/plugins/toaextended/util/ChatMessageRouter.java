@@ -0,0 +1,424 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.util;
+
+import ca.plugins.toaextended.ToaExtendedConfig;
+import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Consumer;
+import javax.inject.Singleton;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Single subscription to the game messages, matching every registered phrase against a message in one pass of an
+ * Aho-Corasick automaton and dispatching a {@link Match} to the handlers of the phrases found.
+ * <p>
+ * Phrases are matched case-insensitively against the message as {@code Text.standardize} would return it, with the
+ * tags stripped, non-breaking spaces replaced and the ends trimmed. The message is standardized on the fly while
+ * scanning and only turned into a string when a phrase matches, so that a message nobody registered for costs one
+ * pass over its characters. The automaton is rebuilt when the registrations change.
+ */
+@Singleton
+public class ChatMessageRouter implements PluginLifecycleComponent
+{
+
+	private final List<Registration> registrations = new ArrayList<>();
+
+	private Automaton automaton = Automaton.build(registrations);
+
+	private final StringBuilder text = new StringBuilder();
+	private final BitSet dispatched = new BitSet();
+	private int[] matchPhrases = new int[8];
+	private int[] matchEnds = new int[8];
+	private int matchCount;
+
+	@Override
+	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
+	{
+		return raidState.isInLobby() || raidState.isInRaid();
+	}
+
+	@Override
+	public void startUp()
+	{
+	}
+
+	@Override
+	public void shutDown()
+	{
+	}
+
+	public void registerPrefix(final Object owner, final String prefix, final Consumer<Match> handler)
+	{
+		register(owner, Anchor.PREFIX, prefix, handler);
+	}
+
+	public void registerExact(final Object owner, final String phrase, final Consumer<Match> handler)
+	{
+		register(owner, Anchor.EXACT, phrase, handler);
+	}
+
+	public void registerSuffix(final Object owner, final String suffix, final Consumer<Match> handler)
+	{
+		register(owner, Anchor.SUFFIX, suffix, handler);
+	}
+
+	public void registerContains(final Object owner, final String phrase, final Consumer<Match> handler)
+	{
+		register(owner, Anchor.CONTAINS, phrase, handler);
+	}
+
+	public void unregister(final Object owner)
+	{
+		if (registrations.removeIf(r -> r.owner == owner))
+		{
+			automaton = Automaton.build(registrations);
+		}
+	}
+
+	@Subscribe
+	public void onChatMessage(final ChatMessage event)
+	{
+		if (event.getType() != ChatMessageType.GAMEMESSAGE || registrations.isEmpty())
+		{
+			return;
+		}
+
+		// handlers registering or unregistering while being dispatched to do not affect the current message
+		final Automaton automaton = this.automaton;
+
+		scan(automaton, event.getMessage());
+
+		String standardized = null;
+		dispatched.clear();
+
+		for (int i = 0; i < matchCount; i++)
+		{
+			final int phrase = matchPhrases[i];
+			final int end = matchEnds[i];
+			final Registration registration = automaton.registrations[phrase];
+			final int start = end - registration.phrase.length();
+
+			if (end > text.length() || dispatched.get(phrase) || !registration.anchor.matches(start, end, text.length()))
+			{
+				continue;
+			}
+
+			dispatched.set(phrase);
+
+			if (standardized == null)
+			{
+				standardized = text.toString();
+			}
+
+			registration.handler.accept(new Match(event, standardized, start, end));
+		}
+	}
+
+	private void register(final Object owner, final Anchor anchor, final String phrase, final Consumer<Match> handler)
+	{
+		registrations.add(new Registration(owner, anchor, phrase.toLowerCase(), handler));
+		automaton = Automaton.build(registrations);
+	}
+
+	private void scan(final Automaton automaton, final String message)
+	{
+		text.setLength(0);
+		matchCount = 0;
+
+		final int length = message.length();
+		int trimmedLength = 0;
+		int state = 0;
+
+		for (int i = 0; i < length; i++)
+		{
+			char c = message.charAt(i);
+
+			if (c == '<')
+			{
+				final int close = message.indexOf('>', i);
+
+				if (close != -1)
+				{
+					i = close;
+					continue;
+				}
+			}
+
+			if (c == '\u00A0')
+			{
+				c = ' ';
+			}
+
+			if (c <= ' ' && text.length() == 0)
+			{
+				continue;
+			}
+
+			c = Character.toLowerCase(c);
+			text.append(c);
+
+			if (c > ' ')
+			{
+				trimmedLength = text.length();
+			}
+
+			state = automaton.next(state, c);
+
+			for (final int phrase : automaton.outputs[state])
+			{
+				addMatch(phrase, text.length());
+			}
+		}
+
+		text.setLength(trimmedLength);
+	}
+
+	private void addMatch(final int phrase, final int end)
+	{
+		if (matchCount == matchPhrases.length)
+		{
+			matchPhrases = Arrays.copyOf(matchPhrases, matchCount * 2);
+			matchEnds = Arrays.copyOf(matchEnds, matchCount * 2);
+		}
+
+		matchPhrases[matchCount] = phrase;
+		matchEnds[matchCount] = end;
+		matchCount++;
+	}
+
+	/**
+	 * A registered phrase found in a game message.
+	 */
+	@Getter
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	public static final class Match
+	{
+		private final ChatMessage event;
+		private final String text;
+		private final int start;
+		private final int end;
+
+		/**
+		 * @return the standardized message before the phrase
+		 */
+		public String getBefore()
+		{
+			return text.substring(0, start);
+		}
+
+		/**
+		 * @return the standardized message after the phrase
+		 */
+		public String getAfter()
+		{
+			return text.substring(end);
+		}
+	}
+
+	private enum Anchor
+	{
+		PREFIX,
+		EXACT,
+		SUFFIX,
+		CONTAINS;
+
+		private boolean matches(final int start, final int end, final int length)
+		{
+			switch (this)
+			{
+				case PREFIX:
+					return start == 0;
+				case EXACT:
+					return start == 0 && end == length;
+				case SUFFIX:
+					return end == length;
+				default:
+					return true;
+			}
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static class Registration
+	{
+		private final Object owner;
+		private final Anchor anchor;
+		private final String phrase;
+		private final Consumer<Match> handler;
+	}
+
+	private static class Automaton
+	{
+		private static final int[] NO_OUTPUTS = new int[0];
+
+		private final Registration[] registrations;
+		private final char[][] labels;
+		private final int[][] targets;
+		private final int[] fail;
+		private final int[][] outputs;
+
+		private Automaton(final Registration[] registrations, final int states)
+		{
+			this.registrations = registrations;
+			this.labels = new char[states][];
+			this.targets = new int[states][];
+			this.fail = new int[states];
+			this.outputs = new int[states][];
+		}
+
+		private int next(int state, final char c)
+		{
+			while (true)
+			{
+				final char[] stateLabels = labels[state];
+
+				for (int i = 0; i < stateLabels.length; i++)
+				{
+					if (stateLabels[i] == c)
+					{
+						return targets[state][i];
+					}
+				}
+
+				if (state == 0)
+				{
+					return 0;
+				}
+
+				state = fail[state];
+			}
+		}
+
+		private static Automaton build(final List<Registration> registrations)
+		{
+			final List<Map<Character, Integer>> trie = new ArrayList<>();
+			final List<List<Integer>> phrases = new ArrayList<>();
+			trie.add(new HashMap<>());
+			phrases.add(new ArrayList<>());
+
+			for (int i = 0; i < registrations.size(); i++)
+			{
+				final String phrase = registrations.get(i).phrase;
+				int state = 0;
+
+				for (int j = 0; j < phrase.length(); j++)
+				{
+					final Integer next = trie.get(state).get(phrase.charAt(j));
+
+					if (next != null)
+					{
+						state = next;
+						continue;
+					}
+
+					trie.add(new HashMap<>());
+					phrases.add(new ArrayList<>());
+					trie.get(state).put(phrase.charAt(j), trie.size() - 1);
+					state = trie.size() - 1;
+				}
+
+				phrases.get(state).add(i);
+			}
+
+			final Automaton automaton = new Automaton(registrations.toArray(new Registration[0]), trie.size());
+			automaton.outputs[0] = toArray(phrases.get(0), NO_OUTPUTS);
+
+			// breadth first, so that the fail state of a state and its outputs are complete before the state is
+			final Queue<Integer> queue = new ArrayDeque<>();
+			queue.add(0);
+
+			while (!queue.isEmpty())
+			{
+				final int state = queue.poll();
+				final Map<Character, Integer> transitions = trie.get(state);
+
+				automaton.labels[state] = new char[transitions.size()];
+				automaton.targets[state] = new int[transitions.size()];
+
+				int i = 0;
+				for (final Map.Entry<Character, Integer> transition : transitions.entrySet())
+				{
+					final char c = transition.getKey();
+					final int target = transition.getValue();
+
+					automaton.labels[state][i] = c;
+					automaton.targets[state][i] = target;
+					i++;
+
+					int fail = automaton.fail[state];
+					while (state != 0 && fail != 0 && !trie.get(fail).containsKey(c))
+					{
+						fail = automaton.fail[fail];
+					}
+
+					final Integer failTarget = state == 0 ? null : trie.get(fail).get(c);
+					automaton.fail[target] = failTarget == null ? 0 : failTarget;
+					automaton.outputs[target] = toArray(phrases.get(target), automaton.outputs[automaton.fail[target]]);
+
+					queue.add(target);
+				}
+			}
+
+			return automaton;
+		}
+
+		private static int[] toArray(final List<Integer> phrases, final int[] inherited)
+		{
+			if (phrases.isEmpty())
+			{
+				return inherited;
+			}
+
+			final int[] outputs = Arrays.copyOf(inherited, inherited.length + phrases.size());
+
+			for (int i = 0; i < phrases.size(); i++)
+			{
+				outputs[inherited.length + i] = phrases.get(i);
+			}
+
+			return outputs;
+		}
+	}
+
+}
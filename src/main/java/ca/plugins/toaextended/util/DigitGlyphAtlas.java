@@ -0,0 +1,224 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.util;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * Pre-rendered digit glyphs for the tick and health counters, so that a counter is drawn as a few image blits instead
+ * of a font lookup and two passes of text layout. Glyphs are kept per font size, font style, color and text
+ * antialiasing, and the least recently used set is replaced once {@link #MAX_GLYPH_SETS} are in use, e.g. after the
+ * font config changed.
+ * <p>
+ * Text that is not made of digits only is drawn as a string with a cached font.
+ */
+public class DigitGlyphAtlas
+{
+
+	private static final int MAX_GLYPH_SETS = 16;
+
+	private final GlyphSet[] glyphSets = new GlyphSet[MAX_GLYPH_SETS];
+	private long uses;
+
+	public void drawString(
+		final Graphics2D graphics2D,
+		final String text,
+		final int x,
+		final int y,
+		final Color color,
+		final int size,
+		final int style,
+		final boolean shadow)
+	{
+		final GlyphSet glyphSet = glyphSet(graphics2D, color, size, style);
+
+		if (!isDigits(text))
+		{
+			final Color originalColor = graphics2D.getColor();
+			final Font originalFont = graphics2D.getFont();
+
+			graphics2D.setFont(glyphSet.font);
+
+			if (shadow)
+			{
+				graphics2D.setColor(Color.BLACK);
+				graphics2D.drawString(text, x + 1, y + 1);
+			}
+
+			graphics2D.setColor(color);
+			graphics2D.drawString(text, x, y);
+
+			graphics2D.setFont(originalFont);
+			graphics2D.setColor(originalColor);
+			return;
+		}
+
+		final int top = y - glyphSet.ascent;
+
+		// all shadows first, like drawing the shadow string before the text
+		if (shadow)
+		{
+			int glyphX = x + 1;
+			for (int i = 0; i < text.length(); i++)
+			{
+				final int digit = text.charAt(i) - '0';
+				graphics2D.drawImage(glyphSet.shadows[digit], glyphX - glyphSet.padding, top + 1, null);
+				glyphX += glyphSet.advances[digit];
+			}
+		}
+
+		int glyphX = x;
+		for (int i = 0; i < text.length(); i++)
+		{
+			final int digit = text.charAt(i) - '0';
+			graphics2D.drawImage(glyphSet.glyphs[digit], glyphX - glyphSet.padding, top, null);
+			glyphX += glyphSet.advances[digit];
+		}
+	}
+
+	private GlyphSet glyphSet(final Graphics2D graphics2D, final Color color, final int size, final int style)
+	{
+		final int rgb = color.getRGB();
+		final Object antialiasing = graphics2D.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING);
+		int replace = 0;
+
+		for (int i = 0; i < glyphSets.length; i++)
+		{
+			final GlyphSet glyphSet = glyphSets[i];
+
+			if (glyphSet == null)
+			{
+				replace = i;
+				break;
+			}
+
+			if (glyphSet.size == size && glyphSet.style == style && glyphSet.rgb == rgb
+				&& glyphSet.antialiasing == antialiasing)
+			{
+				glyphSet.lastUse = ++uses;
+				return glyphSet;
+			}
+
+			if (glyphSet.lastUse < glyphSets[replace].lastUse)
+			{
+				replace = i;
+			}
+		}
+
+		final GlyphSet glyphSet = new GlyphSet(graphics2D, color, size, style, antialiasing);
+		glyphSet.lastUse = ++uses;
+		glyphSets[replace] = glyphSet;
+		return glyphSet;
+	}
+
+	private static boolean isDigits(final String text)
+	{
+		if (text.isEmpty())
+		{
+			return false;
+		}
+
+		for (int i = 0; i < text.length(); i++)
+		{
+			final char c = text.charAt(i);
+			if (c < '0' || c > '9')
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static class GlyphSet
+	{
+
+		private final int size;
+		private final int style;
+		private final int rgb;
+		private final Object antialiasing;
+		private final Font font;
+		private final int ascent;
+		private final int padding;
+		private final int[] advances = new int[10];
+		private final BufferedImage[] glyphs = new BufferedImage[10];
+		private final BufferedImage[] shadows = new BufferedImage[10];
+		private long lastUse;
+
+		private GlyphSet(final Graphics2D graphics2D, final Color color, final int size, final int style,
+			final Object antialiasing)
+		{
+			this.size = size;
+			this.style = style;
+			this.rgb = color.getRGB();
+			this.antialiasing = antialiasing;
+			this.font = new Font("Arial", style, size);
+
+			final FontMetrics metrics = graphics2D.getFontMetrics(font);
+			this.ascent = metrics.getAscent();
+			// room for glyphs reaching past their advance, such as italic digits
+			this.padding = Math.max(2, size / 4);
+
+			for (int digit = 0; digit < 10; digit++)
+			{
+				advances[digit] = metrics.charWidth((char) ('0' + digit));
+				glyphs[digit] = rasterize(digit, color, metrics);
+				shadows[digit] = rasterize(digit, Color.BLACK, metrics);
+			}
+		}
+
+		private BufferedImage rasterize(final int digit, final Color color, final FontMetrics metrics)
+		{
+			final BufferedImage image = new BufferedImage(advances[digit] + padding * 2,
+				metrics.getAscent() + metrics.getDescent(), BufferedImage.TYPE_INT_ARGB);
+			final Graphics2D graphics = image.createGraphics();
+
+			if (antialiasing != null)
+			{
+				graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, antialiasing);
+			}
+
+			graphics.setFont(font);
+			graphics.setColor(color);
+			graphics.drawString(String.valueOf((char) ('0' + digit)), padding, ascent);
+			graphics.dispose();
+
+			return image;
+		}
+
+	}
+
+}
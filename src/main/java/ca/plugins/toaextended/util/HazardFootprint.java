@@ -0,0 +1,286 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.util;
+
+import java.awt.Polygon;
+import java.awt.Shape;
+import java.awt.geom.Path2D;
+import java.util.Arrays;
+import java.util.BitSet;
+import javax.annotation.Nullable;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.Perspective;
+import net.runelite.api.Point;
+import net.runelite.api.coords.LocalPoint;
+
+/**
+ * The merged outline of a set of scene tiles, built on the tile grid instead of with {@link java.awt.geom.Area}
+ * unions. The boundary edges of the marked tiles are traced into closed loops of a single {@link Path2D}, which is
+ * kept until the marked tiles or the camera change. When a corner of a loop is behind the camera, the footprint falls
+ * back to the outlines of its single tiles, so that the visible ones are still drawn.
+ * <p>
+ * The returned shape is reused by the next rebuild and must not be kept or modified.
+ */
+public class HazardFootprint
+{
+
+	private static final int SIZE = Constants.SCENE_SIZE;
+	private static final int CORNERS = SIZE + 1;
+
+	private final Client client;
+	private final TilePolygonCache tilePolygonCache;
+
+	private final BitSet tiles = new BitSet(SIZE * SIZE);
+	private final BitSet builtTiles = new BitSet(SIZE * SIZE);
+	private final Path2D.Float path = new Path2D.Float();
+	private int builtGeneration = -1;
+	private boolean builtEmpty = true;
+
+	private int[] edgeFrom = new int[64];
+	private int[] edgeTo = new int[64];
+	private int edgeCount;
+
+	private float[] loopX = new float[64];
+	private float[] loopY = new float[64];
+
+	public HazardFootprint(final Client client, final TilePolygonCache tilePolygonCache)
+	{
+		this.client = client;
+		this.tilePolygonCache = tilePolygonCache;
+	}
+
+	public void clear()
+	{
+		tiles.clear();
+	}
+
+	public void add(final LocalPoint localPoint, final int dx, final int dy)
+	{
+		if (localPoint != null)
+		{
+			add(localPoint.getSceneX() + dx, localPoint.getSceneY() + dy);
+		}
+	}
+
+	public void add(final int sceneX, final int sceneY)
+	{
+		if (sceneX >= 0 && sceneY >= 0 && sceneX < SIZE && sceneY < SIZE)
+		{
+			tiles.set(sceneX * SIZE + sceneY);
+		}
+	}
+
+	/**
+	 * @return the outline of the marked tiles, or null if none of them is on screen
+	 */
+	@Nullable
+	public Shape getShape()
+	{
+		final int generation = tilePolygonCache.getGeneration();
+
+		if (generation != builtGeneration || !tiles.equals(builtTiles))
+		{
+			build();
+			builtGeneration = generation;
+			builtTiles.clear();
+			builtTiles.or(tiles);
+		}
+
+		return builtEmpty ? null : path;
+	}
+
+	private void build()
+	{
+		path.reset();
+		builtEmpty = true;
+		edgeCount = 0;
+
+		// counter-clockwise around every tile with the tile on the left, so holes wind the other way
+		for (int tile = tiles.nextSetBit(0); tile >= 0; tile = tiles.nextSetBit(tile + 1))
+		{
+			final int x = tile / SIZE;
+			final int y = tile % SIZE;
+
+			if (!isMarked(x, y - 1))
+			{
+				addEdge(corner(x, y), corner(x + 1, y));
+			}
+			if (!isMarked(x + 1, y))
+			{
+				addEdge(corner(x + 1, y), corner(x + 1, y + 1));
+			}
+			if (!isMarked(x, y + 1))
+			{
+				addEdge(corner(x + 1, y + 1), corner(x, y + 1));
+			}
+			if (!isMarked(x - 1, y))
+			{
+				addEdge(corner(x, y + 1), corner(x, y));
+			}
+		}
+
+		final int plane = client.getPlane();
+
+		for (int edge = 0; edge < edgeCount; edge++)
+		{
+			if (edgeFrom[edge] >= 0 && !traceLoop(edge, plane))
+			{
+				buildTiles();
+				return;
+			}
+		}
+	}
+
+	private void buildTiles()
+	{
+		path.reset();
+		builtEmpty = true;
+
+		for (int tile = tiles.nextSetBit(0); tile >= 0; tile = tiles.nextSetBit(tile + 1))
+		{
+			final int x = ((tile / SIZE) << Perspective.LOCAL_COORD_BITS) + Perspective.LOCAL_HALF_TILE_SIZE;
+			final int y = ((tile % SIZE) << Perspective.LOCAL_COORD_BITS) + Perspective.LOCAL_HALF_TILE_SIZE;
+			final Polygon polygon = tilePolygonCache.getTilePoly(new LocalPoint(x, y));
+
+			if (polygon != null)
+			{
+				path.append(polygon, false);
+				builtEmpty = false;
+			}
+		}
+	}
+
+	/**
+	 * @return false if a corner of the loop is behind the camera
+	 */
+	private boolean traceLoop(final int firstEdge, final int plane)
+	{
+		final int start = edgeFrom[firstEdge];
+		boolean visible = true;
+		int length = 0;
+
+		for (int edge = firstEdge; edge >= 0; )
+		{
+			final int from = edgeFrom[edge];
+			final int to = edgeTo[edge];
+			edgeFrom[edge] = -1;
+
+			final Point point = project(from / CORNERS, from % CORNERS, plane);
+			if (point == null)
+			{
+				visible = false;
+			}
+			else
+			{
+				if (length == loopX.length)
+				{
+					loopX = Arrays.copyOf(loopX, length << 1);
+					loopY = Arrays.copyOf(loopY, length << 1);
+				}
+				loopX[length] = point.getX();
+				loopY[length] = point.getY();
+				length++;
+			}
+
+			edge = to == start ? -1 : findEdge(to);
+		}
+
+		if (!visible)
+		{
+			return false;
+		}
+
+		if (length < 3)
+		{
+			return true;
+		}
+
+		path.moveTo(loopX[0], loopY[0]);
+		for (int i = 1; i < length; i++)
+		{
+			path.lineTo(loopX[i], loopY[i]);
+		}
+		path.closePath();
+		builtEmpty = false;
+		return true;
+	}
+
+	private int findEdge(final int from)
+	{
+		for (int edge = 0; edge < edgeCount; edge++)
+		{
+			if (edgeFrom[edge] == from)
+			{
+				return edge;
+			}
+		}
+
+		return -1;
+	}
+
+	private void addEdge(final int from, final int to)
+	{
+		if (edgeCount == edgeFrom.length)
+		{
+			edgeFrom = Arrays.copyOf(edgeFrom, edgeCount << 1);
+			edgeTo = Arrays.copyOf(edgeTo, edgeCount << 1);
+		}
+
+		edgeFrom[edgeCount] = from;
+		edgeTo[edgeCount] = to;
+		edgeCount++;
+	}
+
+	/**
+	 * Projects the south west corner of a scene tile, package-private so that tests can project without a camera.
+	 */
+	@Nullable
+	Point project(final int sceneX, final int sceneY, final int plane)
+	{
+		final int x = sceneX << Perspective.LOCAL_COORD_BITS;
+		final int y = sceneY << Perspective.LOCAL_COORD_BITS;
+		final int height = Perspective.getTileHeight(client, new LocalPoint(x, y), plane);
+
+		return Perspective.localToCanvas(client, x, y, height);
+	}
+
+	private boolean isMarked(final int x, final int y)
+	{
+		return x >= 0 && y >= 0 && x < SIZE && y < SIZE && tiles.get(x * SIZE + y);
+	}
+
+	private static int corner(final int x, final int y)
+	{
+		return x * CORNERS + y;
+	}
+
+}
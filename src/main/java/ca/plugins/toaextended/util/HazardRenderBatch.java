@@ -0,0 +1,185 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.util;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Polygon;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.geom.GeneralPath;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the hazard shapes of one overlay pass per outline color, fill color and stroke width, and draws every
+ * style with a single stroke and fill at the end of the pass instead of one pair of Graphics2D state changes per
+ * tile. Styles keep their stroke and colors between frames, and are drawn in the order of their first shape of the
+ * pass, so that the styles overlap the same way as when each shape was drawn on submission.
+ * <p>
+ * Overlapping shapes of the same style are filled once, where separate fills used to darken the overlap.
+ */
+public class HazardRenderBatch
+{
+
+	// styles are mostly config colors, a few dozen means the config changed a lot since the overlay started
+	private static final int MAX_STYLES = 32;
+
+	private final List<Style> styles = new ArrayList<>();
+	// styles with shapes in the current pass, in order of first use
+	private final List<Style> pending = new ArrayList<>();
+
+	public void add(final Color outlineColor, final Color fillColor, final float strokeWidth, final Shape shape)
+	{
+		append(style(outlineColor, fillColor, fillColor.getAlpha(), strokeWidth), shape);
+	}
+
+	/**
+	 * Fills with the outline color at the given alpha, without allocating the fill color every frame.
+	 */
+	public void add(final Color color, final int fillAlpha, final float strokeWidth, final Shape shape)
+	{
+		append(style(color, null, fillAlpha, strokeWidth), shape);
+	}
+
+	public void flush(final Graphics2D graphics2D)
+	{
+		flush(graphics2D, true);
+	}
+
+	/**
+	 * Draws the collected shapes, skipping the fills when {@code fill} is false.
+	 */
+	public void flush(final Graphics2D graphics2D, final boolean fill)
+	{
+		final Color originalColor = graphics2D.getColor();
+		final Stroke originalStroke = graphics2D.getStroke();
+
+		for (final Style style : pending)
+		{
+			graphics2D.setStroke(style.stroke);
+			graphics2D.setColor(style.outlineColor);
+			graphics2D.draw(style.path);
+
+			if (fill && style.fillColor.getAlpha() > 0)
+			{
+				graphics2D.setColor(style.fillColor);
+				graphics2D.fill(style.path);
+			}
+
+			style.path.reset();
+			style.empty = true;
+		}
+
+		pending.clear();
+
+		graphics2D.setColor(originalColor);
+		graphics2D.setStroke(originalStroke);
+	}
+
+	private Style style(final Color outlineColor, final Color fillColor, final int fillAlpha, final float strokeWidth)
+	{
+		final int fillArgb = fillColor == null ? (fillAlpha << 24) | (outlineColor.getRGB() & 0xFFFFFF) : fillColor.getRGB();
+
+		for (final Style style : styles)
+		{
+			if (style.outlineColor.getRGB() == outlineColor.getRGB()
+				&& style.fillColor.getRGB() == fillArgb
+				&& style.strokeWidth == strokeWidth)
+			{
+				return style;
+			}
+		}
+
+		if (styles.size() >= MAX_STYLES)
+		{
+			styles.removeIf(s -> s.empty);
+		}
+
+		final Style style = new Style(outlineColor, fillColor == null ? new Color(fillArgb, true) : fillColor,
+			strokeWidth);
+		styles.add(style);
+		return style;
+	}
+
+	private void append(final Style style, final Shape shape)
+	{
+		if (shape instanceof Polygon && ((Polygon) shape).npoints == 0)
+		{
+			return;
+		}
+
+		if (style.empty)
+		{
+			pending.add(style);
+		}
+
+		if (shape instanceof Polygon)
+		{
+			final Polygon polygon = (Polygon) shape;
+
+			style.path.moveTo(polygon.xpoints[0], polygon.ypoints[0]);
+			for (int i = 1; i < polygon.npoints; i++)
+			{
+				style.path.lineTo(polygon.xpoints[i], polygon.ypoints[i]);
+			}
+			style.path.closePath();
+		}
+		else
+		{
+			style.path.append(shape, false);
+		}
+
+		style.empty = false;
+	}
+
+	private static class Style
+	{
+
+		private final Color outlineColor;
+		private final Color fillColor;
+		private final float strokeWidth;
+		private final Stroke stroke;
+		private final GeneralPath path = new GeneralPath();
+		private boolean empty = true;
+
+		private Style(final Color outlineColor, final Color fillColor, final float strokeWidth)
+		{
+			this.outlineColor = outlineColor;
+			this.fillColor = fillColor;
+			this.strokeWidth = strokeWidth;
+			this.stroke = new BasicStroke(strokeWidth);
+		}
+
+	}
+
+}
@@ -0,0 +1,201 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.util;
+
+import ca.plugins.toaextended.ToaExtendedConfig;
+import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import net.runelite.api.MenuEntry;
+import net.runelite.api.NPC;
+import net.runelite.api.events.MenuEntryAdded;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Single subscription to {@link MenuEntryAdded}, deprioritizing the menu entries matched by the registered rules.
+ * <p>
+ * Rules are indexed by their menu option, so that an entry only looks up the rules of its own option, and may further
+ * be limited to target ids, the NPC id for NPC entries and the identifier otherwise. The condition of a rule is only
+ * tested once the option and target id matched, and should read state cached outside the menu events.
+ */
+@Singleton
+public class MenuRuleEngine implements PluginLifecycleComponent
+{
+
+	private static final Rule[] NO_RULES = new Rule[0];
+	private static final int UNRESOLVED = Integer.MIN_VALUE;
+
+	private final List<Rule> rules = new ArrayList<>();
+
+	private Map<String, Rule[]> rulesByOption = Collections.emptyMap();
+	private Rule[] anyOptionRules = NO_RULES;
+
+	@Override
+	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
+	{
+		return raidState.isInRaid();
+	}
+
+	@Override
+	public void startUp()
+	{
+	}
+
+	@Override
+	public void shutDown()
+	{
+	}
+
+	/**
+	 * @param option the exact menu option, or null to test the rule against every entry
+	 * @param targetIds the target ids of the entries, or null for any target
+	 */
+	public void deprioritize(
+		final Object owner,
+		@Nullable final String option,
+		@Nullable final Collection<Integer> targetIds,
+		final Predicate<MenuEntry> condition)
+	{
+		BitSet ids = null;
+
+		if (targetIds != null)
+		{
+			ids = new BitSet();
+			targetIds.forEach(ids::set);
+		}
+
+		rules.add(new Rule(owner, option, ids, condition));
+		rebuild();
+	}
+
+	public void unregister(final Object owner)
+	{
+		if (rules.removeIf(r -> r.owner == owner))
+		{
+			rebuild();
+		}
+	}
+
+	@Subscribe
+	public void onMenuEntryAdded(final MenuEntryAdded event)
+	{
+		final MenuEntry menuEntry = event.getMenuEntry();
+		final Rule[] optionRules = rulesByOption.get(menuEntry.getOption());
+
+		if (optionRules != null && apply(optionRules, menuEntry))
+		{
+			return;
+		}
+
+		apply(anyOptionRules, menuEntry);
+	}
+
+	private void rebuild()
+	{
+		final Map<String, List<Rule>> byOption = new HashMap<>();
+		final List<Rule> anyOption = new ArrayList<>();
+
+		for (final Rule rule : rules)
+		{
+			if (rule.option == null)
+			{
+				anyOption.add(rule);
+			}
+			else
+			{
+				byOption.computeIfAbsent(rule.option, k -> new ArrayList<>()).add(rule);
+			}
+		}
+
+		final Map<String, Rule[]> built = new HashMap<>();
+		byOption.forEach((option, optionRules) -> built.put(option, optionRules.toArray(NO_RULES)));
+
+		rulesByOption = built;
+		anyOptionRules = anyOption.toArray(NO_RULES);
+	}
+
+	private static boolean apply(final Rule[] rules, final MenuEntry menuEntry)
+	{
+		int targetId = UNRESOLVED;
+
+		for (final Rule rule : rules)
+		{
+			if (rule.targetIds != null)
+			{
+				if (targetId == UNRESOLVED)
+				{
+					targetId = getTargetId(menuEntry);
+				}
+
+				if (targetId < 0 || !rule.targetIds.get(targetId))
+				{
+					continue;
+				}
+			}
+
+			if (rule.condition.test(menuEntry))
+			{
+				menuEntry.setDeprioritized(true);
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static int getTargetId(final MenuEntry menuEntry)
+	{
+		// the identifier of an NPC entry is the index of the NPC
+		final NPC npc = menuEntry.getNpc();
+		return npc != null ? npc.getId() : menuEntry.getIdentifier();
+	}
+
+	@RequiredArgsConstructor
+	private static class Rule
+	{
+		private final Object owner;
+		@Nullable
+		private final String option;
+		@Nullable
+		private final BitSet targetIds;
+		private final Predicate<MenuEntry> condition;
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.util;
+
+import ca.plugins.toaextended.ToaExtendedConfig;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import net.runelite.api.GameObject;
+import net.runelite.api.GraphicsObject;
+import net.runelite.api.NPC;
+import net.runelite.api.TileObject;
+import net.runelite.client.ui.overlay.outline.ModelOutlineRenderer;
+
+/**
+ * Model outlines of one overlay pass, with a cheaper level of detail for crowded rooms. Model outlines cost far more
+ * than polygons and grow with every entity, so once a pass outlines more entities than
+ * {@link ToaExtendedConfig#outlineDetailThreshold()}, or the measured model outline time of the pass would exceed
+ * {@link #OUTLINE_BUDGET_NANOS}, the entities are outlined by their convex hull instead. Graphics objects have no
+ * hull and are outlined by their tile. The measured cost decays while hulls are drawn, so a pass of models is retried
+ * once the cost that caused the switch has had time to pass.
+ * <p>
+ * Outlines are drawn between {@link #begin(int)} and {@link #end(Graphics2D)}.
+ */
+public class ModelOutlineLod
+{
+
+	private static final long OUTLINE_BUDGET_NANOS = 2_000_000L;
+
+	private final ModelOutlineRenderer modelOutlineRenderer;
+	private final ToaExtendedConfig config;
+	private final TilePolygonCache tilePolygonCache;
+	private final HazardRenderBatch hullBatch = new HazardRenderBatch();
+
+	// rolling model outline cost of a single entity
+	private long outlineNanos;
+
+	private boolean hulls;
+	private long start;
+	private int outlines;
+
+	public ModelOutlineLod(final ModelOutlineRenderer modelOutlineRenderer, final ToaExtendedConfig config,
+						   final TilePolygonCache tilePolygonCache)
+	{
+		this.modelOutlineRenderer = modelOutlineRenderer;
+		this.config = config;
+		this.tilePolygonCache = tilePolygonCache;
+	}
+
+	/**
+	 * Picks the level of detail for a pass of at most {@code count} outlines.
+	 */
+	public void begin(final int count)
+	{
+		final int threshold = config.outlineDetailThreshold();
+
+		hulls = threshold > 0 && (count > threshold || count * outlineNanos > OUTLINE_BUDGET_NANOS);
+		outlines = 0;
+		start = System.nanoTime();
+	}
+
+	public void drawOutline(final NPC npc, final int width, final Color color, final int feather)
+	{
+		if (hulls)
+		{
+			addHull(npc.getConvexHull(), width, color);
+			return;
+		}
+
+		modelOutlineRenderer.drawOutline(npc, width, color, feather);
+		outlines++;
+	}
+
+	public void drawOutline(final TileObject tileObject, final int width, final Color color, final int feather)
+	{
+		if (hulls)
+		{
+			addHull(tileObject instanceof GameObject ? ((GameObject) tileObject).getConvexHull() :
+				tileObject.getCanvasTilePoly(), width, color);
+			return;
+		}
+
+		modelOutlineRenderer.drawOutline(tileObject, width, color, feather);
+		outlines++;
+	}
+
+	public void drawOutline(final GraphicsObject graphicsObject, final int width, final Color color, final int feather)
+	{
+		if (hulls)
+		{
+			addHull(tilePolygonCache.getTilePoly(graphicsObject.getLocation()), width, color);
+			return;
+		}
+
+		modelOutlineRenderer.drawOutline(graphicsObject, width, color, feather);
+		outlines++;
+	}
+
+	public void end(final Graphics2D graphics2D)
+	{
+		if (outlines > 0)
+		{
+			outlineNanos += ((System.nanoTime() - start) / outlines - outlineNanos) >> 2;
+		}
+		else if (hulls)
+		{
+			// hull passes measure nothing, so let the cost decay until a model pass measures it again
+			outlineNanos -= outlineNanos >> 4;
+		}
+
+		hullBatch.flush(graphics2D);
+	}
+
+	private void addHull(final Shape hull, final int width, final Color color)
+	{
+		if (hull != null)
+		{
+			hullBatch.add(color, 0, width, hull);
+		}
+	}
+
+}
@@ -0,0 +1,224 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.util;
+
+import ca.plugins.toaextended.ToaExtendedConfig;
+import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.runelite.api.NPC;
+import net.runelite.api.events.NpcChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Live NPCs of the raid indexed by id, maintained from a single subscription to the NPC spawn, despawn and change
+ * events.
+ * <p>
+ * Components register for the ids they care about while active to be told when a matching NPC is added or removed,
+ * starting with the NPCs already indexed, instead of scanning {@code client.getNpcs()}. An NPC changing id is removed
+ * under its old id and added under its new one. NPCs are compared by identity and removed in constant time.
+ */
+@Singleton
+public class NpcRegistry implements PluginLifecycleComponent
+{
+
+	private final Map<Integer, List<NPC>> npcsById = new HashMap<>();
+	// index of every NPC in its id's list
+	private final Map<NPC, Integer> slots = new IdentityHashMap<>();
+	private final List<Registration> registrations = new ArrayList<>();
+
+	@Getter
+	private boolean active;
+
+	@Override
+	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
+	{
+		return raidState.isInRaid();
+	}
+
+	@Override
+	public void startUp()
+	{
+		active = true;
+	}
+
+	@Override
+	public void shutDown()
+	{
+		active = false;
+		npcsById.clear();
+		slots.clear();
+	}
+
+	/**
+	 * Calls {@code onAdded} for the indexed NPCs with one of the ids, and then for every NPC added with one of the ids
+	 * until the owner unregisters, and {@code onRemoved} for every such NPC removed.
+	 */
+	public void register(
+		final Object owner,
+		final Collection<Integer> npcIds,
+		final Consumer<NPC> onAdded,
+		final Consumer<NPC> onRemoved)
+	{
+		final BitSet ids = new BitSet();
+		npcIds.forEach(ids::set);
+
+		registrations.add(new Registration(owner, ids, onAdded, onRemoved));
+		forEach(npcIds, onAdded);
+	}
+
+	public void unregister(final Object owner)
+	{
+		registrations.removeIf(r -> r.owner == owner);
+	}
+
+	public void forEach(final Collection<Integer> ids, final Consumer<? super NPC> consumer)
+	{
+		for (final int id : ids)
+		{
+			final List<NPC> npcs = npcsById.get(id);
+
+			if (npcs != null)
+			{
+				npcs.forEach(consumer);
+			}
+		}
+	}
+
+	public void forEach(final Consumer<? super NPC> consumer)
+	{
+		for (final List<NPC> npcs : npcsById.values())
+		{
+			npcs.forEach(consumer);
+		}
+	}
+
+	@Subscribe
+	public void onNpcSpawned(final NpcSpawned event)
+	{
+		add(event.getNpc(), event.getNpc().getId());
+	}
+
+	@Subscribe
+	public void onNpcDespawned(final NpcDespawned event)
+	{
+		remove(event.getNpc(), event.getNpc().getId());
+	}
+
+	@Subscribe
+	public void onNpcChanged(final NpcChanged event)
+	{
+		final NPC npc = event.getNpc();
+		final int oldId = event.getOld().getId();
+
+		if (oldId != npc.getId())
+		{
+			remove(npc, oldId);
+			add(npc, npc.getId());
+		}
+	}
+
+	private void add(final NPC npc, final int id)
+	{
+		// the scene replay of a starting component can deliver an NPC that is already indexed
+		if (slots.containsKey(npc))
+		{
+			return;
+		}
+
+		final List<NPC> npcs = npcsById.computeIfAbsent(id, k -> new ArrayList<>(2));
+		slots.put(npc, npcs.size());
+		npcs.add(npc);
+
+		for (final Registration registration : registrations)
+		{
+			if (registration.ids.get(id))
+			{
+				registration.onAdded.accept(npc);
+			}
+		}
+	}
+
+	private void remove(final NPC npc, final int id)
+	{
+		final List<NPC> npcs = npcsById.get(id);
+		final Integer slot = npcs == null ? null : slots.get(npc);
+
+		if (slot == null || slot >= npcs.size() || npcs.get(slot) != npc)
+		{
+			return;
+		}
+
+		slots.remove(npc);
+
+		// move the last NPC of the id into the freed slot
+		final NPC last = npcs.remove(npcs.size() - 1);
+		if (last != npc)
+		{
+			npcs.set(slot, last);
+			slots.put(last, slot);
+		}
+
+		if (npcs.isEmpty())
+		{
+			npcsById.remove(id);
+		}
+
+		for (final Registration registration : registrations)
+		{
+			if (registration.ids.get(id))
+			{
+				registration.onRemoved.accept(npc);
+			}
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static class Registration
+	{
+		private final Object owner;
+		private final BitSet ids;
+		private final Consumer<NPC> onAdded;
+		private final Consumer<NPC> onRemoved;
+	}
+
+}
@@ -0,0 +1,168 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.util;
+
+import ca.plugins.toaextended.ToaExtendedConfig;
+import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import net.runelite.api.Projectile;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ProjectileMoved;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Turns the per client cycle {@link ProjectileMoved} events into exactly one spawned and one landed callback per
+ * projectile.
+ * <p>
+ * Components register for the projectile ids they care about while active, so only the ids of the current room are
+ * tracked. Projectiles are deduplicated by identity and are considered landed on the first game tick where they
+ * have no remaining cycles.
+ */
+@Singleton
+public class ProjectileTracker implements PluginLifecycleComponent
+{
+
+	private final List<Registration> registrations = new ArrayList<>();
+	private final Set<Projectile> projectiles = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	private BitSet ids = new BitSet();
+
+	@Override
+	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
+	{
+		return raidState.isInRaid();
+	}
+
+	@Override
+	public void startUp()
+	{
+	}
+
+	@Override
+	public void shutDown()
+	{
+		projectiles.clear();
+	}
+
+	public void register(
+		final Object owner,
+		final Collection<Integer> projectileIds,
+		final Consumer<Projectile> onSpawned,
+		final Consumer<Projectile> onLanded)
+	{
+		final BitSet registrationIds = new BitSet();
+		projectileIds.forEach(registrationIds::set);
+
+		registrations.add(new Registration(owner, registrationIds, onSpawned, onLanded));
+		rebuildIds();
+	}
+
+	public void unregister(final Object owner)
+	{
+		registrations.removeIf(r -> r.owner == owner);
+		rebuildIds();
+	}
+
+	@Subscribe
+	public void onProjectileMoved(final ProjectileMoved event)
+	{
+		final Projectile projectile = event.getProjectile();
+
+		if (!ids.get(projectile.getId()) || projectile.getRemainingCycles() <= 0 || !projectiles.add(projectile))
+		{
+			return;
+		}
+
+		for (final Registration registration : registrations)
+		{
+			if (registration.ids.get(projectile.getId()))
+			{
+				registration.onSpawned.accept(projectile);
+			}
+		}
+	}
+
+	@Subscribe
+	public void onGameTick(final GameTick event)
+	{
+		if (projectiles.isEmpty())
+		{
+			return;
+		}
+
+		for (final Iterator<Projectile> iterator = projectiles.iterator(); iterator.hasNext(); )
+		{
+			final Projectile projectile = iterator.next();
+
+			if (projectile.getRemainingCycles() > 0)
+			{
+				continue;
+			}
+
+			iterator.remove();
+
+			for (final Registration registration : registrations)
+			{
+				if (registration.ids.get(projectile.getId()))
+				{
+					registration.onLanded.accept(projectile);
+				}
+			}
+		}
+	}
+
+	private void rebuildIds()
+	{
+		final BitSet rebuilt = new BitSet();
+		registrations.forEach(r -> rebuilt.or(r.ids));
+		ids = rebuilt;
+	}
+
+	@RequiredArgsConstructor
+	private static class Registration
+	{
+		private final Object owner;
+		private final BitSet ids;
+		private final Consumer<Projectile> onSpawned;
+		private final Consumer<Projectile> onLanded;
+	}
+
+}
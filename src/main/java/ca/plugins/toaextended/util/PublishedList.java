@@ -0,0 +1,200 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.util;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * A tracker list that overlays read through an immutable copy, published by the tracker at the end of its game tick
+ * handling. Trackers modify the live list as events arrive, while overlays iterate {@link #getPublished()}, which is
+ * never modified once published and is swapped through a single volatile reference. Lists that change between game
+ * ticks, such as projectiles, are published on every change instead.
+ * <p>
+ * Copies go into a ring of recycled array buffers, so publishing allocates nothing once the buffers have grown to the
+ * largest list seen. A published list is reused {@value #BUFFERS} publishes later, so it must not be held on to for
+ * longer than a frame.
+ */
+public final class PublishedList<T>
+{
+
+	private static final int BUFFERS = 3;
+
+	private final List<T> live = new ArrayList<>();
+	@SuppressWarnings("unchecked")
+	private final Snapshot<T>[] buffers = new Snapshot[BUFFERS];
+
+	private int next;
+	private volatile Snapshot<T> published;
+
+	public PublishedList()
+	{
+		for (int i = 0; i < BUFFERS; i++)
+		{
+			buffers[i] = new Snapshot<>();
+		}
+
+		published = buffers[0];
+		next = 1;
+	}
+
+	public void add(final T element)
+	{
+		live.add(element);
+	}
+
+	public boolean remove(final T element)
+	{
+		return live.remove(element);
+	}
+
+	public boolean removeIf(final Predicate<? super T> filter)
+	{
+		return live.removeIf(filter);
+	}
+
+	/**
+	 * Adds the element and publishes right away, for lists that change between game ticks.
+	 */
+	public void addAndPublish(final T element)
+	{
+		live.add(element);
+		publish();
+	}
+
+	/**
+	 * Removes the element and publishes right away if it was in the list, for lists that change between game ticks.
+	 */
+	public void removeAndPublish(final T element)
+	{
+		if (live.remove(element))
+		{
+			publish();
+		}
+	}
+
+	public boolean isEmpty()
+	{
+		return live.isEmpty();
+	}
+
+	/**
+	 * Clears the live list and publishes the empty list right away.
+	 */
+	public void clear()
+	{
+		live.clear();
+		publish();
+	}
+
+	/**
+	 * Publishes a copy of the live list.
+	 */
+	public void publish()
+	{
+		final Snapshot<T> snapshot = buffers[next];
+		snapshot.copy(live);
+		published = snapshot;
+		next = (next + 1) % BUFFERS;
+	}
+
+	/**
+	 * Replaces the live list with the elements and publishes it, for trackers that rebuild the list every tick.
+	 */
+	public void publish(final Collection<? extends T> elements)
+	{
+		live.clear();
+		live.addAll(elements);
+		publish();
+	}
+
+	/**
+	 * @return the list as of the last publish
+	 */
+	public List<T> getPublished()
+	{
+		return published;
+	}
+
+	private static final class Snapshot<T> extends AbstractList<T> implements RandomAccess
+	{
+
+		private Object[] elements = new Object[8];
+		private int size;
+
+		private void copy(final List<T> source)
+		{
+			final int oldSize = size;
+			size = source.size();
+
+			if (size > elements.length)
+			{
+				elements = new Object[Math.max(size, elements.length * 2)];
+			}
+
+			for (int i = 0; i < size; i++)
+			{
+				elements[i] = source.get(i);
+			}
+
+			if (oldSize > size)
+			{
+				// drop references to despawned entities
+				Arrays.fill(elements, size, oldSize, null);
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T get(final int index)
+		{
+			if (index >= size)
+			{
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+			}
+
+			return (T) elements[index];
+		}
+
+		@Override
+		public int size()
+		{
+			return size;
+		}
+
+	}
+
+}
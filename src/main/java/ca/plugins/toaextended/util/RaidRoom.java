@@ -51,22 +51,36 @@ public enum RaidRoom
 	TOMB(14672),
 	;
 
-	private static final RaidRoom[] VALUES = RaidRoom.values();
+	private static final int MIN_REGION_ID;
+	private static final RaidRoom[] BY_REGION_ID;
+
+	static
+	{
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+
+		for (final RaidRoom raidRoom : values())
+		{
+			min = Math.min(min, raidRoom.regionId);
+			max = Math.max(max, raidRoom.regionId);
+		}
+
+		MIN_REGION_ID = min;
+		BY_REGION_ID = new RaidRoom[max - min + 1];
+
+		for (final RaidRoom raidRoom : values())
+		{
+			BY_REGION_ID[raidRoom.regionId - MIN_REGION_ID] = raidRoom;
+		}
+	}
 
 	@Getter
 	private final int regionId;
 
 	static RaidRoom fromRegionId(final int regionId)
 	{
-		for (final RaidRoom raidRoom : VALUES)
-		{
-			if (regionId == raidRoom.regionId)
-			{
-				return raidRoom;
-			}
-		}
-
-		return null;
+		final int index = regionId - MIN_REGION_ID;
+		return index >= 0 && index < BY_REGION_ID.length ? BY_REGION_ID[index] : null;
 	}
 
 }
@@ -30,14 +30,38 @@
  */
 package ca.plugins.toaextended.util;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
 @Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class RaidState
 {
 
+	private static final RaidRoom[] ROOMS = RaidRoom.values();
+	private static final RaidState[] STATES = new RaidState[4 * (ROOMS.length + 1)];
+
+	static
+	{
+		for (int i = 0; i < STATES.length; i++)
+		{
+			final int room = i >> 2;
+			STATES[i] = new RaidState((i & 1) != 0, (i & 2) != 0, room == 0 ? null : ROOMS[room - 1]);
+		}
+	}
+
 	boolean inLobby;
 	boolean inRaid;
 	RaidRoom currentRoom;
 
+	/**
+	 * @return the shared instance for the given state, so states can be compared by reference
+	 */
+	public static RaidState of(final boolean inLobby, final boolean inRaid, final RaidRoom currentRoom)
+	{
+		final int room = currentRoom == null ? 0 : currentRoom.ordinal() + 1;
+		return STATES[(room << 2) | (inRaid ? 2 : 0) | (inLobby ? 1 : 0)];
+	}
+
 }
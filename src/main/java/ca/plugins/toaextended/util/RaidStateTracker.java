@@ -35,8 +35,10 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.RequiredArgsConstructor;
 import net.runelite.api.Client;
+import net.runelite.api.GameState;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.widgets.Widget;
 import net.runelite.client.eventbus.EventBus;
@@ -54,47 +56,75 @@ public class RaidStateTracker implements PluginLifecycleComponent
 	private final Client client;
 	private final EventBus eventBus;
 
-	private RaidState currentState = new RaidState(false, false, null);
+	private RaidState currentState = RaidState.of(false, false, null);
 
 	// delay inRaid = false by 3 ticks to alleviate any unexpected delays between rooms
 	private int raidLeaveTicks = 3;
 
+	private boolean regionDirty = true;
+	private int lastChunk = -1;
+	private int region = -1;
+
 	@Override
 	public void startUp()
 	{
-		eventBus.register(this);
+		regionDirty = true;
 	}
 
 	@Override
 	public void shutDown()
 	{
-		eventBus.unregister(this);
+	}
+
+	@Subscribe(priority = 5)
+	public void onGameStateChanged(final GameStateChanged event)
+	{
+		final GameState gameState = event.getGameState();
+
+		if (gameState == GameState.LOADING || gameState == GameState.LOGGED_IN)
+		{
+			regionDirty = true;
+		}
 	}
 
 	@Subscribe(priority = 5)
 	public void onGameTick(final GameTick event)
 	{
 		final LocalPoint lp = client.getLocalPlayer().getLocalLocation();
-		final int region = lp == null ? -1 : WorldPoint.fromLocalInstance(client, lp).getRegionID();
 
-		final Widget w = client.getWidget(WIDGET_PARENT_ID, WIDGET_CHILD_ID);
+		// instance templates are copied per 8x8 chunk, so the region can only change when the scene chunk does
+		final int chunk = lp == null ? -1 :
+			(client.getPlane() << 16) | ((lp.getSceneX() >> 3) << 8) | (lp.getSceneY() >> 3);
+
+		if (regionDirty || chunk != lastChunk)
+		{
+			regionDirty = false;
+			lastChunk = chunk;
+			region = lp == null ? -1 : WorldPoint.fromLocalInstance(client, lp).getRegionID();
+		}
 
 		final boolean inLobby = region == REGION_LOBBY;
 		final RaidRoom currentRoom = RaidRoom.fromRegionId(region);
-		final boolean inRaidRaw = currentRoom != null || (w != null && !w.isHidden());
+		final boolean inRaidRaw = currentRoom != null || isRaidWidgetVisible();
 
 		raidLeaveTicks = inRaidRaw ? 3 : raidLeaveTicks - 1;
 		final boolean inRaid = raidLeaveTicks > 0;
 
 		final RaidState previousState = this.currentState;
-		final RaidState newState = new RaidState(inLobby, inRaid, currentRoom);
-		if (!previousState.equals(newState))
+		final RaidState newState = RaidState.of(inLobby, inRaid, currentRoom);
+		if (previousState != newState)
 		{
 			this.currentState = newState;
 			eventBus.post(new RaidStateChanged(previousState, newState));
 		}
 	}
 
+	private boolean isRaidWidgetVisible()
+	{
+		final Widget w = client.getWidget(WIDGET_PARENT_ID, WIDGET_CHILD_ID);
+		return w != null && !w.isHidden();
+	}
+
 	public RaidRoom getCurrentRoom()
 	{
 		return this.currentState.getCurrentRoom();
@@ -0,0 +1,232 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.util;
+
+import ca.plugins.toaextended.ToaExtendedConfig;
+import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import java.awt.Graphics2D;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Actor;
+import net.runelite.api.Point;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Keeps the scene overlays within {@link ToaExtendedConfig#overlayFrameBudget()}. The overlays report their render
+ * time every frame, and while the rolling frame cost is over budget the overlays degrade one step at a time: model
+ * outlines are skipped, then tile fills, then counters only follow their actor once per game tick.
+ * <p>
+ * Each step up records the cost before it and the cost it settled at, and the step is only undone once the current
+ * cost plus what the step saved fits the budget, so that a step is not undone just to be taken again.
+ * <p>
+ * The prayer overlays neither report nor consult the governor and are never degraded.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class RenderBudgetGovernor implements PluginLifecycleComponent
+{
+
+	private static final int LEVEL_NO_OUTLINES = 1;
+	private static final int LEVEL_NO_FILLS = 2;
+	private static final int LEVEL_TICK_COUNTERS = 3;
+	// frames between two level changes, so the rolling cost reflects the previous change first
+	private static final int SETTLE_FRAMES = 30;
+
+	private final ToaExtendedConfig config;
+
+	private final Map<Actor, CounterLocation> counterLocations = new IdentityHashMap<>();
+	// rolling cost before and after stepping up to each level
+	private final long[] costBefore = new long[LEVEL_TICK_COUNTERS + 1];
+	private final long[] costAfter = new long[LEVEL_TICK_COUNTERS + 1];
+
+	private long frameNanos;
+	private long rollingNanos;
+	private int level;
+	private int settleFrames;
+	private boolean measureStep;
+
+	@Override
+	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
+	{
+		return raidState.isInRaid();
+	}
+
+	@Override
+	public void startUp()
+	{
+		reset();
+	}
+
+	@Override
+	public void shutDown()
+	{
+		reset();
+	}
+
+	@Subscribe
+	public void onBeforeRender(final BeforeRender event)
+	{
+		// the overlays of the previous frame have reported by now
+		rollingNanos += (frameNanos - rollingNanos) >> 3;
+		frameNanos = 0;
+
+		final long budgetNanos = config.overlayFrameBudget() * 1_000_000L;
+
+		if (budgetNanos <= 0)
+		{
+			level = 0;
+			return;
+		}
+
+		if (settleFrames > 0)
+		{
+			settleFrames--;
+			return;
+		}
+
+		if (measureStep)
+		{
+			costAfter[level] = rollingNanos;
+			measureStep = false;
+		}
+
+		if (rollingNanos > budgetNanos && level < LEVEL_TICK_COUNTERS)
+		{
+			costBefore[level + 1] = rollingNanos;
+			setLevel(level + 1);
+			measureStep = true;
+		}
+		else if (level > 0 && rollingNanos + stepSavings(level) < budgetNanos - (budgetNanos >> 3))
+		{
+			setLevel(level - 1);
+		}
+	}
+
+	@Subscribe
+	public void onGameTick(final GameTick event)
+	{
+		counterLocations.clear();
+	}
+
+	public void report(final long renderNanos)
+	{
+		frameNanos += renderNanos;
+	}
+
+	public boolean isOutlineEnabled()
+	{
+		return level < LEVEL_NO_OUTLINES;
+	}
+
+	public boolean isFillEnabled()
+	{
+		return level < LEVEL_NO_FILLS;
+	}
+
+	/**
+	 * {@link Actor#getCanvasTextLocation(Graphics2D, String, int)}, computed once per game tick while counters are
+	 * degraded.
+	 */
+	@Nullable
+	public Point getCanvasTextLocation(final Actor actor, final Graphics2D graphics2D, final String text, final int zOffset)
+	{
+		if (level < LEVEL_TICK_COUNTERS)
+		{
+			return actor.getCanvasTextLocation(graphics2D, text, zOffset);
+		}
+
+		CounterLocation location = counterLocations.get(actor);
+
+		if (location == null)
+		{
+			location = new CounterLocation();
+			counterLocations.put(actor, location);
+		}
+		else if (location.zOffset == zOffset && text.equals(location.text))
+		{
+			return location.point;
+		}
+
+		location.text = text;
+		location.zOffset = zOffset;
+		location.point = actor.getCanvasTextLocation(graphics2D, text, zOffset);
+		return location.point;
+	}
+
+	/**
+	 * @return the cost the step up to the level saved when it was taken
+	 */
+	private long stepSavings(final int level)
+	{
+		return Math.max(costBefore[level] - costAfter[level], 0);
+	}
+
+	private void setLevel(final int level)
+	{
+		log.debug("Overlay frame cost {}us, degradation level {} -> {}", rollingNanos / 1000, this.level, level);
+		this.level = level;
+		settleFrames = SETTLE_FRAMES;
+
+		if (level < LEVEL_TICK_COUNTERS)
+		{
+			counterLocations.clear();
+		}
+	}
+
+	private void reset()
+	{
+		frameNanos = 0;
+		rollingNanos = 0;
+		level = 0;
+		settleFrames = 0;
+		measureStep = false;
+		Arrays.fill(costBefore, 0);
+		Arrays.fill(costAfter, 0);
+		counterLocations.clear();
+	}
+
+	private static class CounterLocation
+	{
+		private String text;
+		private int zOffset;
+		private Point point;
+	}
+
+}
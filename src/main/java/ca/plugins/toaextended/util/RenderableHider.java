@@ -0,0 +1,264 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.util;
+
+import ca.plugins.toaextended.ToaExtendedConfig;
+import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import net.runelite.api.Animation;
+import net.runelite.api.DynamicObject;
+import net.runelite.api.GraphicsObject;
+import net.runelite.api.NPC;
+import net.runelite.api.Projectile;
+import net.runelite.api.Renderable;
+import net.runelite.client.callback.Hooks;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+
+/**
+ * Single {@link Hooks.RenderableDrawListener} for the whole plugin.
+ * <p>
+ * Components register {@link HideRules} while active. The rules are collected into id bitsets, rebuilt only when
+ * the registered rules change (i.e. on room transitions), on config changes or on {@link #invalidate()}, so that
+ * deciding whether to draw a renderable costs an id lookup regardless of how many hide options exist.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class RenderableHider implements PluginLifecycleComponent
+{
+
+	private static final HideTable EMPTY_TABLE = new Builder().build();
+
+	private final Hooks hooks;
+
+	private final Hooks.RenderableDrawListener drawListener = this::shouldDraw;
+	private final List<HideRules> rules = new ArrayList<>();
+
+	private volatile HideTable table = EMPTY_TABLE;
+	private boolean listenerRegistered;
+
+	@Override
+	public void startUp()
+	{
+	}
+
+	@Override
+	public void shutDown()
+	{
+	}
+
+	@Subscribe
+	public void onConfigChanged(final ConfigChanged event)
+	{
+		if (ToaExtendedConfig.CONFIG_GROUP.equals(event.getGroup()))
+		{
+			invalidate();
+		}
+	}
+
+	public synchronized void register(final HideRules hideRules)
+	{
+		rules.add(hideRules);
+		invalidate();
+	}
+
+	public synchronized void unregister(final HideRules hideRules)
+	{
+		rules.remove(hideRules);
+		invalidate();
+	}
+
+	/**
+	 * Rebuilds the table, for rules that depend on state other than the config.
+	 */
+	public synchronized void invalidate()
+	{
+		final Builder builder = new Builder();
+		rules.forEach(r -> r.addTo(builder));
+		table = builder.build();
+
+		if (!rules.isEmpty() && !listenerRegistered)
+		{
+			hooks.registerRenderableDrawListener(drawListener);
+			listenerRegistered = true;
+		}
+		else if (rules.isEmpty() && listenerRegistered)
+		{
+			hooks.unregisterRenderableDrawListener(drawListener);
+			listenerRegistered = false;
+		}
+	}
+
+	private boolean shouldDraw(final Renderable renderable, final boolean drawingUI)
+	{
+		final HideTable table = this.table;
+
+		if (renderable instanceof NPC)
+		{
+			final NPC npc = (NPC) renderable;
+			final int id = npc.getId();
+			return !contains(table.npcs, id) && (!contains(table.conditionalNpcs, id) || !table.test(npc));
+		}
+		else if (renderable instanceof Projectile)
+		{
+			return !contains(table.projectiles, ((Projectile) renderable).getId());
+		}
+		else if (renderable instanceof GraphicsObject)
+		{
+			return !contains(table.graphicsObjects, ((GraphicsObject) renderable).getId());
+		}
+		else if (renderable instanceof DynamicObject && table.dynamicObjectAnimations.length > 0)
+		{
+			final Animation animation = ((DynamicObject) renderable).getAnimation();
+			return animation == null || !contains(table.dynamicObjectAnimations, animation.getId());
+		}
+
+		return true;
+	}
+
+	private static boolean contains(final long[] bits, final int id)
+	{
+		final int word = id >>> 6;
+		return word < bits.length && (bits[word] & (1L << id)) != 0;
+	}
+
+	@FunctionalInterface
+	public interface HideRules
+	{
+		void addTo(Builder builder);
+	}
+
+	public static class Builder
+	{
+
+		private final BitSet npcs = new BitSet();
+		private final BitSet conditionalNpcs = new BitSet();
+		private final BitSet projectiles = new BitSet();
+		private final BitSet graphicsObjects = new BitSet();
+		private final BitSet dynamicObjectAnimations = new BitSet();
+		private final List<Integer> predicateIds = new ArrayList<>();
+		private final List<Predicate<NPC>> predicates = new ArrayList<>();
+
+		private Builder()
+		{
+		}
+
+		public Builder npc(final int id)
+		{
+			npcs.set(id);
+			return this;
+		}
+
+		/**
+		 * Hides the npc when the predicate, evaluated on every draw, matches.
+		 */
+		public Builder npc(final int id, final Predicate<NPC> predicate)
+		{
+			conditionalNpcs.set(id);
+			predicateIds.add(id);
+			predicates.add(predicate);
+			return this;
+		}
+
+		public Builder projectile(final int id)
+		{
+			projectiles.set(id);
+			return this;
+		}
+
+		public Builder graphicsObject(final int id)
+		{
+			graphicsObjects.set(id);
+			return this;
+		}
+
+		public Builder dynamicObjectAnimation(final int id)
+		{
+			dynamicObjectAnimations.set(id);
+			return this;
+		}
+
+		private HideTable build()
+		{
+			final int[] ids = new int[predicateIds.size()];
+			for (int i = 0; i < ids.length; i++)
+			{
+				ids[i] = predicateIds.get(i);
+			}
+
+			return new HideTable(
+				npcs.toLongArray(),
+				conditionalNpcs.toLongArray(),
+				projectiles.toLongArray(),
+				graphicsObjects.toLongArray(),
+				dynamicObjectAnimations.toLongArray(),
+				ids,
+				new ArrayList<>(predicates));
+		}
+
+	}
+
+	@RequiredArgsConstructor
+	private static class HideTable
+	{
+
+		private final long[] npcs;
+		private final long[] conditionalNpcs;
+		private final long[] projectiles;
+		private final long[] graphicsObjects;
+		private final long[] dynamicObjectAnimations;
+		private final int[] predicateIds;
+		private final List<Predicate<NPC>> predicates;
+
+		private boolean test(final NPC npc)
+		{
+			final int id = npc.getId();
+
+			for (int i = 0; i < predicateIds.length; i++)
+			{
+				if (predicateIds[i] == id && predicates.get(i).test(npc))
+				{
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+	}
+
+}
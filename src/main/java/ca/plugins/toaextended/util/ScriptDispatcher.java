@@ -0,0 +1,216 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.util;
+
+import ca.plugins.toaextended.ToaExtendedConfig;
+import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import net.runelite.api.events.ScriptPostFired;
+import net.runelite.api.events.ScriptPreFired;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Single subscription to the script fired events, which the client posts for every script it runs, dispatching them
+ * by script id to the handlers registered for it.
+ * <p>
+ * The handlers are kept in an open-addressed table keyed by the primitive script id, rebuilt when the registrations
+ * change, so that a script nobody registered for costs a single probe.
+ */
+@Singleton
+public class ScriptDispatcher implements PluginLifecycleComponent
+{
+
+	private final List<Registration> preFiredRegistrations = new ArrayList<>();
+	private final List<Registration> postFiredRegistrations = new ArrayList<>();
+
+	private final HandlerTable preFiredHandlers = new HandlerTable();
+	private final HandlerTable postFiredHandlers = new HandlerTable();
+
+	@Override
+	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
+	{
+		return raidState.isInLobby() || raidState.isInRaid();
+	}
+
+	@Override
+	public void startUp()
+	{
+	}
+
+	@Override
+	public void shutDown()
+	{
+	}
+
+	public void registerPreFired(final Object owner, final int scriptId, final Consumer<ScriptPreFired> handler)
+	{
+		preFiredRegistrations.add(new Registration(owner, scriptId, handler));
+		preFiredHandlers.rebuild(preFiredRegistrations);
+	}
+
+	public void registerPostFired(final Object owner, final int scriptId, final Consumer<ScriptPostFired> handler)
+	{
+		postFiredRegistrations.add(new Registration(owner, scriptId, handler));
+		postFiredHandlers.rebuild(postFiredRegistrations);
+	}
+
+	public void unregister(final Object owner)
+	{
+		if (preFiredRegistrations.removeIf(r -> r.owner == owner))
+		{
+			preFiredHandlers.rebuild(preFiredRegistrations);
+		}
+
+		if (postFiredRegistrations.removeIf(r -> r.owner == owner))
+		{
+			postFiredHandlers.rebuild(postFiredRegistrations);
+		}
+	}
+
+	@Subscribe
+	public void onScriptPreFired(final ScriptPreFired event)
+	{
+		final Consumer<?>[] handlers = preFiredHandlers.get(event.getScriptId());
+
+		if (handlers != null)
+		{
+			dispatch(handlers, event);
+		}
+	}
+
+	@Subscribe
+	public void onScriptPostFired(final ScriptPostFired event)
+	{
+		final Consumer<?>[] handlers = postFiredHandlers.get(event.getScriptId());
+
+		if (handlers != null)
+		{
+			dispatch(handlers, event);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E> void dispatch(final Consumer<?>[] handlers, final E event)
+	{
+		// the table is rebuilt into new arrays, so handlers may register or unregister while being dispatched to
+		for (final Consumer<?> handler : handlers)
+		{
+			((Consumer<E>) handler).accept(event);
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static class Registration
+	{
+		private final Object owner;
+		private final int scriptId;
+		private final Consumer<?> handler;
+	}
+
+	private static class HandlerTable
+	{
+		private static final int EMPTY = -1;
+
+		private int[] keys = {EMPTY};
+		private Consumer<?>[][] handlers = new Consumer<?>[1][];
+		private int mask;
+
+		@Nullable
+		private Consumer<?>[] get(final int scriptId)
+		{
+			for (int slot = slot(scriptId, mask); ; slot = (slot + 1) & mask)
+			{
+				final int key = keys[slot];
+
+				if (key == scriptId)
+				{
+					return handlers[slot];
+				}
+
+				if (key == EMPTY)
+				{
+					return null;
+				}
+			}
+		}
+
+		private void rebuild(final List<Registration> registrations)
+		{
+			// at most half full, so that a probe always ends on an empty slot
+			final int capacity = Integer.highestOneBit(Math.max(1, registrations.size()) * 2) << 1;
+			final int[] newKeys = new int[capacity];
+			final Consumer<?>[][] newHandlers = new Consumer<?>[capacity][];
+			final int newMask = capacity - 1;
+
+			Arrays.fill(newKeys, EMPTY);
+
+			for (final Registration registration : registrations)
+			{
+				int slot = slot(registration.scriptId, newMask);
+
+				while (newKeys[slot] != EMPTY && newKeys[slot] != registration.scriptId)
+				{
+					slot = (slot + 1) & newMask;
+				}
+
+				final Consumer<?>[] slotHandlers = newHandlers[slot];
+
+				if (slotHandlers == null)
+				{
+					newKeys[slot] = registration.scriptId;
+					newHandlers[slot] = new Consumer<?>[]{registration.handler};
+				}
+				else
+				{
+					final Consumer<?>[] grown = Arrays.copyOf(slotHandlers, slotHandlers.length + 1);
+					grown[slotHandlers.length] = registration.handler;
+					newHandlers[slot] = grown;
+				}
+			}
+
+			handlers = newHandlers;
+			mask = newMask;
+			keys = newKeys;
+		}
+
+		private static int slot(final int scriptId, final int mask)
+		{
+			return (scriptId * 0x9E3779B9 >>> 16) & mask;
+		}
+	}
+
+}
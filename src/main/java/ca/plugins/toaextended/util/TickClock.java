@@ -0,0 +1,101 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.util;
+
+import ca.plugins.toaextended.ToaExtendedConfig;
+import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import javax.inject.Singleton;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Monotonic game tick clock for overlays that interpolate between ticks.
+ * <p>
+ * Tick arrival is timed with {@link System#nanoTime()} and the tick length is a moving average of the measured
+ * intervals rather than the nominal 600 ms, so server jitter and wall clock adjustments do not make the phase jump.
+ * The phase holds at 1 when a tick arrives late instead of running past it.
+ */
+@Singleton
+public class TickClock implements PluginLifecycleComponent
+{
+
+	private static final long TICK_NANOS = 600_000_000L;
+	// intervals outside of this are lag spikes or a paused client, not the length of a tick
+	private static final long MIN_INTERVAL_NANOS = TICK_NANOS / 2;
+	private static final long MAX_INTERVAL_NANOS = TICK_NANOS * 2;
+
+	private long tickNanos;
+	private long intervalNanos = TICK_NANOS;
+
+	@Override
+	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
+	{
+		return raidState.isInRaid();
+	}
+
+	@Override
+	public void startUp()
+	{
+		tickNanos = System.nanoTime();
+		intervalNanos = TICK_NANOS;
+	}
+
+	@Override
+	public void shutDown()
+	{
+		tickNanos = 0;
+		intervalNanos = TICK_NANOS;
+	}
+
+	@Subscribe
+	public void onGameTick(final GameTick event)
+	{
+		final long now = System.nanoTime();
+		final long interval = now - tickNanos;
+
+		if (interval >= MIN_INTERVAL_NANOS && interval <= MAX_INTERVAL_NANOS)
+		{
+			intervalNanos += (interval - intervalNanos) >> 3;
+		}
+
+		tickNanos = now;
+	}
+
+	/**
+	 * @return the progress from the last game tick towards the next one, from 0 to 1
+	 */
+	public double getPhase()
+	{
+		final double phase = (double) (System.nanoTime() - tickNanos) / intervalNanos;
+		return Math.max(0, Math.min(1, phase));
+	}
+
+}
@@ -0,0 +1,364 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.util;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Counts down a number of game ticks for each scheduled key, replacing a {@code Map<T, Integer>} that is decremented
+ * every tick.
+ * <p>
+ * Timers are kept in a wheel of one bucket per tick, so {@link #advance()} only touches the timers that expire on
+ * that tick. Timers further out than the wheel wait in an overflow bucket which is redistributed once per
+ * revolution. Keys are compared by identity. A timer created to expire after zero keeps its keys for the tick they
+ * reach 0, for counters that show the 0.
+ * <p>
+ * Overlays read the timers through {@link #getPublished()}, a copy made by {@link #publish()} at the end of the
+ * tracker's game tick handling, in the same ring of recycled buffers as {@link PublishedList}.
+ */
+public class TickTimer<T>
+{
+
+	private static final int WHEEL_SIZE = 64;
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+	private static final int OVERFLOW = WHEEL_SIZE;
+	private static final int BUFFERS = 3;
+
+	private final Map<T, Timer<T>> timers = new IdentityHashMap<>();
+
+	@SuppressWarnings("unchecked")
+	private final Timer<T>[] buckets = new Timer[WHEEL_SIZE + 1];
+
+	// extra tick a key is kept for once its timer reaches 0
+	private final int linger;
+
+	@SuppressWarnings("unchecked")
+	private final Published<T>[] published = new Published[BUFFERS];
+
+	private int tick;
+	private int next = 1;
+	private volatile Published<T> current;
+
+	public TickTimer()
+	{
+		this(false);
+	}
+
+	/**
+	 * @param expireAfterZero whether keys are kept for the tick their timer reaches 0
+	 */
+	public TickTimer(final boolean expireAfterZero)
+	{
+		linger = expireAfterZero ? 1 : 0;
+
+		for (int i = 0; i < BUFFERS; i++)
+		{
+			published[i] = new Published<>();
+		}
+
+		current = published[0];
+	}
+
+	/**
+	 * Schedules the key to expire after the given number of ticks, replacing any previous timer for the key.
+	 */
+	public void schedule(final T key, final int ticks)
+	{
+		final int delay = ticks + linger;
+
+		if (ticks < 0 || delay <= 0)
+		{
+			cancel(key);
+			return;
+		}
+
+		Timer<T> timer = timers.get(key);
+
+		if (timer == null)
+		{
+			timer = new Timer<>(key);
+			timers.put(key, timer);
+		}
+		else
+		{
+			unlink(timer);
+		}
+
+		timer.expiry = tick + delay;
+		link(timer, delay < WHEEL_SIZE ? timer.expiry & WHEEL_MASK : OVERFLOW);
+	}
+
+	public void cancel(final T key)
+	{
+		final Timer<T> timer = timers.remove(key);
+
+		if (timer != null)
+		{
+			unlink(timer);
+		}
+	}
+
+	/**
+	 * @return the ticks remaining for the key, or 0 if it is not scheduled
+	 */
+	public int getTicks(final T key)
+	{
+		final Timer<T> timer = timers.get(key);
+		return timer == null ? 0 : timer.expiry - tick - linger;
+	}
+
+	public boolean contains(final T key)
+	{
+		return timers.containsKey(key);
+	}
+
+	public boolean isEmpty()
+	{
+		return timers.isEmpty();
+	}
+
+	public int size()
+	{
+		return timers.size();
+	}
+
+	/**
+	 * Moves to the next tick, dropping the timers that reach 0.
+	 */
+	public void advance()
+	{
+		++tick;
+
+		if (timers.isEmpty())
+		{
+			return;
+		}
+
+		final int bucket = tick & WHEEL_MASK;
+
+		if (bucket == 0)
+		{
+			cascade();
+		}
+
+		for (Timer<T> timer = buckets[bucket]; timer != null; timer = timer.next)
+		{
+			timers.remove(timer.key);
+		}
+
+		buckets[bucket] = null;
+	}
+
+	public void clear()
+	{
+		timers.clear();
+
+		for (int i = 0; i < buckets.length; i++)
+		{
+			buckets[i] = null;
+		}
+
+		tick = 0;
+		publish();
+	}
+
+	/**
+	 * Publishes a copy of the timers with their remaining ticks.
+	 */
+	public void publish()
+	{
+		final Published<T> snapshot = published[next];
+		snapshot.copy(this);
+		current = snapshot;
+		next = (next + 1) % BUFFERS;
+	}
+
+	/**
+	 * @return the timers as of the last publish
+	 */
+	public Published<T> getPublished()
+	{
+		return current;
+	}
+
+	/**
+	 * Passes every scheduled key with its remaining ticks to the consumer.
+	 */
+	public void forEach(final ObjIntConsumer<? super T> consumer)
+	{
+		if (timers.isEmpty())
+		{
+			return;
+		}
+
+		for (final Timer<T> head : buckets)
+		{
+			for (Timer<T> timer = head; timer != null; timer = timer.next)
+			{
+				consumer.accept(timer.key, timer.expiry - tick - linger);
+			}
+		}
+	}
+
+	private void cascade()
+	{
+		Timer<T> timer = buckets[OVERFLOW];
+
+		while (timer != null)
+		{
+			final Timer<T> next = timer.next;
+
+			if (timer.expiry - tick < WHEEL_SIZE)
+			{
+				unlink(timer);
+				link(timer, timer.expiry & WHEEL_MASK);
+			}
+
+			timer = next;
+		}
+	}
+
+	private void link(final Timer<T> timer, final int bucket)
+	{
+		final Timer<T> head = buckets[bucket];
+
+		timer.bucket = bucket;
+		timer.prev = null;
+		timer.next = head;
+
+		if (head != null)
+		{
+			head.prev = timer;
+		}
+
+		buckets[bucket] = timer;
+	}
+
+	private void unlink(final Timer<T> timer)
+	{
+		if (timer.prev == null)
+		{
+			buckets[timer.bucket] = timer.next;
+		}
+		else
+		{
+			timer.prev.next = timer.next;
+		}
+
+		if (timer.next != null)
+		{
+			timer.next.prev = timer.prev;
+		}
+
+		timer.prev = null;
+		timer.next = null;
+	}
+
+	/**
+	 * An immutable copy of the timers, reused {@value #BUFFERS} publishes later.
+	 */
+	public static final class Published<T>
+	{
+
+		private Object[] keys = new Object[8];
+		private int[] ticks = new int[8];
+		private int size;
+
+		private void copy(final TickTimer<T> timer)
+		{
+			final int oldSize = size;
+			size = 0;
+
+			if (timer.size() > keys.length)
+			{
+				final int length = Math.max(timer.size(), keys.length * 2);
+				keys = new Object[length];
+				ticks = new int[length];
+			}
+
+			timer.forEach((key, remaining) ->
+			{
+				keys[size] = key;
+				ticks[size] = remaining;
+				size++;
+			});
+
+			if (oldSize > size)
+			{
+				// drop references to despawned entities
+				Arrays.fill(keys, size, oldSize, null);
+			}
+		}
+
+		public boolean isEmpty()
+		{
+			return size == 0;
+		}
+
+		public int size()
+		{
+			return size;
+		}
+
+		/**
+		 * Passes every published key with its remaining ticks to the consumer.
+		 */
+		@SuppressWarnings("unchecked")
+		public void forEach(final ObjIntConsumer<? super T> consumer)
+		{
+			for (int i = 0; i < size; i++)
+			{
+				consumer.accept((T) keys[i], ticks[i]);
+			}
+		}
+
+	}
+
+	private static final class Timer<T>
+	{
+
+		private final T key;
+		private int expiry;
+		private int bucket;
+		private Timer<T> prev;
+		private Timer<T> next;
+
+		private Timer(final T key)
+		{
+			this.key = key;
+		}
+
+	}
+
+}
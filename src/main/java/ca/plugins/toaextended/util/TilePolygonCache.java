@@ -0,0 +1,253 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2023, rdutta <https://github.com/rdutta>
+ * Copyright (c) 2022, LlemonDuck
+ * Copyright (c) 2022, TheStonedTurtle
+ * Copyright (c) 2019, Ron Young <https://github.com/raiyni>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package ca.plugins.toaextended.util;
+
+import ca.plugins.toaextended.ToaExtendedConfig;
+import ca.plugins.toaextended.module.PluginLifecycleComponent;
+import java.awt.Polygon;
+import java.util.Arrays;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.Perspective;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Canvas polygons of scene tiles and tile areas, shared by the scene overlays. The projection only depends on the
+ * camera, the plane and the viewport, so the polygons are kept until one of them changes and a static camera costs
+ * no projection work at all.
+ * <p>
+ * The returned polygons are shared and must not be modified.
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = @Inject)
+public class TilePolygonCache implements PluginLifecycleComponent
+{
+
+	private static final int INITIAL_CAPACITY = 256;
+	// a busy Warden P3 frame projects a few hundred tiles, past this the camera is most likely moving anyway
+	private static final int MAX_SIZE = 4096;
+	private static final Polygon OFF_SCREEN = new Polygon();
+
+	private final Client client;
+
+	private final int[] cameraState = new int[11];
+
+	private long[] keys = new long[INITIAL_CAPACITY];
+	private Polygon[] polygons = new Polygon[INITIAL_CAPACITY];
+	private int size;
+	private boolean active;
+
+	/**
+	 * Changes whenever the cached polygons are invalidated, so derived shapes such as {@link HazardFootprint} can be
+	 * cached as well.
+	 */
+	@Getter
+	private int generation;
+
+	@Override
+	public boolean isEnabled(final ToaExtendedConfig config, final RaidState raidState)
+	{
+		return raidState.isInRaid();
+	}
+
+	@Override
+	public void startUp()
+	{
+		updateCameraState();
+		invalidate();
+		active = true;
+	}
+
+	@Override
+	public void shutDown()
+	{
+		active = false;
+		invalidate();
+	}
+
+	@Subscribe
+	public void onBeforeRender(final BeforeRender event)
+	{
+		if (updateCameraState())
+		{
+			invalidate();
+		}
+	}
+
+	@Subscribe
+	public void onGameStateChanged(final GameStateChanged event)
+	{
+		if (event.getGameState() == GameState.LOADING)
+		{
+			invalidate();
+		}
+	}
+
+	/**
+	 * @see Perspective#getCanvasTilePoly(Client, LocalPoint)
+	 */
+	@Nullable
+	public Polygon getTilePoly(final LocalPoint localPoint)
+	{
+		return getTileAreaPoly(localPoint, 1);
+	}
+
+	/**
+	 * @see Perspective#getCanvasTileAreaPoly(Client, LocalPoint, int)
+	 */
+	@Nullable
+	public Polygon getTileAreaPoly(final LocalPoint localPoint, final int areaSize)
+	{
+		if (!active)
+		{
+			return Perspective.getCanvasTileAreaPoly(client, localPoint, areaSize);
+		}
+
+		final long key = ((long) areaSize << 32) | ((localPoint.getX() & 0xFFFF) << 16) | (localPoint.getY() & 0xFFFF);
+		final int mask = keys.length - 1;
+
+		int slot = slot(key, mask);
+		while (keys[slot] != 0)
+		{
+			if (keys[slot] == key)
+			{
+				final Polygon polygon = polygons[slot];
+				return polygon == OFF_SCREEN ? null : polygon;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		final Polygon polygon = Perspective.getCanvasTileAreaPoly(client, localPoint, areaSize);
+
+		if (size >= MAX_SIZE)
+		{
+			clear();
+			return polygon;
+		}
+
+		keys[slot] = key;
+		polygons[slot] = polygon == null ? OFF_SCREEN : polygon;
+
+		if (++size > keys.length >> 1)
+		{
+			grow();
+		}
+
+		return polygon;
+	}
+
+	private boolean updateCameraState()
+	{
+		// non short-circuiting so every value is stored
+		return update(0, client.getCameraX())
+			| update(1, client.getCameraY())
+			| update(2, client.getCameraZ())
+			| update(3, client.getCameraPitch())
+			| update(4, client.getCameraYaw())
+			| update(5, client.getScale())
+			| update(6, client.getPlane())
+			| update(7, client.getViewportXOffset())
+			| update(8, client.getViewportYOffset())
+			| update(9, client.getViewportWidth())
+			| update(10, client.getViewportHeight());
+	}
+
+	private boolean update(final int index, final int value)
+	{
+		if (cameraState[index] == value)
+		{
+			return false;
+		}
+
+		cameraState[index] = value;
+		return true;
+	}
+
+	private void grow()
+	{
+		final long[] oldKeys = keys;
+		final Polygon[] oldPolygons = polygons;
+
+		keys = new long[oldKeys.length << 1];
+		polygons = new Polygon[oldKeys.length << 1];
+
+		final int mask = keys.length - 1;
+
+		for (int i = 0; i < oldKeys.length; i++)
+		{
+			if (oldKeys[i] == 0)
+			{
+				continue;
+			}
+
+			int slot = slot(oldKeys[i], mask);
+			while (keys[slot] != 0)
+			{
+				slot = (slot + 1) & mask;
+			}
+
+			keys[slot] = oldKeys[i];
+			polygons[slot] = oldPolygons[i];
+		}
+	}
+
+	private void invalidate()
+	{
+		generation++;
+		clear();
+	}
+
+	private void clear()
+	{
+		if (size == 0)
+		{
+			return;
+		}
+
+		Arrays.fill(keys, 0);
+		Arrays.fill(polygons, null);
+		size = 0;
+	}
+
+	private static int slot(final long key, final int mask)
+	{
+		return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+	}
+
+}
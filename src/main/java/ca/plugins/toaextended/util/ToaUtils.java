@@ -32,7 +32,6 @@ package ca.plugins.toaextended.util;
 
 import java.awt.BasicStroke;
 import java.awt.Color;
-import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Rectangle;
@@ -49,6 +48,8 @@ public class ToaUtils
 	private static final int CYCLES_PER_GAME_TICK = Constants.GAME_TICK_LENGTH / Constants.CLIENT_TICK_LENGTH;
 
 	private static final Stroke BASIC_STROKE = new BasicStroke(2);
+	// overlays render on the client thread only
+	private static final DigitGlyphAtlas DIGIT_GLYPHS = new DigitGlyphAtlas();
 
 	public static void renderSpecialAttackOutline(final Graphics2D graphics2D, final NPC npc, final ModelOutlineRenderer modelOutlineRenderer)
 	{
@@ -79,22 +80,7 @@ public class ToaUtils
 			return;
 		}
 
-		final Color originalColor = graphics2D.getColor();
-		final Font originalFont = graphics2D.getFont();
-
-		graphics2D.setFont(new Font("Arial", style, size));
-
-		if (shadow)
-		{
-			graphics2D.setColor(Color.BLACK);
-			graphics2D.drawString(text, point.getX() + 1, point.getY() + 1);
-		}
-
-		graphics2D.setColor(color);
-		graphics2D.drawString(text, point.getX(), point.getY());
-
-		graphics2D.setFont(originalFont);
-		graphics2D.setColor(originalColor);
+		DIGIT_GLYPHS.drawString(graphics2D, text, point.getX(), point.getY(), color, size, style, shadow);
 	}
 
 	public static void renderFilledPolygon(final Graphics2D graphics2D, final Shape shape, final Color color)
@@ -0,0 +1,88 @@
+package ca.plugins.toaextended.boss;
+
+import net.runelite.api.Prayer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class PrayerScheduleTest
+{
+
+	private final PrayerTimeline timeline = new PrayerTimeline();
+
+	@Test
+	public void testBoxesOrderedByTick()
+	{
+		timeline.add(Prayer.PROTECT_FROM_MELEE, 5, 1);
+		timeline.add(Prayer.PROTECT_FROM_MISSILES, 2);
+		timeline.add(Prayer.PROTECT_FROM_MAGIC, 5, 0);
+
+		final PrayerSchedule schedule = timeline.getSchedule();
+
+		assertEquals(3, schedule.size());
+		assertEquals(2, schedule.getNextTicks());
+		assertEquals(Prayer.PROTECT_FROM_MISSILES, schedule.getNextPrayer());
+
+		assertEquals(2, schedule.getTicks(0));
+		assertEquals(Prayer.PROTECT_FROM_MISSILES, schedule.getPrayer(0));
+		assertTrue(schedule.isPriority(0));
+
+		assertEquals(5, schedule.getTicks(1));
+		assertEquals(Prayer.PROTECT_FROM_MAGIC, schedule.getPrayer(1));
+		assertTrue(schedule.isPriority(1));
+
+		assertEquals(5, schedule.getTicks(2));
+		assertEquals(Prayer.PROTECT_FROM_MELEE, schedule.getPrayer(2));
+		assertFalse(schedule.isPriority(2));
+	}
+
+	@Test
+	public void testSamePrayerOnOneTickIsOneBox()
+	{
+		timeline.add(Prayer.PROTECT_FROM_MAGIC, 3);
+		timeline.add(Prayer.PROTECT_FROM_MAGIC, 3);
+
+		assertEquals(1, timeline.getSchedule().size());
+	}
+
+	@Test
+	public void testRebuiltAfterAdvance()
+	{
+		timeline.add(Prayer.PROTECT_FROM_MAGIC, 1);
+		timeline.add(Prayer.PROTECT_FROM_MELEE, 3);
+
+		final PrayerSchedule schedule = timeline.getSchedule();
+		assertEquals(2, schedule.size());
+
+		timeline.advance();
+
+		assertSame(schedule, timeline.getSchedule());
+		assertEquals(1, schedule.size());
+		assertEquals(2, schedule.getTicks(0));
+		assertEquals(Prayer.PROTECT_FROM_MELEE, schedule.getNextPrayer());
+
+		timeline.advance();
+		timeline.advance();
+
+		assertTrue(timeline.getSchedule().isEmpty());
+		assertEquals(-1, schedule.getNextTicks());
+		assertNull(schedule.getNextPrayer());
+	}
+
+	@Test
+	public void testRebuiltAfterAdd()
+	{
+		timeline.add(Prayer.PROTECT_FROM_MAGIC, 4);
+		assertEquals(4, timeline.getSchedule().getNextTicks());
+
+		timeline.add(Prayer.PROTECT_FROM_MISSILES, 1);
+
+		assertEquals(2, timeline.getSchedule().size());
+		assertEquals(1, timeline.getSchedule().getNextTicks());
+		assertEquals(Prayer.PROTECT_FROM_MISSILES, timeline.getSchedule().getNextPrayer());
+	}
+
+}
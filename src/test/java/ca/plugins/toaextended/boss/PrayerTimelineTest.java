@@ -0,0 +1,130 @@
+package ca.plugins.toaextended.boss;
+
+import net.runelite.api.Prayer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class PrayerTimelineTest
+{
+
+	private final PrayerTimeline timeline = new PrayerTimeline();
+
+	@Test
+	public void testEmpty()
+	{
+		assertTrue(timeline.isEmpty());
+		assertEquals(-1, timeline.getNextTicks());
+		assertNull(timeline.getNextPrayer());
+		assertEquals(-1, timeline.getMaxTicks());
+	}
+
+	@Test
+	public void testAdvanceMovesAttacksCloser()
+	{
+		timeline.add(Prayer.PROTECT_FROM_MAGIC, 4);
+
+		timeline.advance();
+
+		assertEquals(3, timeline.getNextTicks());
+		assertTrue(timeline.contains(3, Prayer.PROTECT_FROM_MAGIC));
+		assertFalse(timeline.contains(4, Prayer.PROTECT_FROM_MAGIC));
+	}
+
+	@Test
+	public void testAdvanceRemovesAttacksAtOneTick()
+	{
+		timeline.add(Prayer.PROTECT_FROM_MAGIC, 1);
+		timeline.add(Prayer.PROTECT_FROM_MELEE, 2);
+
+		timeline.advance();
+
+		assertFalse(timeline.contains(0, Prayer.PROTECT_FROM_MAGIC));
+		assertEquals(1, timeline.getNextTicks());
+		assertEquals(Prayer.PROTECT_FROM_MELEE, timeline.getNextPrayer());
+
+		timeline.advance();
+
+		assertTrue(timeline.isEmpty());
+		assertEquals(-1, timeline.getNextTicks());
+	}
+
+	@Test
+	public void testRingWrap()
+	{
+		timeline.add(Prayer.PROTECT_FROM_MAGIC, 50);
+
+		for (int i = 0; i < 40; i++)
+		{
+			timeline.advance();
+		}
+
+		timeline.add(Prayer.PROTECT_FROM_MISSILES, 60);
+
+		assertTrue(timeline.contains(10, Prayer.PROTECT_FROM_MAGIC));
+		assertTrue(timeline.contains(60, Prayer.PROTECT_FROM_MISSILES));
+		assertEquals(60, timeline.getMaxTicks());
+
+		for (int i = 0; i < 9; i++)
+		{
+			timeline.advance();
+		}
+
+		assertEquals(Prayer.PROTECT_FROM_MAGIC, timeline.getPriorityPrayer(1));
+		assertTrue(timeline.contains(51, Prayer.PROTECT_FROM_MISSILES));
+
+		timeline.advance();
+
+		assertEquals(50, timeline.getNextTicks());
+		assertEquals(Prayer.PROTECT_FROM_MISSILES, timeline.getNextPrayer());
+		assertFalse(timeline.contains(PrayerTimeline.CAPACITY - 1, Prayer.PROTECT_FROM_MAGIC));
+	}
+
+	@Test
+	public void testTicksClampedToCapacity()
+	{
+		timeline.add(Prayer.PROTECT_FROM_MELEE, 100);
+		timeline.add(Prayer.PROTECT_FROM_MAGIC, -3);
+
+		assertTrue(timeline.contains(PrayerTimeline.CAPACITY - 1, Prayer.PROTECT_FROM_MELEE));
+		assertTrue(timeline.contains(0, Prayer.PROTECT_FROM_MAGIC));
+		assertFalse(timeline.contains(PrayerTimeline.CAPACITY, Prayer.PROTECT_FROM_MELEE));
+	}
+
+	@Test
+	public void testLowestPriorityWins()
+	{
+		timeline.add(Prayer.PROTECT_FROM_MAGIC, 3, 2);
+		timeline.add(Prayer.PROTECT_FROM_MELEE, 3, 1);
+		timeline.add(Prayer.PROTECT_FROM_MISSILES, 3, 1);
+
+		assertEquals(Prayer.PROTECT_FROM_MELEE, timeline.getPriorityPrayer(3));
+		assertTrue(timeline.contains(3, Prayer.PROTECT_FROM_MAGIC));
+		assertTrue(timeline.contains(3, Prayer.PROTECT_FROM_MISSILES));
+	}
+
+	@Test
+	public void testClear()
+	{
+		timeline.add(Prayer.PROTECT_FROM_MAGIC, 5);
+		timeline.advance();
+
+		timeline.clear();
+
+		assertTrue(timeline.isEmpty());
+		assertNull(timeline.getPriorityPrayer(4));
+
+		timeline.add(Prayer.PROTECT_FROM_MELEE, 2);
+
+		assertEquals(2, timeline.getNextTicks());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnsupportedPrayer()
+	{
+		timeline.add(Prayer.PROTECT_ITEM, 1);
+	}
+
+}
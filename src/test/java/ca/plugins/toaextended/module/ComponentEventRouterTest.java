@@ -0,0 +1,143 @@
+package ca.plugins.toaextended.module;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ComponentEventRouterTest
+{
+
+	private final List<String> received = new ArrayList<>();
+
+	private EventBus eventBus;
+	private ComponentEventRouter router;
+	private List<PluginLifecycleComponent> components;
+
+	@Before
+	public void setUp()
+	{
+		eventBus = new EventBus();
+		router = new ComponentEventRouter(eventBus);
+
+		final Starter starter = new Starter();
+		components = Arrays.asList(starter, new Listener());
+		components.forEach(component -> router.index(component.getClass()));
+		router.register();
+		router.activate(bits(0), components);
+	}
+
+	@Test
+	public void testDispatchesToActiveComponents()
+	{
+		router.activate(bits(0, 1), components);
+
+		eventBus.post(new TestEvent());
+
+		assertEquals(Arrays.asList("starter", "listener"), received);
+	}
+
+	@Test
+	public void testTableSwappedByHandlerAppliesFromNextEvent()
+	{
+		final TestEvent first = new TestEvent();
+		first.activate = true;
+		eventBus.post(first);
+
+		assertEquals(List.of("starter"), received);
+
+		received.clear();
+		eventBus.post(new TestEvent());
+
+		assertEquals(Arrays.asList("starter", "listener"), received);
+	}
+
+	@Test
+	public void testReusedEventInstanceSeesNewTable()
+	{
+		final TestEvent event = new TestEvent();
+		event.activate = true;
+		eventBus.post(event);
+
+		received.clear();
+		event.activate = false;
+		eventBus.post(event);
+
+		assertEquals(Arrays.asList("starter", "listener"), received);
+	}
+
+	@Test
+	public void testUnregisterStopsDispatch()
+	{
+		router.activate(bits(0, 1), components);
+		router.unregister();
+
+		eventBus.post(new TestEvent());
+
+		assertEquals(List.of(), received);
+	}
+
+	private static BitSet bits(final int... indices)
+	{
+		final BitSet bits = new BitSet();
+		for (final int index : indices)
+		{
+			bits.set(index);
+		}
+		return bits;
+	}
+
+	private static class TestEvent
+	{
+		private boolean activate;
+	}
+
+	private class Starter implements PluginLifecycleComponent
+	{
+		@Override
+		public void startUp()
+		{
+		}
+
+		@Override
+		public void shutDown()
+		{
+		}
+
+		@Subscribe(priority = 1)
+		public void onTestEvent(final TestEvent event)
+		{
+			received.add("starter");
+
+			if (event.activate)
+			{
+				router.activate(bits(0, 1), components);
+			}
+		}
+	}
+
+	private class Listener implements PluginLifecycleComponent
+	{
+		@Override
+		public void startUp()
+		{
+		}
+
+		@Override
+		public void shutDown()
+		{
+		}
+
+		@Subscribe
+		public void onTestEvent(final TestEvent event)
+		{
+			received.add("listener");
+		}
+	}
+
+}
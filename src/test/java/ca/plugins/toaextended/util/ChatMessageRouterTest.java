@@ -0,0 +1,148 @@
+package ca.plugins.toaextended.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.ChatMessage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ChatMessageRouterTest
+{
+
+	private final ChatMessageRouter router = new ChatMessageRouter();
+	private final List<String> received = new ArrayList<>();
+
+	@Test
+	public void testPrefix()
+	{
+		router.registerPrefix(this, "your party", match -> received.add(match.getAfter()));
+
+		post("Your party failed to complete the challenge");
+		post("Well done, your party completed it");
+
+		assertEquals(Collections.singletonList(" failed to complete the challenge"), received);
+	}
+
+	@Test
+	public void testSuffix()
+	{
+		router.registerSuffix(this, "has fallen.", match -> received.add(match.getBefore()));
+
+		post("Zebak has fallen. Again");
+		post("Zebak has fallen. Kephri has fallen.");
+
+		assertEquals(Collections.singletonList("zebak has fallen. kephri "), received);
+	}
+
+	@Test
+	public void testExact()
+	{
+		router.registerExact(this, "the path is open", match -> received.add(match.getText()));
+
+		post("The path is open");
+		post("The path is open now");
+		post("Now the path is open");
+
+		assertEquals(Collections.singletonList("the path is open"), received);
+	}
+
+	@Test
+	public void testContainsDispatchesOncePerPhrase()
+	{
+		router.registerContains(this, "ab", match -> received.add("ab@" + match.getStart()));
+
+		post("xab abab");
+
+		assertEquals(Collections.singletonList("ab@1"), received);
+	}
+
+	@Test
+	public void testFailureLinks()
+	{
+		router.registerContains(this, "she", match -> received.add("she@" + match.getStart()));
+		router.registerContains(this, "he", match -> received.add("he@" + match.getStart()));
+		router.registerContains(this, "hers", match -> received.add("hers@" + match.getStart()));
+		router.registerContains(this, "his", match -> received.add("his@" + match.getStart()));
+
+		post("ushers");
+
+		Collections.sort(received);
+		assertEquals(Arrays.asList("he@2", "hers@2", "she@1"), received);
+	}
+
+	@Test
+	public void testOverlappingPrefixFallsBack()
+	{
+		router.registerContains(this, "aab", match -> received.add("aab@" + match.getStart()));
+
+		post("aaab");
+
+		assertEquals(Collections.singletonList("aab@1"), received);
+	}
+
+	@Test
+	public void testStandardizesMessage()
+	{
+		router.registerExact(this, "challenge complete: the wardens", match -> received.add(match.getText()));
+
+		post("  <col=ef1020>Challenge\u00A0complete:</col> The Wardens  ");
+
+		assertEquals(Collections.singletonList("challenge complete: the wardens"), received);
+	}
+
+	@Test
+	public void testIgnoresOtherMessageTypes()
+	{
+		router.registerContains(this, "phase", match -> received.add("phase"));
+
+		final ChatMessage event = new ChatMessage();
+		event.setType(ChatMessageType.PUBLICCHAT);
+		event.setMessage("phase");
+		router.onChatMessage(event);
+
+		assertTrue(received.isEmpty());
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		final Object other = new Object();
+		router.registerContains(this, "boulder", match -> received.add("this"));
+		router.registerContains(other, "boulder", match -> received.add("other"));
+
+		router.unregister(this);
+		post("A boulder falls");
+
+		assertEquals(Collections.singletonList("other"), received);
+	}
+
+	@Test
+	public void testRegisterDuringDispatchAppliesFromNextMessage()
+	{
+		router.registerContains(this, "start", match ->
+		{
+			received.add("start");
+			router.registerContains(this, "start", ignored -> received.add("late"));
+		});
+
+		post("start");
+		assertEquals(Collections.singletonList("start"), received);
+
+		received.clear();
+		post("start");
+		assertEquals(Arrays.asList("start", "late"), received);
+	}
+
+	private void post(final String message)
+	{
+		final ChatMessage event = new ChatMessage();
+		event.setType(ChatMessageType.GAMEMESSAGE);
+		event.setMessage(message);
+		router.onChatMessage(event);
+	}
+
+}
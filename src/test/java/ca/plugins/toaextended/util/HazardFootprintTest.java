@@ -0,0 +1,232 @@
+package ca.plugins.toaextended.util;
+
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.geom.PathIterator;
+import java.lang.reflect.Proxy;
+import net.runelite.api.Client;
+import net.runelite.api.Point;
+import net.runelite.api.coords.LocalPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class HazardFootprintTest
+{
+
+	// canvas pixels per tile of the stand-in camera, which looks straight down
+	private static final int SCALE = 10;
+
+	private final Client client = (Client) Proxy.newProxyInstance(Client.class.getClassLoader(),
+		new Class<?>[]{Client.class}, (proxy, method, args) ->
+		{
+			if (method.getName().equals("getPlane"))
+			{
+				return 0;
+			}
+
+			throw new UnsupportedOperationException(method.getName());
+		});
+
+	// corners west of this scene x are behind the camera
+	private int clipX;
+	private int generation;
+	private int projections;
+
+	private final TilePolygonCache tilePolygonCache = new TilePolygonCache(client)
+	{
+		@Override
+		public int getGeneration()
+		{
+			return generation;
+		}
+
+		@Override
+		public Polygon getTilePoly(final LocalPoint localPoint)
+		{
+			final int x = localPoint.getSceneX();
+			final int y = localPoint.getSceneY();
+
+			if (x < clipX)
+			{
+				return null;
+			}
+
+			return new Polygon(
+				new int[]{x * SCALE, (x + 1) * SCALE, (x + 1) * SCALE, x * SCALE},
+				new int[]{y * SCALE, y * SCALE, (y + 1) * SCALE, (y + 1) * SCALE},
+				4);
+		}
+	};
+
+	private final HazardFootprint footprint = new HazardFootprint(client, tilePolygonCache)
+	{
+		@Override
+		Point project(final int sceneX, final int sceneY, final int plane)
+		{
+			projections++;
+			return sceneX < clipX ? null : new Point(sceneX * SCALE, sceneY * SCALE);
+		}
+	};
+
+	@Test
+	public void testEmpty()
+	{
+		assertNull(footprint.getShape());
+
+		footprint.add(-1, 5);
+		footprint.add(5, 104);
+
+		assertNull(footprint.getShape());
+	}
+
+	@Test
+	public void testSingleTile()
+	{
+		footprint.add(10, 20);
+
+		final Shape shape = footprint.getShape();
+
+		assertNotNull(shape);
+		assertEquals(1, countLoops(shape));
+		assertEquals(new Rectangle(100, 200, 10, 10), shape.getBounds());
+	}
+
+	@Test
+	public void testAdjacentTilesMergeIntoOneLoop()
+	{
+		addSquare(10, 10, 3);
+
+		final Shape shape = footprint.getShape();
+
+		assertEquals(1, countLoops(shape));
+		assertEquals(new Rectangle(100, 100, 30, 30), shape.getBounds());
+		assertTrue(shape.contains(115, 115));
+	}
+
+	@Test
+	public void testSeparateTilesAreSeparateLoops()
+	{
+		footprint.add(10, 10);
+		footprint.add(12, 10);
+
+		final Shape shape = footprint.getShape();
+
+		assertEquals(2, countLoops(shape));
+		assertFalse(shape.contains(115, 105));
+	}
+
+	@Test
+	public void testHole()
+	{
+		for (int x = 10; x < 13; x++)
+		{
+			for (int y = 10; y < 13; y++)
+			{
+				if (x != 11 || y != 11)
+				{
+					footprint.add(x, y);
+				}
+			}
+		}
+
+		final Shape shape = footprint.getShape();
+
+		assertEquals(2, countLoops(shape));
+		assertFalse(shape.contains(115, 115));
+		assertTrue(shape.contains(105, 115));
+		assertTrue(shape.contains(125, 125));
+	}
+
+	@Test
+	public void testClippedLoopFallsBackToTiles()
+	{
+		clipX = 11;
+		addSquare(10, 10, 2);
+
+		final Shape shape = footprint.getShape();
+
+		// the tiles of the x = 10 column have corners behind the camera
+		assertEquals(2, countLoops(shape));
+		assertEquals(new Rectangle(110, 100, 10, 20), shape.getBounds());
+	}
+
+	@Test
+	public void testFullyClipped()
+	{
+		clipX = 20;
+		addSquare(10, 10, 2);
+
+		assertNull(footprint.getShape());
+	}
+
+	@Test
+	public void testClippedLoopDoesNotHideOtherLoops()
+	{
+		clipX = 11;
+		footprint.add(10, 10);
+		footprint.add(15, 10);
+
+		final Shape shape = footprint.getShape();
+
+		assertEquals(1, countLoops(shape));
+		assertEquals(new Rectangle(150, 100, 10, 10), shape.getBounds());
+	}
+
+	@Test
+	public void testShapeKeptUntilTilesOrCameraChange()
+	{
+		addSquare(10, 10, 2);
+
+		final Shape shape = footprint.getShape();
+		final int built = projections;
+
+		footprint.clear();
+		addSquare(10, 10, 2);
+
+		assertSame(shape, footprint.getShape());
+		assertEquals(built, projections);
+
+		generation++;
+		footprint.getShape();
+
+		assertEquals(built * 2, projections);
+
+		footprint.add(12, 10);
+
+		assertEquals(new Rectangle(100, 100, 30, 20), footprint.getShape().getBounds());
+	}
+
+	private void addSquare(final int sceneX, final int sceneY, final int size)
+	{
+		for (int x = sceneX; x < sceneX + size; x++)
+		{
+			for (int y = sceneY; y < sceneY + size; y++)
+			{
+				footprint.add(x, y);
+			}
+		}
+	}
+
+	private static int countLoops(final Shape shape)
+	{
+		int loops = 0;
+		final float[] coords = new float[6];
+
+		for (final PathIterator it = shape.getPathIterator(null); !it.isDone(); it.next())
+		{
+			if (it.currentSegment(coords) == PathIterator.SEG_MOVETO)
+			{
+				loops++;
+			}
+		}
+
+		return loops;
+	}
+
+}
@@ -0,0 +1,119 @@
+package ca.plugins.toaextended.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.runelite.api.events.ScriptPostFired;
+import net.runelite.api.events.ScriptPreFired;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ScriptDispatcherTest
+{
+
+	private final ScriptDispatcher dispatcher = new ScriptDispatcher();
+	private final List<String> received = new ArrayList<>();
+
+	@Test
+	public void testDispatchesByScriptId()
+	{
+		dispatcher.registerPreFired(this, 10, event -> received.add("pre" + event.getScriptId()));
+		dispatcher.registerPostFired(this, 10, event -> received.add("post" + event.getScriptId()));
+
+		dispatcher.onScriptPreFired(new ScriptPreFired(10));
+		dispatcher.onScriptPostFired(new ScriptPostFired(10));
+		dispatcher.onScriptPreFired(new ScriptPreFired(11));
+		dispatcher.onScriptPostFired(new ScriptPostFired(0));
+
+		assertEquals(Arrays.asList("pre10", "post10"), received);
+	}
+
+	@Test
+	public void testHandlersOfOneScriptRunInRegistrationOrder()
+	{
+		dispatcher.registerPostFired(this, 5, event -> received.add("first"));
+		dispatcher.registerPostFired(new Object(), 5, event -> received.add("second"));
+
+		dispatcher.onScriptPostFired(new ScriptPostFired(5));
+
+		assertEquals(Arrays.asList("first", "second"), received);
+	}
+
+	@Test
+	public void testCollidingScriptIds()
+	{
+		// far more ids than slots in the first tables, so probes run past occupied slots
+		for (int scriptId = 0; scriptId < 4096; scriptId += 3)
+		{
+			final int id = scriptId;
+			dispatcher.registerPostFired(this, scriptId, event -> received.add(String.valueOf(id)));
+		}
+
+		for (int scriptId = 0; scriptId < 4096; scriptId++)
+		{
+			received.clear();
+			dispatcher.onScriptPostFired(new ScriptPostFired(scriptId));
+
+			if (scriptId % 3 == 0)
+			{
+				assertEquals(Collections.singletonList(String.valueOf(scriptId)), received);
+			}
+			else
+			{
+				assertTrue(received.isEmpty());
+			}
+		}
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		final Object other = new Object();
+
+		for (int scriptId = 0; scriptId < 64; scriptId++)
+		{
+			final int id = scriptId;
+			final Object owner = scriptId % 2 == 0 ? this : other;
+			dispatcher.registerPreFired(owner, scriptId, event -> received.add(String.valueOf(id)));
+		}
+
+		dispatcher.unregister(this);
+
+		for (int scriptId = 0; scriptId < 64; scriptId++)
+		{
+			dispatcher.onScriptPreFired(new ScriptPreFired(scriptId));
+		}
+
+		assertEquals(32, received.size());
+		assertTrue(received.stream().mapToInt(Integer::parseInt).allMatch(id -> id % 2 == 1));
+
+		dispatcher.unregister(other);
+		received.clear();
+
+		for (int scriptId = 0; scriptId < 64; scriptId++)
+		{
+			dispatcher.onScriptPreFired(new ScriptPreFired(scriptId));
+		}
+
+		assertTrue(received.isEmpty());
+	}
+
+	@Test
+	public void testUnregisterDuringDispatch()
+	{
+		dispatcher.registerPostFired(this, 7, event ->
+		{
+			received.add("first");
+			dispatcher.unregister(this);
+		});
+		dispatcher.registerPostFired(this, 7, event -> received.add("second"));
+
+		dispatcher.onScriptPostFired(new ScriptPostFired(7));
+		dispatcher.onScriptPostFired(new ScriptPostFired(7));
+
+		assertEquals(Arrays.asList("first", "second"), received);
+	}
+
+}
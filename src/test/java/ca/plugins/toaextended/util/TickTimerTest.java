@@ -0,0 +1,220 @@
+package ca.plugins.toaextended.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class TickTimerTest
+{
+
+	private final TickTimer<String> timer = new TickTimer<>();
+
+	@Test
+	public void testExpiresAfterTicks()
+	{
+		timer.schedule("a", 3);
+
+		advance(2);
+		assertTrue(timer.contains("a"));
+		assertEquals(1, timer.getTicks("a"));
+
+		advance(1);
+		assertFalse(timer.contains("a"));
+		assertEquals(0, timer.getTicks("a"));
+	}
+
+	@Test
+	public void testNonPositiveTicksCancel()
+	{
+		timer.schedule("a", 5);
+		timer.schedule("a", 0);
+		assertFalse(timer.contains("a"));
+
+		timer.schedule("b", -1);
+		assertTrue(timer.isEmpty());
+	}
+
+	@Test
+	public void testRescheduleReplacesTimer()
+	{
+		timer.schedule("a", 2);
+		timer.schedule("a", 10);
+
+		advance(2);
+		assertTrue(timer.contains("a"));
+		assertEquals(8, timer.getTicks("a"));
+		assertEquals(1, timer.size());
+	}
+
+	@Test
+	public void testCancel()
+	{
+		timer.schedule("a", 4);
+		timer.schedule("b", 4);
+
+		timer.cancel("a");
+		advance(3);
+
+		assertFalse(timer.contains("a"));
+		assertEquals(1, timer.getTicks("b"));
+	}
+
+	@Test
+	public void testOverflowCascadesIntoWheel()
+	{
+		timer.schedule("a", 64);
+		timer.schedule("b", 200);
+		advance(1);
+		timer.schedule("c", 70);
+
+		advance(62);
+		assertEquals(1, timer.getTicks("a"));
+		assertEquals(8, timer.getTicks("c"));
+
+		advance(1);
+		assertFalse(timer.contains("a"));
+
+		advance(6);
+		assertEquals(1, timer.getTicks("c"));
+
+		advance(1);
+		assertFalse(timer.contains("c"));
+		assertEquals(129, timer.getTicks("b"));
+
+		advance(128);
+		assertEquals(1, timer.getTicks("b"));
+
+		advance(1);
+		assertTrue(timer.isEmpty());
+	}
+
+	@Test
+	public void testExpireAfterZero()
+	{
+		final TickTimer<String> lingering = new TickTimer<>(true);
+
+		lingering.schedule("a", 2);
+		lingering.schedule("b", 0);
+
+		assertEquals(0, lingering.getTicks("b"));
+
+		lingering.advance();
+		assertFalse(lingering.contains("b"));
+		assertEquals(1, lingering.getTicks("a"));
+
+		lingering.advance();
+		assertTrue(lingering.contains("a"));
+		assertEquals(0, lingering.getTicks("a"));
+
+		lingering.advance();
+		assertFalse(lingering.contains("a"));
+	}
+
+	@Test
+	public void testPublishedIsSnapshot()
+	{
+		timer.schedule("a", 2);
+		timer.publish();
+
+		final TickTimer.Published<String> published = timer.getPublished();
+
+		timer.advance();
+		timer.schedule("b", 5);
+
+		assertEquals(1, published.size());
+		published.forEach((key, ticks) ->
+		{
+			assertEquals("a", key);
+			assertEquals(2, ticks);
+		});
+
+		timer.publish();
+
+		assertEquals(2, timer.getPublished().size());
+	}
+
+	@Test
+	public void testClear()
+	{
+		timer.schedule("a", 100);
+		timer.schedule("b", 1);
+
+		timer.clear();
+
+		assertTrue(timer.isEmpty());
+		assertTrue(timer.getPublished().isEmpty());
+
+		timer.schedule("c", 1);
+		timer.advance();
+		assertTrue(timer.isEmpty());
+	}
+
+	@Test
+	public void testMatchesMapCountdown()
+	{
+		final Random random = new Random(0);
+		final Map<String, Integer> expected = new HashMap<>();
+		final String[] keys = new String[50];
+
+		for (int i = 0; i < keys.length; i++)
+		{
+			// keys are compared by identity
+			keys[i] = "k" + i;
+		}
+
+		for (int tick = 0; tick < 2000; tick++)
+		{
+			for (int i = random.nextInt(4); i > 0; i--)
+			{
+				final String key = keys[random.nextInt(keys.length)];
+				final int ticks = random.nextInt(300);
+
+				timer.schedule(key, ticks);
+
+				if (ticks > 0)
+				{
+					expected.put(key, ticks);
+				}
+				else
+				{
+					expected.remove(key);
+				}
+			}
+
+			timer.advance();
+
+			for (final Iterator<Map.Entry<String, Integer>> it = expected.entrySet().iterator(); it.hasNext(); )
+			{
+				final Map.Entry<String, Integer> entry = it.next();
+
+				if (entry.getValue() == 1)
+				{
+					it.remove();
+				}
+				else
+				{
+					entry.setValue(entry.getValue() - 1);
+				}
+			}
+
+			final Map<String, Integer> actual = new HashMap<>();
+			timer.forEach(actual::put);
+
+			assertEquals(expected, actual);
+		}
+	}
+
+	private void advance(final int ticks)
+	{
+		for (int i = 0; i < ticks; i++)
+		{
+			timer.advance();
+		}
+	}
+
+}